@@ -26,8 +26,10 @@ dependencies {
     implementation("org.springframework.boot:spring-boot-starter-validation")
     implementation("org.springframework.boot:spring-boot-starter-mail")
     implementation("org.springframework.boot:spring-boot-starter-thymeleaf")
+    implementation("org.springframework.boot:spring-boot-starter-actuator")
 
     // --- Banco de Dados ---
+    implementation("org.flywaydb:flyway-core")
     runtimeOnly("org.postgresql:postgresql")
     runtimeOnly("com.h2database:h2")
 
@@ -59,6 +61,15 @@ tasks.test {
     useJUnitPlatform()
 }
 
+// Benchmark dos resumidores locais (latência e memória por 1k frases). Roda sob demanda.
+tasks.register<JavaExec>("benchmarkResumidores") {
+    group = "verification"
+    description = "Compara os resumidores locais (frequência x TextRank) em latência e memória."
+    classpath = sourceSets["test"].runtimeClasspath
+    mainClass.set("com.pdfocus.infra.resumidor.ResumidoresBenchmark")
+    jvmArgs("-Xmx1g")
+}
+
 // --- A CORREÇÃO DEPLOY BLINDADO ---
 
 // 1. Define a classe principal globalmente
@@ -1,8 +1,8 @@
 package com.pdfocus.application.disciplina.dto;
 
+import com.pdfocus.application.material.dto.MaterialListagem;
+import com.pdfocus.application.resumo.dto.ResumoListagem;
 import com.pdfocus.core.models.Disciplina;
-import com.pdfocus.core.models.Material;
-import com.pdfocus.core.models.Resumo;
 import org.springframework.data.domain.Page;
 
 import java.util.List;
@@ -36,17 +36,17 @@ public record DetalheDisciplinaResponse(
     public record ResumoSimples(UUID id, String titulo, UUID materialId, String dataCriacao) {
 
         /**
-         * Converte uma entidade de domínio {@link Resumo} para sua representação simplificada.
+         * Converte uma projeção {@link ResumoListagem} para sua representação simplificada.
          *
-         * @param resumo Entidade de domínio a ser convertida.
+         * @param resumo Projeção de listagem a ser convertida.
          * @return Uma instância de {@link ResumoSimples}.
          */
-        public static ResumoSimples fromDomain(Resumo resumo) {
+        public static ResumoSimples fromListagem(ResumoListagem resumo) {
             return new ResumoSimples(
-                    resumo.getId(),
-                    resumo.getTitulo(),
-                    resumo.getMaterialId(),
-                    resumo.getDataCriacao().toString()
+                    resumo.id(),
+                    resumo.titulo(),
+                    resumo.materialId(),
+                    resumo.dataCriacao().toString()
             );
         }
     }
@@ -60,18 +60,19 @@ public record DetalheDisciplinaResponse(
     public record MaterialSimples(UUID id, String nomeArquivo) {
 
         /**
-         * Converte uma entidade de domínio {@link Material} para sua representação simplificada.
+         * Converte uma projeção {@link MaterialListagem} para sua representação simplificada.
          *
-         * @param material Entidade de domínio a ser convertida.
+         * @param material Projeção de listagem a ser convertida.
          * @return Uma instância de {@link MaterialSimples}.
          */
-        public static MaterialSimples fromDomain(Material material) {
-            return new MaterialSimples(material.getId(), material.getNomeOriginal());
+        public static MaterialSimples fromListagem(MaterialListagem material) {
+            return new MaterialSimples(material.id(), material.nomeOriginal());
         }
     }
 
     /**
-     * Constrói um {@link DetalheDisciplinaResponse} a partir das entidades de domínio.
+     * Constrói um {@link DetalheDisciplinaResponse} a partir da disciplina e das projeções
+     * de listagem dos seus resumos e materiais.
      * <p>
      * Os resumos são convertidos para {@link ResumoSimples} e os materiais são mapeados
      * dentro de uma {@link Page} de {@link MaterialSimples}, preservando os metadados de paginação.
@@ -83,14 +84,14 @@ public record DetalheDisciplinaResponse(
      */
     public static DetalheDisciplinaResponse fromDomain(
             Disciplina disciplina,
-            List<Resumo> resumos,
-            Page<Material> paginaDeMateriais
+            List<ResumoListagem> resumos,
+            Page<MaterialListagem> paginaDeMateriais
     ) {
         List<ResumoSimples> resumosSimples = resumos.stream()
-                .map(ResumoSimples::fromDomain)
+                .map(ResumoSimples::fromListagem)
                 .collect(Collectors.toList());
 
-        Page<MaterialSimples> materiaisSimples = paginaDeMateriais.map(MaterialSimples::fromDomain);
+        Page<MaterialSimples> materiaisSimples = paginaDeMateriais.map(MaterialSimples::fromListagem);
 
         return new DetalheDisciplinaResponse(
                 disciplina.getId(),
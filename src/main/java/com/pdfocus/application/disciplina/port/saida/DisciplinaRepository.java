@@ -37,7 +37,9 @@ public interface DisciplinaRepository {
     Optional<Disciplina> findById(UUID id);
 
     /**
-     * Deleta uma disciplina pelo seu ID.
+     * Deleta uma disciplina pelo seu ID, sem carregar a disciplina nem os seus resumos.
+     *
+     * <p>Os resumos e materiais da disciplina devem ter sido excluídos antes.</p>
      *
      * @param id O ID da disciplina a ser deletada.
      */
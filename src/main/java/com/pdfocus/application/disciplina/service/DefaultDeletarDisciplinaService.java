@@ -56,15 +56,16 @@ public class DefaultDeletarDisciplinaService implements DeletarDisciplinaUseCase
             throw new DisciplinaNaoEncontradaException(id);
         }
 
-        // 3. DELETAR RESUMOS PRIMEIRO
-        resumoRepository.deletarTodosPorDisciplinaId(id);
+        // 3. DELETAR RESUMOS PRIMEIRO (um único DELETE, sem carregar os resumos)
+        int resumos = resumoRepository.deletarTodosPorDisciplinaId(id);
 
-        // 4. DELETAR MATERIAIS DEPOIS
-        materialRepository.deletarTodosPorDisciplinaId(id);
+        // 4. DELETAR MATERIAIS DEPOIS (os ficheiros ficam para o recolhimento de órfãos)
+        int materiais = materialRepository.deletarTodosPorDisciplinaId(id);
 
         // 5. AGORA DELETAR A DISCIPLINA (sem foreign key errors)
         disciplinaRepository.deletarPorId(id);
 
-        System.out.println("Disciplina deletada com sucesso: " + id);
+        System.out.println("Disciplina deletada com sucesso: " + id + " (" + resumos + " resumos, "
+                + materiais + " materiais)");
     }
 }
\ No newline at end of file
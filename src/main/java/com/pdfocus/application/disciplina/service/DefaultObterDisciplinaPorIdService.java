@@ -3,12 +3,12 @@ package com.pdfocus.application.disciplina.service;
 import com.pdfocus.application.disciplina.dto.DetalheDisciplinaResponse;
 import com.pdfocus.application.disciplina.port.entrada.ObterDisciplinaPorIdUseCase;
 import com.pdfocus.application.disciplina.port.saida.DisciplinaRepository;
+import com.pdfocus.application.material.dto.MaterialListagem;
 import com.pdfocus.application.material.port.saida.MaterialRepository;
+import com.pdfocus.application.resumo.dto.ResumoListagem;
 import com.pdfocus.application.resumo.port.saida.ResumoRepository;
 import com.pdfocus.application.usuario.port.saida.UsuarioRepository;
 import com.pdfocus.core.models.Disciplina;
-import com.pdfocus.core.models.Material;
-import com.pdfocus.core.models.Resumo;
 import com.pdfocus.core.models.Usuario;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
@@ -75,11 +75,12 @@ public class DefaultObterDisciplinaPorIdService implements ObterDisciplinaPorIdU
         Disciplina disciplina = disciplinaOptional.get();
 
 
-        List<Resumo> todosOsResumos = resumoRepository.buscarPorDisciplinaEUsuario(disciplina.getId(), usuario.getId());
+        // Projeções de listagem: o conteúdo dos resumos não é lido do banco.
+        List<ResumoListagem> todosOsResumos = resumoRepository.listarPorDisciplinaEUsuario(disciplina.getId(), usuario.getId());
 
 
         // Em vez de buscar uma lista, agora chamamos o novo método paginado.
-        Page<Material> paginaDeMateriais = materialRepository.buscarPorDisciplinaDeFormaPaginada(disciplina.getId(), pageable);
+        Page<MaterialListagem> paginaDeMateriais = materialRepository.buscarPorDisciplinaDeFormaPaginada(disciplina.getId(), pageable);
 
         // A construção da resposta agora usa a página de materiais
         DetalheDisciplinaResponse response = DetalheDisciplinaResponse.fromDomain(disciplina, todosOsResumos, paginaDeMateriais);
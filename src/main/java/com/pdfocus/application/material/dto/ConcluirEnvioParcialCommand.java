@@ -0,0 +1,10 @@
+package com.pdfocus.application.material.dto;
+
+/**
+ * Comando de entrada para concluir um envio em partes.
+ *
+ * @param sha256 SHA-256 do arquivo calculado pelo cliente, em hexadecimal; opcional. Se
+ *               informado, o envio só é aceito se o conteúdo recebido tiver o mesmo hash.
+ */
+public record ConcluirEnvioParcialCommand(String sha256) {
+}
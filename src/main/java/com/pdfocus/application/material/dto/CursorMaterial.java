@@ -0,0 +1,29 @@
+package com.pdfocus.application.material.dto;
+
+import java.time.OffsetDateTime;
+import java.util.UUID;
+
+/**
+ * Posição de continuação na listagem paginada por cursor (keyset) dos materiais.
+ *
+ * <p>
+ * A listagem é ordenada por {@code (dataUpload, id)} decrescentes; o {@code id} desempata
+ * materiais enviados no mesmo instante. A página seguinte começa logo depois do último
+ * material entregue, sem {@code OFFSET}.
+ * </p>
+ *
+ * @param dataUpload Data de upload do último material da página anterior.
+ * @param id         Identificador do último material da página anterior.
+ */
+public record CursorMaterial(OffsetDateTime dataUpload, UUID id) {
+
+    /**
+     * Cria o cursor que continua a listagem depois do material informado.
+     *
+     * @param material Último material entregue.
+     * @return O cursor correspondente.
+     */
+    public static CursorMaterial depoisDe(MaterialListagem material) {
+        return new CursorMaterial(material.dataUpload(), material.id());
+    }
+}
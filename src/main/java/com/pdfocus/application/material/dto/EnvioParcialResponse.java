@@ -0,0 +1,17 @@
+package com.pdfocus.application.material.dto;
+
+import java.util.UUID;
+
+/**
+ * DTO com o andamento de um envio em partes.
+ *
+ * @param id        Identificador do envio, usado nas chamadas seguintes.
+ * @param recebidos Bytes já recebidos; a próxima parte deve começar nesta posição.
+ * @param tamanho   Tamanho total declarado do arquivo.
+ */
+public record EnvioParcialResponse(
+        UUID id,
+        long recebidos,
+        long tamanho
+) {
+}
@@ -0,0 +1,19 @@
+package com.pdfocus.application.material.dto;
+
+import java.util.UUID;
+
+/**
+ * Comando de entrada para iniciar o envio de um material em partes (upload retomável).
+ *
+ * @param disciplinaId Identificador da disciplina à qual o material será associado.
+ * @param nomeOriginal Nome original do arquivo (ex: {@code "apostila.pdf"}).
+ * @param tipoArquivo  Tipo MIME do arquivo (ex: {@code "application/pdf"}).
+ * @param tamanho      Tamanho total do arquivo em bytes.
+ */
+public record IniciarEnvioParcialCommand(
+        UUID disciplinaId,
+        String nomeOriginal,
+        String tipoArquivo,
+        long tamanho
+) {
+}
@@ -0,0 +1,18 @@
+package com.pdfocus.application.material.dto;
+
+import java.util.UUID;
+
+/**
+ * Evento publicado quando o upload de um material é concluído.
+ *
+ * <p>
+ * É publicado dentro da transação do upload; os ouvintes interessados
+ * (como a extração de texto em segundo plano) devem reagir apenas após o commit,
+ * quando o material já está visível no banco.
+ * </p>
+ *
+ * @param materialId Identificador do material recém-enviado.
+ */
+public record MaterialEnviadoEvent(
+        UUID materialId
+) {}
@@ -0,0 +1,22 @@
+package com.pdfocus.application.material.dto;
+
+import java.time.OffsetDateTime;
+import java.util.UUID;
+
+/**
+ * Projeção de leitura de um material para listagens.
+ *
+ * <p>
+ * Traz apenas as colunas exibidas nas listas, montadas diretamente pela consulta ao banco,
+ * sem carregar a entidade nem a sua disciplina.
+ * </p>
+ *
+ * @param id           Identificador único do material.
+ * @param nomeOriginal Nome original do arquivo.
+ * @param tipoArquivo  Tipo MIME do arquivo.
+ * @param tamanho      Tamanho do arquivo em bytes.
+ * @param dataUpload   Data e hora do upload.
+ */
+public record MaterialListagem(UUID id, String nomeOriginal, String tipoArquivo, long tamanho,
+                               OffsetDateTime dataUpload) {
+}
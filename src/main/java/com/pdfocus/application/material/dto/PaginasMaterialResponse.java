@@ -0,0 +1,25 @@
+package com.pdfocus.application.material.dto;
+
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * DTO com o texto de um intervalo de páginas de um material.
+ *
+ * @param materialId   Identificador único do material.
+ * @param totalPaginas Número total de páginas do material.
+ * @param paginas      As páginas do intervalo pedido que existem no material, em ordem.
+ */
+public record PaginasMaterialResponse(
+        UUID materialId,
+        int totalPaginas,
+        List<Pagina> paginas
+) {
+
+    /**
+     * @param numero O número da página, a partir de 1.
+     * @param texto  O texto extraído da página.
+     */
+    public record Pagina(int numero, String texto) {
+    }
+}
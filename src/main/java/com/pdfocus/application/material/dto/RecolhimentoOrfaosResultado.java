@@ -0,0 +1,19 @@
+package com.pdfocus.application.material.dto;
+
+/**
+ * DTO com o resultado de uma execução do recolhimento de ficheiros órfãos.
+ *
+ * @param verificados    Ficheiros percorridos no armazenamento.
+ * @param recentes       Ficheiros ignorados por ainda estarem no período de carência.
+ * @param apagados       Ficheiros sem material que foram apagados.
+ * @param bytesLiberados Soma do tamanho dos ficheiros apagados.
+ * @param falhas         Ficheiros órfãos que não puderam ser apagados (tentados de novo na próxima execução).
+ */
+public record RecolhimentoOrfaosResultado(
+        long verificados,
+        long recentes,
+        long apagados,
+        long bytesLiberados,
+        long falhas
+) {
+}
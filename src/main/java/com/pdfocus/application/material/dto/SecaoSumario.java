@@ -0,0 +1,50 @@
+package com.pdfocus.application.material.dto;
+
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * Uma seção do sumário (marcadores) de um PDF, com o intervalo de páginas que ela ocupa.
+ *
+ * <p>O identificador é a posição da seção na árvore do sumário, numerada a partir de 1
+ * em cada nível (ex.: {@code "3"} é o terceiro capítulo e {@code "3.2"} a sua segunda
+ * subseção). Ele é estável enquanto o arquivo não muda, e é usado para pedir o resumo
+ * de uma seção específica.</p>
+ *
+ * @param id            Posição da seção no sumário (ex.: {@code "3.2"}).
+ * @param titulo        Título do marcador.
+ * @param paginaInicial Página em que a seção começa, a partir de 1.
+ * @param paginaFinal   Última página da seção, inclusive.
+ * @param subsecoes     As subseções, em ordem.
+ */
+public record SecaoSumario(
+        String id,
+        String titulo,
+        int paginaInicial,
+        int paginaFinal,
+        List<SecaoSumario> subsecoes
+) {
+
+    public SecaoSumario {
+        subsecoes = subsecoes == null ? List.of() : List.copyOf(subsecoes);
+    }
+
+    /**
+     * Procura uma seção pelo identificador em uma árvore de sumário.
+     *
+     * @param secoes As seções de primeiro nível.
+     * @param id     O identificador procurado (ex.: {@code "3.2"}).
+     * @return A seção, se existir.
+     */
+    public static Optional<SecaoSumario> buscar(List<SecaoSumario> secoes, String id) {
+        for (SecaoSumario secao : secoes) {
+            if (secao.id().equals(id)) {
+                return Optional.of(secao);
+            }
+            if (id.startsWith(secao.id() + ".")) {
+                return buscar(secao.subsecoes(), id);
+            }
+        }
+        return Optional.empty();
+    }
+}
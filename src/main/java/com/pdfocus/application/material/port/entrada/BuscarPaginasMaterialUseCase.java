@@ -0,0 +1,37 @@
+package com.pdfocus.application.material.port.entrada;
+
+import com.pdfocus.application.material.dto.PaginasMaterialResponse;
+import com.pdfocus.core.exceptions.material.MaterialNaoEncontradoException;
+
+import java.util.UUID;
+
+/**
+ * Porta de entrada (Input Port) do caso de uso que lê o texto de um intervalo de páginas
+ * de um material, sem processar o arquivo de novo quando o texto já foi extraído.
+ *
+ * <p><b>Contexto Arquitetural:</b></p>
+ * <ul>
+ *   <li>Pertence à camada de <b>aplicação</b> (Application Layer).</li>
+ *   <li>Implementada por {@code DefaultBuscarPaginasMaterialService}.</li>
+ *   <li>Consumida pelo controlador de materiais e por outros casos de uso (ex.: resumo de um capítulo).</li>
+ * </ul>
+ */
+public interface BuscarPaginasMaterialUseCase {
+
+    /** Número máximo de páginas lidas em uma única consulta. */
+    int MAX_PAGINAS_POR_CONSULTA = 100;
+
+    /**
+     * Lê o texto das páginas {@code [primeira, ultima]} de um material do usuário.
+     * Páginas além do fim do documento são ignoradas.
+     *
+     * @param materialId O identificador do material.
+     * @param usuarioId  O identificador do usuário dono do material.
+     * @param primeira   A primeira página, a partir de 1.
+     * @param ultima     A última página, inclusive.
+     * @return O texto das páginas pedidas e o total de páginas do material.
+     * @throws MaterialNaoEncontradoException se o material não existir ou não pertencer ao usuário.
+     * @throws IllegalArgumentException se o intervalo for inválido ou maior que {@link #MAX_PAGINAS_POR_CONSULTA}.
+     */
+    PaginasMaterialResponse executar(UUID materialId, UUID usuarioId, int primeira, int ultima);
+}
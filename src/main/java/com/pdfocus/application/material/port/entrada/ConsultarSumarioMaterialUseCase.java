@@ -0,0 +1,31 @@
+package com.pdfocus.application.material.port.entrada;
+
+import com.pdfocus.application.material.dto.SecaoSumario;
+import com.pdfocus.core.exceptions.material.MaterialNaoEncontradoException;
+
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Porta de entrada (Input Port) do caso de uso que lista o sumário (capítulos e seções)
+ * de um material, para que o usuário escolha o trecho a resumir.
+ *
+ * <p><b>Contexto Arquitetural:</b></p>
+ * <ul>
+ *   <li>Pertence à camada de <b>aplicação</b> (Application Layer).</li>
+ *   <li>Implementada por {@code DefaultConsultarSumarioMaterialService}.</li>
+ *   <li>Consumida pelo controlador de materiais.</li>
+ * </ul>
+ */
+public interface ConsultarSumarioMaterialUseCase {
+
+    /**
+     * Lista as seções do sumário de um material do usuário.
+     *
+     * @param materialId O identificador do material.
+     * @param usuarioId  O identificador do usuário dono do material.
+     * @return As seções de primeiro nível, com as subseções; vazia se o PDF não tiver sumário.
+     * @throws MaterialNaoEncontradoException se o material não existir ou não pertencer ao usuário.
+     */
+    List<SecaoSumario> executar(UUID materialId, UUID usuarioId);
+}
@@ -40,8 +40,9 @@ public interface DownloadMaterialUseCase {
      *
      * @param resource O recurso físico (arquivo) a ser transmitido.
      * @param material Os metadados associados ao material no domínio.
+     * @param hash     O SHA-256 do conteúdo, usado como validador HTTP; {@code null} se desconhecido.
      */
-    record DownloadResult(Resource resource, Material material) {}
+    record DownloadResult(Resource resource, Material material, String hash) {}
 
     /**
      * Executa a lógica de negócio responsável por localizar e preparar
@@ -0,0 +1,80 @@
+package com.pdfocus.application.material.port.entrada;
+
+import com.pdfocus.application.material.dto.ConcluirEnvioParcialCommand;
+import com.pdfocus.application.material.dto.EnvioParcialResponse;
+import com.pdfocus.application.material.dto.IniciarEnvioParcialCommand;
+import com.pdfocus.core.models.Material;
+
+import java.io.InputStream;
+import java.util.UUID;
+
+/**
+ * Porta de entrada (Use Case) para o envio de materiais em partes (upload retomável).
+ *
+ * <p>
+ * O cliente inicia o envio, manda o arquivo em partes sequenciais e conclui o envio, que
+ * cria o {@link Material} como o upload comum. Se a conexão cair, o cliente consulta quantos
+ * bytes já foram recebidos e continua dali, em vez de reenviar o arquivo inteiro.
+ * </p>
+ */
+public interface EnvioParcialMaterialUseCase {
+
+    /**
+     * Inicia um envio em partes.
+     *
+     * @param command   Os metadados do arquivo.
+     * @param usuarioId O identificador do usuário autenticado.
+     * @return O envio criado, sem nenhum byte recebido.
+     * @throws com.pdfocus.core.exceptions.disciplina.DisciplinaNaoEncontradaException
+     *         Se a disciplina não existir ou não pertencer ao usuário.
+     * @throws IllegalArgumentException Se o tamanho exceder o limite ou o usuário tiver envios demais em andamento.
+     */
+    EnvioParcialResponse iniciar(IniciarEnvioParcialCommand command, UUID usuarioId);
+
+    /**
+     * Recebe a próxima parte de um envio.
+     *
+     * @param id        O identificador do envio.
+     * @param usuarioId O identificador do usuário autenticado.
+     * @param posicao   A posição em bytes onde a parte começa.
+     * @param parte     O conteúdo da parte.
+     * @return O andamento do envio após a parte.
+     * @throws com.pdfocus.core.exceptions.material.EnvioParcialNaoEncontradoException Se o envio não existir.
+     * @throws com.pdfocus.core.exceptions.material.PosicaoEnvioInvalidaException
+     *         Se a parte não começar onde o conteúdo recebido termina ou outra parte ainda estiver sendo recebida.
+     * @throws IllegalArgumentException Se a parte ultrapassar o tamanho declarado.
+     */
+    EnvioParcialResponse enviarParte(UUID id, UUID usuarioId, long posicao, InputStream parte);
+
+    /**
+     * Consulta o andamento de um envio, para retomá-lo após uma falha.
+     *
+     * @param id        O identificador do envio.
+     * @param usuarioId O identificador do usuário autenticado.
+     * @return O andamento do envio.
+     * @throws com.pdfocus.core.exceptions.material.EnvioParcialNaoEncontradoException Se o envio não existir.
+     */
+    EnvioParcialResponse consultar(UUID id, UUID usuarioId);
+
+    /**
+     * Conclui um envio com todos os bytes recebidos e cria o material.
+     *
+     * @param id        O identificador do envio.
+     * @param usuarioId O identificador do usuário autenticado.
+     * @param command   O hash esperado do arquivo, opcional.
+     * @return O material criado.
+     * @throws com.pdfocus.core.exceptions.material.EnvioParcialNaoEncontradoException Se o envio não existir.
+     * @throws IllegalArgumentException Se uma parte ainda estiver sendo recebida, se faltarem bytes ou se o
+     *         hash não corresponder (neste caso, o envio é descartado).
+     */
+    Material concluir(UUID id, UUID usuarioId, ConcluirEnvioParcialCommand command);
+
+    /**
+     * Cancela um envio e descarta o conteúdo recebido.
+     *
+     * @param id        O identificador do envio.
+     * @param usuarioId O identificador do usuário autenticado.
+     * @throws com.pdfocus.core.exceptions.material.EnvioParcialNaoEncontradoException Se o envio não existir.
+     */
+    void cancelar(UUID id, UUID usuarioId);
+}
@@ -0,0 +1,38 @@
+package com.pdfocus.application.material.port.entrada;
+
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Porta de entrada (Input Port) do caso de uso que extrai e persiste o texto de um material.
+ *
+ * <p>
+ * É disparado em segundo plano após o upload, para que a geração de resumos não precise
+ * processar o arquivo enquanto o usuário espera.
+ * </p>
+ *
+ * <p><b>Contexto Arquitetural:</b></p>
+ * <ul>
+ *   <li>Pertence à camada de <b>aplicação</b> (Application Layer).</li>
+ *   <li>Implementada por {@code DefaultExtrairTextoMaterialService}.</li>
+ *   <li>Consumida pelo ouvinte de eventos de upload da camada de infraestrutura.</li>
+ * </ul>
+ */
+public interface ExtrairTextoMaterialUseCase {
+
+    /**
+     * Extrai o texto do material e registra o resultado (texto e páginas, ou o motivo da falha).
+     * Falhas de extração são registradas e não propagadas.
+     *
+     * @param materialId o identificador único ({@link UUID}) do material.
+     */
+    void executar(UUID materialId);
+
+    /**
+     * Lista os materiais cuja extração ficou pendente (descartada com a fila cheia) ou foi
+     * interrompida por um reinício, para que sejam extraídos novamente.
+     *
+     * @return Os identificadores dos materiais a extrair.
+     */
+    List<UUID> listarInterrompidas();
+}
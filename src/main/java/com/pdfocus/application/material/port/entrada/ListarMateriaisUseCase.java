@@ -1,6 +1,10 @@
 package com.pdfocus.application.material.port.entrada;
 
+import com.pdfocus.application.material.dto.CursorMaterial;
+import com.pdfocus.application.material.dto.MaterialListagem;
 import com.pdfocus.core.models.Material;
+import org.springframework.data.domain.Slice;
+
 import java.util.List;
 import java.util.UUID;
 
@@ -42,4 +46,18 @@ public interface ListarMateriaisUseCase {
      * @return uma lista de objetos {@link Material} pertencentes à disciplina e ao utilizador autenticado.
      */
     List<Material> executar(UUID disciplinaId);
+
+    /**
+     * Lista uma página dos materiais de uma disciplina do utilizador, do mais recente para o
+     * mais antigo, com paginação por cursor e sem contagem do total: o custo de cada página
+     * depende apenas do seu tamanho, não da sua posição.
+     *
+     * @param disciplinaId o identificador da disciplina cujos materiais serão listados.
+     * @param usuarioId    o identificador do utilizador autenticado.
+     * @param apos         posição do último material da página anterior, ou {@code null} na primeira página.
+     * @param tamanho      número máximo de materiais na página.
+     * @return a fatia de {@link MaterialListagem}; {@link Slice#hasNext()} indica se há mais materiais.
+     * @throws IllegalArgumentException se o tamanho estiver fora do intervalo permitido.
+     */
+    Slice<MaterialListagem> executar(UUID disciplinaId, UUID usuarioId, CursorMaterial apos, int tamanho);
 }
@@ -0,0 +1,23 @@
+package com.pdfocus.application.material.port.entrada;
+
+import com.pdfocus.application.material.dto.RecolhimentoOrfaosResultado;
+
+/**
+ * Porta de entrada (Use Case) para apagar os ficheiros do armazenamento que não pertencem
+ * a nenhum material.
+ *
+ * <p>
+ * Ficheiros ficam órfãos quando os metadados do material são removidos sem o ficheiro
+ * (ex: exclusão de uma disciplina) ou quando o upload grava o ficheiro mas falha ao
+ * persistir o material. Não é chamado por requisições de usuários, e sim periodicamente.
+ * </p>
+ */
+public interface RecolherArquivosOrfaosUseCase {
+
+    /**
+     * Percorre o armazenamento e apaga os ficheiros sem material, gravados antes do período de carência.
+     *
+     * @return Quantos ficheiros foram verificados e apagados, e quantos bytes foram liberados.
+     */
+    RecolhimentoOrfaosResultado executar();
+}
@@ -1,10 +1,14 @@
 package com.pdfocus.application.material.port.saida;
 
+import com.pdfocus.application.material.dto.CursorMaterial;
+import com.pdfocus.application.material.dto.MaterialListagem;
 import com.pdfocus.core.models.Material;
 import com.pdfocus.core.models.Usuario;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
@@ -47,6 +51,20 @@ public interface MaterialRepository {
      */
     List<Material> listarPorDisciplinaEUsuario(UUID disciplinaId, UUID usuarioId);
 
+    /**
+     * Lista uma página dos materiais de uma disciplina e de um usuário, do mais recente para o
+     * mais antigo, com paginação por cursor (keyset) sobre {@code (dataUpload, id)}: a página
+     * começa logo depois de {@code apos}, sem {@code OFFSET} e sem contar o total.
+     *
+     * @param disciplinaId O identificador da disciplina.
+     * @param usuarioId O identificador do usuário proprietário.
+     * @param apos Posição do último material da página anterior, ou {@code null} na primeira página.
+     * @param tamanho Número máximo de materiais na página.
+     * @return A fatia de {@link MaterialListagem}; {@link Slice#hasNext()} indica se há mais materiais.
+     */
+    Slice<MaterialListagem> listarPorDisciplinaEUsuario(UUID disciplinaId, UUID usuarioId,
+                                                        CursorMaterial apos, int tamanho);
+
     /**
      * Busca um material pelo seu ID, garantindo que pertença ao usuário autenticado.
      *
@@ -94,20 +112,26 @@ public interface MaterialRepository {
     Optional<Material> buscarPorId(UUID id);
 
     /**
-     * Retorna os materiais de uma disciplina de forma paginada.
+     * Retorna os materiais de uma disciplina de forma paginada, como projeções de listagem
+     * montadas pela própria consulta (sem carregar as entidades).
      *
      * @param disciplinaId O identificador da disciplina.
      * @param pageable As informações de paginação.
-     * @return Uma página de {@link Material}.
+     * @return Uma página de {@link MaterialListagem}.
      */
-    Page<Material> buscarPorDisciplinaDeFormaPaginada(UUID disciplinaId, Pageable pageable);
+    Page<MaterialListagem> buscarPorDisciplinaDeFormaPaginada(UUID disciplinaId, Pageable pageable);
 
     /**
-     * Exclui todos os materiais associados a uma disciplina específica.
+     * Exclui todos os materiais associados a uma disciplina específica, em uma única operação,
+     * sem carregar os materiais.
+     *
+     * <p>Apenas os metadados são excluídos; os ficheiros ficam no armazenamento até o
+     * recolhimento de órfãos.</p>
      *
      * @param disciplinaId O identificador da disciplina.
+     * @return O número de materiais excluídos.
      */
-    void deletarTodosPorDisciplinaId(UUID disciplinaId);
+    int deletarTodosPorDisciplinaId(UUID disciplinaId);
 
     /**
      * Variante otimizada do método {@link #buscar5MaisRecentesPorUsuario(Usuario)},
@@ -122,4 +146,15 @@ public interface MaterialRepository {
      * @return Uma lista de {@link Material} com suas disciplinas pré-carregadas.
      */
     List<Material> buscar5MaisRecentesPorUsuarioComDisciplina(Usuario usuario);
+
+    /**
+     * Dentre os nomes de armazenamento informados, retorna os que pertencem a algum material.
+     *
+     * <p>Usado para encontrar ficheiros sem material; a lista deve ser limitada pelo chamador
+     * (a consulta usa {@code IN}).</p>
+     *
+     * @param nomesStorage Os nomes de armazenamento a verificar.
+     * @return Os nomes que pertencem a algum material, em ordem indefinida.
+     */
+    List<String> buscarNomesStorageExistentes(Collection<String> nomesStorage);
 }
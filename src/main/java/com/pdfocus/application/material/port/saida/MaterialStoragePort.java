@@ -2,6 +2,9 @@ package com.pdfocus.application.material.port.saida;
 
 import org.springframework.core.io.Resource;
 import java.io.InputStream;
+import java.time.Instant;
+import java.util.Optional;
+import java.util.stream.Stream;
 
 /**
  * Porta de Saída (Output Port) responsável pelo armazenamento físico dos ficheiros de {@code Material}.
@@ -20,6 +23,16 @@ import java.io.InputStream;
  */
 public interface MaterialStoragePort {
 
+    /**
+     * Um ficheiro armazenado, como listado por {@link #listarArquivos()}.
+     *
+     * @param nome         O identificador único do ficheiro (o {@code nomeStorage} do material).
+     * @param tamanho      O tamanho do conteúdo, em bytes.
+     * @param modificadoEm O instante da última gravação sob esse nome.
+     */
+    record ArquivoArmazenado(String nome, long tamanho, Instant modificadoEm) {
+    }
+
     /**
      * Persiste um ficheiro binário no sistema de armazenamento.
      *
@@ -45,4 +58,59 @@ public interface MaterialStoragePort {
      * @throws RuntimeException se o ficheiro não for encontrado ou estiver inacessível.
      */
     Resource carregar(String nomeFicheiro);
+
+    /**
+     * Retorna o SHA-256 do conteúdo de um ficheiro, quando o armazenamento o conhece sem
+     * precisar ler o ficheiro a cada consulta (ex: calculado na gravação).
+     *
+     * @param nomeFicheiro O identificador único do ficheiro.
+     * @return O hash em hexadecimal minúsculo, ou vazio se não for conhecido.
+     */
+    default Optional<String> buscarHash(String nomeFicheiro) {
+        return Optional.empty();
+    }
+
+    /**
+     * Acrescenta uma parte a um envio parcial (upload em partes), criando-o na primeira parte.
+     *
+     * <p>A parte é acrescentada por completo ou não é acrescentada: se o fluxo falhar no meio,
+     * o envio volta ao tamanho que tinha antes da chamada.</p>
+     *
+     * @param idEnvio O identificador do envio parcial.
+     * @param posicao A posição em bytes onde a parte começa; deve ser o tamanho atual do envio.
+     * @param parte   O fluxo de bytes da parte.
+     * @return O novo tamanho do envio, em bytes.
+     * @throws IllegalStateException se a posição não corresponder ao tamanho atual do envio.
+     * @throws RuntimeException se ocorrer um erro de I/O durante a gravação.
+     */
+    long anexarParcial(String idEnvio, long posicao, InputStream parte);
+
+    /**
+     * Conclui um envio parcial, guardando o conteúdo recebido sob o nome definitivo, como
+     * {@link #guardar(String, InputStream)}, sem copiar os bytes novamente.
+     *
+     * @param idEnvio      O identificador do envio parcial.
+     * @param nomeFicheiro O identificador único sob o qual o ficheiro será armazenado.
+     * @param hash         O SHA-256 do conteúdo, já calculado durante o envio.
+     * @throws RuntimeException se o envio não existir ou ocorrer um erro de I/O.
+     */
+    void concluirParcial(String idEnvio, String nomeFicheiro, String hash);
+
+    /**
+     * Descarta um envio parcial e o conteúdo já recebido. Envios inexistentes são ignorados.
+     *
+     * @param idEnvio O identificador do envio parcial.
+     */
+    void descartarParcial(String idEnvio);
+
+    /**
+     * Percorre os ficheiros armazenados, em ordem indefinida, sem carregar a lista inteira em
+     * memória. Envios parciais e arquivos internos do armazenamento não são listados.
+     *
+     * <p>O fluxo mantém recursos abertos e deve ser fechado ({@code try-with-resources}).</p>
+     *
+     * @return Um fluxo com os ficheiros armazenados.
+     * @throws RuntimeException se o armazenamento não puder ser percorrido.
+     */
+    Stream<ArquivoArmazenado> listarArquivos();
 }
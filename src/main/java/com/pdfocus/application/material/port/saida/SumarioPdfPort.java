@@ -0,0 +1,23 @@
+package com.pdfocus.application.material.port.saida;
+
+import com.pdfocus.application.material.dto.SecaoSumario;
+import com.pdfocus.core.exceptions.resumo.TextoNaoPodeSerExtraidoException;
+
+import java.util.List;
+
+/**
+ * Porta de saída para a leitura do sumário (marcadores) de um PDF armazenado.
+ *
+ * <p>Permite localizar capítulos e seções sem extrair o texto do documento.</p>
+ */
+public interface SumarioPdfPort {
+
+    /**
+     * Lê a árvore de seções do sumário de um arquivo.
+     *
+     * @param nomeStorage O nome do arquivo no armazenamento.
+     * @return As seções de primeiro nível, em ordem; vazia se o PDF não tiver sumário.
+     * @throws TextoNaoPodeSerExtraidoException Se o arquivo não puder ser lido.
+     */
+    List<SecaoSumario> lerSumario(String nomeStorage);
+}
@@ -0,0 +1,41 @@
+package com.pdfocus.application.material.port.saida;
+
+import com.pdfocus.core.models.StatusExtracao;
+import com.pdfocus.core.models.TextoExtraido;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+
+/**
+ * Porta de saída para a persistência do texto extraído dos materiais.
+ *
+ * <p>Há no máximo um registro por material; salvar substitui o registro anterior.
+ * O registro é removido junto com o material.</p>
+ */
+public interface TextoExtraidoRepository {
+
+    /**
+     * Cria ou atualiza o registro de extração de um material.
+     *
+     * @param textoExtraido O estado da extração a ser persistido.
+     */
+    void salvar(TextoExtraido textoExtraido);
+
+    /**
+     * Busca o registro de extração de um material.
+     *
+     * @param materialId Identificador do material.
+     * @return O registro, se existir.
+     */
+    Optional<TextoExtraido> buscarPorMaterialId(UUID materialId);
+
+    /**
+     * Lista os materiais cuja extração está em algum dos estados informados.
+     *
+     * @param status Os estados desejados.
+     * @return Os identificadores dos materiais, do registro mais antigo para o mais recente.
+     */
+    List<UUID> listarMateriaisPorStatus(Collection<StatusExtracao> status);
+}
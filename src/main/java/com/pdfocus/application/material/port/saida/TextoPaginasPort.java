@@ -0,0 +1,47 @@
+package com.pdfocus.application.material.port.saida;
+
+import java.util.List;
+import java.util.Optional;
+import java.util.OptionalInt;
+
+/**
+ * Porta de saída para o armazenamento do texto extraído de um arquivo, página a página.
+ *
+ * <p>Permite ler apenas um intervalo de páginas (ex.: um capítulo, um trecho para
+ * pré-visualização) sem processar o PDF de novo e sem carregar o texto do documento
+ * inteiro. As páginas são identificadas pelo {@code nomeStorage} do material e numeradas
+ * a partir de 1.</p>
+ */
+public interface TextoPaginasPort {
+
+    /**
+     * Grava o texto de todas as páginas de um arquivo, substituindo o anterior.
+     *
+     * @param nomeStorage O nome do arquivo no armazenamento.
+     * @param paginas     O texto de cada página, em ordem.
+     */
+    void salvar(String nomeStorage, List<String> paginas);
+
+    /**
+     * Lê o texto de um intervalo de páginas. O intervalo é limitado às páginas existentes.
+     *
+     * @param nomeStorage O nome do arquivo no armazenamento.
+     * @param primeira    A primeira página (a partir de 1).
+     * @param ultima      A última página, inclusive.
+     * @return O texto de cada página do intervalo, em ordem; vazio se as páginas do arquivo não foram gravadas.
+     */
+    Optional<List<String>> buscarPaginas(String nomeStorage, int primeira, int ultima);
+
+    /**
+     * @param nomeStorage O nome do arquivo no armazenamento.
+     * @return O número de páginas gravadas, ou vazio se as páginas do arquivo não foram gravadas.
+     */
+    OptionalInt contarPaginas(String nomeStorage);
+
+    /**
+     * Remove as páginas gravadas de um arquivo, se existirem.
+     *
+     * @param nomeStorage O nome do arquivo no armazenamento.
+     */
+    void apagar(String nomeStorage);
+}
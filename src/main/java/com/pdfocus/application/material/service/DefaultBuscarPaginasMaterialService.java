@@ -0,0 +1,96 @@
+package com.pdfocus.application.material.service;
+
+import com.pdfocus.application.material.dto.PaginasMaterialResponse;
+import com.pdfocus.application.material.port.entrada.BuscarPaginasMaterialUseCase;
+import com.pdfocus.application.material.port.saida.MaterialRepository;
+import com.pdfocus.application.material.port.saida.TextoPaginasPort;
+import com.pdfocus.application.resumo.dto.ConteudoExtraido;
+import com.pdfocus.application.resumo.port.saida.TextExtractorPort;
+import com.pdfocus.core.exceptions.material.MaterialNaoEncontradoException;
+import com.pdfocus.core.models.Material;
+import org.springframework.stereotype.Service;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Implementação padrão do caso de uso {@link BuscarPaginasMaterialUseCase}.
+ *
+ * <p><b>Fluxo resumido:</b></p>
+ * <ol>
+ *   <li>Valida o intervalo e a posse do material.</li>
+ *   <li>Lê apenas as páginas pedidas do {@link TextoPaginasPort}, gravadas após a extração
+ *       em segundo plano.</li>
+ *   <li>Se as páginas ainda não foram gravadas (extração pendente ou material anterior a
+ *       esse armazenamento), extrai o texto na hora e grava as páginas para as próximas consultas.</li>
+ * </ol>
+ */
+@Service
+public class DefaultBuscarPaginasMaterialService implements BuscarPaginasMaterialUseCase {
+
+    private final MaterialRepository materialRepository;
+    private final TextoPaginasPort textoPaginasPort;
+    private final TextExtractorPort textExtractorPort;
+
+    /**
+     * @param materialRepository Repositório para validar a posse do material.
+     * @param textoPaginasPort   Armazenamento do texto por página.
+     * @param textExtractorPort  Porta de extração de texto, usada quando as páginas não estão gravadas.
+     */
+    public DefaultBuscarPaginasMaterialService(MaterialRepository materialRepository,
+                                               TextoPaginasPort textoPaginasPort,
+                                               TextExtractorPort textExtractorPort) {
+        this.materialRepository = materialRepository;
+        this.textoPaginasPort = textoPaginasPort;
+        this.textExtractorPort = textExtractorPort;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public PaginasMaterialResponse executar(UUID materialId, UUID usuarioId, int primeira, int ultima) {
+        if (primeira < 1 || ultima < primeira) {
+            throw new IllegalArgumentException("Intervalo de páginas inválido: " + primeira + "-" + ultima);
+        }
+        if (ultima - primeira + 1 > MAX_PAGINAS_POR_CONSULTA) {
+            throw new IllegalArgumentException("É possível consultar no máximo " + MAX_PAGINAS_POR_CONSULTA + " páginas por vez.");
+        }
+
+        Material material = materialRepository.buscarPorIdEUsuario(materialId, usuarioId)
+                .orElseThrow(() -> new MaterialNaoEncontradoException(materialId));
+        String nomeStorage = material.getNomeStorage();
+
+        var gravadas = textoPaginasPort.buscarPaginas(nomeStorage, primeira, ultima);
+        var total = textoPaginasPort.contarPaginas(nomeStorage);
+        if (gravadas.isPresent() && total.isPresent()) {
+            return montarResposta(materialId, total.getAsInt(), primeira, gravadas.get());
+        }
+
+        System.out.println("🔤 Páginas do material " + materialId + " ainda não gravadas; extraindo o texto...");
+        List<String> todas = paginasDe(textExtractorPort.extrairConteudo(nomeStorage));
+        textoPaginasPort.salvar(nomeStorage, todas);
+
+        List<String> intervalo = primeira > todas.size()
+                ? List.of()
+                : todas.subList(primeira - 1, Math.min(ultima, todas.size()));
+        return montarResposta(materialId, todas.size(), primeira, intervalo);
+    }
+
+    /**
+     * O texto de cada página; se o extrator não separa as páginas, o texto inteiro é a página 1.
+     */
+    private static List<String> paginasDe(ConteudoExtraido conteudo) {
+        List<String> paginas = conteudo.textoPorPagina();
+        return paginas.isEmpty() ? List.of(conteudo.texto()) : paginas;
+    }
+
+    private static PaginasMaterialResponse montarResposta(UUID materialId, int totalPaginas, int primeira, List<String> textos) {
+        List<PaginasMaterialResponse.Pagina> paginas = new ArrayList<>(textos.size());
+        for (int i = 0; i < textos.size(); i++) {
+            paginas.add(new PaginasMaterialResponse.Pagina(primeira + i, textos.get(i)));
+        }
+        return new PaginasMaterialResponse(materialId, totalPaginas, paginas);
+    }
+}
@@ -0,0 +1,44 @@
+package com.pdfocus.application.material.service;
+
+import com.pdfocus.application.material.dto.SecaoSumario;
+import com.pdfocus.application.material.port.entrada.ConsultarSumarioMaterialUseCase;
+import com.pdfocus.application.material.port.saida.MaterialRepository;
+import com.pdfocus.application.material.port.saida.SumarioPdfPort;
+import com.pdfocus.core.exceptions.material.MaterialNaoEncontradoException;
+import com.pdfocus.core.models.Material;
+import org.springframework.stereotype.Service;
+
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Implementação padrão do caso de uso {@link ConsultarSumarioMaterialUseCase}.
+ *
+ * <p>Valida a posse do material e lê o sumário diretamente do PDF via {@link SumarioPdfPort}.</p>
+ */
+@Service
+public class DefaultConsultarSumarioMaterialService implements ConsultarSumarioMaterialUseCase {
+
+    private final MaterialRepository materialRepository;
+    private final SumarioPdfPort sumarioPdfPort;
+
+    /**
+     * @param materialRepository Repositório para validar a posse do material.
+     * @param sumarioPdfPort     Leitura do sumário do PDF.
+     */
+    public DefaultConsultarSumarioMaterialService(MaterialRepository materialRepository,
+                                                  SumarioPdfPort sumarioPdfPort) {
+        this.materialRepository = materialRepository;
+        this.sumarioPdfPort = sumarioPdfPort;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public List<SecaoSumario> executar(UUID materialId, UUID usuarioId) {
+        Material material = materialRepository.buscarPorIdEUsuario(materialId, usuarioId)
+                .orElseThrow(() -> new MaterialNaoEncontradoException(materialId));
+        return sumarioPdfPort.lerSumario(material.getNomeStorage());
+    }
+}
@@ -3,6 +3,7 @@ package com.pdfocus.application.material.service;
 import com.pdfocus.application.material.port.entrada.DeletarMaterialUseCase;
 import com.pdfocus.application.material.port.saida.MaterialRepository;
 import com.pdfocus.application.material.port.saida.MaterialStoragePort;
+import com.pdfocus.application.material.port.saida.TextoPaginasPort;
 import com.pdfocus.application.usuario.port.saida.UsuarioRepository;
 import com.pdfocus.core.exceptions.material.MaterialNaoEncontradoException;
 import com.pdfocus.core.models.Material;
@@ -27,7 +28,7 @@ import java.util.UUID;
  * <ol>
  *     <li>Valida a identidade do usuário autenticado.</li>
  *     <li>Verifica a posse do material antes da exclusão.</li>
- *     <li>Remove o arquivo físico do armazenamento (S3, FileSystem etc.).</li>
+ *     <li>Remove o arquivo físico do armazenamento (S3, FileSystem etc.) e o texto extraído por página.</li>
  *     <li>Exclui o registro correspondente no banco de dados.</li>
  * </ol>
  * </p>
@@ -42,6 +43,7 @@ public class DefaultDeletarMaterialService implements DeletarMaterialUseCase {
     private final MaterialRepository materialRepository;
     private final UsuarioRepository usuarioRepository;
     private final MaterialStoragePort materialStoragePort;
+    private final TextoPaginasPort textoPaginasPort;
 
     /**
      * Cria uma nova instância do serviço de deleção de materiais.
@@ -49,13 +51,16 @@ public class DefaultDeletarMaterialService implements DeletarMaterialUseCase {
      * @param materialRepository Repositório responsável pelo acesso aos dados de materiais.
      * @param usuarioRepository  Repositório responsável pela recuperação de informações do usuário.
      * @param materialStoragePort Porta responsável por interagir com o armazenamento físico dos arquivos.
+     * @param textoPaginasPort    Porta do armazenamento do texto extraído por página.
      */
     public DefaultDeletarMaterialService(MaterialRepository materialRepository,
                                          UsuarioRepository usuarioRepository,
-                                         MaterialStoragePort materialStoragePort) {
+                                         MaterialStoragePort materialStoragePort,
+                                         TextoPaginasPort textoPaginasPort) {
         this.materialRepository = materialRepository;
         this.usuarioRepository = usuarioRepository;
         this.materialStoragePort = materialStoragePort;
+        this.textoPaginasPort = textoPaginasPort;
     }
 
     /**
@@ -89,6 +94,7 @@ public class DefaultDeletarMaterialService implements DeletarMaterialUseCase {
 
         // 3. Exclui o arquivo físico e o registro lógico, nesta ordem
         materialStoragePort.apagar(material.getNomeStorage());
+        textoPaginasPort.apagar(material.getNomeStorage());
         materialRepository.deletarPorIdEUsuario(id, usuario.getId());
     }
 }
@@ -65,7 +65,7 @@ public class DefaultDownloadMaterialService implements DownloadMaterialUseCase {
      * <ol>
      *     <li>Identifica o usuário autenticado via {@link SecurityContextHolder}.</li>
      *     <li>Valida a existência e a posse do material.</li>
-     *     <li>Recupera o arquivo físico do armazenamento.</li>
+     *     <li>Recupera o arquivo físico do armazenamento e o hash do seu conteúdo.</li>
      *     <li>Retorna um {@link DownloadResult} contendo o arquivo e seus metadados.</li>
      * </ol>
      * </p>
@@ -89,10 +89,11 @@ public class DefaultDownloadMaterialService implements DownloadMaterialUseCase {
         Material material = materialRepository.buscarPorIdEUsuario(id, usuario.getId())
                 .orElseThrow(() -> new MaterialNaoEncontradoException(id));
 
-        // 3. Carrega o arquivo físico do armazenamento
+        // 3. Carrega o arquivo físico do armazenamento e o hash que identifica o conteúdo
         Resource resource = materialStoragePort.carregar(material.getNomeStorage());
+        String hash = materialStoragePort.buscarHash(material.getNomeStorage()).orElse(null);
 
         // 4. Retorna o pacote completo de download (arquivo + metadados)
-        return new DownloadResult(resource, material);
+        return new DownloadResult(resource, material, hash);
     }
 }
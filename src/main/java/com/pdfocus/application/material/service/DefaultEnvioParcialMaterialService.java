@@ -0,0 +1,397 @@
+package com.pdfocus.application.material.service;
+
+import com.pdfocus.application.disciplina.port.saida.DisciplinaRepository;
+import com.pdfocus.application.material.dto.ConcluirEnvioParcialCommand;
+import com.pdfocus.application.material.dto.EnvioParcialResponse;
+import com.pdfocus.application.material.dto.IniciarEnvioParcialCommand;
+import com.pdfocus.application.material.dto.MaterialEnviadoEvent;
+import com.pdfocus.application.material.port.entrada.EnvioParcialMaterialUseCase;
+import com.pdfocus.application.material.port.saida.MaterialRepository;
+import com.pdfocus.application.material.port.saida.MaterialStoragePort;
+import com.pdfocus.application.material.port.saida.TextoExtraidoRepository;
+import com.pdfocus.core.exceptions.disciplina.DisciplinaNaoEncontradaException;
+import com.pdfocus.core.exceptions.material.EnvioParcialNaoEncontradoException;
+import com.pdfocus.core.exceptions.material.PosicaoEnvioInvalidaException;
+import com.pdfocus.core.models.Material;
+import com.pdfocus.core.models.TextoExtraido;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.util.StringUtils;
+
+import java.io.FilterInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.security.DigestInputStream;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Duration;
+import java.util.HexFormat;
+import java.util.Map;
+import java.util.Objects;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Implementação padrão do caso de uso {@link EnvioParcialMaterialUseCase}.
+ *
+ * <p>
+ * Cada parte é repassada em streaming para {@link MaterialStoragePort#anexarParcial}, sem
+ * passar pelo multipart do servlet nem ser acumulada em memória, e o SHA-256 do arquivo é
+ * calculado à medida que as partes chegam. Uma parte que falha no meio é descartada por
+ * inteiro, no armazenamento e no hash, e o cliente a reenvia a partir da mesma posição.
+ * </p>
+ *
+ * <p>
+ * A trava de cada envio só é mantida para conferir e reservar a posição da parte e, no fim,
+ * para confirmar os bytes recebidos; a parte é lida da requisição sem ela. Assim, uma
+ * consulta de andamento feita após uma conexão perdida responde na hora, com os bytes já
+ * confirmados, mesmo que a requisição abandonada ainda esteja aguardando o timeout do socket.
+ * Uma parte que chega enquanto outra do mesmo envio está em andamento recebe
+ * {@link PosicaoEnvioInvalidaException}.
+ * </p>
+ *
+ * <p>
+ * O andamento dos envios fica em memória: envios sem atividade por
+ * {@code app.upload.parcial.expiracao-minutos} são descartados, e um reinício descarta todos
+ * (o cliente recomeça o envio). Assume uma única instância da aplicação, como os jobs de resumo.
+ * </p>
+ *
+ * <p><b>Limites:</b> {@code app.upload.parcial.tamanho-maximo-mb} por arquivo e
+ * {@code app.upload.parcial.envios-por-usuario} envios simultâneos por usuário.</p>
+ */
+@Service
+public class DefaultEnvioParcialMaterialService implements EnvioParcialMaterialUseCase {
+
+    private final MaterialRepository materialRepository;
+    private final DisciplinaRepository disciplinaRepository;
+    private final MaterialStoragePort materialStoragePort;
+    private final TextoExtraidoRepository textoExtraidoRepository;
+    private final ApplicationEventPublisher eventPublisher;
+    private final long tamanhoMaximo;
+    private final long expiracaoNanos;
+    private final int enviosPorUsuario;
+
+    private final Map<UUID, EnvioParcial> envios = new ConcurrentHashMap<>();
+
+    /**
+     * @param materialRepository      Repositório onde o material concluído é persistido.
+     * @param disciplinaRepository    Repositório responsável pela validação da disciplina.
+     * @param materialStoragePort     Porta de saída que recebe as partes e o arquivo concluído.
+     * @param textoExtraidoRepository Repositório onde o status da extração de texto é registrado.
+     * @param eventPublisher          Publicador do evento de upload concluído.
+     * @param tamanhoMaximoMb         Tamanho máximo de um arquivo enviado em partes, em MB.
+     * @param expiracaoMinutos        Tempo sem receber partes após o qual o envio é descartado.
+     * @param enviosPorUsuario        Número máximo de envios simultâneos de um usuário.
+     */
+    public DefaultEnvioParcialMaterialService(
+            MaterialRepository materialRepository,
+            DisciplinaRepository disciplinaRepository,
+            MaterialStoragePort materialStoragePort,
+            TextoExtraidoRepository textoExtraidoRepository,
+            ApplicationEventPublisher eventPublisher,
+            @Value("${app.upload.parcial.tamanho-maximo-mb:100}") long tamanhoMaximoMb,
+            @Value("${app.upload.parcial.expiracao-minutos:1440}") long expiracaoMinutos,
+            @Value("${app.upload.parcial.envios-por-usuario:3}") int enviosPorUsuario) {
+        this.materialRepository = materialRepository;
+        this.disciplinaRepository = disciplinaRepository;
+        this.materialStoragePort = materialStoragePort;
+        this.textoExtraidoRepository = textoExtraidoRepository;
+        this.eventPublisher = eventPublisher;
+        this.tamanhoMaximo = tamanhoMaximoMb * 1024 * 1024;
+        this.expiracaoNanos = Duration.ofMinutes(expiracaoMinutos).toNanos();
+        this.enviosPorUsuario = enviosPorUsuario;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public EnvioParcialResponse iniciar(IniciarEnvioParcialCommand command, UUID usuarioId) {
+        Objects.requireNonNull(command, "O comando de envio não pode ser nulo.");
+        if (!StringUtils.hasText(command.nomeOriginal())) {
+            throw new IllegalArgumentException("O nome do arquivo é obrigatório.");
+        }
+        if (command.tamanho() <= 0 || command.tamanho() > tamanhoMaximo) {
+            throw new IllegalArgumentException("O tamanho do arquivo deve estar entre 1 byte e "
+                    + tamanhoMaximo / (1024 * 1024) + " MB.");
+        }
+
+        disciplinaRepository.findByIdAndUsuarioId(command.disciplinaId(), usuarioId)
+                .orElseThrow(() -> new DisciplinaNaoEncontradaException(command.disciplinaId()));
+
+        descartarExpirados();
+        long emAndamento = envios.values().stream()
+                .filter(envio -> envio.usuarioId.equals(usuarioId))
+                .count();
+        if (emAndamento >= enviosPorUsuario) {
+            throw new IllegalArgumentException("Há " + emAndamento
+                    + " envios em andamento. Conclua ou cancele um deles antes de iniciar outro.");
+        }
+
+        EnvioParcial envio = new EnvioParcial(UUID.randomUUID(), usuarioId, command);
+        envios.put(envio.id, envio);
+
+        System.out.println("📤 Envio em partes " + envio.id + " iniciado: " + command.nomeOriginal()
+                + " (" + command.tamanho() + " bytes)");
+        return envio.paraResposta();
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public EnvioParcialResponse enviarParte(UUID id, UUID usuarioId, long posicao, InputStream parte) {
+        EnvioParcial envio = buscar(id, usuarioId);
+        MessageDigest digest;
+        FluxoLimitado limitado;
+        synchronized (envio) {
+            verificarAtivo(envio);
+            if (envio.parteEmAndamento) {
+                throw PosicaoEnvioInvalidaException.parteEmAndamento(envio.recebidos);
+            }
+            if (posicao != envio.recebidos) {
+                throw new PosicaoEnvioInvalidaException(posicao, envio.recebidos);
+            }
+            envio.parteEmAndamento = true;
+            // O hash confirmado só é substituído se a parte inteira for gravada
+            digest = copiar(envio.digest);
+            limitado = new FluxoLimitado(parte, envio.command.tamanho() - envio.recebidos);
+        }
+
+        long recebidos;
+        try {
+            recebidos = materialStoragePort.anexarParcial(
+                    id.toString(), posicao, new DigestInputStream(limitado, digest));
+        } catch (RuntimeException | Error e) {
+            // A parte foi descartada pelo armazenamento; o envio continua onde estava
+            synchronized (envio) {
+                liberarParte(envio);
+            }
+            if (limitado.excedeu) {
+                throw new IllegalArgumentException("A parte ultrapassa o tamanho declarado de "
+                        + envio.command.tamanho() + " bytes.");
+            }
+            throw e;
+        }
+
+        synchronized (envio) {
+            liberarParte(envio);
+            verificarAtivo(envio);
+            envio.digest = digest;
+            envio.recebidos = recebidos;
+            envio.ultimaAtividade = System.nanoTime();
+            return envio.paraResposta();
+        }
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public EnvioParcialResponse consultar(UUID id, UUID usuarioId) {
+        EnvioParcial envio = buscar(id, usuarioId);
+        synchronized (envio) {
+            verificarAtivo(envio);
+            return envio.paraResposta();
+        }
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * <p>O arquivo é movido do envio para o armazenamento definitivo sem ser relido, e o
+     * material segue o mesmo fluxo do upload comum: metadados persistidos, extração de
+     * texto registrada como pendente e {@link MaterialEnviadoEvent} publicado.</p>
+     */
+    @Override
+    @Transactional
+    public Material concluir(UUID id, UUID usuarioId, ConcluirEnvioParcialCommand command) {
+        EnvioParcial envio = buscar(id, usuarioId);
+        synchronized (envio) {
+            verificarAtivo(envio);
+            if (envio.parteEmAndamento) {
+                throw new IllegalArgumentException("Uma parte deste envio ainda está sendo recebida.");
+            }
+            if (envio.recebidos != envio.command.tamanho()) {
+                throw new IllegalArgumentException("O envio recebeu " + envio.recebidos + " de "
+                        + envio.command.tamanho() + " bytes.");
+            }
+
+            String hash = HexFormat.of().formatHex(copiar(envio.digest).digest());
+            String hashEsperado = command != null ? command.sha256() : null;
+            if (StringUtils.hasText(hashEsperado) && !hash.equalsIgnoreCase(hashEsperado.trim())) {
+                descartar(envio);
+                throw new IllegalArgumentException(
+                        "O arquivo recebido não corresponde ao SHA-256 informado; o envio foi descartado.");
+            }
+
+            String extensao = StringUtils.getFilenameExtension(envio.command.nomeOriginal());
+            String nomeFicheiroStorage = UUID.randomUUID() + "." + extensao;
+            materialStoragePort.concluirParcial(id.toString(), nomeFicheiroStorage, hash);
+            envio.ativo = false;
+            envios.remove(id);
+
+            Material materialSalvo = materialRepository.salvar(Material.criar(
+                    UUID.randomUUID(),
+                    envio.command.nomeOriginal(),
+                    nomeFicheiroStorage,
+                    envio.command.tipoArquivo(),
+                    envio.command.tamanho(),
+                    usuarioId,
+                    envio.command.disciplinaId(),
+                    null // A data será preenchida automaticamente via @CreationTimestamp
+            ));
+
+            textoExtraidoRepository.salvar(TextoExtraido.pendente(materialSalvo.getId()));
+            eventPublisher.publishEvent(new MaterialEnviadoEvent(materialSalvo.getId()));
+
+            System.out.println("✅ Envio em partes " + id + " concluído como material " + materialSalvo.getId());
+            return materialSalvo;
+        }
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void cancelar(UUID id, UUID usuarioId) {
+        EnvioParcial envio = buscar(id, usuarioId);
+        synchronized (envio) {
+            verificarAtivo(envio);
+            descartar(envio);
+        }
+    }
+
+    private EnvioParcial buscar(UUID id, UUID usuarioId) {
+        EnvioParcial envio = envios.get(id);
+        if (envio == null || !envio.usuarioId.equals(usuarioId)) {
+            throw new EnvioParcialNaoEncontradoException(id);
+        }
+        return envio;
+    }
+
+    /**
+     * Um envio pode ter sido concluído, cancelado ou expirado enquanto a thread aguardava a trava.
+     */
+    private static void verificarAtivo(EnvioParcial envio) {
+        if (!envio.ativo) {
+            throw new EnvioParcialNaoEncontradoException(envio.id);
+        }
+    }
+
+    /**
+     * Deve ser chamado com a trava do envio.
+     */
+    private void descartar(EnvioParcial envio) {
+        envio.ativo = false;
+        envios.remove(envio.id);
+        materialStoragePort.descartarParcial(envio.id.toString());
+    }
+
+    /**
+     * Deve ser chamado com a trava do envio, ao fim de uma parte. Se o envio foi cancelado
+     * enquanto a parte era recebida, apaga o que ela possa ter recriado no armazenamento.
+     */
+    private void liberarParte(EnvioParcial envio) {
+        envio.parteEmAndamento = false;
+        if (!envio.ativo) {
+            materialStoragePort.descartarParcial(envio.id.toString());
+        }
+    }
+
+    private void descartarExpirados() {
+        long agora = System.nanoTime();
+        for (EnvioParcial envio : envios.values()) {
+            if (agora - envio.ultimaAtividade >= expiracaoNanos) {
+                synchronized (envio) {
+                    if (envio.ativo && !envio.parteEmAndamento && agora - envio.ultimaAtividade >= expiracaoNanos) {
+                        System.out.println("🗑️ Envio em partes " + envio.id + " expirado e descartado");
+                        descartar(envio);
+                    }
+                }
+            }
+        }
+    }
+
+    private static MessageDigest copiar(MessageDigest digest) {
+        try {
+            return (MessageDigest) digest.clone();
+        } catch (CloneNotSupportedException e) {
+            // A implementação SHA-256 do JDK suporta clone
+            throw new IllegalStateException("Não foi possível copiar o estado do SHA-256", e);
+        }
+    }
+
+    /**
+     * Estado de um envio em andamento. Os campos mutáveis são acessados com a trava do envio.
+     */
+    private static final class EnvioParcial {
+
+        private final UUID id;
+        private final UUID usuarioId;
+        private final IniciarEnvioParcialCommand command;
+        private MessageDigest digest;
+        private long recebidos;
+        private volatile long ultimaAtividade = System.nanoTime();
+        private boolean ativo = true;
+        private boolean parteEmAndamento;
+
+        private EnvioParcial(UUID id, UUID usuarioId, IniciarEnvioParcialCommand command) {
+            this.id = id;
+            this.usuarioId = usuarioId;
+            this.command = command;
+            try {
+                this.digest = MessageDigest.getInstance("SHA-256");
+            } catch (NoSuchAlgorithmException e) {
+                // Todo JRE é obrigado a oferecer SHA-256
+                throw new IllegalStateException("SHA-256 indisponível na JVM", e);
+            }
+        }
+
+        private EnvioParcialResponse paraResposta() {
+            return new EnvioParcialResponse(id, recebidos, command.tamanho());
+        }
+    }
+
+    /**
+     * Interrompe a leitura da parte assim que ela ultrapassar os bytes que ainda faltam.
+     */
+    private static final class FluxoLimitado extends FilterInputStream {
+
+        private long restante;
+        private boolean excedeu;
+
+        private FluxoLimitado(InputStream entrada, long restante) {
+            super(entrada);
+            this.restante = restante;
+        }
+
+        @Override
+        public int read() throws IOException {
+            int lido = super.read();
+            if (lido >= 0) {
+                consumir(1);
+            }
+            return lido;
+        }
+
+        @Override
+        public int read(byte[] b, int off, int len) throws IOException {
+            int lidos = super.read(b, off, len);
+            if (lidos > 0) {
+                consumir(lidos);
+            }
+            return lidos;
+        }
+
+        private void consumir(long quantidade) throws IOException {
+            restante -= quantidade;
+            if (restante < 0) {
+                excedeu = true;
+                throw new IOException("A parte ultrapassa o tamanho declarado do arquivo");
+            }
+        }
+    }
+}
@@ -0,0 +1,110 @@
+package com.pdfocus.application.material.service;
+
+import com.pdfocus.application.material.port.entrada.ExtrairTextoMaterialUseCase;
+import com.pdfocus.application.material.port.saida.MaterialRepository;
+import com.pdfocus.application.material.port.saida.TextoExtraidoRepository;
+import com.pdfocus.application.material.port.saida.TextoPaginasPort;
+import com.pdfocus.application.resumo.dto.ConteudoExtraido;
+import com.pdfocus.application.resumo.port.saida.TextExtractorPort;
+import com.pdfocus.core.models.Material;
+import com.pdfocus.core.models.StatusExtracao;
+import com.pdfocus.core.models.TextoExtraido;
+import org.springframework.stereotype.Service;
+
+import java.util.EnumSet;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+
+/**
+ * Implementação padrão do caso de uso {@link ExtrairTextoMaterialUseCase}.
+ *
+ * <p><b>Fluxo resumido:</b></p>
+ * <ol>
+ *   <li>Carrega o material; se ele já tiver sido apagado, não faz nada.</li>
+ *   <li>Registra o status {@code PROCESSANDO}.</li>
+ *   <li>Extrai o texto e o número de páginas via {@link TextExtractorPort}.</li>
+ *   <li>Grava o texto de cada página no {@link TextoPaginasPort}, para leituras por intervalo.</li>
+ *   <li>Registra o status {@code CONCLUIDA} com o texto, ou {@code FALHOU} com o motivo.</li>
+ * </ol>
+ *
+ * <p>Se o material for apagado durante a extração, o registro de extração vai junto com ele
+ * e as gravações de status falham; essa falha é apenas registrada no log, nunca propagada.</p>
+ *
+ * <p>
+ * <b>Anotações técnicas:</b> O método não é transacional de propósito: a extração pode
+ * levar segundos e não deve manter uma conexão com o banco aberta. Cada gravação de
+ * status é uma transação curta no repositório.
+ * </p>
+ */
+@Service
+public class DefaultExtrairTextoMaterialService implements ExtrairTextoMaterialUseCase {
+
+    private final MaterialRepository materialRepository;
+    private final TextoExtraidoRepository textoExtraidoRepository;
+    private final TextExtractorPort textExtractorPort;
+    private final TextoPaginasPort textoPaginasPort;
+
+    /**
+     * @param materialRepository      Repositório para carregar o material.
+     * @param textoExtraidoRepository Repositório onde o texto e o status são registrados.
+     * @param textExtractorPort       Porta de extração de texto.
+     * @param textoPaginasPort        Armazenamento do texto por página.
+     */
+    public DefaultExtrairTextoMaterialService(MaterialRepository materialRepository,
+                                              TextoExtraidoRepository textoExtraidoRepository,
+                                              TextExtractorPort textExtractorPort,
+                                              TextoPaginasPort textoPaginasPort) {
+        this.materialRepository = materialRepository;
+        this.textoExtraidoRepository = textoExtraidoRepository;
+        this.textExtractorPort = textExtractorPort;
+        this.textoPaginasPort = textoPaginasPort;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void executar(UUID materialId) {
+        Optional<Material> material = materialRepository.buscarPorId(materialId);
+        if (material.isEmpty()) {
+            System.out.println("⚠️ Material " + materialId + " não existe mais; extração ignorada.");
+            return;
+        }
+
+        long inicio = System.currentTimeMillis();
+        try {
+            textoExtraidoRepository.salvar(TextoExtraido.processando(materialId));
+            String nomeStorage = material.get().getNomeStorage();
+            ConteudoExtraido conteudo = textExtractorPort.extrairConteudo(nomeStorage);
+            if (!conteudo.inicioPaginas().isEmpty()) {
+                textoPaginasPort.salvar(nomeStorage, conteudo.textoPorPagina());
+            }
+            textoExtraidoRepository.salvar(TextoExtraido.concluido(materialId, conteudo.texto(), conteudo.paginas()));
+            System.out.println("✅ Texto do material " + materialId + " extraído: "
+                    + conteudo.texto().length() + " caracteres em " + (System.currentTimeMillis() - inicio) + " ms.");
+        } catch (RuntimeException e) {
+            registrarFalha(materialId, e);
+        }
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public List<UUID> listarInterrompidas() {
+        return textoExtraidoRepository.listarMateriaisPorStatus(
+                EnumSet.of(StatusExtracao.PENDENTE, StatusExtracao.PROCESSANDO));
+    }
+
+    private void registrarFalha(UUID materialId, RuntimeException causa) {
+        System.err.println("❌ Falha ao extrair o texto do material " + materialId + ": " + causa.getMessage());
+        try {
+            textoExtraidoRepository.salvar(TextoExtraido.falhou(materialId, causa.getMessage()));
+        } catch (RuntimeException e) {
+            // Tipicamente, o material (e o seu registro de extração) foi apagado durante a extração
+            System.err.println("⚠️ Não foi possível registrar a falha da extração do material " + materialId
+                    + ": " + e.getMessage());
+        }
+    }
+}
@@ -1,10 +1,13 @@
 package com.pdfocus.application.material.service;
 
+import com.pdfocus.application.material.dto.CursorMaterial;
+import com.pdfocus.application.material.dto.MaterialListagem;
 import com.pdfocus.application.material.port.entrada.ListarMateriaisUseCase;
 import com.pdfocus.application.material.port.saida.MaterialRepository;
 import com.pdfocus.application.usuario.port.saida.UsuarioRepository;
 import com.pdfocus.core.models.Material;
 import com.pdfocus.core.models.Usuario;
+import org.springframework.data.domain.Slice;
 import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.security.core.userdetails.UserDetails;
 import org.springframework.stereotype.Service;
@@ -39,6 +42,9 @@ import java.util.UUID;
 @Service
 public class DefaultListarMateriaisService implements ListarMateriaisUseCase {
 
+    /** Maior número de materiais devolvido em uma página da listagem por cursor. */
+    static final int TAMANHO_MAXIMO_PAGINA = 100;
+
     private final MaterialRepository materialRepository;
     private final UsuarioRepository usuarioRepository;
 
@@ -80,4 +86,22 @@ public class DefaultListarMateriaisService implements ListarMateriaisUseCase {
 
         return materialRepository.listarPorDisciplinaEUsuario(disciplinaId, usuario.getId());
     }
+
+    /**
+     * {@inheritDoc}
+     *
+     * <p>
+     * A consulta filtra pela disciplina e pelo utilizador, de modo que uma disciplina de outro
+     * utilizador resulta numa página vazia.
+     * </p>
+     */
+    @Override
+    @Transactional(readOnly = true)
+    public Slice<MaterialListagem> executar(UUID disciplinaId, UUID usuarioId, CursorMaterial apos, int tamanho) {
+        if (tamanho < 1 || tamanho > TAMANHO_MAXIMO_PAGINA) {
+            throw new IllegalArgumentException("O tamanho da página deve estar entre 1 e "
+                    + TAMANHO_MAXIMO_PAGINA + ": " + tamanho);
+        }
+        return materialRepository.listarPorDisciplinaEUsuario(disciplinaId, usuarioId, apos, tamanho);
+    }
 }
@@ -0,0 +1,153 @@
+package com.pdfocus.application.material.service;
+
+import com.pdfocus.application.material.dto.RecolhimentoOrfaosResultado;
+import com.pdfocus.application.material.port.entrada.RecolherArquivosOrfaosUseCase;
+import com.pdfocus.application.material.port.saida.MaterialRepository;
+import com.pdfocus.application.material.port.saida.MaterialStoragePort;
+import com.pdfocus.application.material.port.saida.MaterialStoragePort.ArquivoArmazenado;
+import com.pdfocus.application.material.port.saida.TextoPaginasPort;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.Iterator;
+import java.util.List;
+import java.util.stream.Stream;
+
+/**
+ * Implementação padrão do caso de uso {@link RecolherArquivosOrfaosUseCase}.
+ *
+ * <p><b>Fluxo resumido:</b></p>
+ * <ol>
+ *   <li>Percorre o armazenamento em streaming com {@link MaterialStoragePort#listarArquivos()},
+ *       ignorando os ficheiros gravados dentro de {@code app.recolhimento-orfaos.carencia-horas}
+ *       (um upload em andamento grava o ficheiro antes de persistir o material).</li>
+ *   <li>Junta os demais em lotes de {@code app.recolhimento-orfaos.lote} ficheiros, ordenados
+ *       pelo nome.</li>
+ *   <li>Busca no banco quais nomes do lote pertencem a algum material, ordena o resultado e
+ *       percorre as duas listas juntas; os ficheiros sem correspondência são apagados, junto
+ *       com o texto por página gravado para eles.</li>
+ * </ol>
+ *
+ * <p>A memória usada é limitada pelo tamanho do lote, qualquer que seja o número de ficheiros
+ * ou de materiais. As duas listas são ordenadas aqui, e não pelo banco, porque a ordenação do
+ * banco depende da collation configurada.</p>
+ */
+@Service
+public class DefaultRecolherArquivosOrfaosService implements RecolherArquivosOrfaosUseCase {
+
+    private static final Comparator<ArquivoArmazenado> POR_NOME = Comparator.comparing(ArquivoArmazenado::nome);
+
+    private final MaterialStoragePort materialStoragePort;
+    private final MaterialRepository materialRepository;
+    private final TextoPaginasPort textoPaginasPort;
+    private final Duration carencia;
+    private final int tamanhoLote;
+
+    /**
+     * @param materialStoragePort Porta de saída do armazenamento percorrido.
+     * @param materialRepository  Repositório consultado para saber se um ficheiro tem material.
+     * @param textoPaginasPort    Porta de saída do texto por página, apagado junto com o ficheiro.
+     * @param carenciaHoras       Idade mínima de um ficheiro para que possa ser apagado.
+     * @param tamanhoLote         Número de ficheiros verificados por consulta ao banco.
+     */
+    public DefaultRecolherArquivosOrfaosService(
+            MaterialStoragePort materialStoragePort,
+            MaterialRepository materialRepository,
+            TextoPaginasPort textoPaginasPort,
+            @Value("${app.recolhimento-orfaos.carencia-horas:24}") long carenciaHoras,
+            @Value("${app.recolhimento-orfaos.lote:500}") int tamanhoLote) {
+        if (tamanhoLote <= 0) {
+            throw new IllegalArgumentException("O lote do recolhimento de órfãos deve ser positivo: " + tamanhoLote);
+        }
+        this.materialStoragePort = materialStoragePort;
+        this.materialRepository = materialRepository;
+        this.textoPaginasPort = textoPaginasPort;
+        this.carencia = Duration.ofHours(carenciaHoras);
+        this.tamanhoLote = tamanhoLote;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public RecolhimentoOrfaosResultado executar() {
+        Instant limite = Instant.now().minus(carencia);
+        Contagem contagem = new Contagem();
+        List<ArquivoArmazenado> lote = new ArrayList<>(tamanhoLote);
+
+        try (Stream<ArquivoArmazenado> arquivos = materialStoragePort.listarArquivos()) {
+            Iterator<ArquivoArmazenado> iterador = arquivos.iterator();
+            while (iterador.hasNext()) {
+                ArquivoArmazenado arquivo = iterador.next();
+                contagem.verificados++;
+                if (arquivo.modificadoEm().isAfter(limite)) {
+                    contagem.recentes++;
+                    continue;
+                }
+                lote.add(arquivo);
+                if (lote.size() == tamanhoLote) {
+                    recolherLote(lote, contagem);
+                    lote.clear();
+                }
+            }
+        }
+        recolherLote(lote, contagem);
+
+        RecolhimentoOrfaosResultado resultado = contagem.paraResultado();
+        if (resultado.apagados() > 0 || resultado.falhas() > 0) {
+            System.out.println("🧹 Recolhimento de órfãos: " + resultado.apagados() + " ficheiros apagados ("
+                    + resultado.bytesLiberados() + " bytes), " + resultado.falhas() + " falhas, "
+                    + resultado.verificados() + " verificados");
+        }
+        return resultado;
+    }
+
+    private void recolherLote(List<ArquivoArmazenado> lote, Contagem contagem) {
+        if (lote.isEmpty()) {
+            return;
+        }
+        lote.sort(POR_NOME);
+        List<String> existentes = new ArrayList<>(materialRepository.buscarNomesStorageExistentes(
+                lote.stream().map(ArquivoArmazenado::nome).distinct().toList()));
+        existentes.sort(Comparator.naturalOrder());
+
+        int i = 0;
+        for (ArquivoArmazenado arquivo : lote) {
+            while (i < existentes.size() && existentes.get(i).compareTo(arquivo.nome()) < 0) {
+                i++;
+            }
+            if (i < existentes.size() && existentes.get(i).equals(arquivo.nome())) {
+                continue;
+            }
+            apagarOrfao(arquivo, contagem);
+        }
+    }
+
+    private void apagarOrfao(ArquivoArmazenado arquivo, Contagem contagem) {
+        try {
+            materialStoragePort.apagar(arquivo.nome());
+            textoPaginasPort.apagar(arquivo.nome());
+            contagem.apagados++;
+            contagem.bytesLiberados += arquivo.tamanho();
+        } catch (RuntimeException e) {
+            contagem.falhas++;
+            System.out.println("⚠️ Não foi possível apagar o ficheiro órfão " + arquivo.nome() + ": " + e.getMessage());
+        }
+    }
+
+    private static final class Contagem {
+        private long verificados;
+        private long recentes;
+        private long apagados;
+        private long bytesLiberados;
+        private long falhas;
+
+        private RecolhimentoOrfaosResultado paraResultado() {
+            return new RecolhimentoOrfaosResultado(verificados, recentes, apagados, bytesLiberados, falhas);
+        }
+    }
+}
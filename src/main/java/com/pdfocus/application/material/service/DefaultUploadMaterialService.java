@@ -1,14 +1,18 @@
 package com.pdfocus.application.material.service;
 
 import com.pdfocus.application.disciplina.port.saida.DisciplinaRepository;
+import com.pdfocus.application.material.dto.MaterialEnviadoEvent;
 import com.pdfocus.application.material.dto.UploadMaterialCommand;
 import com.pdfocus.application.material.port.entrada.UploadMaterialUseCase;
 import com.pdfocus.application.material.port.saida.MaterialRepository;
 import com.pdfocus.application.material.port.saida.MaterialStoragePort;
+import com.pdfocus.application.material.port.saida.TextoExtraidoRepository;
 import com.pdfocus.application.usuario.port.saida.UsuarioRepository;
 import com.pdfocus.core.exceptions.disciplina.DisciplinaNaoEncontradaException;
 import com.pdfocus.core.models.Material;
+import com.pdfocus.core.models.TextoExtraido;
 import com.pdfocus.core.models.Usuario;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.security.core.userdetails.UserDetails;
 import org.springframework.stereotype.Service;
@@ -36,6 +40,8 @@ import java.util.UUID;
  *   <li>Gera um nome único para o arquivo de armazenamento.</li>
  *   <li>Salva o arquivo físico por meio da porta {@link MaterialStoragePort}.</li>
  *   <li>Cria e persiste o domínio {@link Material} com os metadados.</li>
+ *   <li>Registra a extração de texto como pendente e publica {@link MaterialEnviadoEvent},
+ *       que dispara a extração em segundo plano após o commit.</li>
  * </ol>
  *
  * <p>
@@ -50,6 +56,8 @@ public class DefaultUploadMaterialService implements UploadMaterialUseCase {
     private final DisciplinaRepository disciplinaRepository;
     private final UsuarioRepository usuarioRepository;
     private final MaterialStoragePort materialStoragePort;
+    private final TextoExtraidoRepository textoExtraidoRepository;
+    private final ApplicationEventPublisher eventPublisher;
 
     /**
      * Construtor principal para injeção das dependências necessárias.
@@ -58,16 +66,22 @@ public class DefaultUploadMaterialService implements UploadMaterialUseCase {
      * @param disciplinaRepository Repositório responsável pela validação da disciplina.
      * @param usuarioRepository Repositório para consulta de informações do usuário autenticado.
      * @param materialStoragePort Porta de saída para persistência física dos arquivos.
+     * @param textoExtraidoRepository Repositório onde o status da extração de texto é registrado.
+     * @param eventPublisher Publicador do evento de upload concluído.
      */
     public DefaultUploadMaterialService(
             MaterialRepository materialRepository,
             DisciplinaRepository disciplinaRepository,
             UsuarioRepository usuarioRepository,
-            MaterialStoragePort materialStoragePort) {
+            MaterialStoragePort materialStoragePort,
+            TextoExtraidoRepository textoExtraidoRepository,
+            ApplicationEventPublisher eventPublisher) {
         this.materialRepository = materialRepository;
         this.disciplinaRepository = disciplinaRepository;
         this.usuarioRepository = usuarioRepository;
         this.materialStoragePort = materialStoragePort;
+        this.textoExtraidoRepository = textoExtraidoRepository;
+        this.eventPublisher = eventPublisher;
     }
 
     /**
@@ -126,6 +140,12 @@ public class DefaultUploadMaterialService implements UploadMaterialUseCase {
         );
 
         // 6. Persiste os metadados no repositório de dados.
-        return materialRepository.salvar(novoMaterial);
+        Material materialSalvo = materialRepository.salvar(novoMaterial);
+
+        // 7. Agenda a extração do texto, que roda em segundo plano após o commit.
+        textoExtraidoRepository.salvar(TextoExtraido.pendente(materialSalvo.getId()));
+        eventPublisher.publishEvent(new MaterialEnviadoEvent(materialSalvo.getId()));
+
+        return materialSalvo;
     }
 }
@@ -0,0 +1,42 @@
+package com.pdfocus.application.resumo.dto;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Resultado da extração de texto de um arquivo.
+ *
+ * @param texto         O texto extraído, na ordem de leitura.
+ * @param paginas       O número de páginas do documento, ou {@code null} se o extrator não o informa.
+ * @param inicioPaginas A posição, em {@code texto}, em que começa cada página (uma por página, em ordem);
+ *                      vazia se o extrator não separa as páginas.
+ */
+public record ConteudoExtraido(
+        String texto,
+        Integer paginas,
+        List<Integer> inicioPaginas
+) {
+
+    public ConteudoExtraido {
+        inicioPaginas = inicioPaginas == null ? List.of() : List.copyOf(inicioPaginas);
+    }
+
+    /**
+     * Cria o resultado de um extrator que não separa as páginas.
+     */
+    public ConteudoExtraido(String texto, Integer paginas) {
+        this(texto, paginas, List.of());
+    }
+
+    /**
+     * @return O texto de cada página, em ordem; vazio se as páginas não foram separadas.
+     */
+    public List<String> textoPorPagina() {
+        List<String> paginasTexto = new ArrayList<>(inicioPaginas.size());
+        for (int i = 0; i < inicioPaginas.size(); i++) {
+            int fim = i + 1 < inicioPaginas.size() ? inicioPaginas.get(i + 1) : texto.length();
+            paginasTexto.add(texto.substring(inicioPaginas.get(i), fim));
+        }
+        return paginasTexto;
+    }
+}
@@ -14,17 +14,42 @@ import java.util.UUID;
  * <ul>
  *   <li>Identificar o material que servirá de base para a extração de texto;</li>
  *   <li>Associar o resumo à disciplina correta;</li>
- *   <li>Definir título e conteúdo, seja gerado automaticamente, seja editado pelo usuário.</li>
+ *   <li>Definir título e conteúdo, seja gerado automaticamente, seja editado pelo usuário;</li>
+ *   <li>Opcionalmente, restringir o resumo a um trecho do PDF: um intervalo de páginas
+ *       ({@code paginaInicial}/{@code paginaFinal}) ou uma seção do sumário ({@code secao}).
+ *       Sem trecho, o documento inteiro é resumido.</li>
  * </ul>
  *
  * @param materialId  ID do material (PDF) usado como base para o resumo.
  * @param disciplinaId ID da disciplina associada.
  * @param titulo       Título do resumo — pode ser definido pelo usuário ou gerado automaticamente.
  * @param conteudo     Texto do resumo — pode ser parcialmente extraído do PDF ou ajustado manualmente.
+ * @param paginaInicial Primeira página do trecho a resumir (a partir de 1); opcional.
+ * @param paginaFinal   Última página do trecho, inclusive; opcional (padrão: a última do documento).
+ * @param secao         Identificador de uma seção do sumário do PDF (ex.: {@code "3.2"}); opcional,
+ *                      tem precedência sobre o intervalo de páginas.
  */
 public record CriarResumoDeMaterialCommand(
         UUID materialId,
         UUID disciplinaId,
         String titulo,
-        String conteudo
-) {}
+        String conteudo,
+        Integer paginaInicial,
+        Integer paginaFinal,
+        String secao
+) {
+
+    /**
+     * Cria um comando para resumir o documento inteiro.
+     */
+    public CriarResumoDeMaterialCommand(UUID materialId, UUID disciplinaId, String titulo, String conteudo) {
+        this(materialId, disciplinaId, titulo, conteudo, null, null, null);
+    }
+
+    /**
+     * @return {@code true} se o comando restringe o resumo a um trecho do documento.
+     */
+    public boolean possuiTrecho() {
+        return paginaInicial != null || paginaFinal != null || (secao != null && !secao.isBlank());
+    }
+}
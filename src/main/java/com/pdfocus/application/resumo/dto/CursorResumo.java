@@ -0,0 +1,29 @@
+package com.pdfocus.application.resumo.dto;
+
+import java.time.OffsetDateTime;
+import java.util.UUID;
+
+/**
+ * Posição de continuação na listagem paginada por cursor (keyset) dos resumos.
+ *
+ * <p>
+ * A listagem é ordenada por {@code (dataCriacao, id)} decrescentes; o {@code id} desempata
+ * resumos criados no mesmo instante. A página seguinte começa logo depois do último resumo
+ * entregue, sem {@code OFFSET}.
+ * </p>
+ *
+ * @param dataCriacao Data de criação do último resumo da página anterior.
+ * @param id          Identificador do último resumo da página anterior.
+ */
+public record CursorResumo(OffsetDateTime dataCriacao, UUID id) {
+
+    /**
+     * Cria o cursor que continua a listagem depois do resumo informado.
+     *
+     * @param resumo Último resumo entregue.
+     * @return O cursor correspondente.
+     */
+    public static CursorResumo depoisDe(ResumoListagem resumo) {
+        return new CursorResumo(resumo.dataCriacao(), resumo.id());
+    }
+}
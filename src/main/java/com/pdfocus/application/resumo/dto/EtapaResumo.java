@@ -0,0 +1,19 @@
+package com.pdfocus.application.resumo.dto;
+
+/**
+ * Etapas da geração automática de um resumo, na ordem em que ocorrem.
+ */
+public enum EtapaResumo {
+
+    /** Validação da cota e carregamento do material e da disciplina. */
+    CARREGANDO,
+
+    /** Obtenção do texto do PDF (pré-extraído ou extraído página a página). */
+    EXTRAINDO,
+
+    /** Pontuação e seleção das frases pelo resumidor. */
+    PONTUANDO,
+
+    /** Persistência do resumo gerado. */
+    SALVANDO
+}
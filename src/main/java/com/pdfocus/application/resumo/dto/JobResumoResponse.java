@@ -0,0 +1,52 @@
+package com.pdfocus.application.resumo.dto;
+
+import com.pdfocus.core.models.JobResumo;
+import com.pdfocus.core.models.Resumo;
+import com.pdfocus.core.models.StatusJob;
+
+import java.time.OffsetDateTime;
+import java.util.UUID;
+
+/**
+ * DTO com o estado de um {@link JobResumo} exposto pela API de jobs.
+ *
+ * @param id              Identificador do job.
+ * @param status          Estado atual do job.
+ * @param materialId      Material de origem.
+ * @param resumoId        Resumo gerado (apenas quando {@code CONCLUIDO}).
+ * @param mensagemErro    Motivo da falha (apenas quando {@code FALHOU}).
+ * @param dataCriacao     Momento em que o job foi aceito.
+ * @param dataAtualizacao Momento da última mudança de estado.
+ * @param resumo          O resumo gerado, quando o job está concluído e o resumo ainda existe.
+ */
+public record JobResumoResponse(
+        UUID id,
+        StatusJob status,
+        UUID materialId,
+        UUID resumoId,
+        String mensagemErro,
+        OffsetDateTime dataCriacao,
+        OffsetDateTime dataAtualizacao,
+        Resumo resumo
+) {
+
+    /**
+     * Converte um {@link JobResumo} (e o resumo gerado, se houver) em {@link JobResumoResponse}.
+     *
+     * @param job    O job.
+     * @param resumo O resumo gerado, ou {@code null}.
+     * @return O DTO correspondente.
+     */
+    public static JobResumoResponse fromDomain(JobResumo job, Resumo resumo) {
+        return new JobResumoResponse(
+                job.getId(),
+                job.getStatus(),
+                job.getMaterialId(),
+                job.getResumoId(),
+                job.getMensagemErro(),
+                job.getDataCriacao(),
+                job.getDataAtualizacao(),
+                resumo
+        );
+    }
+}
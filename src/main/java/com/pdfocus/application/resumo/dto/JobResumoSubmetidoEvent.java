@@ -0,0 +1,17 @@
+package com.pdfocus.application.resumo.dto;
+
+import java.util.UUID;
+
+/**
+ * Evento publicado quando um job de geração de resumo é aceito.
+ *
+ * <p>
+ * É publicado dentro da transação que grava o job; o ouvinte só deve despachá-lo
+ * para os workers após o commit.
+ * </p>
+ *
+ * @param jobId Identificador do job.
+ */
+public record JobResumoSubmetidoEvent(
+        UUID jobId
+) {}
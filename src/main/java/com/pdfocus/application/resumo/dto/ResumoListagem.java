@@ -0,0 +1,23 @@
+package com.pdfocus.application.resumo.dto;
+
+import java.time.OffsetDateTime;
+import java.util.UUID;
+
+/**
+ * Projeção de leitura de um resumo para listagens.
+ *
+ * <p>
+ * Traz apenas as colunas exibidas nas listas, sem o {@code conteudo} (coluna {@code TEXT})
+ * nem a disciplina completa. É montada diretamente pela consulta ao banco, de modo que o
+ * texto dos resumos não é lido, transferido nem serializado ao listar.
+ * </p>
+ *
+ * @param id           Identificador único do resumo.
+ * @param titulo       Título do resumo.
+ * @param disciplinaId Identificador da disciplina do resumo.
+ * @param materialId   Identificador do material de origem, ou {@code null} para resumos manuais.
+ * @param dataCriacao  Data e hora de criação do resumo.
+ */
+public record ResumoListagem(UUID id, String titulo, UUID disciplinaId, UUID materialId,
+                             OffsetDateTime dataCriacao) {
+}
@@ -0,0 +1,22 @@
+package com.pdfocus.application.resumo.port.entrada;
+
+import com.pdfocus.application.resumo.dto.JobResumoResponse;
+
+import java.util.Optional;
+import java.util.UUID;
+
+/**
+ * Porta de entrada (Use Case) para consultar o estado e o resultado de um job
+ * de geração de resumo.
+ */
+public interface ConsultarJobResumoUseCase {
+
+    /**
+     * Busca um job do usuário; quando concluído, inclui o resumo gerado.
+     *
+     * @param jobId     O identificador do job.
+     * @param usuarioId O identificador do usuário autenticado.
+     * @return O estado do job, ou vazio se ele não existir ou pertencer a outro usuário.
+     */
+    Optional<JobResumoResponse> executar(UUID jobId, UUID usuarioId);
+}
@@ -1,9 +1,11 @@
 package com.pdfocus.application.resumo.port.entrada;
 
 import com.pdfocus.application.resumo.dto.CriarResumoDeMaterialCommand;
+import com.pdfocus.application.resumo.port.saida.ProgressoResumoListener;
 import com.pdfocus.core.models.Resumo;
 
 import java.util.UUID;
+import java.util.function.Consumer;
 
 /**
  * Porta de entrada (Use Case) responsável pela geração automática de resumos
@@ -30,4 +32,29 @@ public interface GerarResumoAutomaticoUseCase {
      *         Se a disciplina associada não existir.
      */
     Resumo executar(CriarResumoDeMaterialCommand comando, UUID usuarioId);
+
+    /**
+     * Igual a {@link #executar(CriarResumoDeMaterialCommand, UUID)}, reportando o andamento
+     * (etapas e páginas extraídas) ao ouvinte informado.
+     *
+     * @param comando   O comando com os dados necessários.
+     * @param usuarioId O identificador do usuário que solicita a geração.
+     * @param progresso O ouvinte do andamento; use {@link ProgressoResumoListener#NENHUM} para ignorá-lo.
+     * @return O {@link Resumo} gerado automaticamente.
+     */
+    Resumo executar(CriarResumoDeMaterialCommand comando, UUID usuarioId, ProgressoResumoListener progresso);
+
+    /**
+     * Igual a {@link #executar(CriarResumoDeMaterialCommand, UUID, ProgressoResumoListener)},
+     * chamando {@code aoSalvar} com o resumo salvo dentro da mesma transação que o grava e
+     * consome a cota. Se {@code aoSalvar} lançar exceção, o resumo e o consumo da cota são desfeitos.
+     *
+     * @param comando   O comando com os dados necessários.
+     * @param usuarioId O identificador do usuário que solicita a geração.
+     * @param progresso O ouvinte do andamento; use {@link ProgressoResumoListener#NENHUM} para ignorá-lo.
+     * @param aoSalvar  Gravação adicional que deve ser confirmada junto com o resumo.
+     * @return O {@link Resumo} gerado automaticamente.
+     */
+    Resumo executar(CriarResumoDeMaterialCommand comando, UUID usuarioId, ProgressoResumoListener progresso,
+                    Consumer<Resumo> aoSalvar);
 }
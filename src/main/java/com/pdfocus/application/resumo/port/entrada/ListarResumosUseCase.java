@@ -1,6 +1,9 @@
 package com.pdfocus.application.resumo.port.entrada;
 
+import com.pdfocus.application.resumo.dto.CursorResumo;
+import com.pdfocus.application.resumo.dto.ResumoListagem;
 import com.pdfocus.core.models.Resumo;
+import org.springframework.data.domain.Slice;
 
 import java.util.List;
 import java.util.UUID;
@@ -15,12 +18,24 @@ import java.util.UUID;
 public interface ListarResumosUseCase {
 
     /**
-     * Lista todos os resumos pertencentes a um usuário autenticado.
+     * Lista todos os resumos pertencentes a um usuário autenticado, sem o conteúdo.
      *
      * @param usuarioId O identificador único do usuário.
-     * @return Uma lista de {@link Resumo} pertencentes ao usuário.
+     * @return Uma lista de {@link ResumoListagem} pertencentes ao usuário.
      */
-    List<Resumo> buscarTodosPorUsuario(UUID usuarioId);
+    List<ResumoListagem> buscarTodosPorUsuario(UUID usuarioId);
+
+    /**
+     * Lista uma página dos resumos do usuário autenticado, sem o conteúdo, com paginação por
+     * cursor: o custo de cada página depende apenas do seu tamanho, não da sua posição.
+     *
+     * @param usuarioId O identificador único do usuário.
+     * @param apos      Posição do último resumo da página anterior, ou {@code null} na primeira página.
+     * @param tamanho   Número máximo de resumos na página.
+     * @return A fatia de {@link ResumoListagem}; {@link Slice#hasNext()} indica se há mais resumos.
+     * @throws IllegalArgumentException se o tamanho estiver fora do intervalo permitido.
+     */
+    Slice<ResumoListagem> buscarPaginaPorUsuario(UUID usuarioId, CursorResumo apos, int tamanho);
 
     /**
      * Lista todos os resumos de uma disciplina específica
@@ -0,0 +1,38 @@
+package com.pdfocus.application.resumo.port.entrada;
+
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Porta de entrada (Use Case) executada pelos workers de jobs de resumo.
+ * <p>
+ * Não é exposta na API: é consumida pela infraestrutura de execução assíncrona.
+ * </p>
+ */
+public interface ProcessarJobResumoUseCase {
+
+    /**
+     * Gera o resumo de um job pendente e registra o resultado. Jobs inexistentes
+     * ou que não estejam pendentes são ignorados; falhas são registradas no job e
+     * não propagadas.
+     *
+     * @param jobId O identificador do job.
+     */
+    void executar(UUID jobId);
+
+    /**
+     * Marca um job como falho sem executá-lo (por exemplo, quando a fila de workers está cheia).
+     *
+     * @param jobId  O identificador do job.
+     * @param motivo O motivo exibido ao usuário.
+     */
+    void recusar(UUID jobId, String motivo);
+
+    /**
+     * Reabre os jobs interrompidos por um reinício (em processamento) e devolve todos os
+     * jobs pendentes, na ordem de criação, para que sejam executados novamente.
+     *
+     * @return Os identificadores dos jobs a executar.
+     */
+    List<UUID> retomarInterrompidos();
+}
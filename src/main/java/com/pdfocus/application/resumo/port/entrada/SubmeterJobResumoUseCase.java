@@ -0,0 +1,29 @@
+package com.pdfocus.application.resumo.port.entrada;
+
+import com.pdfocus.application.resumo.dto.CriarResumoDeMaterialCommand;
+import com.pdfocus.core.models.JobResumo;
+
+import java.util.UUID;
+
+/**
+ * Porta de entrada (Use Case) que aceita um pedido de geração automática de resumo
+ * para processamento em segundo plano.
+ * <p>
+ * Ao contrário de {@link GerarResumoAutomaticoUseCase}, retorna imediatamente: o job é
+ * gravado como pendente e executado por um pool limitado de workers. O andamento é
+ * consultado por {@link ConsultarJobResumoUseCase}.
+ * </p>
+ */
+public interface SubmeterJobResumoUseCase {
+
+    /**
+     * Registra o job e agenda a sua execução.
+     *
+     * @param comando   Os parâmetros da geração (os mesmos da geração síncrona).
+     * @param usuarioId O identificador do usuário que solicita o resumo.
+     * @return O job criado, no estado pendente.
+     * @throws com.pdfocus.core.exceptions.material.MaterialNaoEncontradoException
+     *         Se o material não existir ou não pertencer ao usuário.
+     */
+    JobResumo executar(CriarResumoDeMaterialCommand comando, UUID usuarioId);
+}
@@ -0,0 +1,51 @@
+package com.pdfocus.application.resumo.port.saida;
+
+import com.pdfocus.core.models.JobResumo;
+import com.pdfocus.core.models.StatusJob;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+
+/**
+ * Porta de saída para a persistência dos jobs de geração de resumo.
+ */
+public interface JobResumoRepository {
+
+    /**
+     * Cria ou atualiza um job.
+     *
+     * @param job O job a ser persistido.
+     * @return O job persistido, com as datas preenchidas.
+     */
+    JobResumo salvar(JobResumo job);
+
+    /**
+     * Muda o job de {@code PENDENTE} para {@code PROCESSANDO} numa única operação atômica,
+     * garantindo que apenas um worker o execute.
+     *
+     * @param id O identificador do job.
+     * @return {@code true} se o job estava pendente e foi iniciado por esta chamada.
+     */
+    boolean iniciarSePendente(UUID id);
+
+    /**
+     * @param id O identificador do job.
+     * @return O job, se existir.
+     */
+    Optional<JobResumo> buscarPorId(UUID id);
+
+    /**
+     * @param id        O identificador do job.
+     * @param usuarioId O identificador do dono do job.
+     * @return O job, se existir e pertencer ao usuário.
+     */
+    Optional<JobResumo> buscarPorIdEUsuario(UUID id, UUID usuarioId);
+
+    /**
+     * @param status Os estados desejados.
+     * @return Os jobs em algum dos estados, do mais antigo para o mais recente.
+     */
+    List<JobResumo> listarPorStatus(Collection<StatusJob> status);
+}
@@ -0,0 +1,25 @@
+package com.pdfocus.application.resumo.port.saida;
+
+import com.pdfocus.application.resumo.dto.JobResumoResponse;
+
+import java.util.UUID;
+
+/**
+ * Porta de saída para publicar o andamento dos jobs de resumo a quem os acompanha
+ * (por exemplo, clientes conectados por Server-Sent Events).
+ */
+public interface ProgressoJobResumoPort {
+
+    /**
+     * @param jobId O identificador do job.
+     * @return O ouvinte que repassa o andamento da geração deste job.
+     */
+    ProgressoResumoListener ouvinte(UUID jobId);
+
+    /**
+     * Publica o estado final do job e encerra o acompanhamento.
+     *
+     * @param estadoFinal O job concluído (com o resumo) ou falho (com o motivo).
+     */
+    void finalizado(JobResumoResponse estadoFinal);
+}
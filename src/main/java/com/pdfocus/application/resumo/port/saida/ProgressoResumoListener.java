@@ -0,0 +1,35 @@
+package com.pdfocus.application.resumo.port.saida;
+
+import com.pdfocus.application.resumo.dto.EtapaResumo;
+
+/**
+ * Recebe o andamento da geração de um resumo.
+ *
+ * <p>Os métodos são chamados na thread que gera o resumo, inclusive de dentro do
+ * extrator de texto (uma vez por página); as implementações devem retornar rápido e
+ * nunca lançar exceções. Todos os métodos têm implementação vazia por padrão, e
+ * {@link #NENHUM} é o ouvinte usado quando ninguém acompanha a geração.</p>
+ */
+public interface ProgressoResumoListener {
+
+    /** Ouvinte que ignora todos os eventos. */
+    ProgressoResumoListener NENHUM = new ProgressoResumoListener() {
+    };
+
+    /**
+     * Uma nova etapa da geração começou.
+     *
+     * @param etapa A etapa iniciada.
+     */
+    default void etapaIniciada(EtapaResumo etapa) {
+    }
+
+    /**
+     * Uma página do documento teve o texto extraído.
+     *
+     * @param pagina       O número da página (a partir de 1).
+     * @param totalPaginas O total de páginas do documento.
+     */
+    default void paginaExtraida(int pagina, int totalPaginas) {
+    }
+}
@@ -22,4 +22,17 @@ public interface ResumidorIAPort {
      * @return Uma {@link String} contendo o texto resumido.
      */
     String resumir(String textoCompleto, int maxPalavras);
+
+    /**
+     * Identifica a implementação e a versão do algoritmo de resumo.
+     *
+     * <p>Resumos produzidos por versões diferentes não devem ser reaproveitados entre si
+     * (por exemplo, em caches). Implementações devem alterar o valor sempre que uma
+     * mudança no algoritmo puder alterar o resultado.</p>
+     *
+     * @return Um identificador estável, contendo apenas letras minúsculas, dígitos, '.' e '-'.
+     */
+    default String versao() {
+        return getClass().getSimpleName().toLowerCase();
+    }
 }
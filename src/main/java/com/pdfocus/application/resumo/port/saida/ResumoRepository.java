@@ -1,8 +1,11 @@
 package com.pdfocus.application.resumo.port.saida;
 
+import com.pdfocus.application.resumo.dto.CursorResumo;
+import com.pdfocus.application.resumo.dto.ResumoListagem;
 import com.pdfocus.core.exceptions.resumo.ResumoNaoEncontradoException;
 import com.pdfocus.core.models.Resumo;
 import com.pdfocus.core.models.Usuario;
+import org.springframework.data.domain.Slice;
 
 import java.util.List;
 import java.util.Optional;
@@ -45,13 +48,25 @@ public interface ResumoRepository {
     Optional<Resumo> buscarPorIdEUsuario(UUID id, UUID usuarioId);
 
     /**
-     * Lista todos os resumos pertencentes a um determinado usuário.
+     * Lista os resumos pertencentes a um determinado usuário como projeções de listagem,
+     * sem ler o conteúdo dos resumos.
      *
      * @param usuarioId O identificador do usuário.
-     * @return Lista de resumos associados ao usuário.
+     * @return Lista de {@link ResumoListagem} do usuário.
      *         Pode retornar uma lista vazia, mas nunca {@code null}.
      */
-    List<Resumo> buscarTodosPorUsuario(UUID usuarioId);
+    List<ResumoListagem> listarPorUsuario(UUID usuarioId);
+
+    /**
+     * Lista uma página dos resumos de um usuário com paginação por cursor (keyset): a página
+     * começa logo depois de {@code apos}, sem {@code OFFSET} e sem contar o total.
+     *
+     * @param usuarioId O identificador do usuário.
+     * @param apos      Posição do último resumo da página anterior, ou {@code null} na primeira página.
+     * @param tamanho   Número máximo de resumos na página.
+     * @return A fatia de {@link ResumoListagem}; {@link Slice#hasNext()} indica se há mais resumos.
+     */
+    Slice<ResumoListagem> listarPorUsuario(UUID usuarioId, CursorResumo apos, int tamanho);
 
     /**
      * Lista todos os resumos de uma disciplina específica pertencentes a um usuário.
@@ -63,6 +78,17 @@ public interface ResumoRepository {
      */
     List<Resumo> buscarPorDisciplinaEUsuario(UUID disciplinaId, UUID usuarioId);
 
+    /**
+     * Lista os resumos de uma disciplina pertencentes a um usuário como projeções de listagem,
+     * sem ler o conteúdo dos resumos.
+     *
+     * @param disciplinaId O identificador da disciplina.
+     * @param usuarioId O identificador do usuário.
+     * @return Lista de {@link ResumoListagem} da disciplina para o usuário.
+     *         Pode retornar uma lista vazia.
+     */
+    List<ResumoListagem> listarPorDisciplinaEUsuario(UUID disciplinaId, UUID usuarioId);
+
     /**
      * Remove um resumo específico, garantindo que pertence ao usuário.
      *
@@ -82,9 +108,11 @@ public interface ResumoRepository {
     long countByUsuario(Usuario usuario);
 
     /**
-     * Exclui todos os resumos associados a uma disciplina específica.
+     * Exclui todos os resumos associados a uma disciplina específica, em uma única operação,
+     * sem carregar os resumos.
      *
      * @param disciplinaId O identificador da disciplina.
+     * @return O número de resumos excluídos.
      */
-    void deletarTodosPorDisciplinaId(UUID disciplinaId);
+    int deletarTodosPorDisciplinaId(UUID disciplinaId);
 }
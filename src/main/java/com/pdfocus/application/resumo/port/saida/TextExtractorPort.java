@@ -1,7 +1,11 @@
 package com.pdfocus.application.resumo.port.saida;
 
+import com.pdfocus.application.resumo.dto.ConteudoExtraido;
 import com.pdfocus.core.exceptions.resumo.TextoNaoPodeSerExtraidoException;
 
+import java.util.ArrayList;
+import java.util.List;
+
 /**
  * Porta de saída para serviços de extração de texto a partir de arquivos
  * (PDFs, documentos de texto, etc.).
@@ -24,4 +28,82 @@ public interface TextExtractorPort {
      * @throws TextoNaoPodeSerExtraidoException Se ocorrer erro na extração do texto.
      */
     String extrairTexto(String nomeStorage);
+
+    /**
+     * Extrai o texto de um arquivo junto com os metadados do documento.
+     *
+     * <p>A implementação padrão delega para {@link #extrairTexto(String)} e não informa
+     * o número de páginas; extratores que conhecem a estrutura do documento devem sobrescrevê-la.</p>
+     *
+     * @param nomeStorage O nome único do arquivo no sistema de armazenamento.
+     * @return O texto extraído e o número de páginas (quando conhecido).
+     * @throws TextoNaoPodeSerExtraidoException Se ocorrer erro na extração do texto.
+     */
+    default ConteudoExtraido extrairConteudo(String nomeStorage) {
+        return new ConteudoExtraido(extrairTexto(nomeStorage), null);
+    }
+
+    /**
+     * Igual a {@link #extrairConteudo(String)}, reportando cada página extraída ao ouvinte.
+     *
+     * <p>A implementação padrão não reporta páginas; extratores que processam o documento
+     * página a página devem sobrescrevê-la.</p>
+     *
+     * @param nomeStorage O nome único do arquivo no sistema de armazenamento.
+     * @param progresso   O ouvinte do andamento.
+     * @return O texto extraído e o número de páginas (quando conhecido).
+     * @throws TextoNaoPodeSerExtraidoException Se ocorrer erro na extração do texto.
+     */
+    default ConteudoExtraido extrairConteudo(String nomeStorage, ProgressoResumoListener progresso) {
+        return extrairConteudo(nomeStorage);
+    }
+
+    /**
+     * Extrai apenas as páginas {@code [primeira, ultima]} (a partir de 1) de um arquivo.
+     * O intervalo é limitado às páginas existentes.
+     *
+     * <p>No resultado, {@link ConteudoExtraido#paginas()} e as posições de início das páginas
+     * referem-se apenas ao intervalo extraído. A implementação padrão extrai o documento
+     * inteiro e recorta o intervalo; extratores que conseguem ler páginas isoladas devem
+     * sobrescrevê-la. Se o extrator não separa as páginas, o texto inteiro é devolvido.</p>
+     *
+     * @param nomeStorage O nome único do arquivo no sistema de armazenamento.
+     * @param primeira    A primeira página do intervalo.
+     * @param ultima      A última página do intervalo, inclusive.
+     * @param progresso   O ouvinte do andamento.
+     * @return O texto das páginas do intervalo.
+     * @throws TextoNaoPodeSerExtraidoException Se ocorrer erro na extração do texto.
+     */
+    default ConteudoExtraido extrairPaginas(String nomeStorage, int primeira, int ultima,
+                                            ProgressoResumoListener progresso) {
+        ConteudoExtraido documento = extrairConteudo(nomeStorage, progresso);
+        List<String> todas = documento.textoPorPagina();
+        if (todas.isEmpty()) {
+            return documento;
+        }
+        int inicio = Math.max(1, primeira);
+        int fim = Math.min(ultima, todas.size());
+        if (inicio > fim) {
+            return new ConteudoExtraido("", 0, List.of());
+        }
+        StringBuilder texto = new StringBuilder();
+        List<Integer> inicioPaginas = new ArrayList<>(fim - inicio + 1);
+        for (String pagina : todas.subList(inicio - 1, fim)) {
+            inicioPaginas.add(texto.length());
+            texto.append(pagina);
+        }
+        return new ConteudoExtraido(texto.toString(), fim - inicio + 1, inicioPaginas);
+    }
+
+    /**
+     * Identifica a implementação e a configuração da extração.
+     *
+     * <p>Textos extraídos por versões diferentes não devem ser reaproveitados entre si
+     * (por exemplo, em caches).</p>
+     *
+     * @return Um identificador estável, contendo apenas letras minúsculas, dígitos, '.' e '-'.
+     */
+    default String versao() {
+        return getClass().getSimpleName().toLowerCase();
+    }
 }
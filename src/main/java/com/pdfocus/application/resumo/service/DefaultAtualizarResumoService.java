@@ -68,14 +68,8 @@ public class DefaultAtualizarResumoService implements AtualizarResumoUseCase {
 
         Resumo resumoExistente = resumoOptional.get();
 
-        // Recria a entidade com os novos dados (mantendo integridade e imutabilidade)
-        Resumo resumoAtualizado = Resumo.criar(
-                resumoExistente.getId(),
-                resumoExistente.getUsuarioId(),
-                command.titulo(),
-                command.conteudo(),
-                resumoExistente.getDisciplina()
-        );
+        // Nova versão imutável, preservando material de origem e data de criação
+        Resumo resumoAtualizado = resumoExistente.atualizar(command.titulo(), command.conteudo());
 
         return Optional.of(resumoRepository.salvar(resumoAtualizado));
     }
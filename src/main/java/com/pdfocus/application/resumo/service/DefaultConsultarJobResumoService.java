@@ -0,0 +1,47 @@
+package com.pdfocus.application.resumo.service;
+
+import com.pdfocus.application.resumo.dto.JobResumoResponse;
+import com.pdfocus.application.resumo.port.entrada.ConsultarJobResumoUseCase;
+import com.pdfocus.application.resumo.port.saida.JobResumoRepository;
+import com.pdfocus.application.resumo.port.saida.ResumoRepository;
+import com.pdfocus.core.models.Resumo;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.Optional;
+import java.util.UUID;
+
+/**
+ * Implementação padrão do caso de uso {@link ConsultarJobResumoUseCase}.
+ */
+@Service
+public class DefaultConsultarJobResumoService implements ConsultarJobResumoUseCase {
+
+    private final JobResumoRepository jobResumoRepository;
+    private final ResumoRepository resumoRepository;
+
+    /**
+     * @param jobResumoRepository Porta de saída dos jobs.
+     * @param resumoRepository    Porta de saída dos resumos, para anexar o resultado.
+     */
+    public DefaultConsultarJobResumoService(JobResumoRepository jobResumoRepository,
+                                            ResumoRepository resumoRepository) {
+        this.jobResumoRepository = jobResumoRepository;
+        this.resumoRepository = resumoRepository;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    @Transactional(readOnly = true)
+    public Optional<JobResumoResponse> executar(UUID jobId, UUID usuarioId) {
+        return jobResumoRepository.buscarPorIdEUsuario(jobId, usuarioId)
+                .map(job -> {
+                    Resumo resumo = job.getResumoId() == null
+                            ? null
+                            : resumoRepository.buscarPorIdEUsuario(job.getResumoId(), usuarioId).orElse(null);
+                    return JobResumoResponse.fromDomain(job, resumo);
+                });
+    }
+}
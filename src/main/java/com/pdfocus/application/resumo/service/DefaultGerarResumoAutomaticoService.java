@@ -1,11 +1,17 @@
 package com.pdfocus.application.resumo.service;
 
 import com.pdfocus.application.disciplina.port.saida.DisciplinaRepository;
+import com.pdfocus.application.material.dto.SecaoSumario;
+import com.pdfocus.application.material.port.saida.SumarioPdfPort;
+import com.pdfocus.application.material.port.saida.TextoPaginasPort;
 import com.pdfocus.application.resumo.dto.CriarResumoDeMaterialCommand;
+import com.pdfocus.application.resumo.dto.EtapaResumo;
 import com.pdfocus.application.resumo.port.entrada.GerarResumoAutomaticoUseCase;
 import com.pdfocus.application.material.port.saida.MaterialRepository;
+import com.pdfocus.application.material.port.saida.TextoExtraidoRepository;
 import com.pdfocus.application.resumo.port.saida.ResumoRepository;
 import com.pdfocus.application.resumo.port.saida.TextExtractorPort;
+import com.pdfocus.application.resumo.port.saida.ProgressoResumoListener;
 import com.pdfocus.application.resumo.port.saida.ResumidorIAPort;
 import com.pdfocus.application.usuario.port.saida.UsuarioRepository;
 import com.pdfocus.core.exceptions.LimiteResumoExcedidoException;
@@ -14,14 +20,18 @@ import com.pdfocus.core.exceptions.material.MaterialNaoEncontradoException;
 import com.pdfocus.core.exceptions.resumo.TextoNaoPodeSerExtraidoException;
 import com.pdfocus.core.models.Resumo;
 import com.pdfocus.core.models.Disciplina;
+import com.pdfocus.core.models.Material;
+import com.pdfocus.core.models.TextoExtraido;
 import com.pdfocus.core.models.Usuario;
+import com.pdfocus.core.shared.ExecucaoCompartilhada;
 
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
-import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionOperations;
 
 import java.time.LocalDate;
 import java.util.UUID;
+import java.util.function.Consumer;
 
 /**
  * Implementação padrão do caso de uso {@link GerarResumoAutomaticoUseCase}.
@@ -32,23 +42,52 @@ import java.util.UUID;
  * </p>
  * <ol>
  *   <li>Validação da existência do material e da disciplina;</li>
- *   <li>Extração do texto do PDF via {@link TextExtractorPort};</li>
+ *   <li>Obtenção do texto do PDF: o texto pré-extraído após o upload, via
+ *       {@link TextoExtraidoRepository}, ou, se ele ainda não estiver pronto,
+ *       a extração sob demanda via {@link TextExtractorPort};</li>
  *   <li>Geração de resumo automático usando {@link ResumidorIAPort};</li>
  *   <li>Criação e persistência do objeto de domínio {@link Resumo}.</li>
  * </ol>
  *
- * <p>O processo é totalmente transacional e resiliente a falhas.</p>
+ * <p>O comando pode restringir o resumo a um trecho do material: um intervalo de páginas
+ * ou uma seção do sumário do PDF, localizada via {@link SumarioPdfPort}. Nesse caso apenas
+ * as páginas do trecho são lidas — do {@link TextoPaginasPort}, quando já gravadas, ou
+ * extraídas na hora com {@link TextExtractorPort#extrairPaginas}.</p>
+ *
+ * <p>Requisições simultâneas para o mesmo material (e o mesmo trecho) compartilham uma única extração e
+ * pontuação em andamento ({@link ExecucaoCompartilhada}); cada requisição continua
+ * validando e consumindo a sua própria cota e salvando o seu próprio {@link Resumo}.
+ * O consumo da cota é feito atomicamente no banco, de modo que requisições concorrentes
+ * do mesmo usuário não ultrapassam o limite diário.</p>
+ *
+ * <p>Apenas a gravação do resumo e o consumo da cota rodam numa transação, curta, via
+ * {@link TransactionOperations}: a extração sob demanda, a geração do resumo e a espera por
+ * uma execução compartilhada acontecem sem prender uma conexão do pool. Se a cota se esgotar
+ * nesse meio-tempo, a transação desfaz o resumo salvo. Quem chama pode gravar, na mesma
+ * transação, o próprio registro do resultado (como a conclusão de um job), para que o resumo
+ * e a cota nunca fiquem confirmados sem ele. O andamento pode ser
+ * acompanhado por um {@link ProgressoResumoListener}, que recebe cada {@link EtapaResumo}
+ * e as páginas extraídas.</p>
  */
 @Service
-@Transactional
 public class DefaultGerarResumoAutomaticoService implements GerarResumoAutomaticoUseCase {
 
+    /** Tamanho máximo, em palavras, dos resumos gerados automaticamente. */
+    private static final int MAX_PALAVRAS = 300;
+
     private final MaterialRepository materialRepository;
     private final DisciplinaRepository disciplinaRepository;
     private final TextExtractorPort textExtractorPort;
     private final ResumoRepository resumoRepository;
     private final ResumidorIAPort resumidorIAPort;
     private final UsuarioRepository usuarioRepository;
+    private final TextoExtraidoRepository textoExtraidoRepository;
+    private final TextoPaginasPort textoPaginasPort;
+    private final SumarioPdfPort sumarioPdfPort;
+    private final TransactionOperations transacao;
+
+    // Resumos em geração no momento, compartilhados entre requisições do mesmo material
+    private final ExecucaoCompartilhada<ChaveResumo, String> resumosEmAndamento = new ExecucaoCompartilhada<>();
 
     // Injeta o valor do application.properties. Se não existir, o padrão é 3.
     @Value("${app.limites.resumos-diarios:3}")
@@ -63,6 +102,11 @@ public class DefaultGerarResumoAutomaticoService implements GerarResumoAutomatic
      * @param textExtractorPort    Porta para extração de texto de PDFs.
      * @param resumoRepository     Porta de saída para persistência de resumos.
      * @param resumidorIAPort      Porta de integração com o mecanismo de resumo por IA.
+     * @param usuarioRepository    Porta de saída para controle da cota diária do usuário.
+     * @param textoExtraidoRepository Porta de saída com o texto pré-extraído dos materiais.
+     * @param textoPaginasPort     Porta de saída com o texto pré-extraído, página a página.
+     * @param sumarioPdfPort       Porta de leitura do sumário do PDF, para resumir uma seção.
+     * @param transacao            Transação curta em que o resumo é salvo e a cota, consumida.
      */
     public DefaultGerarResumoAutomaticoService(
             MaterialRepository materialRepository,
@@ -70,7 +114,11 @@ public class DefaultGerarResumoAutomaticoService implements GerarResumoAutomatic
             TextExtractorPort textExtractorPort,
             ResumoRepository resumoRepository,
             ResumidorIAPort resumidorIAPort,
-            UsuarioRepository usuarioRepository) {
+            UsuarioRepository usuarioRepository,
+            TextoExtraidoRepository textoExtraidoRepository,
+            TextoPaginasPort textoPaginasPort,
+            SumarioPdfPort sumarioPdfPort,
+            TransactionOperations transacao) {
 
         this.materialRepository = materialRepository;
         this.disciplinaRepository = disciplinaRepository;
@@ -78,6 +126,10 @@ public class DefaultGerarResumoAutomaticoService implements GerarResumoAutomatic
         this.resumoRepository = resumoRepository;
         this.resumidorIAPort = resumidorIAPort;
         this.usuarioRepository = usuarioRepository;
+        this.textoExtraidoRepository = textoExtraidoRepository;
+        this.textoPaginasPort = textoPaginasPort;
+        this.sumarioPdfPort = sumarioPdfPort;
+        this.transacao = transacao;
     }
 
 
@@ -97,10 +149,29 @@ public class DefaultGerarResumoAutomaticoService implements GerarResumoAutomatic
      * @throws MaterialNaoEncontradoException se o material informado não for encontrado.
      * @throws DisciplinaNaoEncontradaException se a disciplina associada não existir.
      * @throws TextoNaoPodeSerExtraidoException se ocorrer erro na extração de texto do PDF.
+     * @throws IllegalArgumentException se o intervalo de páginas for inválido ou a seção não existir no sumário.
      */
     @Override
     public Resumo executar(CriarResumoDeMaterialCommand comando, UUID usuarioId) {
+        return executar(comando, usuarioId, ProgressoResumoListener.NENHUM);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public Resumo executar(CriarResumoDeMaterialCommand comando, UUID usuarioId, ProgressoResumoListener progresso) {
+        return executar(comando, usuarioId, progresso, salvo -> { });
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public Resumo executar(CriarResumoDeMaterialCommand comando, UUID usuarioId, ProgressoResumoListener progresso,
+                           Consumer<Resumo> aoSalvar) {
         System.out.println("🚀 Iniciando geração automática de resumo...");
+        progresso.etapaIniciada(EtapaResumo.CARREGANDO);
 
         // 1. BUSCAR O USUÁRIO E VALIDAR A COTA ANTES DE TUDO
         Usuario usuario = usuarioRepository.buscarPorId(usuarioId)
@@ -115,19 +186,19 @@ public class DefaultGerarResumoAutomaticoService implements GerarResumoAutomatic
                 .orElseThrow(() -> new DisciplinaNaoEncontradaException(comando.disciplinaId()));
 
         String conteudo;
+        Trecho trecho = null;
 
         if (comando.conteudo() != null && !comando.conteudo().isBlank()) {
             conteudo = comando.conteudo();
             System.out.println("📝 Usando conteúdo manual fornecido pelo usuário.");
         } else {
+            trecho = resolverTrecho(comando, material);
+            Trecho trechoPedido = trecho;
             try {
-                System.out.println("🔤 Extraindo texto do PDF...");
-                String textoCompleto = textExtractorPort.extrairTexto(material.getNomeStorage());
-                System.out.println("✅ Texto extraído com sucesso (" + textoCompleto.length() + " caracteres).");
-
-                System.out.println("🤖 Gerando resumo via IA...");
-                conteudo = resumidorIAPort.resumir(textoCompleto, 300);
-                System.out.println("✅ Resumo gerado com " + conteudo.length() + " caracteres.");
+                progresso.etapaIniciada(EtapaResumo.EXTRAINDO);
+                conteudo = resumosEmAndamento.executar(
+                        ChaveResumo.de(material.getId(), trecho, MAX_PALAVRAS),
+                        () -> gerarConteudo(material, trechoPedido, progresso));
 
             } catch (Exception e) {
                 throw new TextoNaoPodeSerExtraidoException(material.getId().toString(), e);
@@ -136,7 +207,7 @@ public class DefaultGerarResumoAutomaticoService implements GerarResumoAutomatic
 
         String titulo = (comando.titulo() != null && !comando.titulo().isBlank())
                 ? comando.titulo()
-                : "Resumo - " + material.getNomeOriginal();
+                : "Resumo - " + material.getNomeOriginal() + (trecho != null ? " (" + trecho.descricao() + ")" : "");
 
         Resumo resumo = Resumo.criarDeMaterial(
                 UUID.randomUUID(),
@@ -147,15 +218,107 @@ public class DefaultGerarResumoAutomaticoService implements GerarResumoAutomatic
                 comando.materialId()
         );
 
-        Resumo resumoSalvo = resumoRepository.salvar(resumo);
+        progresso.etapaIniciada(EtapaResumo.SALVANDO);
+        // 2. SALVA, CONSOME A COTA E REGISTRA O RESULTADO NA MESMA TRANSAÇÃO (DESFAZ TUDO SE ALGO FALHAR)
+        Resumo resumoSalvo = transacao.execute(status -> {
+            Resumo salvo = resumoRepository.salvar(resumo);
+            consumirCota(usuario);
+            aoSalvar.accept(salvo);
+            return salvo;
+        });
         System.out.println("💾 Resumo salvo com ID: " + resumoSalvo.getId());
 
-        // 2. INCREMENTA A COTA E SALVA O USUÁRIO APÓS O SUCESSO
-        incrementarCota(usuario);
-
         return resumoSalvo;
     }
 
+    /**
+     * Obtém o texto do material (ou do trecho) e gera o resumo. Executado uma única vez por
+     * material e trecho entre requisições simultâneas; as demais recebem o mesmo conteúdo.
+     */
+    private String gerarConteudo(Material material, Trecho trecho, ProgressoResumoListener progresso) {
+        String textoCompleto = trecho == null
+                ? obterTexto(material, progresso)
+                : obterTextoDoTrecho(material, trecho, progresso);
+        if (textoCompleto.isBlank()) {
+            throw new IllegalStateException("O trecho pedido não contém texto extraível.");
+        }
+        System.out.println("✅ Texto obtido com sucesso (" + textoCompleto.length() + " caracteres).");
+
+        System.out.println("🤖 Gerando resumo via IA...");
+        progresso.etapaIniciada(EtapaResumo.PONTUANDO);
+        String conteudo = resumidorIAPort.resumir(textoCompleto, MAX_PALAVRAS);
+        System.out.println("✅ Resumo gerado com " + conteudo.length() + " caracteres.");
+        return conteudo;
+    }
+
+    /**
+     * Usa o texto extraído em segundo plano após o upload, quando já estiver pronto.
+     * Caso contrário (extração pendente, em andamento ou com falha, ou material anterior
+     * ao pipeline), extrai o texto do PDF na hora.
+     */
+    private String obterTexto(Material material, ProgressoResumoListener progresso) {
+        return textoExtraidoRepository.buscarPorMaterialId(material.getId())
+                .filter(TextoExtraido::isConcluido)
+                .map(textoExtraido -> {
+                    System.out.println("📄 Usando texto pré-extraído do material.");
+                    return textoExtraido.getTexto();
+                })
+                .orElseGet(() -> {
+                    System.out.println("🔤 Extraindo texto do PDF...");
+                    return textExtractorPort.extrairConteudo(material.getNomeStorage(), progresso).texto();
+                });
+    }
+
+    /**
+     * Lê apenas as páginas do trecho: as gravadas após a extração em segundo plano, quando
+     * existirem; senão, extrai somente essas páginas do PDF.
+     */
+    private String obterTextoDoTrecho(Material material, Trecho trecho, ProgressoResumoListener progresso) {
+        return textoPaginasPort.buscarPaginas(material.getNomeStorage(), trecho.primeira(), trecho.ultima())
+                .map(paginas -> {
+                    System.out.println("📄 Usando páginas pré-extraídas do material (" + trecho.descricao() + ").");
+                    return String.join("", paginas);
+                })
+                .orElseGet(() -> {
+                    System.out.println("🔤 Extraindo " + trecho.descricao() + " do PDF...");
+                    return textExtractorPort.extrairPaginas(
+                            material.getNomeStorage(), trecho.primeira(), trecho.ultima(), progresso).texto();
+                });
+    }
+
+    /**
+     * Converte o trecho pedido no comando em um intervalo de páginas. Uma seção do sumário
+     * tem precedência sobre as páginas informadas; sem página final, o trecho vai até o fim
+     * do documento.
+     *
+     * @return O intervalo a resumir, ou {@code null} para o documento inteiro.
+     * @throws IllegalArgumentException se o intervalo for inválido ou a seção não existir.
+     */
+    private Trecho resolverTrecho(CriarResumoDeMaterialCommand comando, Material material) {
+        if (!comando.possuiTrecho()) {
+            return null;
+        }
+
+        if (comando.secao() != null && !comando.secao().isBlank()) {
+            String id = comando.secao().strip();
+            SecaoSumario secao = SecaoSumario.buscar(sumarioPdfPort.lerSumario(material.getNomeStorage()), id)
+                    .orElseThrow(() -> new IllegalArgumentException(
+                            "Seção '" + id + "' não encontrada no sumário do material."));
+            String descricao = secao.titulo().isBlank() ? "seção " + id : secao.titulo();
+            return new Trecho(secao.paginaInicial(), secao.paginaFinal(), descricao);
+        }
+
+        int primeira = comando.paginaInicial() != null ? comando.paginaInicial() : 1;
+        int ultima = comando.paginaFinal() != null ? comando.paginaFinal() : Integer.MAX_VALUE;
+        if (primeira < 1 || ultima < primeira) {
+            throw new IllegalArgumentException("Intervalo de páginas inválido: " + primeira + "-" + ultima);
+        }
+        String descricao = comando.paginaFinal() == null
+                ? "p. " + primeira + " em diante"
+                : "p. " + primeira + "-" + ultima;
+        return new Trecho(primeira, ultima, descricao);
+    }
+
     /**
      * Lógica de Lazy Reset:
      * Verifica se o dia mudou para resetar o contador.
@@ -181,13 +344,38 @@ public class DefaultGerarResumoAutomaticoService implements GerarResumoAutomatic
     }
 
     /**
-     * Incrementa o contador de uso e persiste a alteração no banco.
+     * Consome uma unidade da cota diária de forma atômica no banco.
+     * Se outra requisição do mesmo usuário esgotou a cota enquanto este resumo era gerado,
+     * lança {@link LimiteResumoExcedidoException} e a transação desfaz o resumo salvo.
      */
-    private void incrementarCota(Usuario usuario) {
+    private void consumirCota(Usuario usuario) {
+        LocalDate hoje = LocalDate.now();
+        if (!usuarioRepository.consumirCotaResumo(usuario.getId(), hoje, limiteDiario)) {
+            System.out.println("🚫 Limite diário atingido durante a geração para usuário: " + usuario.getId());
+            throw new LimiteResumoExcedidoException("Você atingiu seu limite de " + limiteDiario + " resumos diários. Volte amanhã!");
+        }
         usuario.setResumosHoje(usuario.getResumosHoje() + 1);
-        usuario.setDataUltimoUso(LocalDate.now()); // Garante que a data está atualizada
-        usuarioRepository.salvar(usuario);
+        usuario.setDataUltimoUso(hoje);
         System.out.println("📈 Cota atualizada: " + usuario.getResumosHoje() + "/" + limiteDiario);
     }
 
+    /**
+     * Intervalo de páginas {@code [primeira, ultima]} a resumir e a sua descrição no título padrão.
+     */
+    private record Trecho(int primeira, int ultima, String descricao) {
+    }
+
+    /**
+     * Identifica um resumo automático em geração: o mesmo material e trecho com os mesmos parâmetros.
+     * Sem trecho (documento inteiro), as páginas são nulas.
+     */
+    private record ChaveResumo(UUID materialId, Integer primeira, Integer ultima, int maxPalavras) {
+
+        static ChaveResumo de(UUID materialId, Trecho trecho, int maxPalavras) {
+            return trecho == null
+                    ? new ChaveResumo(materialId, null, null, maxPalavras)
+                    : new ChaveResumo(materialId, trecho.primeira(), trecho.ultima(), maxPalavras);
+        }
+    }
+
 }
@@ -1,8 +1,11 @@
 package com.pdfocus.application.resumo.service;
 
+import com.pdfocus.application.resumo.dto.CursorResumo;
+import com.pdfocus.application.resumo.dto.ResumoListagem;
 import com.pdfocus.application.resumo.port.entrada.ListarResumosUseCase;
 import com.pdfocus.application.resumo.port.saida.ResumoRepository;
 import com.pdfocus.core.models.Resumo;
+import org.springframework.data.domain.Slice;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -25,6 +28,9 @@ import java.util.UUID;
 @Service
 public class DefaultListarResumosService implements ListarResumosUseCase {
 
+    /** Maior número de resumos devolvido em uma página da listagem por cursor. */
+    static final int TAMANHO_MAXIMO_PAGINA = 100;
+
     private final ResumoRepository resumoRepository;
 
     /**
@@ -39,19 +45,35 @@ public class DefaultListarResumosService implements ListarResumosUseCase {
     /**
      * {@inheritDoc}
      * <p>
-     * Retorna todos os resumos pertencentes a um usuário específico.
-     * A operação é transacional e somente leitura.
+     * Retorna todos os resumos pertencentes a um usuário específico, como projeções de
+     * listagem (sem o conteúdo). A operação é transacional e somente leitura.
      * </p>
      *
      * @param usuarioId ID do usuário autenticado.
-     * @return Lista de {@link Resumo}s pertencentes ao usuário.
+     * @return Lista de {@link ResumoListagem} pertencentes ao usuário.
      * @throws IllegalArgumentException se o {@code usuarioId} for nulo.
      */
     @Override
     @Transactional(readOnly = true)
-    public List<Resumo> buscarTodosPorUsuario(UUID usuarioId) {
+    public List<ResumoListagem> buscarTodosPorUsuario(UUID usuarioId) {
+        Objects.requireNonNull(usuarioId, "ID do usuário não pode ser nulo.");
+        return resumoRepository.listarPorUsuario(usuarioId);
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * @throws NullPointerException se o {@code usuarioId} for nulo.
+     */
+    @Override
+    @Transactional(readOnly = true)
+    public Slice<ResumoListagem> buscarPaginaPorUsuario(UUID usuarioId, CursorResumo apos, int tamanho) {
         Objects.requireNonNull(usuarioId, "ID do usuário não pode ser nulo.");
-        return resumoRepository.buscarTodosPorUsuario(usuarioId);
+        if (tamanho < 1 || tamanho > TAMANHO_MAXIMO_PAGINA) {
+            throw new IllegalArgumentException("O tamanho da página deve estar entre 1 e "
+                    + TAMANHO_MAXIMO_PAGINA + ": " + tamanho);
+        }
+        return resumoRepository.listarPorUsuario(usuarioId, apos, tamanho);
     }
 
     /**
@@ -0,0 +1,126 @@
+package com.pdfocus.application.resumo.service;
+
+import com.pdfocus.application.resumo.dto.CriarResumoDeMaterialCommand;
+import com.pdfocus.application.resumo.dto.JobResumoResponse;
+import com.pdfocus.application.resumo.port.entrada.GerarResumoAutomaticoUseCase;
+import com.pdfocus.application.resumo.port.entrada.ProcessarJobResumoUseCase;
+import com.pdfocus.application.resumo.port.saida.JobResumoRepository;
+import com.pdfocus.application.resumo.port.saida.ProgressoJobResumoPort;
+import com.pdfocus.core.models.JobResumo;
+import com.pdfocus.core.models.Resumo;
+import com.pdfocus.core.models.StatusJob;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.ArrayList;
+import java.util.EnumSet;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * Implementação padrão do caso de uso {@link ProcessarJobResumoUseCase}.
+ *
+ * <p>
+ * A geração em si é delegada a {@link GerarResumoAutomaticoUseCase}, de modo que o
+ * resultado (inclusive a validação da cota diária) é o mesmo da rota síncrona.
+ * O andamento e o estado final são publicados em {@link ProgressoJobResumoPort}.
+ * </p>
+ *
+ * <p>
+ * <b>Anotações técnicas:</b> O método {@link #executar(UUID)} não é transacional: cada
+ * mudança de estado do job é gravada numa transação curta, para que o andamento fique
+ * visível para a consulta enquanto o resumo é gerado. A conclusão, porém, é gravada
+ * na mesma transação que salva o resumo e consome a cota: um reinício antes do commit não
+ * deixa resumo nem cota confirmados (o job reaberto gera tudo de novo), e uma falha ao gravar
+ * a conclusão desfaz o resumo antes de o job ser registrado como FALHOU.
+ * </p>
+ */
+@Service
+public class DefaultProcessarJobResumoService implements ProcessarJobResumoUseCase {
+
+    private final JobResumoRepository jobResumoRepository;
+    private final GerarResumoAutomaticoUseCase gerarResumoAutomaticoUseCase;
+    private final ProgressoJobResumoPort progressoJobResumoPort;
+
+    /**
+     * @param jobResumoRepository          Porta de saída para persistir o estado dos jobs.
+     * @param gerarResumoAutomaticoUseCase Caso de uso que gera e salva o resumo.
+     * @param progressoJobResumoPort       Porta de saída que publica o andamento dos jobs.
+     */
+    public DefaultProcessarJobResumoService(JobResumoRepository jobResumoRepository,
+                                            GerarResumoAutomaticoUseCase gerarResumoAutomaticoUseCase,
+                                            ProgressoJobResumoPort progressoJobResumoPort) {
+        this.jobResumoRepository = jobResumoRepository;
+        this.gerarResumoAutomaticoUseCase = gerarResumoAutomaticoUseCase;
+        this.progressoJobResumoPort = progressoJobResumoPort;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void executar(UUID jobId) {
+        if (!jobResumoRepository.iniciarSePendente(jobId)) {
+            System.out.println("⚠️ Job de resumo " + jobId + " não está pendente; ignorado.");
+            return;
+        }
+        Optional<JobResumo> encontrado = jobResumoRepository.buscarPorId(jobId);
+        if (encontrado.isEmpty()) {
+            return;
+        }
+        JobResumo job = encontrado.get();
+
+        try {
+            AtomicReference<JobResumo> concluido = new AtomicReference<>();
+            Resumo resumo = gerarResumoAutomaticoUseCase.executar(
+                    new CriarResumoDeMaterialCommand(job.getMaterialId(), job.getDisciplinaId(),
+                            job.getTitulo(), job.getConteudo(),
+                            job.getPaginaInicial(), job.getPaginaFinal(), job.getSecao()),
+                    job.getUsuarioId(),
+                    progressoJobResumoPort.ouvinte(jobId),
+                    salvo -> concluido.set(jobResumoRepository.salvar(job.concluir(salvo.getId()))));
+            progressoJobResumoPort.finalizado(JobResumoResponse.fromDomain(concluido.get(), resumo));
+            System.out.println("✅ Job de resumo " + jobId + " concluído.");
+        } catch (RuntimeException e) {
+            JobResumo falho = jobResumoRepository.salvar(job.falhar(e.getMessage()));
+            progressoJobResumoPort.finalizado(JobResumoResponse.fromDomain(falho, null));
+            System.err.println("❌ Job de resumo " + jobId + " falhou: " + e.getMessage());
+        }
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * <p>Roda numa transação própria porque costuma ser chamado na fase pós-commit
+     * da transação que criou o job.</p>
+     */
+    @Override
+    @Transactional(propagation = Propagation.REQUIRES_NEW)
+    public void recusar(UUID jobId, String motivo) {
+        jobResumoRepository.buscarPorId(jobId)
+                .filter(job -> job.getStatus() == StatusJob.PENDENTE)
+                .ifPresent(job -> progressoJobResumoPort.finalizado(
+                        JobResumoResponse.fromDomain(jobResumoRepository.salvar(job.falhar(motivo)), null)));
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public List<UUID> retomarInterrompidos() {
+        List<UUID> retomados = new ArrayList<>();
+        for (JobResumo job : jobResumoRepository.listarPorStatus(EnumSet.of(StatusJob.PENDENTE, StatusJob.PROCESSANDO))) {
+            if (job.getStatus() == StatusJob.PROCESSANDO) {
+                jobResumoRepository.salvar(job.reabrir());
+            }
+            retomados.add(job.getId());
+        }
+        if (!retomados.isEmpty()) {
+            System.out.println("🔁 Retomando " + retomados.size() + " job(s) de resumo interrompido(s).");
+        }
+        return retomados;
+    }
+}
@@ -0,0 +1,73 @@
+package com.pdfocus.application.resumo.service;
+
+import com.pdfocus.application.material.port.saida.MaterialRepository;
+import com.pdfocus.application.resumo.dto.CriarResumoDeMaterialCommand;
+import com.pdfocus.application.resumo.dto.JobResumoSubmetidoEvent;
+import com.pdfocus.application.resumo.port.entrada.SubmeterJobResumoUseCase;
+import com.pdfocus.application.resumo.port.saida.JobResumoRepository;
+import com.pdfocus.core.exceptions.material.MaterialNaoEncontradoException;
+import com.pdfocus.core.models.JobResumo;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.Objects;
+import java.util.UUID;
+
+/**
+ * Implementação padrão do caso de uso {@link SubmeterJobResumoUseCase}.
+ *
+ * <p>
+ * Faz apenas as validações baratas (posse do material), grava o job como pendente e
+ * publica {@link JobResumoSubmetidoEvent}; a extração, o resumo e a cota diária são
+ * tratados pelo worker, em {@link DefaultProcessarJobResumoService}.
+ * </p>
+ */
+@Service
+public class DefaultSubmeterJobResumoService implements SubmeterJobResumoUseCase {
+
+    private final MaterialRepository materialRepository;
+    private final JobResumoRepository jobResumoRepository;
+    private final ApplicationEventPublisher eventPublisher;
+
+    /**
+     * @param materialRepository  Porta de saída para validar o material.
+     * @param jobResumoRepository Porta de saída para persistir o job.
+     * @param eventPublisher      Publicador do evento que despacha o job para os workers.
+     */
+    public DefaultSubmeterJobResumoService(MaterialRepository materialRepository,
+                                           JobResumoRepository jobResumoRepository,
+                                           ApplicationEventPublisher eventPublisher) {
+        this.materialRepository = materialRepository;
+        this.jobResumoRepository = jobResumoRepository;
+        this.eventPublisher = eventPublisher;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    @Transactional
+    public JobResumo executar(CriarResumoDeMaterialCommand comando, UUID usuarioId) {
+        Objects.requireNonNull(comando, "O comando de geração não pode ser nulo.");
+
+        materialRepository.buscarPorIdEUsuario(comando.materialId(), usuarioId)
+                .orElseThrow(() -> new MaterialNaoEncontradoException(comando.materialId()));
+
+        JobResumo job = jobResumoRepository.salvar(JobResumo.criar(
+                UUID.randomUUID(),
+                usuarioId,
+                comando.materialId(),
+                comando.disciplinaId(),
+                comando.titulo(),
+                comando.conteudo(),
+                comando.paginaInicial(),
+                comando.paginaFinal(),
+                comando.secao()
+        ));
+        eventPublisher.publishEvent(new JobResumoSubmetidoEvent(job.getId()));
+
+        System.out.println("📥 Job de resumo " + job.getId() + " aceito para o material " + comando.materialId());
+        return job;
+    }
+}
@@ -2,6 +2,7 @@ package com.pdfocus.application.usuario.port.saida;
 
 import com.pdfocus.core.models.Usuario;
 
+import java.time.LocalDate;
 import java.util.Optional;
 import java.util.UUID;
 
@@ -37,4 +38,18 @@ public interface UsuarioRepository {
     Optional<Usuario> buscarPorEmail(String email);
 
     Optional<Usuario> buscarPorId(UUID id);
+
+    /**
+     * Consome, de forma atômica, uma unidade da cota diária de resumos do usuário.
+     *
+     * <p>O contador é incrementado diretamente no banco apenas se o usuário ainda estiver
+     * abaixo do limite no dia informado; se o último uso foi em outro dia, o contador
+     * recomeça em 1. Requisições concorrentes do mesmo usuário nunca ultrapassam o limite.</p>
+     *
+     * @param usuarioId O ID do usuário.
+     * @param hoje      O dia de referência da cota.
+     * @param limite    O número máximo de resumos por dia.
+     * @return {@code true} se a cota foi consumida; {@code false} se o limite já havia sido atingido.
+     */
+    boolean consumirCotaResumo(UUID usuarioId, LocalDate hoje, int limite);
 }
@@ -0,0 +1,17 @@
+package com.pdfocus.core.exceptions.material;
+
+import java.util.UUID;
+
+/**
+ * Exceção lançada quando um envio em partes não existe, expirou, já foi concluído
+ * ou pertence a outro utilizador.
+ */
+public class EnvioParcialNaoEncontradoException extends RuntimeException {
+
+    /**
+     * @param id O ID do envio que não foi encontrado.
+     */
+    public EnvioParcialNaoEncontradoException(UUID id) {
+        super("O envio com o ID '" + id + "' não foi encontrado, expirou ou já foi concluído.");
+    }
+}
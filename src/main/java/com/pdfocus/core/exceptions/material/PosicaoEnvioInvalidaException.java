@@ -0,0 +1,41 @@
+package com.pdfocus.core.exceptions.material;
+
+/**
+ * Exceção lançada quando uma parte de um envio em partes não começa onde o conteúdo já
+ * recebido termina (ex: uma parte repetida ou perdida), ou chega enquanto outra parte do
+ * mesmo envio ainda está sendo recebida. O cliente deve retomar a partir de
+ * {@link #getRecebidos()}.
+ */
+public class PosicaoEnvioInvalidaException extends RuntimeException {
+
+    private final long recebidos;
+
+    /**
+     * @param posicao   A posição informada pelo cliente.
+     * @param recebidos Quantos bytes o envio já recebeu.
+     */
+    public PosicaoEnvioInvalidaException(long posicao, long recebidos) {
+        this("A parte começa em " + posicao + ", mas o envio já recebeu " + recebidos + " bytes.", recebidos);
+    }
+
+    private PosicaoEnvioInvalidaException(String mensagem, long recebidos) {
+        super(mensagem);
+        this.recebidos = recebidos;
+    }
+
+    /**
+     * @param recebidos Quantos bytes o envio já tinha confirmado quando a outra parte começou.
+     * @return A exceção para uma parte recebida enquanto outra do mesmo envio está em andamento.
+     */
+    public static PosicaoEnvioInvalidaException parteEmAndamento(long recebidos) {
+        return new PosicaoEnvioInvalidaException("Outra parte deste envio ainda está sendo recebida; o envio já recebeu "
+                + recebidos + " bytes.", recebidos);
+    }
+
+    /**
+     * @return Quantos bytes o envio já recebeu, ou seja, onde a próxima parte deve começar.
+     */
+    public long getRecebidos() {
+        return recebidos;
+    }
+}
@@ -13,5 +13,6 @@ public class TextoNaoPodeSerExtraidoException extends RuntimeException {
     }
 
     public TextoNaoPodeSerExtraidoException(String s) {
+        super(s);
     }
 }
\ No newline at end of file
@@ -0,0 +1,242 @@
+package com.pdfocus.core.models;
+
+import com.pdfocus.core.shared.Validador;
+
+import java.time.OffsetDateTime;
+import java.util.UUID;
+
+/**
+ * Pedido de geração automática de resumo processado em segundo plano.
+ * <p>
+ * O job guarda os parâmetros do pedido (material, disciplina, título, conteúdo e trecho opcionais)
+ * para que possa ser retomado após um reinício da aplicação, e o resultado: o id do
+ * {@link Resumo} gerado ou o motivo da falha.
+ * </p>
+ *
+ * <p>
+ * Objeto imutável: cada transição de estado ({@link #iniciar()}, {@link #concluir(UUID)},
+ * {@link #falhar(String)}) produz uma nova instância.
+ * </p>
+ *
+ * @see StatusJob
+ * @see com.pdfocus.infra.persistence.entity.JobResumoEntity
+ */
+public class JobResumo {
+
+    /** Tamanho máximo da mensagem de erro registrada. */
+    public static final int TAMANHO_MAXIMO_MENSAGEM = 500;
+
+    /** Identificador único do job. */
+    private final UUID id;
+
+    /** Usuário que solicitou o resumo. */
+    private final UUID usuarioId;
+
+    /** Material de origem do resumo. */
+    private final UUID materialId;
+
+    /** Disciplina à qual o resumo será associado. */
+    private final UUID disciplinaId;
+
+    /** Título informado pelo usuário (opcional). */
+    private final String titulo;
+
+    /** Conteúdo informado pelo usuário (opcional); dispensa a extração quando presente. */
+    private final String conteudo;
+
+    /** Primeira página do trecho a resumir (opcional). */
+    private final Integer paginaInicial;
+
+    /** Última página do trecho a resumir (opcional). */
+    private final Integer paginaFinal;
+
+    /** Seção do sumário do PDF a resumir (opcional). */
+    private final String secao;
+
+    /** Estado atual do job. */
+    private final StatusJob status;
+
+    /** Resumo gerado, quando o status é {@link StatusJob#CONCLUIDO}. */
+    private final UUID resumoId;
+
+    /** Motivo da falha, quando o status é {@link StatusJob#FALHOU}. */
+    private final String mensagemErro;
+
+    /** Momento em que o job foi aceito; preenchido pela persistência. */
+    private final OffsetDateTime dataCriacao;
+
+    /** Momento da última mudança de estado; preenchido pela persistência. */
+    private final OffsetDateTime dataAtualizacao;
+
+    private JobResumo(UUID id, UUID usuarioId, UUID materialId, UUID disciplinaId, String titulo,
+                      String conteudo, Integer paginaInicial, Integer paginaFinal, String secao,
+                      StatusJob status, UUID resumoId, String mensagemErro,
+                      OffsetDateTime dataCriacao, OffsetDateTime dataAtualizacao) {
+        this.id = id;
+        this.usuarioId = usuarioId;
+        this.materialId = materialId;
+        this.disciplinaId = disciplinaId;
+        this.titulo = titulo;
+        this.conteudo = conteudo;
+        this.paginaInicial = paginaInicial;
+        this.paginaFinal = paginaFinal;
+        this.secao = secao;
+        this.status = status;
+        this.resumoId = resumoId;
+        this.mensagemErro = mensagemErro;
+        this.dataCriacao = dataCriacao;
+        this.dataAtualizacao = dataAtualizacao;
+    }
+
+    /**
+     * Cria um novo job, para o documento inteiro, no estado {@link StatusJob#PENDENTE}.
+     *
+     * @param id           Identificador único do job.
+     * @param usuarioId    Usuário que solicita o resumo.
+     * @param materialId   Material de origem.
+     * @param disciplinaId Disciplina do resumo.
+     * @param titulo       Título opcional.
+     * @param conteudo     Conteúdo opcional.
+     * @return O novo job.
+     */
+    public static JobResumo criar(UUID id, UUID usuarioId, UUID materialId, UUID disciplinaId,
+                                  String titulo, String conteudo) {
+        return criar(id, usuarioId, materialId, disciplinaId, titulo, conteudo, null, null, null);
+    }
+
+    /**
+     * Cria um novo job, restrito a um trecho do material, no estado {@link StatusJob#PENDENTE}.
+     *
+     * @param id            Identificador único do job.
+     * @param usuarioId     Usuário que solicita o resumo.
+     * @param materialId    Material de origem.
+     * @param disciplinaId  Disciplina do resumo.
+     * @param titulo        Título opcional.
+     * @param conteudo      Conteúdo opcional.
+     * @param paginaInicial Primeira página do trecho (opcional).
+     * @param paginaFinal   Última página do trecho (opcional).
+     * @param secao         Seção do sumário do PDF (opcional).
+     * @return O novo job.
+     */
+    public static JobResumo criar(UUID id, UUID usuarioId, UUID materialId, UUID disciplinaId,
+                                  String titulo, String conteudo,
+                                  Integer paginaInicial, Integer paginaFinal, String secao) {
+        Validador.requireNotNull(id, "ID do job não pode ser nulo");
+        Validador.requireNotNull(usuarioId, "ID do usuário não pode ser nulo");
+        Validador.requireNotNull(materialId, "ID do material não pode ser nulo");
+        Validador.requireNotNull(disciplinaId, "ID da disciplina não pode ser nulo");
+        return new JobResumo(id, usuarioId, materialId, disciplinaId, titulo, conteudo,
+                paginaInicial, paginaFinal, secao, StatusJob.PENDENTE, null, null, null, null);
+    }
+
+    /**
+     * Reconstrói o job a partir dos dados persistidos, sem validações.
+     * Uso exclusivo da camada de mapeamento.
+     */
+    public static JobResumo reconstruir(UUID id, UUID usuarioId, UUID materialId, UUID disciplinaId,
+                                        String titulo, String conteudo, Integer paginaInicial,
+                                        Integer paginaFinal, String secao, StatusJob status, UUID resumoId,
+                                        String mensagemErro, OffsetDateTime dataCriacao,
+                                        OffsetDateTime dataAtualizacao) {
+        return new JobResumo(id, usuarioId, materialId, disciplinaId, titulo, conteudo,
+                paginaInicial, paginaFinal, secao, status, resumoId, mensagemErro, dataCriacao, dataAtualizacao);
+    }
+
+    /**
+     * @return Uma cópia no estado {@link StatusJob#PROCESSANDO}.
+     */
+    public JobResumo iniciar() {
+        return comStatus(StatusJob.PROCESSANDO, null, null);
+    }
+
+    /**
+     * @return Uma cópia no estado {@link StatusJob#PENDENTE}, para ser executada novamente.
+     */
+    public JobResumo reabrir() {
+        return comStatus(StatusJob.PENDENTE, null, null);
+    }
+
+    /**
+     * @param resumoId O id do resumo gerado.
+     * @return Uma cópia no estado {@link StatusJob#CONCLUIDO}.
+     */
+    public JobResumo concluir(UUID resumoId) {
+        Validador.requireNotNull(resumoId, "ID do resumo não pode ser nulo");
+        return comStatus(StatusJob.CONCLUIDO, resumoId, null);
+    }
+
+    /**
+     * Mensagens longas são truncadas em {@link #TAMANHO_MAXIMO_MENSAGEM} caracteres.
+     *
+     * @param motivo Descrição da falha.
+     * @return Uma cópia no estado {@link StatusJob#FALHOU}.
+     */
+    public JobResumo falhar(String motivo) {
+        String mensagem = motivo == null || motivo.isBlank() ? "Falha desconhecida na geração do resumo" : motivo;
+        if (mensagem.length() > TAMANHO_MAXIMO_MENSAGEM) {
+            mensagem = mensagem.substring(0, TAMANHO_MAXIMO_MENSAGEM);
+        }
+        return comStatus(StatusJob.FALHOU, null, mensagem);
+    }
+
+    private JobResumo comStatus(StatusJob novoStatus, UUID novoResumoId, String novaMensagem) {
+        return new JobResumo(id, usuarioId, materialId, disciplinaId, titulo, conteudo,
+                paginaInicial, paginaFinal, secao, novoStatus, novoResumoId, novaMensagem, dataCriacao, dataAtualizacao);
+    }
+
+    public UUID getId() {
+        return id;
+    }
+
+    public UUID getUsuarioId() {
+        return usuarioId;
+    }
+
+    public UUID getMaterialId() {
+        return materialId;
+    }
+
+    public UUID getDisciplinaId() {
+        return disciplinaId;
+    }
+
+    public String getTitulo() {
+        return titulo;
+    }
+
+    public String getConteudo() {
+        return conteudo;
+    }
+
+    public Integer getPaginaInicial() {
+        return paginaInicial;
+    }
+
+    public Integer getPaginaFinal() {
+        return paginaFinal;
+    }
+
+    public String getSecao() {
+        return secao;
+    }
+
+    public StatusJob getStatus() {
+        return status;
+    }
+
+    public UUID getResumoId() {
+        return resumoId;
+    }
+
+    public String getMensagemErro() {
+        return mensagemErro;
+    }
+
+    public OffsetDateTime getDataCriacao() {
+        return dataCriacao;
+    }
+
+    public OffsetDateTime getDataAtualizacao() {
+        return dataAtualizacao;
+    }
+}
@@ -145,6 +145,24 @@ public class Resumo {
         return new Resumo(id, usuarioId, titulo, conteudo, disciplina, materialId, dataCriacao);
     }
 
+    /**
+     * Cria uma nova versão deste resumo com título e conteúdo alterados.
+     * <p>
+     * Identidade, autor, disciplina, material de origem e data de criação são preservados.
+     * </p>
+     *
+     * @param novoTitulo   Novo título do resumo.
+     * @param novoConteudo Novo texto do resumo.
+     * @return uma nova instância válida de {@code Resumo}.
+     * @throws IllegalArgumentException se o título ou o conteúdo estiverem ausentes.
+     */
+    public Resumo atualizar(String novoTitulo, String novoConteudo) {
+        Validador.requireNotEmpty(novoTitulo, "Título é obrigatório");
+        Validador.requireNotEmpty(novoConteudo, "Conteúdo é obrigatório");
+
+        return new Resumo(id, usuarioId, novoTitulo, novoConteudo, disciplina, materialId, dataCriacao);
+    }
+
     // ---------------------------------------------------------
     // MÉTODOS DE ACESSO
     // ---------------------------------------------------------
@@ -0,0 +1,19 @@
+package com.pdfocus.core.models;
+
+/**
+ * Estado da extração de texto de um {@link Material}, feita em segundo plano após o upload.
+ */
+public enum StatusExtracao {
+
+    /** Material recém-enviado, aguardando a extração. */
+    PENDENTE,
+
+    /** A extração está em andamento. */
+    PROCESSANDO,
+
+    /** O texto foi extraído e está disponível. */
+    CONCLUIDA,
+
+    /** A extração falhou; o motivo fica registrado em {@link TextoExtraido#getMensagemErro()}. */
+    FALHOU
+}
@@ -0,0 +1,26 @@
+package com.pdfocus.core.models;
+
+/**
+ * Estado de um {@link JobResumo} de geração assíncrona de resumo.
+ */
+public enum StatusJob {
+
+    /** Job aceito, aguardando um worker livre. */
+    PENDENTE,
+
+    /** Um worker está gerando o resumo. */
+    PROCESSANDO,
+
+    /** O resumo foi gerado e salvo; o id fica em {@link JobResumo#getResumoId()}. */
+    CONCLUIDO,
+
+    /** A geração falhou; o motivo fica em {@link JobResumo#getMensagemErro()}. */
+    FALHOU;
+
+    /**
+     * @return {@code true} se o job não muda mais de estado.
+     */
+    public boolean isFinal() {
+        return this == CONCLUIDO || this == FALHOU;
+    }
+}
@@ -0,0 +1,138 @@
+package com.pdfocus.core.models;
+
+import com.pdfocus.core.shared.Validador;
+
+import java.util.UUID;
+
+/**
+ * Texto extraído de um {@link Material}, junto com o estado da extração.
+ * <p>
+ * A extração acontece uma única vez, em segundo plano, logo após o upload; a geração
+ * de resumos reaproveita este texto em vez de processar o arquivo novamente.
+ * </p>
+ *
+ * <p>
+ * Objeto imutável: cada transição de estado produz uma nova instância por meio dos
+ * métodos de fábrica.
+ * </p>
+ *
+ * @see StatusExtracao
+ * @see com.pdfocus.infra.persistence.entity.TextoMaterialEntity
+ */
+public class TextoExtraido {
+
+    /** Tamanho máximo da mensagem de erro registrada. */
+    public static final int TAMANHO_MAXIMO_MENSAGEM = 500;
+
+    /** Identificador do material de origem. */
+    private final UUID materialId;
+
+    /** Estado atual da extração. */
+    private final StatusExtracao status;
+
+    /** Texto extraído; preenchido apenas quando o status é {@link StatusExtracao#CONCLUIDA}. */
+    private final String texto;
+
+    /** Número de páginas do documento, quando conhecido. */
+    private final Integer paginas;
+
+    /** Motivo da falha; preenchido apenas quando o status é {@link StatusExtracao#FALHOU}. */
+    private final String mensagemErro;
+
+    private TextoExtraido(UUID materialId, StatusExtracao status, String texto, Integer paginas, String mensagemErro) {
+        this.materialId = materialId;
+        this.status = status;
+        this.texto = texto;
+        this.paginas = paginas;
+        this.mensagemErro = mensagemErro;
+    }
+
+    /**
+     * Registra um material que ainda aguarda a extração.
+     *
+     * @param materialId Identificador do material.
+     * @return Uma instância no estado {@link StatusExtracao#PENDENTE}.
+     */
+    public static TextoExtraido pendente(UUID materialId) {
+        Validador.requireNotNull(materialId, "ID do material não pode ser nulo");
+        return new TextoExtraido(materialId, StatusExtracao.PENDENTE, null, null, null);
+    }
+
+    /**
+     * Registra o início da extração.
+     *
+     * @param materialId Identificador do material.
+     * @return Uma instância no estado {@link StatusExtracao#PROCESSANDO}.
+     */
+    public static TextoExtraido processando(UUID materialId) {
+        Validador.requireNotNull(materialId, "ID do material não pode ser nulo");
+        return new TextoExtraido(materialId, StatusExtracao.PROCESSANDO, null, null, null);
+    }
+
+    /**
+     * Registra o texto extraído com sucesso.
+     *
+     * @param materialId Identificador do material.
+     * @param texto      O texto extraído (pode ser vazio, para documentos sem texto).
+     * @param paginas    O número de páginas, ou {@code null} se desconhecido.
+     * @return Uma instância no estado {@link StatusExtracao#CONCLUIDA}.
+     */
+    public static TextoExtraido concluido(UUID materialId, String texto, Integer paginas) {
+        Validador.requireNotNull(materialId, "ID do material não pode ser nulo");
+        Validador.requireNotNull(texto, "O texto extraído não pode ser nulo");
+        return new TextoExtraido(materialId, StatusExtracao.CONCLUIDA, texto, paginas, null);
+    }
+
+    /**
+     * Registra uma falha na extração. Mensagens longas são truncadas em
+     * {@link #TAMANHO_MAXIMO_MENSAGEM} caracteres.
+     *
+     * @param materialId Identificador do material.
+     * @param motivo     Descrição da falha.
+     * @return Uma instância no estado {@link StatusExtracao#FALHOU}.
+     */
+    public static TextoExtraido falhou(UUID materialId, String motivo) {
+        Validador.requireNotNull(materialId, "ID do material não pode ser nulo");
+        String mensagem = motivo == null || motivo.isBlank() ? "Falha desconhecida na extração" : motivo;
+        if (mensagem.length() > TAMANHO_MAXIMO_MENSAGEM) {
+            mensagem = mensagem.substring(0, TAMANHO_MAXIMO_MENSAGEM);
+        }
+        return new TextoExtraido(materialId, StatusExtracao.FALHOU, null, null, mensagem);
+    }
+
+    /**
+     * Reconstrói a instância a partir dos dados persistidos, sem validações.
+     * Uso exclusivo da camada de mapeamento.
+     */
+    public static TextoExtraido reconstruir(UUID materialId, StatusExtracao status, String texto,
+                                            Integer paginas, String mensagemErro) {
+        return new TextoExtraido(materialId, status, texto, paginas, mensagemErro);
+    }
+
+    /**
+     * @return {@code true} se o texto já foi extraído e pode ser usado.
+     */
+    public boolean isConcluido() {
+        return status == StatusExtracao.CONCLUIDA;
+    }
+
+    public UUID getMaterialId() {
+        return materialId;
+    }
+
+    public StatusExtracao getStatus() {
+        return status;
+    }
+
+    public String getTexto() {
+        return texto;
+    }
+
+    public Integer getPaginas() {
+        return paginas;
+    }
+
+    public String getMensagemErro() {
+        return mensagemErro;
+    }
+}
@@ -0,0 +1,81 @@
+package com.pdfocus.core.shared;
+
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Supplier;
+
+/**
+ * Registro de execução única ("single-flight") em memória.
+ * <p>
+ * Chamadas concorrentes com a mesma chave compartilham uma única execução do cálculo:
+ * a primeira executa, e as demais aguardam e recebem o mesmo resultado (ou a mesma exceção).
+ * Assim que a execução termina a chave é liberada; não há cache de resultados.
+ * </p>
+ *
+ * <p>
+ * O cálculo roda na thread da primeira chamada. As chaves devem implementar
+ * {@code equals}/{@code hashCode} (um {@code record} é o ideal).
+ * </p>
+ *
+ * @param <K> Tipo da chave.
+ * @param <V> Tipo do resultado.
+ */
+public final class ExecucaoCompartilhada<K, V> {
+
+    private final Map<K, CompletableFuture<V>> emAndamento = new ConcurrentHashMap<>();
+    private final LongAdder compartilhadas = new LongAdder();
+
+    /**
+     * Executa o cálculo, ou aguarda a execução já em andamento para a mesma chave.
+     *
+     * @param chave   Identifica o cálculo.
+     * @param calculo O cálculo; só é invocado se não houver outro em andamento para a chave.
+     * @return O resultado do cálculo.
+     * @throws RuntimeException A mesma exceção lançada pelo cálculo, para todas as chamadas que o aguardavam.
+     */
+    public V executar(K chave, Supplier<V> calculo) {
+        Objects.requireNonNull(chave, "A chave não pode ser nula.");
+        CompletableFuture<V> nova = new CompletableFuture<>();
+        CompletableFuture<V> existente = emAndamento.putIfAbsent(chave, nova);
+        if (existente != null) {
+            compartilhadas.increment();
+            return aguardar(existente);
+        }
+
+        try {
+            V resultado = calculo.get();
+            nova.complete(resultado);
+            return resultado;
+        } catch (RuntimeException | Error e) {
+            nova.completeExceptionally(e);
+            throw e;
+        } finally {
+            emAndamento.remove(chave, nova);
+        }
+    }
+
+    /**
+     * @return Quantas chamadas reaproveitaram uma execução em andamento.
+     */
+    public long getCompartilhadas() {
+        return compartilhadas.sum();
+    }
+
+    private static <V> V aguardar(CompletableFuture<V> execucao) {
+        try {
+            return execucao.join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException runtime) {
+                throw runtime;
+            }
+            if (e.getCause() instanceof Error error) {
+                throw error;
+            }
+            throw e;
+        }
+    }
+}
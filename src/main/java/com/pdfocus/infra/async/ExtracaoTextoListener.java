@@ -0,0 +1,56 @@
+package com.pdfocus.infra.async;
+
+import com.pdfocus.application.material.dto.MaterialEnviadoEvent;
+import com.pdfocus.application.material.port.entrada.ExtrairTextoMaterialUseCase;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.core.task.TaskExecutor;
+import org.springframework.scheduling.annotation.Async;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Dispara a extração de texto de um material em segundo plano, no executor
+ * {@code extracaoExecutor}, assim que a transação do upload é confirmada.
+ *
+ * <ul>
+ *   <li>Se o upload for revertido, o evento é descartado e nada é extraído.</li>
+ *   <li>Na inicialização, as extrações que ficaram pendentes (descartadas com a fila cheia)
+ *       ou foram interrompidas por um reinício são refeitas, uma de cada vez, numa única
+ *       tarefa do executor: a fila continua livre para os uploads novos. Assume uma única
+ *       instância da aplicação, como a retomada dos jobs de resumo.</li>
+ * </ul>
+ */
+@Component
+public class ExtracaoTextoListener {
+
+    private final ExtrairTextoMaterialUseCase extrairTextoMaterialUseCase;
+    private final TaskExecutor extracaoExecutor;
+
+    public ExtracaoTextoListener(ExtrairTextoMaterialUseCase extrairTextoMaterialUseCase,
+                                 @Qualifier("extracaoExecutor") TaskExecutor extracaoExecutor) {
+        this.extrairTextoMaterialUseCase = extrairTextoMaterialUseCase;
+        this.extracaoExecutor = extracaoExecutor;
+    }
+
+    @Async("extracaoExecutor")
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    public void aoEnviarMaterial(MaterialEnviadoEvent evento) {
+        extrairTextoMaterialUseCase.executar(evento.materialId());
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void retomarExtracoesInterrompidas() {
+        List<UUID> materiais = extrairTextoMaterialUseCase.listarInterrompidas();
+        if (materiais.isEmpty()) {
+            return;
+        }
+        System.out.println("🔁 Retomando a extração de texto de " + materiais.size() + " material(is).");
+        extracaoExecutor.execute(() -> materiais.forEach(extrairTextoMaterialUseCase::executar));
+    }
+}
@@ -0,0 +1,66 @@
+package com.pdfocus.infra.async;
+
+import com.pdfocus.application.resumo.dto.JobResumoSubmetidoEvent;
+import com.pdfocus.application.resumo.port.entrada.ProcessarJobResumoUseCase;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.core.task.TaskExecutor;
+import org.springframework.core.task.TaskRejectedException;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Despacha os jobs de geração de resumo para o executor {@code resumoExecutor}.
+ *
+ * <ul>
+ *   <li>Jobs novos são enviados assim que a transação que os criou é confirmada.</li>
+ *   <li>Na inicialização, os jobs pendentes ou interrompidos por um reinício são reenviados.
+ *       A retomada assume uma única instância da aplicação processando jobs.</li>
+ *   <li>Se a fila do executor estiver cheia, o job é marcado como falho com uma mensagem
+ *       pedindo nova tentativa, em vez de bloquear a thread da requisição.</li>
+ * </ul>
+ */
+@Component
+public class JobResumoDispatcher {
+
+    private static final Logger logger = LoggerFactory.getLogger(JobResumoDispatcher.class);
+
+    static final String MENSAGEM_FILA_CHEIA =
+            "Muitos resumos sendo gerados no momento. Tente novamente em alguns instantes.";
+
+    private final ProcessarJobResumoUseCase processarJobResumoUseCase;
+    private final TaskExecutor resumoExecutor;
+
+    public JobResumoDispatcher(ProcessarJobResumoUseCase processarJobResumoUseCase,
+                               @Qualifier("resumoExecutor") TaskExecutor resumoExecutor) {
+        this.processarJobResumoUseCase = processarJobResumoUseCase;
+        this.resumoExecutor = resumoExecutor;
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    public void aoSubmeterJob(JobResumoSubmetidoEvent evento) {
+        despachar(evento.jobId());
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void retomarJobsInterrompidos() {
+        List<UUID> jobs = processarJobResumoUseCase.retomarInterrompidos();
+        jobs.forEach(this::despachar);
+    }
+
+    private void despachar(UUID jobId) {
+        try {
+            resumoExecutor.execute(() -> processarJobResumoUseCase.executar(jobId));
+        } catch (TaskRejectedException e) {
+            logger.warn("Fila de jobs de resumo cheia; job {} recusado", jobId);
+            processarJobResumoUseCase.recusar(jobId, MENSAGEM_FILA_CHEIA);
+        }
+    }
+}
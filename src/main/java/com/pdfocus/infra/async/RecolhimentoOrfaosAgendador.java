@@ -0,0 +1,76 @@
+package com.pdfocus.infra.async;
+
+import com.pdfocus.application.material.dto.RecolhimentoOrfaosResultado;
+import com.pdfocus.application.material.port.entrada.RecolherArquivosOrfaosUseCase;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Executa periodicamente o recolhimento de ficheiros órfãos do armazenamento.
+ *
+ * <p>A primeira execução ocorre {@code app.recolhimento-orfaos.atraso-inicial} após a
+ * inicialização e as seguintes, {@code app.recolhimento-orfaos.intervalo} após o término da
+ * anterior (durações ISO-8601, ex: {@code PT6H}). Desativado com
+ * {@code app.recolhimento-orfaos.habilitado=false}. Assume uma única instância da aplicação
+ * por diretório de armazenamento.</p>
+ *
+ * <p>O total de bytes liberados e de ficheiros apagados é exposto no Actuator em
+ * {@code pdfocus.armazenamento.orfaos.bytes} e {@code pdfocus.armazenamento.orfaos.apagados}.</p>
+ */
+@Component
+@ConditionalOnProperty(name = "app.recolhimento-orfaos.habilitado", havingValue = "true", matchIfMissing = true)
+public class RecolhimentoOrfaosAgendador implements MeterBinder {
+
+    private static final Logger logger = LoggerFactory.getLogger(RecolhimentoOrfaosAgendador.class);
+
+    private final RecolherArquivosOrfaosUseCase recolherArquivosOrfaosUseCase;
+
+    private final LongAdder bytesLiberados = new LongAdder();
+    private final LongAdder apagados = new LongAdder();
+
+    public RecolhimentoOrfaosAgendador(RecolherArquivosOrfaosUseCase recolherArquivosOrfaosUseCase) {
+        this.recolherArquivosOrfaosUseCase = recolherArquivosOrfaosUseCase;
+    }
+
+    @Scheduled(initialDelayString = "${app.recolhimento-orfaos.atraso-inicial:PT10M}",
+            fixedDelayString = "${app.recolhimento-orfaos.intervalo:PT6H}")
+    public void recolher() {
+        try {
+            RecolhimentoOrfaosResultado resultado = recolherArquivosOrfaosUseCase.executar();
+            bytesLiberados.add(resultado.bytesLiberados());
+            apagados.add(resultado.apagados());
+        } catch (RuntimeException e) {
+            // A próxima execução tenta de novo; os ficheiros já apagados estão contados no log
+            logger.error("Falha no recolhimento de ficheiros órfãos", e);
+        }
+    }
+
+    /** @return o total de bytes liberados desde a inicialização. */
+    public long getBytesLiberados() {
+        return bytesLiberados.sum();
+    }
+
+    /** @return o total de ficheiros órfãos apagados desde a inicialização. */
+    public long getApagados() {
+        return apagados.sum();
+    }
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        FunctionCounter.builder("pdfocus.armazenamento.orfaos.bytes", bytesLiberados, LongAdder::sum)
+                .baseUnit("bytes")
+                .description("Bytes liberados pelo recolhimento de ficheiros sem material")
+                .register(registry);
+        FunctionCounter.builder("pdfocus.armazenamento.orfaos.apagados", apagados, LongAdder::sum)
+                .description("Ficheiros sem material apagados pelo recolhimento")
+                .register(registry);
+    }
+}
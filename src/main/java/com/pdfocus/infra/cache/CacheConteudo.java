@@ -0,0 +1,226 @@
+package com.pdfocus.infra.cache;
+
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.zip.GZIPInputStream;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * Cache de textos em dois níveis, endereçado por chaves derivadas do conteúdo (hash).
+ *
+ * <ul>
+ * <li><b>Memória:</b> LRU limitada pelo tamanho aproximado dos valores em bytes
+ *     (2 bytes por caractere); ao ultrapassar a capacidade, as entradas menos usadas
+ *     recentemente são descartadas.</li>
+ * <li><b>Disco (opcional):</b> um arquivo gzip por chave, gravado de forma atômica
+ *     (arquivo temporário + renomeação). Um acerto em disco promove o valor para a memória.</li>
+ * </ul>
+ *
+ * <p>Como as chaves identificam o conteúdo, as entradas nunca ficam desatualizadas e não
+ * há invalidação. Falhas de leitura/escrita em disco são registradas e tratadas como
+ * ausência no cache; o cache nunca impede o processamento normal.</p>
+ *
+ * <p>Expõe os contadores de acertos/falhas e a ocupação da memória como métricas
+ * Micrometer ({@code pdfocus.cache.requisicoes} e {@code pdfocus.cache.memoria.bytes},
+ * com a tag {@code cache}).</p>
+ */
+public class CacheConteudo implements MeterBinder {
+
+    private static final Logger logger = LoggerFactory.getLogger(CacheConteudo.class);
+
+    private final String nome;
+    private final long capacidadeBytes;
+    private final Path diretorioDisco;
+
+    private final LinkedHashMap<String, String> memoria = new LinkedHashMap<>(64, 0.75f, true);
+    private long bytesEmMemoria;
+
+    private final LongAdder acertosMemoria = new LongAdder();
+    private final LongAdder acertosDisco = new LongAdder();
+    private final LongAdder falhas = new LongAdder();
+
+    /**
+     * @param nome            Nome do cache, usado nas métricas e nos logs.
+     * @param capacidadeBytes Tamanho máximo aproximado dos valores mantidos em memória; 0 desativa a memória.
+     * @param diretorioDisco  Diretório do nível em disco, ou {@code null} para desativá-lo.
+     */
+    public CacheConteudo(String nome, long capacidadeBytes, Path diretorioDisco) {
+        this.nome = nome;
+        this.capacidadeBytes = capacidadeBytes;
+        this.diretorioDisco = diretorioDisco;
+        if (diretorioDisco != null) {
+            try {
+                Files.createDirectories(diretorioDisco);
+            } catch (IOException e) {
+                throw new RuntimeException("Não foi possível inicializar o diretório do cache: " + diretorioDisco, e);
+            }
+        }
+    }
+
+    /**
+     * Busca um valor, primeiro na memória e depois em disco.
+     *
+     * @param chave A chave (derivada do conteúdo); deve conter apenas caracteres seguros para nome de arquivo.
+     * @return O valor em cache, se existir.
+     */
+    public Optional<String> buscar(String chave) {
+        String valor;
+        synchronized (memoria) {
+            valor = memoria.get(chave);
+        }
+        if (valor != null) {
+            acertosMemoria.increment();
+            return Optional.of(valor);
+        }
+
+        valor = lerDoDisco(chave);
+        if (valor != null) {
+            acertosDisco.increment();
+            guardarEmMemoria(chave, valor);
+            return Optional.of(valor);
+        }
+
+        falhas.increment();
+        return Optional.empty();
+    }
+
+    /**
+     * Guarda um valor em memória e, se habilitado, em disco.
+     *
+     * @param chave A chave (derivada do conteúdo).
+     * @param valor O valor a ser guardado.
+     */
+    public void guardar(String chave, String valor) {
+        guardarEmMemoria(chave, valor);
+        gravarEmDisco(chave, valor);
+    }
+
+    /** @return o número de acertos na memória. */
+    public long getAcertosMemoria() {
+        return acertosMemoria.sum();
+    }
+
+    /** @return o número de acertos no disco. */
+    public long getAcertosDisco() {
+        return acertosDisco.sum();
+    }
+
+    /** @return o número de buscas que não encontraram o valor em nenhum nível. */
+    public long getFalhas() {
+        return falhas.sum();
+    }
+
+    /** @return o tamanho aproximado, em bytes, dos valores mantidos em memória. */
+    public long getBytesEmMemoria() {
+        synchronized (memoria) {
+            return bytesEmMemoria;
+        }
+    }
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        FunctionCounter.builder("pdfocus.cache.requisicoes", acertosMemoria, LongAdder::sum)
+                .tags("cache", nome, "resultado", "acerto_memoria")
+                .description("Buscas no cache de conteúdo, por resultado")
+                .register(registry);
+        FunctionCounter.builder("pdfocus.cache.requisicoes", acertosDisco, LongAdder::sum)
+                .tags("cache", nome, "resultado", "acerto_disco")
+                .description("Buscas no cache de conteúdo, por resultado")
+                .register(registry);
+        FunctionCounter.builder("pdfocus.cache.requisicoes", falhas, LongAdder::sum)
+                .tags("cache", nome, "resultado", "falha")
+                .description("Buscas no cache de conteúdo, por resultado")
+                .register(registry);
+        Gauge.builder("pdfocus.cache.memoria.bytes", this, CacheConteudo::getBytesEmMemoria)
+                .tag("cache", nome)
+                .description("Tamanho aproximado dos valores mantidos em memória")
+                .baseUnit("bytes")
+                .register(registry);
+    }
+
+    private void guardarEmMemoria(String chave, String valor) {
+        long peso = pesoDe(valor);
+        if (peso > capacidadeBytes) {
+            return; // Valor maior que o cache inteiro: não vale a pena descartar tudo por ele
+        }
+        synchronized (memoria) {
+            String anterior = memoria.put(chave, valor);
+            if (anterior != null) {
+                bytesEmMemoria -= pesoDe(anterior);
+            }
+            bytesEmMemoria += peso;
+
+            // Descarta as entradas menos usadas recentemente até caber na capacidade
+            Iterator<Map.Entry<String, String>> iterator = memoria.entrySet().iterator();
+            while (bytesEmMemoria > capacidadeBytes && iterator.hasNext()) {
+                Map.Entry<String, String> maisAntiga = iterator.next();
+                bytesEmMemoria -= pesoDe(maisAntiga.getValue());
+                iterator.remove();
+            }
+        }
+    }
+
+    private String lerDoDisco(String chave) {
+        if (diretorioDisco == null) {
+            return null;
+        }
+        try (InputStream entrada = new GZIPInputStream(Files.newInputStream(arquivoDe(chave)))) {
+            return new String(entrada.readAllBytes(), StandardCharsets.UTF_8);
+        } catch (NoSuchFileException e) {
+            return null;
+        } catch (IOException e) {
+            logger.warn("Falha ao ler a entrada {} do cache {} em disco", chave, nome, e);
+            return null;
+        }
+    }
+
+    private void gravarEmDisco(String chave, String valor) {
+        if (diretorioDisco == null) {
+            return;
+        }
+        Path destino = arquivoDe(chave);
+        Path temporario = null;
+        try {
+            temporario = Files.createTempFile(diretorioDisco, chave, ".tmp");
+            try (OutputStream saida = new GZIPOutputStream(Files.newOutputStream(temporario))) {
+                saida.write(valor.getBytes(StandardCharsets.UTF_8));
+            }
+            Files.move(temporario, destino, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        } catch (IOException e) {
+            logger.warn("Falha ao gravar a entrada {} do cache {} em disco", chave, nome, e);
+            if (temporario != null) {
+                try {
+                    Files.deleteIfExists(temporario);
+                } catch (IOException ignorada) {
+                    // O arquivo temporário órfão não afeta leituras futuras
+                }
+            }
+        }
+    }
+
+    private Path arquivoDe(String chave) {
+        return diretorioDisco.resolve(chave + ".gz");
+    }
+
+    private static long pesoDe(String valor) {
+        return 2L * valor.length();
+    }
+}
@@ -0,0 +1,49 @@
+package com.pdfocus.infra.cache;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import java.nio.file.Path;
+import java.nio.file.Paths;
+
+/**
+ * Cria os caches de conteúdo usados pelos decoradores de extração e de resumo.
+ *
+ * <p>O nível em disco fica em {@code <storage.local.directory>/.cache/} e só é criado
+ * quando {@code app.cache.disco.habilitado=true}.</p>
+ */
+@Configuration
+public class CacheConteudoConfig {
+
+    private static final long MEGABYTE = 1024L * 1024L;
+
+    private final Path diretorioCache;
+    private final boolean discoHabilitado;
+
+    public CacheConteudoConfig(@Value("${storage.local.directory:uploads}") String storageDirectory,
+                               @Value("${app.cache.disco.habilitado:false}") boolean discoHabilitado) {
+        this.diretorioCache = Paths.get(storageDirectory).resolve(".cache");
+        this.discoHabilitado = discoHabilitado;
+    }
+
+    /**
+     * Cache dos textos extraídos dos PDFs, que podem ter vários megabytes cada.
+     */
+    @Bean
+    public CacheConteudo cacheTextos(@Value("${app.cache.textos.memoria-mb:64}") long memoriaMb) {
+        return new CacheConteudo("textos", memoriaMb * MEGABYTE, diretorio("textos"));
+    }
+
+    /**
+     * Cache dos resumos gerados, pequenos e muito reaproveitados.
+     */
+    @Bean
+    public CacheConteudo cacheResumos(@Value("${app.cache.resumos.memoria-mb:16}") long memoriaMb) {
+        return new CacheConteudo("resumos", memoriaMb * MEGABYTE, diretorio("resumos"));
+    }
+
+    private Path diretorio(String nome) {
+        return discoHabilitado ? diretorioCache.resolve(nome) : null;
+    }
+}
@@ -0,0 +1,54 @@
+package com.pdfocus.infra.cache;
+
+import com.pdfocus.application.resumo.port.saida.ResumidorIAPort;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.context.annotation.Primary;
+import org.springframework.stereotype.Component;
+
+/**
+ * Decorador de {@link ResumidorIAPort} que reaproveita resumos já gerados para o mesmo conteúdo.
+ *
+ * <p>A chave combina o SHA-256 do texto, a {@link ResumidorIAPort#versao() versão} do
+ * algoritmo e o limite de palavras. O texto é função apenas dos bytes do PDF (ver
+ * {@link CacheTextExtractorAdapter}), então o mesmo material enviado por vários
+ * estudantes é resumido uma única vez.</p>
+ *
+ * <p>É o bean {@link Primary} da porta; o algoritmo real é injetado pelo qualificador
+ * {@code motorResumo}.</p>
+ */
+@Component
+@Primary
+public class CacheResumidorIAAdapter implements ResumidorIAPort {
+
+    private final ResumidorIAPort motor;
+    private final CacheConteudo cache;
+
+    /**
+     * @param motor O algoritmo de resumo configurado.
+     * @param cache O cache de resumos.
+     */
+    public CacheResumidorIAAdapter(@Qualifier("motorResumo") ResumidorIAPort motor,
+                                   @Qualifier("cacheResumos") CacheConteudo cache) {
+        this.motor = motor;
+        this.cache = cache;
+    }
+
+    @Override
+    public String resumir(String textoCompleto, int maxPalavras) {
+        if (textoCompleto == null || textoCompleto.isBlank()) {
+            return motor.resumir(textoCompleto, maxPalavras);
+        }
+
+        String chave = HashConteudo.sha256(textoCompleto) + "_" + motor.versao() + "_" + maxPalavras;
+        return cache.buscar(chave).orElseGet(() -> {
+            String resumo = motor.resumir(textoCompleto, maxPalavras);
+            cache.guardar(chave, resumo);
+            return resumo;
+        });
+    }
+
+    @Override
+    public String versao() {
+        return motor.versao();
+    }
+}
@@ -0,0 +1,139 @@
+package com.pdfocus.infra.cache;
+
+import com.pdfocus.application.material.port.saida.MaterialStoragePort;
+import com.pdfocus.application.resumo.dto.ConteudoExtraido;
+import com.pdfocus.application.resumo.port.saida.ProgressoResumoListener;
+import com.pdfocus.application.resumo.port.saida.TextExtractorPort;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.context.annotation.Primary;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.Arrays;
+import java.util.List;
+import java.util.stream.Collectors;
+
+/**
+ * Decorador de {@link TextExtractorPort} que reaproveita o texto já extraído de PDFs idênticos.
+ *
+ * <p>A chave é o SHA-256 dos bytes do arquivo, calculado em streaming a partir do
+ * {@link MaterialStoragePort}, combinado com a {@link TextExtractorPort#versao() versão}
+ * do extrator. Assim, a mesma apostila enviada por vários estudantes (com nomes de
+ * armazenamento diferentes) é processada pelo PDFBox uma única vez. Quando o armazenamento
+ * já conhece o hash ({@link MaterialStoragePort#buscarHash(String)}), o arquivo não é lido.</p>
+ *
+ * <p>É o bean {@link Primary} da porta; o extrator real é injetado pelo qualificador
+ * {@code extratorTexto}. Se o arquivo não puder ser lido para o cálculo do hash, a
+ * chamada segue direto para o extrator, que reporta o erro normalmente.</p>
+ *
+ * <p>O número de páginas e as posições de início de cada página são guardados junto com o
+ * texto, nas duas primeiras linhas do valor em cache.</p>
+ */
+@Component
+@Primary
+public class CacheTextExtractorAdapter implements TextExtractorPort {
+
+    private static final Logger logger = LoggerFactory.getLogger(CacheTextExtractorAdapter.class);
+
+    private final TextExtractorPort extrator;
+    private final MaterialStoragePort materialStoragePort;
+    private final CacheConteudo cache;
+
+    /**
+     * @param extrator            O extrator de texto real.
+     * @param materialStoragePort O armazenamento de onde os bytes do PDF são lidos.
+     * @param cache               O cache de textos extraídos.
+     */
+    public CacheTextExtractorAdapter(@Qualifier("extratorTexto") TextExtractorPort extrator,
+                                     MaterialStoragePort materialStoragePort,
+                                     @Qualifier("cacheTextos") CacheConteudo cache) {
+        this.extrator = extrator;
+        this.materialStoragePort = materialStoragePort;
+        this.cache = cache;
+    }
+
+    @Override
+    public String extrairTexto(String nomeStorage) {
+        return extrairConteudo(nomeStorage).texto();
+    }
+
+    @Override
+    public ConteudoExtraido extrairConteudo(String nomeStorage) {
+        return extrairConteudo(nomeStorage, ProgressoResumoListener.NENHUM);
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * <p>Num acerto de cache nenhuma página é reportada, já que nenhuma é processada.</p>
+     */
+    @Override
+    public ConteudoExtraido extrairConteudo(String nomeStorage, ProgressoResumoListener progresso) {
+        if (nomeStorage == null || nomeStorage.isBlank()) {
+            return extrator.extrairConteudo(nomeStorage, progresso);
+        }
+
+        String hash = materialStoragePort.buscarHash(nomeStorage).orElse(null);
+        if (hash == null) {
+            try (InputStream conteudo = materialStoragePort.carregar(nomeStorage).getInputStream()) {
+                hash = HashConteudo.sha256(conteudo);
+            } catch (IOException | RuntimeException e) {
+                logger.debug("Não foi possível calcular o hash de {}; extraindo sem cache", nomeStorage, e);
+                return extrator.extrairConteudo(nomeStorage, progresso);
+            }
+        }
+
+        String chave = hash + "_" + extrator.versao() + "_paginas";
+        return cache.buscar(chave).map(CacheTextExtractorAdapter::decodificar).orElseGet(() -> {
+            ConteudoExtraido extraido = extrator.extrairConteudo(nomeStorage, progresso);
+            cache.guardar(chave, codificar(extraido));
+            return extraido;
+        });
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * <p>Intervalos de páginas não passam pelo cache, que guarda documentos inteiros: a
+     * chamada segue direto para o extrator, que lê apenas as páginas pedidas.</p>
+     */
+    @Override
+    public ConteudoExtraido extrairPaginas(String nomeStorage, int primeira, int ultima,
+                                           ProgressoResumoListener progresso) {
+        return extrator.extrairPaginas(nomeStorage, primeira, ultima, progresso);
+    }
+
+    @Override
+    public String versao() {
+        return extrator.versao();
+    }
+
+    /**
+     * Formato do valor em cache: o número de páginas (vazio se desconhecido), uma quebra de linha,
+     * as posições de início das páginas separadas por vírgula (vazio se desconhecidas), outra
+     * quebra de linha e o texto.
+     */
+    static String codificar(ConteudoExtraido conteudo) {
+        String paginas = conteudo.paginas() == null ? "" : conteudo.paginas().toString();
+        String inicioPaginas = conteudo.inicioPaginas().stream()
+                .map(String::valueOf)
+                .collect(Collectors.joining(","));
+        return paginas + "\n" + inicioPaginas + "\n" + conteudo.texto();
+    }
+
+    static ConteudoExtraido decodificar(String valor) {
+        int primeiraQuebra = valor.indexOf('\n');
+        int segundaQuebra = valor.indexOf('\n', primeiraQuebra + 1);
+        String paginas = valor.substring(0, primeiraQuebra);
+        String inicioPaginas = valor.substring(primeiraQuebra + 1, segundaQuebra);
+        return new ConteudoExtraido(
+                valor.substring(segundaQuebra + 1),
+                paginas.isEmpty() ? null : Integer.valueOf(paginas),
+                inicioPaginas.isEmpty()
+                        ? List.of()
+                        : Arrays.stream(inicioPaginas.split(",")).map(Integer::valueOf).toList());
+    }
+}
@@ -0,0 +1,56 @@
+package com.pdfocus.infra.cache;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.HexFormat;
+
+/**
+ * Calcula hashes SHA-256 de conteúdo para compor as chaves dos caches.
+ *
+ * <p>Classe utilitária sem estado; não deve ser instanciada.</p>
+ */
+public final class HashConteudo {
+
+    private HashConteudo() {
+    }
+
+    /**
+     * Calcula o SHA-256 de um fluxo de bytes, lendo-o em blocos, sem carregá-lo inteiro em memória.
+     * O fluxo não é fechado por este método.
+     *
+     * @param entrada O fluxo a ser consumido até o fim.
+     * @return O hash em hexadecimal minúsculo (64 caracteres).
+     * @throws IOException Se ocorrer erro de leitura.
+     */
+    public static String sha256(InputStream entrada) throws IOException {
+        MessageDigest digest = novoDigest();
+        byte[] buffer = new byte[64 * 1024];
+        int lidos;
+        while ((lidos = entrada.read(buffer)) != -1) {
+            digest.update(buffer, 0, lidos);
+        }
+        return HexFormat.of().formatHex(digest.digest());
+    }
+
+    /**
+     * Calcula o SHA-256 da representação UTF-8 de um texto.
+     *
+     * @param texto O texto.
+     * @return O hash em hexadecimal minúsculo (64 caracteres).
+     */
+    public static String sha256(String texto) {
+        return HexFormat.of().formatHex(novoDigest().digest(texto.getBytes(StandardCharsets.UTF_8)));
+    }
+
+    private static MessageDigest novoDigest() {
+        try {
+            return MessageDigest.getInstance("SHA-256");
+        } catch (NoSuchAlgorithmException e) {
+            // Todo JRE é obrigado a oferecer SHA-256
+            throw new IllegalStateException("SHA-256 indisponível na JVM", e);
+        }
+    }
+}
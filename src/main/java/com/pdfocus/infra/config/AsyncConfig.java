@@ -0,0 +1,148 @@
+package com.pdfocus.infra.config;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.annotation.EnableAsync;
+import org.springframework.scheduling.annotation.EnableScheduling;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+
+import java.util.concurrent.ThreadPoolExecutor;
+
+/**
+ * Habilita a execução assíncrona ({@code @Async}) e as tarefas agendadas ({@code @Scheduled})
+ * e define os executores dedicados do processamento em segundo plano.
+ *
+ * <p>Os executores são limitados (threads e fila fixas) para que picos de upload não
+ * disputem CPU e memória sem controle com as requisições HTTP. Métodos {@code @Async}
+ * sem qualificador continuam usando o executor padrão do Spring Boot.</p>
+ */
+@Configuration
+@EnableAsync
+@EnableScheduling
+public class AsyncConfig {
+
+    private static final Logger logger = LoggerFactory.getLogger(AsyncConfig.class);
+
+    /**
+     * Executor da extração de texto pós-upload.
+     *
+     * <p>Com a fila cheia, a tarefa é descartada: o material permanece com a extração
+     * {@code PENDENTE}, a geração de resumo extrai o texto sob demanda e a extração é refeita
+     * na próxima inicialização ({@link com.pdfocus.infra.async.ExtracaoTextoListener}).</p>
+     *
+     * @param threads Número de extrações simultâneas.
+     * @param fila    Número máximo de extrações aguardando execução.
+     */
+    @Bean(name = "extracaoExecutor")
+    public ThreadPoolTaskExecutor extracaoExecutor(
+            @Value("${app.extracao.threads:2}") int threads,
+            @Value("${app.extracao.fila:100}") int fila) {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(threads);
+        executor.setMaxPoolSize(threads);
+        executor.setQueueCapacity(fila);
+        executor.setThreadNamePrefix("extracao-");
+        executor.setRejectedExecutionHandler((tarefa, pool) ->
+                logger.warn("Fila de extração cheia ({} tarefas); o texto será extraído sob demanda "
+                        + "e novamente na próxima inicialização", fila));
+        executor.setWaitForTasksToCompleteOnShutdown(true);
+        executor.setAwaitTerminationSeconds(30);
+        return executor;
+    }
+
+    /**
+     * Executor das faixas de páginas extraídas em paralelo de um mesmo PDF.
+     *
+     * <p>Limita o paralelismo global da extração por páginas, somando todas as extrações
+     * em andamento. Com a fila cheia, a faixa é extraída na própria thread que a enviou.</p>
+     *
+     * @param threads Número máximo de faixas extraídas simultaneamente; 0 usa o número de processadores.
+     * @param fila    Número máximo de faixas aguardando execução.
+     */
+    @Bean(name = "extracaoPaginasExecutor")
+    public ThreadPoolTaskExecutor extracaoPaginasExecutor(
+            @Value("${app.extracao.paralelo.threads:0}") int threads,
+            @Value("${app.extracao.paralelo.fila:200}") int fila) {
+        int limite = threads > 0 ? threads : Runtime.getRuntime().availableProcessors();
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(limite);
+        executor.setMaxPoolSize(limite);
+        executor.setQueueCapacity(fila);
+        executor.setThreadNamePrefix("extracao-paginas-");
+        executor.setRejectedExecutionHandler(new ThreadPoolExecutor.CallerRunsPolicy());
+        return executor;
+    }
+
+    /**
+     * Executor dedicado de toda leitura de PDF pelo PDFBox (extração e sumário), usado por
+     * {@link com.pdfocus.infra.persistence.adapter.ExtracaoLimitada}.
+     *
+     * <p>Limita quantos documentos são processados ao mesmo tempo no nó, qualquer que seja a
+     * origem (requisição, extração pós-upload ou job). Com a fila cheia, o envio lança
+     * {@link org.springframework.core.task.TaskRejectedException} e a extração é recusada na hora.</p>
+     *
+     * @param threads Número de PDFs processados simultaneamente.
+     * @param fila    Número máximo de PDFs aguardando processamento.
+     */
+    @Bean(name = "extracaoPdfExecutor")
+    public ThreadPoolTaskExecutor extracaoPdfExecutor(
+            @Value("${app.extracao.limites.threads:4}") int threads,
+            @Value("${app.extracao.limites.fila:20}") int fila) {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(threads);
+        executor.setMaxPoolSize(threads);
+        executor.setQueueCapacity(fila);
+        executor.setThreadNamePrefix("extracao-pdf-");
+        return executor;
+    }
+
+    /**
+     * Executor dos jobs de geração de resumo.
+     *
+     * <p>Com a fila cheia, o envio lança {@link org.springframework.core.task.TaskRejectedException};
+     * quem despacha o job é responsável por marcá-lo como recusado.</p>
+     *
+     * @param threads Número de resumos gerados simultaneamente.
+     * @param fila    Número máximo de jobs aguardando execução.
+     */
+    @Bean(name = "resumoExecutor")
+    public ThreadPoolTaskExecutor resumoExecutor(
+            @Value("${app.resumos.jobs.threads:2}") int threads,
+            @Value("${app.resumos.jobs.fila:200}") int fila) {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(threads);
+        executor.setMaxPoolSize(threads);
+        executor.setQueueCapacity(fila);
+        executor.setThreadNamePrefix("resumo-job-");
+        // Jobs interrompidos no desligamento são retomados na próxima inicialização.
+        executor.setWaitForTasksToCompleteOnShutdown(false);
+        return executor;
+    }
+
+    /**
+     * Executor dos envios de eventos SSE do andamento dos jobs de resumo
+     * ({@link com.pdfocus.infra.sse.ProgressoJobResumoSseAdapter}).
+     *
+     * <p>Tira a escrita na conexão do worker que gera o resumo: um cliente lento ocupa
+     * apenas uma thread deste executor. Com a fila cheia, o envio lança
+     * {@link org.springframework.core.task.TaskRejectedException} e a conexão do cliente
+     * é encerrada; ao reconectar, ele recebe o estado atual.</p>
+     *
+     * @param threads Número de envios simultâneos.
+     * @param fila    Número máximo de clientes com eventos aguardando envio.
+     */
+    @Bean(name = "sseExecutor")
+    public ThreadPoolTaskExecutor sseExecutor(
+            @Value("${app.resumos.jobs.sse.threads:2}") int threads,
+            @Value("${app.resumos.jobs.sse.fila:1000}") int fila) {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(threads);
+        executor.setMaxPoolSize(threads);
+        executor.setQueueCapacity(fila);
+        executor.setThreadNamePrefix("sse-");
+        return executor;
+    }
+}
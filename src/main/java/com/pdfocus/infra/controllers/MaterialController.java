@@ -1,21 +1,39 @@
 package com.pdfocus.infra.controllers;
 
+import com.pdfocus.application.material.dto.ConcluirEnvioParcialCommand;
+import com.pdfocus.application.material.dto.CursorMaterial;
+import com.pdfocus.application.material.dto.EnvioParcialResponse;
+import com.pdfocus.application.material.dto.IniciarEnvioParcialCommand;
+import com.pdfocus.application.material.dto.MaterialListagem;
+import com.pdfocus.application.material.dto.PaginasMaterialResponse;
+import com.pdfocus.application.material.dto.SecaoSumario;
 import com.pdfocus.application.material.dto.UploadMaterialCommand;
+import com.pdfocus.application.material.port.entrada.BuscarPaginasMaterialUseCase;
+import com.pdfocus.application.material.port.entrada.ConsultarSumarioMaterialUseCase;
 import com.pdfocus.application.material.port.entrada.DeletarMaterialUseCase;
 import com.pdfocus.application.material.port.entrada.DownloadMaterialUseCase;
+import com.pdfocus.application.material.port.entrada.EnvioParcialMaterialUseCase;
 import com.pdfocus.application.material.port.entrada.ListarMateriaisUseCase;
 import com.pdfocus.application.material.port.entrada.UploadMaterialUseCase;
 import com.pdfocus.core.models.Material;
-import org.springframework.core.io.Resource;
-import org.springframework.http.HttpHeaders;
-import org.springframework.http.MediaType;
+import com.pdfocus.infra.config.security.AuthenticationHelper;
+import com.pdfocus.infra.web.CursorContinuacao;
+import com.pdfocus.infra.web.EnvioArquivoHttp;
+import com.pdfocus.infra.web.PaginaCursorResponse;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.data.domain.Slice;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 import org.springframework.web.multipart.MultipartFile;
 import org.springframework.web.servlet.support.ServletUriComponentsBuilder;
 
 import java.io.IOException;
+import java.io.InputStream;
 import java.net.URI;
+import java.time.Instant;
+import java.time.ZoneOffset;
+import java.time.format.DateTimeParseException;
 import java.util.List;
 import java.util.UUID;
 
@@ -36,16 +54,28 @@ public class MaterialController {
     private final ListarMateriaisUseCase listarMateriaisUseCase;
     private final DeletarMaterialUseCase deletarMaterialUseCase;
     private final DownloadMaterialUseCase downloadMaterialUseCase;
+    private final BuscarPaginasMaterialUseCase buscarPaginasMaterialUseCase;
+    private final ConsultarSumarioMaterialUseCase consultarSumarioMaterialUseCase;
+    private final EnvioParcialMaterialUseCase envioParcialMaterialUseCase;
+    private final AuthenticationHelper authenticationHelper;
 
     public MaterialController(
             UploadMaterialUseCase uploadMaterialUseCase,
             ListarMateriaisUseCase listarMateriaisUseCase,
             DeletarMaterialUseCase deletarMaterialUseCase,
-            DownloadMaterialUseCase downloadMaterialUseCase) {
+            DownloadMaterialUseCase downloadMaterialUseCase,
+            BuscarPaginasMaterialUseCase buscarPaginasMaterialUseCase,
+            ConsultarSumarioMaterialUseCase consultarSumarioMaterialUseCase,
+            EnvioParcialMaterialUseCase envioParcialMaterialUseCase,
+            AuthenticationHelper authenticationHelper) {
         this.uploadMaterialUseCase = uploadMaterialUseCase;
         this.listarMateriaisUseCase = listarMateriaisUseCase;
         this.deletarMaterialUseCase = deletarMaterialUseCase;
         this.downloadMaterialUseCase = downloadMaterialUseCase;
+        this.buscarPaginasMaterialUseCase = buscarPaginasMaterialUseCase;
+        this.consultarSumarioMaterialUseCase = consultarSumarioMaterialUseCase;
+        this.envioParcialMaterialUseCase = envioParcialMaterialUseCase;
+        this.authenticationHelper = authenticationHelper;
     }
 
     /**
@@ -60,6 +90,26 @@ public class MaterialController {
         return ResponseEntity.ok(materiais);
     }
 
+    /**
+     * Lista uma página dos materiais de uma disciplina do usuário autenticado, do mais recente
+     * para o mais antigo, com paginação por cursor e sem contagem do total.
+     *
+     * @param disciplinaId UUID da disciplina cujos materiais serão listados.
+     * @param cursor       Token {@code proximoCursor} da página anterior; ausente na primeira página.
+     * @param tamanho      Número máximo de materiais na página (1 a 100).
+     * @return 200 (OK) com a página e o cursor da seguinte, ou 400 (Bad Request) se o cursor for inválido.
+     */
+    @GetMapping("/pagina")
+    public ResponseEntity<PaginaCursorResponse<MaterialListagem>> listarPaginaPorDisciplina(
+            @RequestParam UUID disciplinaId,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "20") int tamanho) {
+        UUID usuarioId = authenticationHelper.getUsuarioAutenticado().getId();
+        CursorMaterial apos = cursor == null ? null : lerCursor(cursor);
+        Slice<MaterialListagem> fatia = listarMateriaisUseCase.executar(disciplinaId, usuarioId, apos, tamanho);
+        return ResponseEntity.ok(PaginaCursorResponse.de(fatia, MaterialController::gerarCursor));
+    }
+
     /**
      * Realiza o upload de um novo material (arquivo PDF, DOCX, etc.).
      * <p>
@@ -95,6 +145,94 @@ public class MaterialController {
         return ResponseEntity.created(location).body(novoMaterial);
     }
 
+    /**
+     * Inicia o envio de um material em partes, para arquivos grandes ou conexões instáveis.
+     * <p>
+     * O cliente manda as partes em sequência com {@code PUT /materiais/envios/{id}} e, se a
+     * conexão cair, consulta o envio para saber de onde continuar.
+     * </p>
+     *
+     * @param command Nome, tipo e tamanho total do arquivo e a disciplina do material.
+     * @return 201 (Created) com o envio e o cabeçalho Location apontando para ele.
+     */
+    @PostMapping("/envios")
+    public ResponseEntity<EnvioParcialResponse> iniciarEnvio(@RequestBody IniciarEnvioParcialCommand command) {
+        UUID usuarioId = authenticationHelper.getUsuarioAutenticado().getId();
+        EnvioParcialResponse envio = envioParcialMaterialUseCase.iniciar(command, usuarioId);
+
+        URI location = ServletUriComponentsBuilder
+                .fromCurrentContextPath().path("/materiais/envios/{id}")
+                .buildAndExpand(envio.id())
+                .toUri();
+
+        return ResponseEntity.created(location).body(envio);
+    }
+
+    /**
+     * Recebe uma parte do envio no corpo da requisição ({@code application/octet-stream}),
+     * gravada em streaming, sem carregar a parte em memória.
+     *
+     * @param id     UUID do envio.
+     * @param offset Posição em bytes onde a parte começa; deve ser igual a {@code recebidos}.
+     * @param parte  O corpo da requisição.
+     * @return 200 (OK) com o andamento; 409 (Conflict) com {@code recebidos} se o offset não conferir.
+     */
+    @PutMapping("/envios/{id}")
+    public ResponseEntity<EnvioParcialResponse> enviarParte(
+            @PathVariable UUID id,
+            @RequestParam long offset,
+            InputStream parte) {
+        UUID usuarioId = authenticationHelper.getUsuarioAutenticado().getId();
+        return ResponseEntity.ok(envioParcialMaterialUseCase.enviarParte(id, usuarioId, offset, parte));
+    }
+
+    /**
+     * Consulta quantos bytes do envio já foram recebidos.
+     *
+     * @param id UUID do envio.
+     * @return 200 (OK) com o andamento do envio.
+     */
+    @GetMapping("/envios/{id}")
+    public ResponseEntity<EnvioParcialResponse> consultarEnvio(@PathVariable UUID id) {
+        UUID usuarioId = authenticationHelper.getUsuarioAutenticado().getId();
+        return ResponseEntity.ok(envioParcialMaterialUseCase.consultar(id, usuarioId));
+    }
+
+    /**
+     * Conclui o envio e cria o material.
+     *
+     * @param id      UUID do envio.
+     * @param command SHA-256 esperado do arquivo, opcional; se não conferir, o envio é descartado.
+     * @return 201 (Created) com o material criado.
+     */
+    @PostMapping("/envios/{id}/concluir")
+    public ResponseEntity<Material> concluirEnvio(
+            @PathVariable UUID id,
+            @RequestBody(required = false) ConcluirEnvioParcialCommand command) {
+        UUID usuarioId = authenticationHelper.getUsuarioAutenticado().getId();
+        Material novoMaterial = envioParcialMaterialUseCase.concluir(id, usuarioId, command);
+
+        URI location = ServletUriComponentsBuilder
+                .fromCurrentContextPath().path("/materiais/{id}")
+                .buildAndExpand(novoMaterial.getId())
+                .toUri();
+
+        return ResponseEntity.created(location).body(novoMaterial);
+    }
+
+    /**
+     * Cancela o envio e descarta as partes recebidas.
+     *
+     * @param id UUID do envio.
+     * @return 204 (No Content).
+     */
+    @DeleteMapping("/envios/{id}")
+    public ResponseEntity<Void> cancelarEnvio(@PathVariable UUID id) {
+        UUID usuarioId = authenticationHelper.getUsuarioAutenticado().getId();
+        envioParcialMaterialUseCase.cancelar(id, usuarioId);
+        return ResponseEntity.noContent().build();
+    }
+
     /**
      * Exclui um material existente, garantindo que ele pertença ao usuário autenticado.
      *
@@ -110,54 +248,95 @@ public class MaterialController {
     /**
      * Permite o download de um material previamente enviado.
      * <p>
-     * O arquivo é retornado como {@link Resource} com cabeçalho
-     * "Content-Disposition: attachment" para forçar o download.
+     * O arquivo é enviado com cabeçalho "Content-Disposition: attachment"
+     * para forçar o download, com suporte a {@code Range} e a GET condicional
+     * (ver {@link EnvioArquivoHttp}).
      * </p>
      *
      * @param id UUID do material a ser baixado.
-     * @return 200 (OK) com o arquivo binário.
+     * @throws IOException Se o arquivo não puder ser lido ou enviado.
      */
     @GetMapping("/{id}/download")
-    public ResponseEntity<Resource> downloadMaterial(@PathVariable UUID id) {
-        DownloadMaterialUseCase.DownloadResult result = downloadMaterialUseCase.executar(id);
-        Resource resource = result.resource();
-        Material material = result.material();
-
-        String contentType = material.getTipoArquivo() != null
-                ? material.getTipoArquivo()
-                : "application/octet-stream";
-
-        return ResponseEntity.ok()
-                .contentType(MediaType.parseMediaType(contentType))
-                .header(HttpHeaders.CONTENT_DISPOSITION,
-                        "attachment; filename=\"" + material.getNomeOriginal() + "\"")
-                .body(resource);
+    public void downloadMaterial(@PathVariable UUID id, HttpServletRequest request,
+                                 HttpServletResponse response) throws IOException {
+        enviarArquivo(id, "attachment", request, response);
     }
 
     /**
      * Exibe o arquivo diretamente no navegador (modo inline).
      * <p>
      * Ideal para PDFs e imagens, onde o usuário pode visualizar
-     * o conteúdo sem precisar baixar explicitamente.
+     * o conteúdo sem precisar baixar explicitamente. O visualizador de PDF
+     * do navegador pode pedir apenas trechos do arquivo ({@code 206}) e
+     * revalidar a cópia em cache ({@code 304}).
      * </p>
      *
      * @param id UUID do material a ser visualizado.
-     * @return 200 (OK) com o arquivo exibível no corpo da resposta.
+     * @throws IOException Se o arquivo não puder ser lido ou enviado.
      */
     @GetMapping("/{id}/visualizar")
-    public ResponseEntity<Resource> visualizarMaterial(@PathVariable UUID id) {
+    public void visualizarMaterial(@PathVariable UUID id, HttpServletRequest request,
+                                   HttpServletResponse response) throws IOException {
+        enviarArquivo(id, "inline", request, response);
+    }
+
+    private void enviarArquivo(UUID id, String tipoDisposicao, HttpServletRequest request,
+                               HttpServletResponse response) throws IOException {
         DownloadMaterialUseCase.DownloadResult result = downloadMaterialUseCase.executar(id);
-        Resource resource = result.resource();
         Material material = result.material();
 
         String contentType = material.getTipoArquivo() != null
                 ? material.getTipoArquivo()
                 : "application/octet-stream";
 
-        return ResponseEntity.ok()
-                .contentType(MediaType.parseMediaType(contentType))
-                .header(HttpHeaders.CONTENT_DISPOSITION,
-                        "inline; filename=\"" + material.getNomeOriginal() + "\"")
-                .body(resource);
+        EnvioArquivoHttp.enviar(request, response, result.resource(), result.hash(), contentType,
+                tipoDisposicao + "; filename=\"" + material.getNomeOriginal() + "\"");
+    }
+
+    /**
+     * Retorna o texto extraído de um intervalo de páginas do material, sem reprocessar o PDF
+     * quando o texto já foi extraído (ex.: pré-visualização, resumo de um capítulo).
+     *
+     * @param id UUID do material.
+     * @param de Primeira página (a partir de 1).
+     * @param ate Última página, inclusive; se omitida, apenas a primeira.
+     * @return 200 (OK) com o texto de cada página e o total de páginas do material.
+     */
+    @GetMapping("/{id}/paginas")
+    public ResponseEntity<PaginasMaterialResponse> buscarPaginas(
+            @PathVariable UUID id,
+            @RequestParam(defaultValue = "1") int de,
+            @RequestParam(required = false) Integer ate) {
+        UUID usuarioId = authenticationHelper.getUsuarioAutenticado().getId();
+        int ultima = ate != null ? ate : de;
+        return ResponseEntity.ok(buscarPaginasMaterialUseCase.executar(id, usuarioId, de, ultima));
+    }
+
+    /**
+     * Retorna o sumário (capítulos e seções) do PDF, com o intervalo de páginas de cada seção.
+     * O {@code id} de uma seção pode ser enviado em {@code secao} ao pedir um resumo, para
+     * resumir apenas aquele trecho.
+     *
+     * @param id UUID do material.
+     * @return 200 (OK) com a árvore de seções; lista vazia se o PDF não tiver sumário.
+     */
+    @GetMapping("/{id}/sumario")
+    public ResponseEntity<List<SecaoSumario>> consultarSumario(@PathVariable UUID id) {
+        UUID usuarioId = authenticationHelper.getUsuarioAutenticado().getId();
+        return ResponseEntity.ok(consultarSumarioMaterialUseCase.executar(id, usuarioId));
+    }
+
+    private static String gerarCursor(MaterialListagem material) {
+        CursorMaterial posicao = CursorMaterial.depoisDe(material);
+        return CursorContinuacao.codificar(posicao.dataUpload().toInstant().toString(), posicao.id().toString());
+    }
+
+    private static CursorMaterial lerCursor(String token) {
+        List<String> partes = CursorContinuacao.decodificar(token, 2);
+        try {
+            return new CursorMaterial(Instant.parse(partes.get(0)).atOffset(ZoneOffset.UTC), UUID.fromString(partes.get(1)));
+        } catch (DateTimeParseException e) {
+            throw new IllegalArgumentException("Cursor de continuação inválido.");
+        }
     }
 }
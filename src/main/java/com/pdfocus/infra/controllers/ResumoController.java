@@ -3,14 +3,27 @@ package com.pdfocus.infra.controllers;
 import com.pdfocus.application.resumo.dto.AtualizarResumoCommand;
 import com.pdfocus.application.resumo.dto.CriarResumoCommand;
 import com.pdfocus.application.resumo.dto.CriarResumoDeMaterialCommand;
+import com.pdfocus.application.resumo.dto.CursorResumo;
+import com.pdfocus.application.resumo.dto.JobResumoResponse;
+import com.pdfocus.application.resumo.dto.ResumoListagem;
 import com.pdfocus.application.resumo.port.entrada.*;
+import com.pdfocus.core.models.JobResumo;
 import com.pdfocus.core.models.Resumo;
 import com.pdfocus.infra.config.security.AuthenticationHelper;
+import com.pdfocus.infra.sse.ProgressoJobResumoSseAdapter;
+import com.pdfocus.infra.web.CursorContinuacao;
+import com.pdfocus.infra.web.PaginaCursorResponse;
+import org.springframework.data.domain.Slice;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
 import org.springframework.web.servlet.support.ServletUriComponentsBuilder;
 
 import java.net.URI;
+import java.time.Instant;
+import java.time.ZoneOffset;
+import java.time.format.DateTimeParseException;
 import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
@@ -34,6 +47,9 @@ public class ResumoController {
     private final AtualizarResumoUseCase atualizarResumoUseCase;
     private final DeletarResumoUseCase deletarResumoUseCase;
     private final GerarResumoAutomaticoUseCase gerarResumoAutomaticoUseCase;
+    private final SubmeterJobResumoUseCase submeterJobResumoUseCase;
+    private final ConsultarJobResumoUseCase consultarJobResumoUseCase;
+    private final ProgressoJobResumoSseAdapter progressoJobResumoSse;
     private final AuthenticationHelper authenticationHelper;
 
     public ResumoController(
@@ -43,6 +59,9 @@ public class ResumoController {
             AtualizarResumoUseCase atualizarResumoUseCase,
             DeletarResumoUseCase deletarResumoUseCase,
             GerarResumoAutomaticoUseCase gerarResumoAutomaticoUseCase,
+            SubmeterJobResumoUseCase submeterJobResumoUseCase,
+            ConsultarJobResumoUseCase consultarJobResumoUseCase,
+            ProgressoJobResumoSseAdapter progressoJobResumoSse,
             AuthenticationHelper authenticationHelper) {
         this.listarResumosUseCase = listarResumosUseCase;
         this.criarResumoUseCase = criarResumoUseCase;
@@ -50,21 +69,46 @@ public class ResumoController {
         this.atualizarResumoUseCase = atualizarResumoUseCase;
         this.deletarResumoUseCase = deletarResumoUseCase;
         this.gerarResumoAutomaticoUseCase = gerarResumoAutomaticoUseCase;
+        this.submeterJobResumoUseCase = submeterJobResumoUseCase;
+        this.consultarJobResumoUseCase = consultarJobResumoUseCase;
+        this.progressoJobResumoSse = progressoJobResumoSse;
         this.authenticationHelper = authenticationHelper;
     }
 
     /**
      * Lista todos os resumos pertencentes ao usuário autenticado.
+     * <p>
+     * Devolve apenas os dados de listagem; o conteúdo de cada resumo é obtido em
+     * {@code GET /resumos/{id}}.
+     * </p>
      *
-     * @return 200 (OK) com lista de {@link Resumo} do usuário.
+     * @return 200 (OK) com lista de {@link ResumoListagem} do usuário.
      */
     @GetMapping
-    public ResponseEntity<List<Resumo>> listarPorUsuario() {
+    public ResponseEntity<List<ResumoListagem>> listarPorUsuario() {
         UUID usuarioId = authenticationHelper.getUsuarioAutenticado().getId();
-        List<Resumo> resumos = listarResumosUseCase.buscarTodosPorUsuario(usuarioId);
+        List<ResumoListagem> resumos = listarResumosUseCase.buscarTodosPorUsuario(usuarioId);
         return ResponseEntity.ok(resumos);
     }
 
+    /**
+     * Lista uma página dos resumos do usuário autenticado, com paginação por cursor e sem
+     * contagem do total.
+     *
+     * @param cursor  Token {@code proximoCursor} da página anterior; ausente na primeira página.
+     * @param tamanho Número máximo de resumos na página (1 a 100).
+     * @return 200 (OK) com a página e o cursor da seguinte, ou 400 (Bad Request) se o cursor for inválido.
+     */
+    @GetMapping("/pagina")
+    public ResponseEntity<PaginaCursorResponse<ResumoListagem>> listarPaginaPorUsuario(
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "20") int tamanho) {
+        UUID usuarioId = authenticationHelper.getUsuarioAutenticado().getId();
+        CursorResumo apos = cursor == null ? null : lerCursor(cursor);
+        Slice<ResumoListagem> fatia = listarResumosUseCase.buscarPaginaPorUsuario(usuarioId, apos, tamanho);
+        return ResponseEntity.ok(PaginaCursorResponse.de(fatia, ResumoController::gerarCursor));
+    }
+
     /**
      * Cria um novo resumo para o usuário autenticado.
      * <p>
@@ -164,4 +208,76 @@ public class ResumoController {
 
         return ResponseEntity.created(location).body(resumoGerado);
     }
+
+    /**
+     * Solicita a geração automática de um resumo em segundo plano.
+     * <p>
+     * Retorna imediatamente, sem ocupar a thread da requisição durante a extração e o
+     * resumo. O andamento e o resultado são consultados em {@code GET /resumos/jobs/{id}}.
+     * </p>
+     *
+     * @param command DTO com dados do material e parâmetros de geração (os mesmos de {@code /gerar-automatico}).
+     * @return 202 (Accepted) com o job pendente e a URI de consulta no cabeçalho Location.
+     */
+    @PostMapping("/jobs")
+    public ResponseEntity<JobResumoResponse> submeterJob(@RequestBody CriarResumoDeMaterialCommand command) {
+        UUID usuarioId = authenticationHelper.getUsuarioAutenticado().getId();
+        JobResumo job = submeterJobResumoUseCase.executar(command, usuarioId);
+
+        URI location = ServletUriComponentsBuilder
+                .fromCurrentContextPath()
+                .path("/resumos/jobs/{id}")
+                .buildAndExpand(job.getId())
+                .toUri();
+
+        return ResponseEntity.accepted().location(location).body(JobResumoResponse.fromDomain(job, null));
+    }
+
+    /**
+     * Consulta o estado de um job de geração de resumo do usuário autenticado.
+     *
+     * @param id UUID do job.
+     * @return 200 (OK) com o estado do job (e o resumo, quando concluído), ou 404 (Not Found).
+     */
+    @GetMapping("/jobs/{id}")
+    public ResponseEntity<JobResumoResponse> consultarJob(@PathVariable UUID id) {
+        UUID usuarioId = authenticationHelper.getUsuarioAutenticado().getId();
+        return consultarJobResumoUseCase.executar(id, usuarioId)
+                .map(ResponseEntity::ok)
+                .orElseGet(() -> ResponseEntity.notFound().build());
+    }
+
+    /**
+     * Acompanha um job de geração de resumo por Server-Sent Events, sem polling.
+     * <p>
+     * Emite {@code estado} ao conectar, {@code progresso} a cada etapa e página extraída,
+     * e {@code concluido} (com o resumo) ou {@code falhou} ao final, encerrando a conexão.
+     * Se o job já tiver terminado, apenas o evento final é enviado.
+     * </p>
+     *
+     * @param id UUID do job.
+     * @return 200 (OK) com o fluxo de eventos, ou 404 (Not Found) se o job não pertencer ao usuário.
+     */
+    @GetMapping(value = "/jobs/{id}/eventos", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public ResponseEntity<SseEmitter> acompanharJob(@PathVariable UUID id) {
+        UUID usuarioId = authenticationHelper.getUsuarioAutenticado().getId();
+        if (consultarJobResumoUseCase.executar(id, usuarioId).isEmpty()) {
+            return ResponseEntity.notFound().build();
+        }
+        return ResponseEntity.ok(progressoJobResumoSse.inscrever(id, () -> consultarJobResumoUseCase.executar(id, usuarioId)));
+    }
+
+    private static String gerarCursor(ResumoListagem resumo) {
+        CursorResumo posicao = CursorResumo.depoisDe(resumo);
+        return CursorContinuacao.codificar(posicao.dataCriacao().toInstant().toString(), posicao.id().toString());
+    }
+
+    private static CursorResumo lerCursor(String token) {
+        List<String> partes = CursorContinuacao.decodificar(token, 2);
+        try {
+            return new CursorResumo(Instant.parse(partes.get(0)).atOffset(ZoneOffset.UTC), UUID.fromString(partes.get(1)));
+        } catch (DateTimeParseException e) {
+            throw new IllegalArgumentException("Cursor de continuação inválido.");
+        }
+    }
 }
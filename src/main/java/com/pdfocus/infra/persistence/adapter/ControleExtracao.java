@@ -0,0 +1,113 @@
+package com.pdfocus.infra.persistence.adapter;
+
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * Limites de uma única extração de PDF, verificados cooperativamente pelo stripper
+ * entre páginas e, periodicamente, entre operadores de uma mesma página.
+ *
+ * <p>Compartilhado entre as faixas de uma extração paralela: o prazo, o cancelamento e
+ * a contagem de caracteres valem para o documento inteiro. A primeira interrupção é
+ * registrada, e as faixas que param em seguida reportam o mesmo motivo. Thread-safe.</p>
+ *
+ * @see ExtracaoLimitada
+ */
+final class ControleExtracao {
+
+    /** Motivo pelo qual uma extração foi interrompida. */
+    enum Motivo {
+        TEMPO_LIMITE,
+        CANCELADA,
+        LIMITE_PAGINAS,
+        LIMITE_CARACTERES
+    }
+
+    private final long prazoNanos;
+    private final int paginasMaximas;
+    private final long caracteresMaximos;
+    private final AtomicLong caracteres = new AtomicLong();
+    private final AtomicReference<ExtracaoInterrompidaException> interrupcao = new AtomicReference<>();
+
+    /**
+     * @param tempoLimiteNanos  Tempo máximo da extração, contado a partir de agora.
+     * @param paginasMaximas    Número máximo de páginas extraídas.
+     * @param caracteresMaximos Número máximo de caracteres extraídos.
+     */
+    ControleExtracao(long tempoLimiteNanos, int paginasMaximas, long caracteresMaximos) {
+        this.prazoNanos = System.nanoTime() + tempoLimiteNanos;
+        this.paginasMaximas = paginasMaximas;
+        this.caracteresMaximos = caracteresMaximos;
+    }
+
+    /**
+     * Pede que a extração pare na próxima verificação.
+     */
+    void cancelar() {
+        interromper(Motivo.CANCELADA, "A extração foi cancelada");
+    }
+
+    /**
+     * @throws ExtracaoInterrompidaException se a extração foi cancelada, a thread foi
+     *         interrompida ou o prazo acabou.
+     */
+    void verificar() {
+        if (interrupcao.get() != null || Thread.currentThread().isInterrupted()) {
+            throw interromper(Motivo.CANCELADA, "A extração foi cancelada");
+        }
+        if (System.nanoTime() - prazoNanos > 0) {
+            throw interromper(Motivo.TEMPO_LIMITE, "A extração excedeu o tempo limite");
+        }
+    }
+
+    /**
+     * @param paginas Número de páginas que serão extraídas.
+     * @throws ExtracaoInterrompidaException se ultrapassar o limite de páginas.
+     */
+    void verificarPaginas(int paginas) {
+        if (paginas > paginasMaximas) {
+            throw interromper(Motivo.LIMITE_PAGINAS,
+                    "O intervalo tem " + paginas + " páginas; o limite por extração é " + paginasMaximas);
+        }
+    }
+
+    /**
+     * Contabiliza caracteres extraídos.
+     *
+     * @param quantidade Caracteres extraídos desde a última chamada.
+     * @throws ExtracaoInterrompidaException se o total ultrapassar o limite de caracteres.
+     */
+    void contarCaracteres(long quantidade) {
+        if (caracteres.addAndGet(quantidade) > caracteresMaximos) {
+            throw interromper(Motivo.LIMITE_CARACTERES,
+                    "O PDF excede o limite de " + caracteresMaximos + " caracteres por extração");
+        }
+    }
+
+    /**
+     * Registra a interrupção, se for a primeira, e cria a exceção com o motivo da primeira.
+     */
+    private ExtracaoInterrompidaException interromper(Motivo motivo, String mensagem) {
+        interrupcao.compareAndSet(null, new ExtracaoInterrompidaException(motivo, mensagem));
+        ExtracaoInterrompidaException primeira = interrupcao.get();
+        return new ExtracaoInterrompidaException(primeira.getMotivo(), primeira.getMessage());
+    }
+
+    /**
+     * Interrompe a extração de dentro do PDFBox. É uma exceção não verificada para que
+     * atravesse o processamento de operadores sem ser tratada como erro do documento.
+     */
+    static final class ExtracaoInterrompidaException extends RuntimeException {
+
+        private final Motivo motivo;
+
+        ExtracaoInterrompidaException(Motivo motivo, String mensagem) {
+            super(mensagem);
+            this.motivo = motivo;
+        }
+
+        Motivo getMotivo() {
+            return motivo;
+        }
+    }
+}
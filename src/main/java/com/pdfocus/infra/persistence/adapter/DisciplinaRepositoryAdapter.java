@@ -89,8 +89,8 @@ public class DisciplinaRepositoryAdapter implements DisciplinaRepository {
     /**
      * {@inheritDoc}
      * <p>
-     * A lógica é delegada diretamente para o método 'deleteById', que é
-     * fornecido por padrão pelo JpaRepository.
+     * A lógica é delegada para um {@code DELETE} JPQL em {@link DisciplinaJpaRepository},
+     * que não carrega a disciplina nem a sua coleção de resumos.
      * </p>
      */
     @Override
@@ -99,7 +99,8 @@ public class DisciplinaRepositoryAdapter implements DisciplinaRepository {
         // Validações de segurança (se o usuário pode deletar)
         // devem ser feitas na camada de SERVIÇO (Application)
         // antes de chamar este método.
-        jpaRepository.deleteById(id);
+        // DELETE direto: deleteById carregaria a entidade e, pelo cascade, todos os seus resumos.
+        jpaRepository.deletarPorId(id);
     }
 
 
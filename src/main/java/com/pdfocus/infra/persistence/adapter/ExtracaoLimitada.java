@@ -0,0 +1,187 @@
+package com.pdfocus.infra.persistence.adapter;
+
+import com.pdfocus.core.exceptions.resumo.TextoNaoPodeSerExtraidoException;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.stereotype.Component;
+
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.FutureTask;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Function;
+
+/**
+ * Executa cada leitura de PDF no executor dedicado {@code extracaoPdfExecutor}, com
+ * limites de recursos, para que um arquivo problemático não prenda threads de requisição
+ * nem degrade a extração dos demais usuários.
+ *
+ * <ul>
+ *   <li><b>Fila limitada:</b> com a fila cheia a extração é recusada na hora, em vez de
+ *       acumular trabalho e memória.</li>
+ *   <li><b>Tempo limite:</b> quem pediu a extração espera no máximo
+ *       {@code app.extracao.limites.tempo-limite-segundos}, contando a espera na fila. Ao
+ *       esgotar o prazo, a extração é cancelada: a thread é interrompida e o stripper para
+ *       na próxima verificação do {@link ControleExtracao}.</li>
+ *   <li><b>Páginas e caracteres:</b> cada extração é limitada a
+ *       {@code app.extracao.limites.paginas-maximas} páginas e
+ *       {@code app.extracao.limites.caracteres-maximos} caracteres.</li>
+ * </ul>
+ *
+ * <p>As recusas são expostas no Actuator em {@code pdfocus.extracao.recusadas}, por motivo
+ * ({@code fila_cheia}, {@code tempo_limite}, {@code limite_excedido}), junto com o tamanho
+ * da fila e as extrações em andamento.</p>
+ */
+@Component
+public class ExtracaoLimitada implements MeterBinder {
+
+    private static final Logger logger = LoggerFactory.getLogger(ExtracaoLimitada.class);
+
+    private final Executor executor;
+    private final long tempoLimiteSegundos;
+    private final int paginasMaximas;
+    private final long caracteresMaximos;
+
+    private final LongAdder recusadasFilaCheia = new LongAdder();
+    private final LongAdder recusadasTempoLimite = new LongAdder();
+    private final LongAdder recusadasLimiteExcedido = new LongAdder();
+
+    /**
+     * @param executor            Executor dedicado e limitado das extrações.
+     * @param tempoLimiteSegundos Tempo máximo de cada extração, incluindo a espera na fila.
+     * @param paginasMaximas      Número máximo de páginas por extração.
+     * @param caracteresMaximos   Número máximo de caracteres por extração.
+     */
+    public ExtracaoLimitada(@Qualifier("extracaoPdfExecutor") Executor executor,
+                            @Value("${app.extracao.limites.tempo-limite-segundos:120}") long tempoLimiteSegundos,
+                            @Value("${app.extracao.limites.paginas-maximas:2000}") int paginasMaximas,
+                            @Value("${app.extracao.limites.caracteres-maximos:5000000}") long caracteresMaximos) {
+        this.executor = executor;
+        this.tempoLimiteSegundos = tempoLimiteSegundos;
+        this.paginasMaximas = paginasMaximas;
+        this.caracteresMaximos = caracteresMaximos;
+    }
+
+    /**
+     * Executa a leitura de um PDF no executor dedicado e aguarda o resultado dentro do tempo limite.
+     *
+     * @param nomeStorage O arquivo lido, para as mensagens de erro.
+     * @param leitura     A leitura, que deve verificar o {@link ControleExtracao} recebido.
+     * @return O resultado da leitura.
+     * @throws TextoNaoPodeSerExtraidoException se a extração for recusada, esgotar o prazo,
+     *         exceder os limites ou falhar.
+     */
+    public <T> T executar(String nomeStorage, Function<ControleExtracao, T> leitura) {
+        ControleExtracao controle = new ControleExtracao(
+                TimeUnit.SECONDS.toNanos(tempoLimiteSegundos), paginasMaximas, caracteresMaximos);
+        FutureTask<T> tarefa = new FutureTask<>(() -> leitura.apply(controle));
+
+        try {
+            executor.execute(tarefa);
+        } catch (RejectedExecutionException e) {
+            recusadasFilaCheia.increment();
+            logger.warn("Fila de extração de PDFs cheia; extração de {} recusada", nomeStorage);
+            throw new TextoNaoPodeSerExtraidoException(
+                    "Muitos PDFs sendo processados no momento. Tente novamente em alguns instantes.");
+        }
+
+        try {
+            return tarefa.get(tempoLimiteSegundos, TimeUnit.SECONDS);
+
+        } catch (TimeoutException e) {
+            cancelar(controle, tarefa);
+            recusadasTempoLimite.increment();
+            logger.warn("Extração de {} excedeu o tempo limite de {}s e foi cancelada", nomeStorage, tempoLimiteSegundos);
+            throw new TextoNaoPodeSerExtraidoException(
+                    "A extração do arquivo " + nomeStorage + " excedeu o tempo limite de " + tempoLimiteSegundos + " segundos");
+
+        } catch (InterruptedException e) {
+            cancelar(controle, tarefa);
+            Thread.currentThread().interrupt();
+            throw new TextoNaoPodeSerExtraidoException(nomeStorage, e);
+
+        } catch (ExecutionException e) {
+            Throwable causa = e.getCause();
+            contarInterrupcao(causa);
+            if (causa instanceof ControleExtracao.ExtracaoInterrompidaException interrompida) {
+                throw new TextoNaoPodeSerExtraidoException(
+                        "Erro ao extrair texto do arquivo: " + nomeStorage + " - " + interrompida.getMessage());
+            }
+            if (causa instanceof RuntimeException runtime) {
+                throw runtime;
+            }
+            throw new TextoNaoPodeSerExtraidoException(nomeStorage, causa);
+        }
+    }
+
+    private static void cancelar(ControleExtracao controle, FutureTask<?> tarefa) {
+        controle.cancelar();
+        tarefa.cancel(true);
+    }
+
+    /**
+     * Contabiliza as extrações interrompidas pelos limites do {@link ControleExtracao},
+     * procurando o motivo na cadeia de causas.
+     */
+    private void contarInterrupcao(Throwable erro) {
+        for (Throwable causa = erro; causa != null; causa = causa.getCause()) {
+            if (causa instanceof ControleExtracao.ExtracaoInterrompidaException interrompida) {
+                switch (interrompida.getMotivo()) {
+                    case TEMPO_LIMITE -> recusadasTempoLimite.increment();
+                    case LIMITE_PAGINAS, LIMITE_CARACTERES -> recusadasLimiteExcedido.increment();
+                    case CANCELADA -> { }
+                }
+                return;
+            }
+        }
+    }
+
+    /** @return o número de extrações recusadas com a fila cheia. */
+    public long getRecusadasFilaCheia() {
+        return recusadasFilaCheia.sum();
+    }
+
+    /** @return o número de extrações canceladas por tempo limite. */
+    public long getRecusadasTempoLimite() {
+        return recusadasTempoLimite.sum();
+    }
+
+    /** @return o número de extrações interrompidas por exceder o limite de páginas ou caracteres. */
+    public long getRecusadasLimiteExcedido() {
+        return recusadasLimiteExcedido.sum();
+    }
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        FunctionCounter.builder("pdfocus.extracao.recusadas", recusadasFilaCheia, LongAdder::sum)
+                .tag("motivo", "fila_cheia")
+                .description("Extrações de PDF recusadas ou interrompidas, por motivo")
+                .register(registry);
+        FunctionCounter.builder("pdfocus.extracao.recusadas", recusadasTempoLimite, LongAdder::sum)
+                .tag("motivo", "tempo_limite")
+                .description("Extrações de PDF recusadas ou interrompidas, por motivo")
+                .register(registry);
+        FunctionCounter.builder("pdfocus.extracao.recusadas", recusadasLimiteExcedido, LongAdder::sum)
+                .tag("motivo", "limite_excedido")
+                .description("Extrações de PDF recusadas ou interrompidas, por motivo")
+                .register(registry);
+        if (executor instanceof ThreadPoolTaskExecutor pool) {
+            Gauge.builder("pdfocus.extracao.fila", pool, ThreadPoolTaskExecutor::getQueueSize)
+                    .description("Extrações de PDF aguardando na fila")
+                    .register(registry);
+            Gauge.builder("pdfocus.extracao.ativas", pool, ThreadPoolTaskExecutor::getActiveCount)
+                    .description("Extrações de PDF em andamento")
+                    .register(registry);
+        }
+    }
+}
@@ -0,0 +1,77 @@
+package com.pdfocus.infra.persistence.adapter;
+
+import com.pdfocus.application.resumo.port.saida.JobResumoRepository;
+import com.pdfocus.core.models.JobResumo;
+import com.pdfocus.core.models.StatusJob;
+import com.pdfocus.infra.persistence.mapper.JobResumoMapper;
+import com.pdfocus.infra.persistence.repository.JobResumoJpaRepository;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.OffsetDateTime;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+
+/**
+ * Adaptador que implementa a porta de saída {@link JobResumoRepository}
+ * utilizando Spring Data JPA.
+ */
+@Repository
+public class JobResumoRepositoryAdapter implements JobResumoRepository {
+
+    private final JobResumoJpaRepository jobResumoJpaRepository;
+
+    public JobResumoRepositoryAdapter(JobResumoJpaRepository jobResumoJpaRepository) {
+        this.jobResumoJpaRepository = jobResumoJpaRepository;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    @Transactional
+    public JobResumo salvar(JobResumo job) {
+        // Flush imediato para que as datas geradas pelo Hibernate voltem preenchidas.
+        return JobResumoMapper.toDomain(jobResumoJpaRepository.saveAndFlush(JobResumoMapper.toEntity(job)));
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    @Transactional
+    public boolean iniciarSePendente(UUID id) {
+        return jobResumoJpaRepository.trocarStatus(id, StatusJob.PENDENTE, StatusJob.PROCESSANDO, OffsetDateTime.now()) == 1;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    @Transactional(readOnly = true)
+    public Optional<JobResumo> buscarPorId(UUID id) {
+        return jobResumoJpaRepository.findById(id).map(JobResumoMapper::toDomain);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    @Transactional(readOnly = true)
+    public Optional<JobResumo> buscarPorIdEUsuario(UUID id, UUID usuarioId) {
+        return jobResumoJpaRepository.findByIdAndUsuarioId(id, usuarioId).map(JobResumoMapper::toDomain);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    @Transactional(readOnly = true)
+    public List<JobResumo> listarPorStatus(Collection<StatusJob> status) {
+        return jobResumoJpaRepository.findAllByStatusInOrderByDataCriacaoAsc(status).stream()
+                .map(JobResumoMapper::toDomain)
+                .toList();
+    }
+}
@@ -1,5 +1,7 @@
 package com.pdfocus.infra.persistence.adapter;
 
+import com.pdfocus.application.material.dto.CursorMaterial;
+import com.pdfocus.application.material.dto.MaterialListagem;
 import com.pdfocus.application.material.port.saida.MaterialRepository;
 import com.pdfocus.core.exceptions.material.MaterialNaoEncontradoException;
 import com.pdfocus.core.models.Material;
@@ -12,9 +14,11 @@ import com.pdfocus.infra.persistence.repository.MaterialJpaRepository;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.stereotype.Repository;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
@@ -65,6 +69,20 @@ public class MaterialRepositoryAdapter implements MaterialRepository {
         return MaterialMapper.toDomainList(entities);
     }
 
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    @Transactional(readOnly = true)
+    public Slice<MaterialListagem> listarPorDisciplinaEUsuario(UUID disciplinaId, UUID usuarioId,
+                                                               CursorMaterial apos, int tamanho) {
+        Pageable pagina = PageRequest.ofSize(tamanho);
+        if (apos == null) {
+            return materialJpaRepository.findFatiaListagem(disciplinaId, usuarioId, pagina);
+        }
+        return materialJpaRepository.findFatiaListagemApos(disciplinaId, usuarioId, apos.dataUpload(), apos.id(), pagina);
+    }
+
     /**
      * {@inheritDoc}
      */
@@ -117,26 +135,25 @@ public class MaterialRepositoryAdapter implements MaterialRepository {
                 .map(MaterialMapper::toDomain);
     }
 
+    /**
+     * {@inheritDoc}
+     */
     @Override
-    public Page<Material> buscarPorDisciplinaDeFormaPaginada(UUID disciplinaId, Pageable pageable) {
-        // 1. Chama o método "mágico" do Spring Data JPA
-        Page<MaterialEntity> paginaDeEntidades = materialJpaRepository.findByDisciplinaId(disciplinaId, pageable);
-
-        // 2. Usa o seu Mapper para converter a página de Entidades (JPA) para uma página de Modelos de Domínio (Core)
-        return paginaDeEntidades.map(MaterialMapper::toDomain);
+    @Transactional(readOnly = true)
+    public Page<MaterialListagem> buscarPorDisciplinaDeFormaPaginada(UUID disciplinaId, Pageable pageable) {
+        return materialJpaRepository.findListagemByDisciplinaId(disciplinaId, pageable);
     }
 
+    /**
+     * {@inheritDoc}
+     * <p>
+     * Um único {@code DELETE ... WHERE disciplina_id = ?}, sem carregar os materiais.
+     * </p>
+     */
     @Override
     @Transactional
-    public void deletarTodosPorDisciplinaId(UUID disciplinaId) {
-        // Busca todos os materiais da disciplina
-        List<MaterialEntity> materiais = materialJpaRepository.findByDisciplinaId(disciplinaId);
-
-        // Deleta em lote (mais eficiente)
-        materialJpaRepository.deleteAllInBatch(materiais);
-
-        // Log para debug (opcional)
-        // System.out.println("✅ Deletados " + materiais.size() + " materiais da disciplina: " + disciplinaId);
+    public int deletarTodosPorDisciplinaId(UUID disciplinaId) {
+        return materialJpaRepository.deletarTodosPorDisciplinaId(disciplinaId);
     }
 
     /**
@@ -163,4 +180,16 @@ public class MaterialRepositoryAdapter implements MaterialRepository {
         // (Assumindo que você tem um MaterialMapper.toDomainList)
         return MaterialMapper.toDomainList(entities);
     }
-}
\ No newline at end of file
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    @Transactional(readOnly = true)
+    public List<String> buscarNomesStorageExistentes(Collection<String> nomesStorage) {
+        if (nomesStorage.isEmpty()) {
+            return List.of();
+        }
+        return materialJpaRepository.findNomesStorageExistentes(nomesStorage);
+    }
+}
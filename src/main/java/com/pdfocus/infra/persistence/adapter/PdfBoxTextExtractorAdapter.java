@@ -1,70 +1,578 @@
 package com.pdfocus.infra.persistence.adapter;
 
+import com.pdfocus.application.material.dto.SecaoSumario;
 import com.pdfocus.application.material.port.saida.MaterialStoragePort;
+import com.pdfocus.application.material.port.saida.SumarioPdfPort;
+import com.pdfocus.application.resumo.dto.ConteudoExtraido;
+import com.pdfocus.application.resumo.dto.EtapaResumo;
+import com.pdfocus.application.resumo.port.saida.ProgressoResumoListener;
 import com.pdfocus.application.resumo.port.saida.TextExtractorPort;
 import com.pdfocus.core.exceptions.resumo.TextoNaoPodeSerExtraidoException;
 import org.apache.pdfbox.Loader;
+import org.apache.pdfbox.contentstream.operator.Operator;
+import org.apache.pdfbox.cos.COSBase;
+import org.apache.pdfbox.io.MemoryUsageSetting;
 import org.apache.pdfbox.pdmodel.PDDocument;
+import org.apache.pdfbox.pdmodel.PDPage;
+import org.apache.pdfbox.pdmodel.interactive.documentnavigation.outline.PDDocumentOutline;
+import org.apache.pdfbox.pdmodel.interactive.documentnavigation.outline.PDOutlineItem;
+import org.apache.pdfbox.pdmodel.interactive.documentnavigation.outline.PDOutlineNode;
 import org.apache.pdfbox.text.PDFTextStripper;
+import org.apache.pdfbox.text.TextPosition;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.io.Resource;
 import org.springframework.stereotype.Component;
 
-import java.io.ByteArrayOutputStream;
+import java.io.File;
+import java.io.IOException;
 import java.io.InputStream;
+import java.io.StringWriter;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executor;
 
 /**
  * Adapter para extração de texto de PDFs usando a biblioteca PDFBox 3.0.5.
  * Implementa a porta {@link TextExtractorPort}.
+ *
+ * <p>O PDF nunca é carregado inteiro em memória:</p>
+ * <ul>
+ * <li>Se o armazenamento expõe o arquivo local ({@link Resource#isFile()}), o PDFBox o lê
+ *     diretamente do disco, em blocos.</li>
+ * <li>Caso contrário, o conteúdo é copiado em fluxo para um arquivo temporário, lido da
+ *     mesma forma e apagado ao final da extração.</li>
+ * </ul>
+ * <p>Os objetos que o PDFBox precisa manter durante o processamento (fluxos decodificados,
+ * fontes etc.) usam um {@link MemoryUsageSetting} misto: até {@code app.extracao.pdfbox.memoria-mb}
+ * em memória por documento e o excedente em arquivos de rascunho, limitados a
+ * {@code app.extracao.pdfbox.rascunho-mb}. Como as extrações em segundo plano são limitadas por
+ * {@code app.extracao.threads}, o uso de heap total fica previsível.</p>
+ *
+ * <p>Documentos com pelo menos {@code app.extracao.paralelo.paginas-minimas} páginas são
+ * divididos em faixas de páginas extraídas em paralelo, até
+ * {@code app.extracao.paralelo.faixas-por-requisicao} por extração. Cada faixa abre o seu
+ * próprio {@link PDDocument} (com o seu próprio orçamento de memória) e o seu próprio
+ * {@link PDFTextStripper}, e os textos são concatenados na ordem das páginas. As faixas rodam
+ * no executor {@code extracaoPaginasExecutor}, que limita o paralelismo global.</p>
+ *
+ * <p>Toda leitura de PDF roda no executor dedicado de {@link ExtracaoLimitada}, com tempo
+ * limite e limites de páginas e caracteres. O {@link ControleExtracao} de cada leitura é
+ * verificado entre páginas e a cada {@value #OPERADORES_ENTRE_VERIFICACOES} operadores de
+ * conteúdo, de modo que mesmo uma página com um fluxo de conteúdo enorme pode ser interrompida.</p>
+ *
+ * <p>Também implementa {@link SumarioPdfPort}, lendo os marcadores do PDF, e permite extrair
+ * apenas um intervalo de páginas (ex.: um capítulo) sem processar o restante do documento.</p>
  */
 @Component
-public class PdfBoxTextExtractorAdapter implements TextExtractorPort {
+@Qualifier("extratorTexto")
+public class PdfBoxTextExtractorAdapter implements TextExtractorPort, SumarioPdfPort {
+
+    private static final Logger logger = LoggerFactory.getLogger(PdfBoxTextExtractorAdapter.class);
+
+    private static final long MEGABYTE = 1024L * 1024L;
+
+    /** Limites de leitura do sumário, contra marcadores malformados. */
+    private static final int PROFUNDIDADE_MAXIMA_SUMARIO = 8;
+    private static final int MAX_SECOES_POR_NIVEL = 1000;
+
+    /** Frequência das verificações de prazo e cancelamento dentro de uma página. */
+    static final int OPERADORES_ENTRE_VERIFICACOES = 256;
+
+    /** Caracteres acumulados antes de atualizar a contagem compartilhada do {@link ControleExtracao}. */
+    private static final int CARACTERES_POR_CONTAGEM = 1024;
+
+    /** Menor faixa de páginas que compensa abrir outro documento. */
+    static final int PAGINAS_MINIMAS_POR_FAIXA = 16;
 
     private final MaterialStoragePort materialStoragePort;
+    private final long memoriaMaximaBytes;
+    private final long rascunhoMaximoBytes;
+    private final File diretorioTemporario;
+    private final Executor executorPaginas;
+    private final int faixasPorRequisicao;
+    private final int paginasMinimasParalelo;
+    private final ExtracaoLimitada extracaoLimitada;
 
-    public PdfBoxTextExtractorAdapter(MaterialStoragePort materialStoragePort) {
+    /**
+     * @param materialStoragePort  Armazenamento dos PDFs.
+     * @param memoriaMb            Memória máxima, por documento, para os dados de trabalho do PDFBox.
+     * @param rascunhoMb           Espaço máximo, por documento, em arquivos de rascunho; -1 para ilimitado.
+     * @param diretorioTemporario  Diretório dos arquivos de rascunho e temporários; vazio usa {@code java.io.tmpdir}.
+     * @param executorPaginas      Executor das faixas de páginas extraídas em paralelo.
+     * @param faixasPorRequisicao  Número máximo de faixas extraídas em paralelo por documento; 1 desativa o paralelismo.
+     * @param paginasMinimasParalelo Número mínimo de páginas para extrair em paralelo.
+     * @param extracaoLimitada     Executor dedicado das leituras de PDF, com tempo limite e limites de recursos.
+     */
+    public PdfBoxTextExtractorAdapter(
+            MaterialStoragePort materialStoragePort,
+            @Value("${app.extracao.pdfbox.memoria-mb:16}") long memoriaMb,
+            @Value("${app.extracao.pdfbox.rascunho-mb:512}") long rascunhoMb,
+            @Value("${app.extracao.pdfbox.diretorio-temporario:}") String diretorioTemporario,
+            @Qualifier("extracaoPaginasExecutor") Executor executorPaginas,
+            @Value("${app.extracao.paralelo.faixas-por-requisicao:4}") int faixasPorRequisicao,
+            @Value("${app.extracao.paralelo.paginas-minimas:64}") int paginasMinimasParalelo,
+            ExtracaoLimitada extracaoLimitada) {
         this.materialStoragePort = materialStoragePort;
+        this.memoriaMaximaBytes = memoriaMb * MEGABYTE;
+        this.rascunhoMaximoBytes = rascunhoMb < 0 ? -1 : rascunhoMb * MEGABYTE;
+        this.diretorioTemporario = diretorioTemporario == null || diretorioTemporario.isBlank()
+                ? null
+                : new File(diretorioTemporario);
+        this.executorPaginas = executorPaginas;
+        this.faixasPorRequisicao = Math.max(1, faixasPorRequisicao);
+        this.paginasMinimasParalelo = paginasMinimasParalelo;
+        this.extracaoLimitada = extracaoLimitada;
+    }
+
+    /**
+     * Leitura aplicada ao arquivo local do PDF.
+     */
+    @FunctionalInterface
+    private interface LeituraPdf<T> {
+        T ler(File arquivo) throws IOException;
     }
 
     @Override
     public String extrairTexto(String nomeStorage) {
-        if (nomeStorage == null || nomeStorage.isBlank()) {
-            throw new IllegalArgumentException("Nome do arquivo não pode ser nulo ou vazio");
-        }
+        return extrairConteudo(nomeStorage).texto();
+    }
 
-        try (InputStream inputStream = materialStoragePort.carregar(nomeStorage).getInputStream()) {
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public ConteudoExtraido extrairConteudo(String nomeStorage) {
+        return extrairConteudo(nomeStorage, ProgressoResumoListener.NENHUM);
+    }
 
-            // ler tudo para um byte[] para usar RandomAccessRead
-            byte[] pdfBytes = toByteArray(inputStream);
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public ConteudoExtraido extrairConteudo(String nomeStorage, ProgressoResumoListener progresso) {
+        return extrairPaginas(nomeStorage, 1, Integer.MAX_VALUE, progresso);
+    }
 
-            try (PDDocument document = Loader.loadPDF(pdfBytes)) {
+    /**
+     * {@inheritDoc}
+     *
+     * <p>Apenas as páginas do intervalo são processadas; intervalos grandes também são
+     * divididos em faixas paralelas.</p>
+     */
+    @Override
+    public ConteudoExtraido extrairPaginas(String nomeStorage, int primeira, int ultima,
+                                           ProgressoResumoListener progresso) {
+        return extracaoLimitada.executar(nomeStorage, controle -> lerArquivo(nomeStorage,
+                arquivo -> extrairIntervalo(arquivo, primeira, ultima, progresso, controle)));
+    }
 
-                if (document.isEncrypted()) {
-                    throw new TextoNaoPodeSerExtraidoException("PDF está criptografado e não pode ser processado");
-                }
+    /**
+     * {@inheritDoc}
+     *
+     * <p>Lê os marcadores do PDF sem extrair texto. Cada seção termina na página anterior
+     * ao início da seção seguinte do mesmo nível (ou no fim da seção pai / do documento).
+     * Marcadores sem página de destino usam a página da primeira subseção que tiver uma;
+     * marcadores sem nenhuma página são ignorados.</p>
+     */
+    @Override
+    public List<SecaoSumario> lerSumario(String nomeStorage) {
+        return extracaoLimitada.executar(nomeStorage, controle -> lerArquivo(nomeStorage,
+                arquivo -> lerSumarioDoArquivo(arquivo, controle)));
+    }
 
-                if (document.getPages().getCount() == 0) {
-                    return "";
-                }
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public String versao() {
+        return "pdfbox-3.0.5-ordenado";
+    }
 
-                PDFTextStripper textStripper = new PDFTextStripper();
-                textStripper.setSortByPosition(true);
-                return textStripper.getText(document);
+    /**
+     * Resolve o arquivo local do PDF (copiando-o para um temporário, se preciso) e aplica
+     * a leitura; o temporário é apagado ao final.
+     */
+    private <T> T lerArquivo(String nomeStorage, LeituraPdf<T> leitura) {
+        if (nomeStorage == null || nomeStorage.isBlank()) {
+            throw new IllegalArgumentException("Nome do arquivo não pode ser nulo ou vazio");
+        }
+
+        Path temporario = null;
+        try {
+            Resource recurso = materialStoragePort.carregar(nomeStorage);
+            File arquivo;
+            if (recurso.isFile()) {
+                arquivo = recurso.getFile();
+            } else {
+                temporario = copiarParaTemporario(recurso);
+                arquivo = temporario.toFile();
             }
+            return leitura.ler(arquivo);
 
         } catch (Exception e) {
             throw new TextoNaoPodeSerExtraidoException(
                     "Erro ao extrair texto do arquivo: " + nomeStorage + " - " + e.getMessage(),
                     e
             );
+        } finally {
+            apagarTemporario(temporario);
+        }
+    }
+
+    /**
+     * Extrai as páginas {@code [primeira, ultima]}, limitadas às existentes, de forma
+     * sequencial ou em faixas paralelas conforme o tamanho do intervalo.
+     */
+    private ConteudoExtraido extrairIntervalo(File arquivo, int primeira, int ultima,
+                                              ProgressoResumoListener progresso,
+                                              ControleExtracao controle) throws IOException {
+        int inicio = Math.max(1, primeira);
+        int fim;
+        int faixas;
+        try (PDDocument document = abrir(arquivo)) {
+            fim = Math.min(ultima, document.getPages().getCount());
+            if (fim < inicio) {
+                return new ConteudoExtraido("", 0);
+            }
+            controle.verificarPaginas(fim - inicio + 1);
+
+            faixas = quantidadeDeFaixas(fim - inicio + 1);
+            if (faixas == 1) {
+                return new StripperPaginado(progresso, inicio, fim, controle).extrair(document);
+            }
+        }
+
+        // O documento usado para contar as páginas já foi fechado: cada faixa abre o seu.
+        return extrairEmParalelo(arquivo, inicio, fim, faixas, progresso, controle);
+    }
+
+    /**
+     * Abre o documento com o orçamento de memória configurado, recusando PDFs criptografados.
+     */
+    private PDDocument abrir(File arquivo) throws IOException {
+        PDDocument document = Loader.loadPDF(arquivo, novaConfiguracaoMemoria().streamCache);
+        if (document.isEncrypted()) {
+            document.close();
+            throw new TextoNaoPodeSerExtraidoException("PDF está criptografado e não pode ser processado");
+        }
+        return document;
+    }
+
+    private List<SecaoSumario> lerSumarioDoArquivo(File arquivo, ControleExtracao controle) throws IOException {
+        try (PDDocument document = abrir(arquivo)) {
+            PDDocumentOutline sumario = document.getDocumentCatalog().getDocumentOutline();
+            int paginas = document.getPages().getCount();
+            if (sumario == null || paginas == 0) {
+                return List.of();
+            }
+            return secoesDe(document, sumario, "", paginas, 1, controle);
+        }
+    }
+
+    /**
+     * Monta as seções de um nível do sumário. A profundidade e a quantidade de marcadores
+     * por nível são limitadas para que sumários malformados (ex.: com ciclos) não travem a leitura.
+     */
+    private static List<SecaoSumario> secoesDe(PDDocument document, PDOutlineNode no, String prefixo,
+                                               int fimDoPai, int nivel, ControleExtracao controle) throws IOException {
+        controle.verificar();
+        List<PDOutlineItem> itens = new ArrayList<>();
+        for (PDOutlineItem item : no.children()) {
+            if (itens.size() == MAX_SECOES_POR_NIVEL) {
+                break;
+            }
+            itens.add(item);
+        }
+
+        int[] inicios = new int[itens.size()];
+        for (int i = 0; i < itens.size(); i++) {
+            inicios[i] = paginaDe(document, itens.get(i), nivel);
+        }
+
+        List<SecaoSumario> secoes = new ArrayList<>();
+        for (int i = 0; i < itens.size(); i++) {
+            if (inicios[i] < 1) {
+                continue;
+            }
+            int fim = fimDoPai;
+            for (int j = i + 1; j < itens.size(); j++) {
+                if (inicios[j] >= 1) {
+                    fim = Math.min(fimDoPai, inicios[j] - 1);
+                    break;
+                }
+            }
+            fim = Math.max(inicios[i], fim);
+
+            String id = prefixo + (i + 1);
+            List<SecaoSumario> subsecoes = nivel < PROFUNDIDADE_MAXIMA_SUMARIO
+                    ? secoesDe(document, itens.get(i), id + ".", fim, nivel + 1, controle)
+                    : List.of();
+            String titulo = itens.get(i).getTitle() == null ? "" : itens.get(i).getTitle().strip();
+            secoes.add(new SecaoSumario(id, titulo, inicios[i], fim, subsecoes));
+        }
+        return secoes;
+    }
+
+    /**
+     * A página (a partir de 1) para a qual o marcador aponta, ou a da sua primeira subseção
+     * que tenha uma; 0 se nenhuma tiver.
+     */
+    private static int paginaDe(PDDocument document, PDOutlineItem item, int nivel) throws IOException {
+        PDPage destino = item.findDestinationPage(document);
+        if (destino != null) {
+            int indice = document.getPages().indexOf(destino);
+            if (indice >= 0) {
+                return indice + 1;
+            }
         }
+        if (nivel < PROFUNDIDADE_MAXIMA_SUMARIO) {
+            int verificados = 0;
+            for (PDOutlineItem filho : item.children()) {
+                if (verificados++ == MAX_SECOES_POR_NIVEL) {
+                    break;
+                }
+                int pagina = paginaDe(document, filho, nivel + 1);
+                if (pagina >= 1) {
+                    return pagina;
+                }
+            }
+        }
+        return 0;
+    }
+
+    /**
+     * Decide em quantas faixas o documento será dividido: 1 (sequencial) abaixo do mínimo
+     * de páginas; senão, até o limite por requisição, sem faixas menores que
+     * {@link #PAGINAS_MINIMAS_POR_FAIXA} páginas.
+     */
+    int quantidadeDeFaixas(int paginas) {
+        if (faixasPorRequisicao <= 1 || paginas < paginasMinimasParalelo) {
+            return 1;
+        }
+        int faixas = Math.min(faixasPorRequisicao, paginas / PAGINAS_MINIMAS_POR_FAIXA);
+        return Math.max(1, faixas);
+    }
+
+    /**
+     * Extrai as faixas de páginas em paralelo e concatena os textos na ordem das páginas.
+     * Se uma faixa falhar, as demais são canceladas; todas são aguardadas antes de retornar,
+     * para que nenhuma continue lendo o arquivo depois que ele for liberado.
+     */
+    private ConteudoExtraido extrairEmParalelo(File arquivo, int primeira, int ultima, int faixas,
+                                               ProgressoResumoListener progresso, ControleExtracao controle) {
+        int paginas = ultima - primeira + 1;
+        ProgressoResumoListener ouvinte = new ProgressoFaixasConcorrentes(progresso, paginas);
+        int tamanhoFaixa = (paginas + faixas - 1) / faixas;
+
+        List<CompletableFuture<ConteudoExtraido>> partes = new ArrayList<>(faixas);
+        for (int pagina = primeira; pagina <= ultima; pagina += tamanhoFaixa) {
+            int inicio = pagina;
+            int fim = Math.min(ultima, pagina + tamanhoFaixa - 1);
+            partes.add(CompletableFuture.supplyAsync(
+                    () -> extrairFaixa(arquivo, inicio, fim, ouvinte, controle), executorPaginas)
+                    .whenComplete((faixa, erro) -> {
+                        if (erro != null) {
+                            controle.cancelar();
+                        }
+                    }));
+        }
+
+        try {
+            CompletableFuture.allOf(partes.toArray(CompletableFuture[]::new)).join();
+        } catch (CompletionException e) {
+            throw causaDaFalha(partes, e);
+        }
+
+        StringBuilder texto = new StringBuilder();
+        List<Integer> inicioPaginas = new ArrayList<>(paginas);
+        for (CompletableFuture<ConteudoExtraido> parte : partes) {
+            ConteudoExtraido faixa = parte.join();
+            for (int inicioPagina : faixa.inicioPaginas()) {
+                inicioPaginas.add(texto.length() + inicioPagina);
+            }
+            texto.append(faixa.texto());
+        }
+        return new ConteudoExtraido(texto.toString(), paginas, inicioPaginas);
+    }
+
+    /**
+     * A falha que originou a interrupção das faixas, e não o cancelamento que ela causou nas demais.
+     */
+    private static RuntimeException causaDaFalha(List<CompletableFuture<ConteudoExtraido>> partes,
+                                                 CompletionException erro) {
+        for (CompletableFuture<ConteudoExtraido> parte : partes) {
+            if (!parte.isCompletedExceptionally()) {
+                continue;
+            }
+            try {
+                parte.join();
+            } catch (CompletionException e) {
+                boolean cancelada = e.getCause() instanceof ControleExtracao.ExtracaoInterrompidaException interrompida
+                        && interrompida.getMotivo() == ControleExtracao.Motivo.CANCELADA;
+                if (!cancelada) {
+                    return e.getCause() instanceof RuntimeException runtime ? runtime : e;
+                }
+            }
+        }
+        return erro.getCause() instanceof RuntimeException runtime ? runtime : erro;
+    }
+
+    /**
+     * Extrai as páginas {@code [inicio, fim]} (base 1) com um documento e um stripper próprios.
+     * As posições de início das páginas no resultado são relativas ao texto da faixa.
+     */
+    private ConteudoExtraido extrairFaixa(File arquivo, int inicio, int fim, ProgressoResumoListener progresso,
+                                          ControleExtracao controle) {
+        controle.verificar();
+        try (PDDocument document = Loader.loadPDF(arquivo, novaConfiguracaoMemoria().streamCache)) {
+            return new StripperPaginado(progresso, inicio, fim, controle).extrair(document);
+        } catch (IOException e) {
+            throw new UncheckedIOException("Falha ao extrair as páginas " + inicio + "-" + fim, e);
+        }
+    }
+
+    /**
+     * Copia, em fluxo, o PDF de um armazenamento sem arquivo local para um arquivo temporário.
+     */
+    private Path copiarParaTemporario(Resource recurso) throws IOException {
+        Path temporario = diretorioTemporario == null
+                ? Files.createTempFile("pdfocus-extracao-", ".pdf")
+                : Files.createTempFile(diretorioTemporario.toPath(), "pdfocus-extracao-", ".pdf");
+        try (InputStream entrada = recurso.getInputStream()) {
+            Files.copy(entrada, temporario, StandardCopyOption.REPLACE_EXISTING);
+            return temporario;
+        } catch (IOException e) {
+            apagarTemporario(temporario);
+            throw e;
+        }
+    }
+
+    private static void apagarTemporario(Path temporario) {
+        if (temporario == null) {
+            return;
+        }
+        try {
+            Files.deleteIfExists(temporario);
+        } catch (IOException e) {
+            logger.warn("Não foi possível apagar o arquivo temporário {}", temporario, e);
+        }
+    }
+
+    /**
+     * Cria a configuração de memória do PDFBox. Uma instância por documento, pois cada
+     * documento tem o seu próprio orçamento de memória e de rascunho.
+     */
+    private MemoryUsageSetting novaConfiguracaoMemoria() {
+        MemoryUsageSetting configuracao = MemoryUsageSetting.setupMixed(memoriaMaximaBytes, rascunhoMaximoBytes);
+        if (diretorioTemporario != null) {
+            configuracao.setTempDir(diretorioTemporario);
+        }
+        return configuracao;
     }
 
-    private byte[] toByteArray(InputStream input) throws java.io.IOException {
-        ByteArrayOutputStream buffer = new ByteArrayOutputStream();
-        byte[] data = new byte[8192];
-        int nRead;
-        while ((nRead = input.read(data, 0, data.length)) != -1) {
-            buffer.write(data, 0, nRead);
+    /**
+     * Stripper ordenado por posição, limitado às páginas {@code [primeira, ultima]}, que
+     * registra onde começa o texto de cada página e repassa cada página concluída ao
+     * ouvinte de progresso, numerada em relação ao início do intervalo. Verifica o
+     * {@link ControleExtracao} a cada página e periodicamente durante o processamento
+     * do conteúdo de uma página.
+     */
+    private static final class StripperPaginado extends PDFTextStripper {
+
+        private final ProgressoResumoListener progresso;
+        private final ControleExtracao controle;
+        private final int deslocamento;
+        private final int paginas;
+        private final List<Integer> inicioPaginas = new ArrayList<>();
+        private StringWriter saida;
+        private int operadores;
+        private int caracteresPendentes;
+
+        StripperPaginado(ProgressoResumoListener progresso, int primeira, int ultima,
+                         ControleExtracao controle) throws IOException {
+            this.progresso = progresso;
+            this.controle = controle;
+            this.deslocamento = primeira - 1;
+            this.paginas = ultima - primeira + 1;
+            setSortByPosition(true);
+            setStartPage(primeira);
+            setEndPage(ultima);
+        }
+
+        ConteudoExtraido extrair(PDDocument document) throws IOException {
+            saida = new StringWriter();
+            inicioPaginas.clear();
+            writeText(document, saida);
+            return new ConteudoExtraido(saida.toString(), paginas, inicioPaginas);
+        }
+
+        @Override
+        protected void startPage(PDPage page) throws IOException {
+            controle.verificar();
+            super.startPage(page);
+            inicioPaginas.add(saida.getBuffer().length());
+        }
+
+        @Override
+        protected void endPage(PDPage page) throws IOException {
+            super.endPage(page);
+            controle.contarCaracteres(caracteresPendentes);
+            caracteresPendentes = 0;
+            progresso.paginaExtraida(getCurrentPageNo() - deslocamento, paginas);
+        }
+
+        @Override
+        protected void processOperator(Operator operator, List<COSBase> operands) throws IOException {
+            if (++operadores % OPERADORES_ENTRE_VERIFICACOES == 0) {
+                controle.verificar();
+            }
+            super.processOperator(operator, operands);
+        }
+
+        @Override
+        protected void processTextPosition(TextPosition text) {
+            super.processTextPosition(text);
+            if (++caracteresPendentes == CARACTERES_POR_CONTAGEM) {
+                controle.contarCaracteres(caracteresPendentes);
+                caracteresPendentes = 0;
+            }
+        }
+    }
+
+    /**
+     * Repassa o progresso de faixas extraídas em paralelo, uma chamada por vez (os ouvintes
+     * não precisam ser thread-safe) e com o número de páginas concluídas, que cresce sempre,
+     * no lugar do número da página, que chega fora de ordem. O total repassado é o do intervalo
+     * inteiro, e não o da faixa que informou a página.
+     */
+    private static final class ProgressoFaixasConcorrentes implements ProgressoResumoListener {
+
+        private final ProgressoResumoListener destino;
+        private final int totalPaginas;
+        private int concluidas;
+
+        ProgressoFaixasConcorrentes(ProgressoResumoListener destino, int totalPaginas) {
+            this.destino = destino;
+            this.totalPaginas = totalPaginas;
+        }
+
+        @Override
+        public synchronized void etapaIniciada(EtapaResumo etapa) {
+            destino.etapaIniciada(etapa);
+        }
+
+        @Override
+        public synchronized void paginaExtraida(int pagina, int totalPaginasDaFaixa) {
+            destino.paginaExtraida(++concluidas, totalPaginas);
         }
-        return buffer.toByteArray();
     }
 }
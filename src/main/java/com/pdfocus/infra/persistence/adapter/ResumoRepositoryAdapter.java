@@ -1,5 +1,7 @@
 package com.pdfocus.infra.persistence.adapter;
 
+import com.pdfocus.application.resumo.dto.CursorResumo;
+import com.pdfocus.application.resumo.dto.ResumoListagem;
 import com.pdfocus.application.resumo.port.saida.ResumoRepository;
 import com.pdfocus.core.exceptions.resumo.ResumoNaoEncontradoException;
 import com.pdfocus.core.models.Resumo;
@@ -8,6 +10,9 @@ import com.pdfocus.infra.persistence.entity.ResumoEntity;
 import com.pdfocus.infra.persistence.mapper.ResumoMapper;
 import com.pdfocus.infra.persistence.repository.ResumoJpaRepository;
 
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.stereotype.Component;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -45,9 +50,18 @@ public class ResumoRepositoryAdapter implements ResumoRepository {
 
     @Override
     @Transactional(readOnly = true)
-    public List<Resumo> buscarTodosPorUsuario(UUID usuarioId) {
-        List<ResumoEntity> entities = jpaRepository.findAllByUsuarioId(usuarioId);
-        return ResumoMapper.toDomainList(entities);
+    public List<ResumoListagem> listarPorUsuario(UUID usuarioId) {
+        return jpaRepository.findListagemByUsuarioId(usuarioId);
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public Slice<ResumoListagem> listarPorUsuario(UUID usuarioId, CursorResumo apos, int tamanho) {
+        Pageable pagina = PageRequest.ofSize(tamanho);
+        if (apos == null) {
+            return jpaRepository.findFatiaListagemByUsuarioId(usuarioId, pagina);
+        }
+        return jpaRepository.findFatiaListagemByUsuarioIdApos(usuarioId, apos.dataCriacao(), apos.id(), pagina);
     }
 
     @Override
@@ -57,6 +71,12 @@ public class ResumoRepositoryAdapter implements ResumoRepository {
         return ResumoMapper.toDomainList(entities);
     }
 
+    @Override
+    @Transactional(readOnly = true)
+    public List<ResumoListagem> listarPorDisciplinaEUsuario(UUID disciplinaId, UUID usuarioId) {
+        return jpaRepository.findListagemByDisciplinaIdAndUsuarioId(disciplinaId, usuarioId);
+    }
+
     @Override
     @Transactional
     public void deletarPorIdEUsuario(UUID id, UUID usuarioId) {
@@ -77,21 +97,13 @@ public class ResumoRepositoryAdapter implements ResumoRepository {
     /**
      * {@inheritDoc}
      * <p>
-     * Implementa a lógica de "cascade delete" da aplicação.
-     * 1. Encontra todas as entidades filhas (Resumos) usando o JPA.
-     * 2. Deleta todas elas em um lote (batch), que é mais performático.
+     * Implementa a lógica de "cascade delete" da aplicação com um único
+     * {@code DELETE ... WHERE disciplina_id = ?}, sem carregar os resumos nem o seu conteúdo.
      * </p>
      */
     @Override
     @Transactional
-    public void deletarTodosPorDisciplinaId(UUID disciplinaId) {
-        // 1. Busca todos os resumos da disciplina (usando o Passo 2)
-        List<ResumoEntity> resumos = jpaRepository.findByDisciplinaId(disciplinaId);
-
-        // 2. Se houver resumos, deleta em lote
-        if (resumos != null && !resumos.isEmpty()) {
-            jpaRepository.deleteAllInBatch(resumos);
-            // System.out.println("✅ Deletados " + resumos.size() + " resumos da disciplina: " + disciplinaId);
-        }
+    public int deletarTodosPorDisciplinaId(UUID disciplinaId) {
+        return jpaRepository.deletarTodosPorDisciplinaId(disciplinaId);
     }
 }
\ No newline at end of file
@@ -0,0 +1,91 @@
+package com.pdfocus.infra.persistence.adapter;
+
+import com.pdfocus.application.resumo.port.saida.ResumidorIAPort;
+import com.pdfocus.infra.resumidor.RankeadorTextRank;
+import com.pdfocus.infra.resumidor.ResumoExtrativo;
+import com.pdfocus.infra.resumidor.TabelaFrases;
+import com.pdfocus.infra.resumidor.TokenizadorTexto;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.util.BitSet;
+
+/**
+ * Implementação da porta {@link ResumidorIAPort} baseada em grafo (TextRank/LexRank).
+ *
+ * <p>Em vez de pontuar cada frase isoladamente pela frequência dos termos, como o
+ * {@link AlgoritmoLocalResumidorAdapter}, este adaptador escolhe as frases mais centrais
+ * do documento: aquelas mais semelhantes às demais, segundo o {@link RankeadorTextRank}.
+ * As frases selecionadas são apresentadas na ordem original do texto.</p>
+ *
+ * <p>Também é 100% local e usa apenas estruturas esparsas, de modo que a memória cresce
+ * linearmente com o número de frases.</p>
+ *
+ * <p>Ativado com {@code app.resumidor.algoritmo=textrank}; por padrão a aplicação
+ * continua usando o algoritmo de frequência.</p>
+ */
+@Component
+@Qualifier("motorResumo")
+@ConditionalOnProperty(name = "app.resumidor.algoritmo", havingValue = "textrank")
+public class TextRankResumidorAdapter implements ResumidorIAPort {
+
+    private final TokenizadorTexto tokenizador;
+    private final RankeadorTextRank rankeador;
+
+    /**
+     * Constrói o adaptador com o tokenizador e o rankeador de frases.
+     *
+     * @param tokenizador Componente responsável por segmentar o texto em frases e termos.
+     * @param rankeador   Componente que calcula a centralidade de cada frase.
+     */
+    public TextRankResumidorAdapter(TokenizadorTexto tokenizador, RankeadorTextRank rankeador) {
+        this.tokenizador = tokenizador;
+        this.rankeador = rankeador;
+    }
+
+    /**
+     * Gera um resumo extrativo com as frases mais centrais do texto, respeitando
+     * um limite aproximado de palavras.
+     *
+     * @param textoCompleto O texto original a ser resumido.
+     * @param maxPalavras O número máximo aproximado de palavras desejado para o resumo.
+     * @return O resumo gerado, ou o mesmo fallback do algoritmo de frequência quando
+     * o texto é vazio, não possui frases válidas ou ocorre um erro.
+     */
+    @Override
+    public String resumir(String textoCompleto, int maxPalavras) {
+        if (textoCompleto == null || textoCompleto.isBlank()) {
+            return "Texto fornecido está vazio ou nulo.";
+        }
+
+        try {
+            TabelaFrases tabela = tokenizador.tokenizar(textoCompleto);
+            if (tabela.isEmpty()) {
+                return ResumoExtrativo.resumoBasico(textoCompleto, maxPalavras);
+            }
+
+            double[] relevancia = rankeador.ranquear(tabela);
+            BitSet selecionadas = new BitSet(tabela.quantidade());
+            ResumoExtrativo.selecionarMaisRelevantes(
+                    tabela, relevancia, 0, tabela.quantidade(), maxPalavras, 0, selecionadas);
+
+            if (selecionadas.isEmpty()) {
+                // Nenhuma frase cabe no limite: melhor truncar do que devolver um resumo vazio
+                return ResumoExtrativo.resumoBasico(textoCompleto, maxPalavras);
+            }
+            return ResumoExtrativo.montar(tabela, selecionadas);
+
+        } catch (Exception e) {
+            return ResumoExtrativo.resumoBasico(textoCompleto, maxPalavras);
+        }
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public String versao() {
+        return "textrank-1.0";
+    }
+}
@@ -0,0 +1,69 @@
+package com.pdfocus.infra.persistence.adapter;
+
+import com.pdfocus.application.material.port.saida.TextoExtraidoRepository;
+import com.pdfocus.core.models.StatusExtracao;
+import com.pdfocus.core.models.TextoExtraido;
+import com.pdfocus.infra.persistence.entity.TextoMaterialEntity;
+import com.pdfocus.infra.persistence.mapper.TextoExtraidoMapper;
+import com.pdfocus.infra.persistence.repository.MaterialJpaRepository;
+import com.pdfocus.infra.persistence.repository.TextoMaterialJpaRepository;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+
+/**
+ * Adaptador que implementa a porta de saída {@link TextoExtraidoRepository}
+ * utilizando Spring Data JPA.
+ */
+@Repository
+public class TextoExtraidoRepositoryAdapter implements TextoExtraidoRepository {
+
+    private final TextoMaterialJpaRepository textoMaterialJpaRepository;
+    private final MaterialJpaRepository materialJpaRepository;
+
+    public TextoExtraidoRepositoryAdapter(TextoMaterialJpaRepository textoMaterialJpaRepository,
+                                          MaterialJpaRepository materialJpaRepository) {
+        this.textoMaterialJpaRepository = textoMaterialJpaRepository;
+        this.materialJpaRepository = materialJpaRepository;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    @Transactional
+    public void salvar(TextoExtraido textoExtraido) {
+        TextoMaterialEntity entity = textoMaterialJpaRepository.findById(textoExtraido.getMaterialId())
+                .orElseGet(() -> {
+                    // Referência sem SELECT: o id do registro é derivado do material (@MapsId).
+                    TextoMaterialEntity novo = new TextoMaterialEntity();
+                    novo.setMaterial(materialJpaRepository.getReferenceById(textoExtraido.getMaterialId()));
+                    return novo;
+                });
+        TextoExtraidoMapper.preencher(textoExtraido, entity);
+        textoMaterialJpaRepository.save(entity);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    @Transactional(readOnly = true)
+    public Optional<TextoExtraido> buscarPorMaterialId(UUID materialId) {
+        return textoMaterialJpaRepository.findById(materialId)
+                .map(TextoExtraidoMapper::toDomain);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    @Transactional(readOnly = true)
+    public List<UUID> listarMateriaisPorStatus(Collection<StatusExtracao> status) {
+        return textoMaterialJpaRepository.findMaterialIdsByStatusIn(status);
+    }
+}
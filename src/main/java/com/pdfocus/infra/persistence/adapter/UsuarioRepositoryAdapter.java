@@ -8,6 +8,7 @@ import com.pdfocus.infra.persistence.repository.UsuarioJpaRepository;
 import org.springframework.stereotype.Component;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.time.LocalDate;
 import java.util.Optional;
 import java.util.UUID;
 
@@ -52,4 +53,10 @@ public class UsuarioRepositoryAdapter implements UsuarioRepository {
     public Optional<Usuario> buscarPorId(UUID id) {
            return usuarioJpaRepository.findById(id).map(usuarioMapper::toDomain);
         }
-}
\ No newline at end of file
+
+    @Override
+    @Transactional
+    public boolean consumirCotaResumo(UUID usuarioId, LocalDate hoje, int limite) {
+        return usuarioJpaRepository.incrementarResumosHoje(usuarioId, hoje, limite) == 1;
+    }
+}
@@ -0,0 +1,86 @@
+package com.pdfocus.infra.persistence.entity;
+
+import com.pdfocus.core.models.StatusJob;
+import jakarta.persistence.*;
+import lombok.*;
+import org.hibernate.annotations.CreationTimestamp;
+import org.hibernate.annotations.UpdateTimestamp;
+
+import java.time.OffsetDateTime;
+import java.util.UUID;
+
+/**
+ * Entidade JPA que representa um job de geração assíncrona de resumo.
+ * Mapeada para a tabela "jobs_resumo".
+ *
+ * <p>Os ids de material, disciplina e resumo são guardados sem chave estrangeira:
+ * o job é um histórico do pedido e continua consultável mesmo que esses registros
+ * sejam apagados depois.</p>
+ */
+@Entity
+@Table(name = "jobs_resumo")
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@EqualsAndHashCode(of = "id")
+public class JobResumoEntity {
+
+    @Id
+    @Column(name = "id")
+    private UUID id;
+
+    @Column(name = "usuario_id", nullable = false)
+    private UUID usuarioId;
+
+    @Column(name = "material_id", nullable = false)
+    private UUID materialId;
+
+    @Column(name = "disciplina_id", nullable = false)
+    private UUID disciplinaId;
+
+    /**
+     * Título informado no pedido (opcional).
+     */
+    @Column(name = "titulo", length = 255)
+    private String titulo;
+
+    /**
+     * Conteúdo informado no pedido (opcional).
+     */
+    @Column(name = "conteudo", columnDefinition = "TEXT")
+    private String conteudo;
+
+    /**
+     * Trecho do material a resumir (opcional): intervalo de páginas ou seção do sumário.
+     */
+    @Column(name = "pagina_inicial")
+    private Integer paginaInicial;
+
+    @Column(name = "pagina_final")
+    private Integer paginaFinal;
+
+    @Column(name = "secao", length = 50)
+    private String secao;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "status", nullable = false, length = 20)
+    private StatusJob status;
+
+    /**
+     * Resumo gerado, quando o job é concluído.
+     */
+    @Column(name = "resumo_id")
+    private UUID resumoId;
+
+    @Column(name = "mensagem_erro", length = 500)
+    private String mensagemErro;
+
+    @CreationTimestamp
+    @Column(name = "data_criacao", nullable = false, updatable = false)
+    private OffsetDateTime dataCriacao;
+
+    @UpdateTimestamp
+    @Column(name = "data_atualizacao", nullable = false)
+    private OffsetDateTime dataAtualizacao;
+}
@@ -9,7 +9,7 @@ import lombok.EqualsAndHashCode;
 import org.springframework.data.annotation.CreatedDate;
 import org.springframework.data.jpa.domain.support.AuditingEntityListener;
 
-import java.time.Instant;
+import java.time.OffsetDateTime;
 import java.util.UUID;
 
 /**
@@ -53,5 +53,11 @@ public class ResumoEntity {
     @JoinColumn(name = "disciplina_id", nullable = false)
     private DisciplinaEntity disciplina;
 
-
+    /**
+     * Momento de criação do resumo, vindo do domínio ({@code Resumo#getDataCriacao()}).
+     * Nunca é alterado depois da inserção; as linhas anteriores à coluna recebem o
+     * valor padrão definido na migração {@code V1__esquema_inicial.sql}.
+     */
+    @Column(name = "data_criacao", nullable = false, updatable = false)
+    private OffsetDateTime dataCriacao;
 }
\ No newline at end of file
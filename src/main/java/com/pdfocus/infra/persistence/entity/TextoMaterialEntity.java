@@ -0,0 +1,86 @@
+package com.pdfocus.infra.persistence.entity;
+
+import com.pdfocus.core.models.StatusExtracao;
+import jakarta.persistence.*;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+import org.hibernate.annotations.JdbcTypeCode;
+import org.hibernate.annotations.OnDelete;
+import org.hibernate.annotations.OnDeleteAction;
+import org.hibernate.annotations.UpdateTimestamp;
+import org.hibernate.type.SqlTypes;
+
+import java.time.OffsetDateTime;
+import java.util.UUID;
+
+/**
+ * Entidade JPA com o texto extraído de um material e o estado da extração.
+ * Mapeada para a tabela "textos_materiais".
+ *
+ * <p>Fica numa tabela separada de "materiais" para que listagens de materiais nunca
+ * carreguem o texto. A chave primária é o próprio id do material, e o registro é
+ * removido pelo banco (ON DELETE CASCADE) quando o material é apagado.</p>
+ */
+@Entity
+@Table(name = "textos_materiais")
+@Getter
+@Setter
+@NoArgsConstructor
+public class TextoMaterialEntity {
+
+    /**
+     * O identificador do material (Chave Primária e Estrangeira).
+     */
+    @Id
+    @Column(name = "material_id")
+    private UUID materialId;
+
+    /**
+     * O material de origem; fornece o valor de {@link #materialId}.
+     */
+    @MapsId
+    @OneToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "material_id")
+    @OnDelete(action = OnDeleteAction.CASCADE)
+    private MaterialEntity material;
+
+    /**
+     * O estado atual da extração.
+     */
+    @Enumerated(EnumType.STRING)
+    @Column(name = "status", nullable = false, length = 20)
+    private StatusExtracao status;
+
+    /**
+     * O texto extraído, em UTF-8 comprimido com gzip. Nulo enquanto a extração não termina.
+     */
+    @JdbcTypeCode(SqlTypes.LONG32VARBINARY)
+    @Column(name = "texto_gzip")
+    private byte[] textoGzip;
+
+    /**
+     * O tamanho do texto descomprimido, em caracteres.
+     */
+    @Column(name = "caracteres")
+    private Integer caracteres;
+
+    /**
+     * O número de páginas do documento, quando conhecido.
+     */
+    @Column(name = "paginas")
+    private Integer paginas;
+
+    /**
+     * O motivo da falha, quando o status é FALHOU.
+     */
+    @Column(name = "mensagem_erro", length = 500)
+    private String mensagemErro;
+
+    /**
+     * Momento da última mudança de estado.
+     */
+    @UpdateTimestamp
+    @Column(name = "data_atualizacao", nullable = false)
+    private OffsetDateTime dataAtualizacao;
+}
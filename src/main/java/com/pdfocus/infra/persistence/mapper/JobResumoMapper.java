@@ -0,0 +1,65 @@
+package com.pdfocus.infra.persistence.mapper;
+
+import com.pdfocus.core.models.JobResumo;
+import com.pdfocus.infra.persistence.entity.JobResumoEntity;
+
+/**
+ * Classe utilitária que converte entre o domínio {@link JobResumo} e a entidade
+ * JPA {@link JobResumoEntity}.
+ */
+public final class JobResumoMapper {
+
+    private JobResumoMapper() {
+        // Impede a instanciação.
+    }
+
+    /**
+     * Converte um {@link JobResumo} para a entidade JPA.
+     */
+    public static JobResumoEntity toEntity(JobResumo job) {
+        if (job == null) {
+            return null;
+        }
+        return new JobResumoEntity(
+                job.getId(),
+                job.getUsuarioId(),
+                job.getMaterialId(),
+                job.getDisciplinaId(),
+                job.getTitulo(),
+                job.getConteudo(),
+                job.getPaginaInicial(),
+                job.getPaginaFinal(),
+                job.getSecao(),
+                job.getStatus(),
+                job.getResumoId(),
+                job.getMensagemErro(),
+                job.getDataCriacao(),
+                job.getDataAtualizacao()
+        );
+    }
+
+    /**
+     * Converte a entidade JPA para o domínio {@link JobResumo}.
+     */
+    public static JobResumo toDomain(JobResumoEntity entity) {
+        if (entity == null) {
+            return null;
+        }
+        return JobResumo.reconstruir(
+                entity.getId(),
+                entity.getUsuarioId(),
+                entity.getMaterialId(),
+                entity.getDisciplinaId(),
+                entity.getTitulo(),
+                entity.getConteudo(),
+                entity.getPaginaInicial(),
+                entity.getPaginaFinal(),
+                entity.getSecao(),
+                entity.getStatus(),
+                entity.getResumoId(),
+                entity.getMensagemErro(),
+                entity.getDataCriacao(),
+                entity.getDataAtualizacao()
+        );
+    }
+}
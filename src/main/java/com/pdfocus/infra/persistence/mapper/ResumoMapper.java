@@ -32,54 +32,36 @@ public class ResumoMapper {
         entity.setConteudo(resumo.getConteudo());
         entity.setDisciplina(disciplinaEntity);
         entity.setMaterialId(resumo.getMaterialId()); // NOVO CAMPO (Este campo já estava no original que você mandou)
+        entity.setDataCriacao(resumo.getDataCriacao());
 
         return entity;
     }
 
     /**
      * Converte uma entidade JPA {@link ResumoEntity} para um objeto de domínio {@link Resumo}.
-     * (Versão ORIGINAL antes de adicionar dataCriacao)
+     * <p>
+     * Usa {@link Resumo#reconstruir}, que preserva a data de criação persistida e não repete
+     * as validações de criação a cada leitura.
+     * </p>
      */
     public static Resumo toDomain(ResumoEntity resumoEntity) {
         if (resumoEntity == null) {
             return null;
         }
 
-        Disciplina disciplina = null;
-        if (resumoEntity.getDisciplina() != null) {
-            // Assume que DisciplinaMapper.toDomain existe e funciona
-            disciplina = DisciplinaMapper.toDomain(resumoEntity.getDisciplina());
-        } else {
-            // Tratamento de erro se necessário, mas mantendo a lógica original
-            System.err.println("Aviso: ResumoEntity encontrada sem DisciplinaEntity associada (ID Resumo: " + resumoEntity.getId() + ")");
-            // Ou lançar exceção dependendo da sua regra
-        }
-
+        Disciplina disciplina = resumoEntity.getDisciplina() != null
+                ? DisciplinaMapper.toDomain(resumoEntity.getDisciplina())
+                : null;
 
-        // Lógica ORIGINAL que você tinha:
-        // Verificar se é um resumo baseado em material ou manual
-        if (resumoEntity.getMaterialId() != null) {
-            // Usar o factory method para resumos baseados em material
-            // (Este método Resumo.criarDeMaterial define a data como .now())
-            return Resumo.criarDeMaterial(
-                    resumoEntity.getId(),
-                    resumoEntity.getUsuarioId(),
-                    resumoEntity.getTitulo(),
-                    resumoEntity.getConteudo(),
-                    disciplina,
-                    resumoEntity.getMaterialId()
-            );
-        } else {
-            // Usar o factory method original para resumos manuais
-            // (Este método Resumo.criar também define a data como .now())
-            return Resumo.criar(
-                    resumoEntity.getId(),
-                    resumoEntity.getUsuarioId(),
-                    resumoEntity.getTitulo(),
-                    resumoEntity.getConteudo(),
-                    disciplina
-            );
-        }
+        return Resumo.reconstruir(
+                resumoEntity.getId(),
+                resumoEntity.getUsuarioId(),
+                resumoEntity.getTitulo(),
+                resumoEntity.getConteudo(),
+                disciplina,
+                resumoEntity.getMaterialId(),
+                resumoEntity.getDataCriacao()
+        );
     }
 
     /**
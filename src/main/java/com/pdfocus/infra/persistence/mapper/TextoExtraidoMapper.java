@@ -0,0 +1,81 @@
+package com.pdfocus.infra.persistence.mapper;
+
+import com.pdfocus.core.models.TextoExtraido;
+import com.pdfocus.infra.persistence.entity.TextoMaterialEntity;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.util.zip.GZIPInputStream;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * Classe utilitária que converte entre o domínio {@link TextoExtraido} e a entidade
+ * JPA {@link TextoMaterialEntity}, comprimindo o texto com gzip na ida e
+ * descomprimindo na volta.
+ */
+public final class TextoExtraidoMapper {
+
+    private TextoExtraidoMapper() {
+        // Impede a instanciação.
+    }
+
+    /**
+     * Copia o estado do domínio para uma entidade nova ou já gerenciada.
+     * A associação com o material não é alterada.
+     *
+     * @param textoExtraido O estado da extração.
+     * @param entity        A entidade a ser preenchida.
+     */
+    public static void preencher(TextoExtraido textoExtraido, TextoMaterialEntity entity) {
+        String texto = textoExtraido.getTexto();
+        entity.setStatus(textoExtraido.getStatus());
+        entity.setTextoGzip(texto == null ? null : comprimir(texto));
+        entity.setCaracteres(texto == null ? null : texto.length());
+        entity.setPaginas(textoExtraido.getPaginas());
+        entity.setMensagemErro(textoExtraido.getMensagemErro());
+    }
+
+    /**
+     * Converte uma entidade JPA para o domínio, descomprimindo o texto.
+     *
+     * @param entity A entidade persistida.
+     * @return O {@link TextoExtraido} correspondente, ou {@code null} se a entidade for nula.
+     */
+    public static TextoExtraido toDomain(TextoMaterialEntity entity) {
+        if (entity == null) {
+            return null;
+        }
+        String texto = entity.getTextoGzip() == null ? null : descomprimir(entity.getTextoGzip());
+        return TextoExtraido.reconstruir(
+                entity.getMaterialId(),
+                entity.getStatus(),
+                texto,
+                entity.getPaginas(),
+                entity.getMensagemErro()
+        );
+    }
+
+    static byte[] comprimir(String texto) {
+        ByteArrayOutputStream buffer = new ByteArrayOutputStream(Math.max(64, texto.length() / 4));
+        try (OutputStream saida = new GZIPOutputStream(buffer)) {
+            saida.write(texto.getBytes(StandardCharsets.UTF_8));
+        } catch (IOException e) {
+            // Não ocorre ao escrever em memória
+            throw new UncheckedIOException(e);
+        }
+        return buffer.toByteArray();
+    }
+
+    static String descomprimir(byte[] gzip) {
+        try (InputStream entrada = new GZIPInputStream(new ByteArrayInputStream(gzip))) {
+            return new String(entrada.readAllBytes(), StandardCharsets.UTF_8);
+        } catch (IOException e) {
+            throw new UncheckedIOException("Texto extraído corrompido no banco de dados", e);
+        }
+    }
+}
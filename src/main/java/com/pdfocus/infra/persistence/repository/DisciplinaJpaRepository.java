@@ -2,6 +2,9 @@ package com.pdfocus.infra.persistence.repository;
 
 import com.pdfocus.infra.persistence.entity.DisciplinaEntity;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import java.util.List;
@@ -50,4 +53,18 @@ public interface DisciplinaJpaRepository  extends JpaRepository<DisciplinaEntity
      */
     long countByUsuarioId(UUID usuarioId);
 
+    /**
+     * Exclui uma disciplina com um único {@code DELETE}.
+     * <p>
+     * Ao contrário de {@code deleteById}, não carrega a entidade e, por isso, não dispara o
+     * {@code cascade} da coleção {@code resumos}, que carregaria todos os resumos para
+     * excluí-los um a um. Os resumos e materiais devem ser excluídos antes.
+     * </p>
+     *
+     * @param id O ID da disciplina.
+     * @return O número de disciplinas excluídas (0 ou 1).
+     */
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("DELETE FROM DisciplinaEntity d WHERE d.id = :id")
+    int deletarPorId(@Param("id") UUID id);
 }
\ No newline at end of file
@@ -0,0 +1,45 @@
+package com.pdfocus.infra.persistence.repository;
+
+import com.pdfocus.core.models.StatusJob;
+import com.pdfocus.infra.persistence.entity.JobResumoEntity;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.OffsetDateTime;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+
+/**
+ * Interface de Repositório Spring Data JPA para a entidade {@link JobResumoEntity}.
+ */
+@Repository
+public interface JobResumoJpaRepository extends JpaRepository<JobResumoEntity, UUID> {
+
+    /**
+     * Busca um job pelo id, garantindo que pertença ao usuário.
+     */
+    Optional<JobResumoEntity> findByIdAndUsuarioId(UUID id, UUID usuarioId);
+
+    /**
+     * Lista os jobs em algum dos estados informados, do mais antigo para o mais recente.
+     */
+    List<JobResumoEntity> findAllByStatusInOrderByDataCriacaoAsc(Collection<StatusJob> status);
+
+    /**
+     * Troca o estado do job apenas se ele ainda estiver no estado esperado (compare-and-set).
+     *
+     * @return O número de linhas alteradas (0 ou 1).
+     */
+    @Modifying
+    @Query("UPDATE JobResumoEntity j SET j.status = :novo, j.dataAtualizacao = :agora " +
+            "WHERE j.id = :id AND j.status = :esperado")
+    int trocarStatus(@Param("id") UUID id,
+                     @Param("esperado") StatusJob esperado,
+                     @Param("novo") StatusJob novo,
+                     @Param("agora") OffsetDateTime agora);
+}
@@ -1,13 +1,18 @@
 package com.pdfocus.infra.persistence.repository;
 
+import com.pdfocus.application.material.dto.MaterialListagem;
 import com.pdfocus.infra.persistence.entity.MaterialEntity;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.time.OffsetDateTime;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
@@ -94,22 +99,79 @@ public interface MaterialJpaRepository extends JpaRepository<MaterialEntity, UUI
     // --- FIM DA MELHORIA ---
 
     /**
-     * Busca materiais de uma disciplina de forma paginada.
-     * O Spring Data JPA lê o nome deste método e automaticamente cria a consulta.
+     * Busca materiais de uma disciplina de forma paginada, selecionando apenas as colunas de
+     * listagem (expressão de construtor), sem carregar as entidades no contexto de persistência.
      *
      * @param disciplinaId O ID da disciplina para filtrar.
      * @param pageable As informações de paginação.
-     * @return Uma página de entidades de material.
+     * @return Uma página de {@link MaterialListagem}.
      */
-    Page<MaterialEntity> findByDisciplinaId(UUID disciplinaId, Pageable pageable);
+    @Query(value = "SELECT new com.pdfocus.application.material.dto.MaterialListagem(" +
+            "m.id, m.nomeOriginal, m.tipoArquivo, m.tamanho, m.dataUpload) " +
+            "FROM MaterialEntity m WHERE m.disciplina.id = :disciplinaId",
+            countQuery = "SELECT COUNT(m) FROM MaterialEntity m WHERE m.disciplina.id = :disciplinaId")
+    Page<MaterialListagem> findListagemByDisciplinaId(@Param("disciplinaId") UUID disciplinaId, Pageable pageable);
 
     /**
-     * Encontra todos os materiais de uma disciplina específica (sem verificação de usuário).
-     * Usado para operações internas, como deleção em cascata, onde a permissão
-     * do usuário já foi validada em um nível superior (no service).
+     * Primeira página da listagem por cursor dos materiais de uma disciplina e de um usuário,
+     * do mais recente para o mais antigo.
+     * <p>
+     * Com retorno {@link Slice}, o Spring Data busca um item a mais para saber se há próxima
+     * página, sem executar {@code COUNT}.
+     * </p>
+     *
+     * @param disciplinaId O ID da disciplina.
+     * @param usuarioId O ID do usuário proprietário.
+     * @param pageable O tamanho da página (o deslocamento é sempre zero).
+     * @return A fatia de {@link MaterialListagem}, ordenada por {@code (dataUpload, id)} decrescentes.
+     */
+    @Query("SELECT new com.pdfocus.application.material.dto.MaterialListagem(" +
+            "m.id, m.nomeOriginal, m.tipoArquivo, m.tamanho, m.dataUpload) " +
+            "FROM MaterialEntity m WHERE m.disciplina.id = :disciplinaId AND m.usuarioId = :usuarioId " +
+            "ORDER BY m.dataUpload DESC, m.id DESC")
+    Slice<MaterialListagem> findFatiaListagem(@Param("disciplinaId") UUID disciplinaId,
+                                              @Param("usuarioId") UUID usuarioId, Pageable pageable);
+
+    /**
+     * Página seguinte da listagem por cursor: os materiais que vêm depois de
+     * {@code (aposData, aposId)} na ordem decrescente de {@code (dataUpload, id)}.
+     *
+     * @param disciplinaId O ID da disciplina.
+     * @param usuarioId O ID do usuário proprietário.
+     * @param aposData A data de upload do último material da página anterior.
+     * @param aposId O ID do último material da página anterior.
+     * @param pageable O tamanho da página (o deslocamento é sempre zero).
+     * @return A fatia de {@link MaterialListagem}, ordenada por {@code (dataUpload, id)} decrescentes.
+     */
+    @Query("SELECT new com.pdfocus.application.material.dto.MaterialListagem(" +
+            "m.id, m.nomeOriginal, m.tipoArquivo, m.tamanho, m.dataUpload) " +
+            "FROM MaterialEntity m WHERE m.disciplina.id = :disciplinaId AND m.usuarioId = :usuarioId " +
+            "AND (m.dataUpload < :aposData OR (m.dataUpload = :aposData AND m.id < :aposId)) " +
+            "ORDER BY m.dataUpload DESC, m.id DESC")
+    Slice<MaterialListagem> findFatiaListagemApos(@Param("disciplinaId") UUID disciplinaId,
+                                                  @Param("usuarioId") UUID usuarioId,
+                                                  @Param("aposData") OffsetDateTime aposData,
+                                                  @Param("aposId") UUID aposId, Pageable pageable);
+
+    /**
+     * Exclui todos os materiais de uma disciplina com um único {@code DELETE}, sem carregá-los
+     * no contexto de persistência. O texto extraído ({@code textos_materiais}) é excluído pelo
+     * {@code ON DELETE CASCADE} da chave estrangeira.
+     *
+     * @param disciplinaId O ID da disciplina.
+     * @return O número de materiais excluídos.
+     */
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("DELETE FROM MaterialEntity m WHERE m.disciplina.id = :disciplinaId")
+    int deletarTodosPorDisciplinaId(@Param("disciplinaId") UUID disciplinaId);
+
+    /**
+     * Retorna, dentre os nomes informados, os que existem na coluna {@code nome_storage}
+     * (coberta pelo índice da restrição {@code unique}).
      *
-     * @param disciplinaId O ID da disciplina
-     * @return Lista de materiais da disciplina
+     * @param nomes Os nomes de armazenamento a verificar.
+     * @return Os nomes encontrados.
      */
-    List<MaterialEntity> findByDisciplinaId(UUID disciplinaId);
-}
\ No newline at end of file
+    @Query("SELECT m.nomeStorage FROM MaterialEntity m WHERE m.nomeStorage IN :nomes")
+    List<String> findNomesStorageExistentes(@Param("nomes") Collection<String> nomes);
+}
@@ -1,8 +1,15 @@
 package com.pdfocus.infra.persistence.repository;
 
+import com.pdfocus.application.resumo.dto.ResumoListagem;
 import com.pdfocus.infra.persistence.entity.ResumoEntity;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
+import java.time.OffsetDateTime;
 import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
@@ -12,13 +19,66 @@ public interface ResumoJpaRepository extends JpaRepository<ResumoEntity, UUID> {
     Optional<ResumoEntity> findByIdAndUsuarioId(UUID id ,UUID usuarioId);
 
     /**
-     * Lista todos os resumos pertencentes a um usuário específico.
-     * O Spring Data JPA criará a consulta automaticamente.
+     * Lista os resumos de um usuário selecionando apenas as colunas de listagem
+     * (expressão de construtor): o {@code conteudo} não é lido e nenhuma entidade é carregada.
      *
      * @param usuarioId O ID do usuário.
-     * @return Uma lista de {@link ResumoEntity} do usuário. Pode retornar uma lista vazia.
+     * @return Uma lista de {@link ResumoListagem} do usuário. Pode retornar uma lista vazia.
      */
-    List<ResumoEntity> findAllByUsuarioId(UUID usuarioId);
+    @Query("SELECT new com.pdfocus.application.resumo.dto.ResumoListagem(" +
+            "r.id, r.titulo, r.disciplina.id, r.materialId, r.dataCriacao) " +
+            "FROM ResumoEntity r WHERE r.usuarioId = :usuarioId ORDER BY r.dataCriacao DESC, r.id DESC")
+    List<ResumoListagem> findListagemByUsuarioId(@Param("usuarioId") UUID usuarioId);
+
+    /**
+     * Primeira página da listagem por cursor dos resumos de um usuário.
+     * <p>
+     * Com retorno {@link Slice}, o Spring Data busca um item a mais para saber se há próxima
+     * página, sem executar {@code COUNT}.
+     * </p>
+     *
+     * @param usuarioId O ID do usuário.
+     * @param pageable  O tamanho da página (o deslocamento é sempre zero).
+     * @return A fatia de {@link ResumoListagem}, ordenada por {@code (dataCriacao, id)} decrescentes.
+     */
+    @Query("SELECT new com.pdfocus.application.resumo.dto.ResumoListagem(" +
+            "r.id, r.titulo, r.disciplina.id, r.materialId, r.dataCriacao) " +
+            "FROM ResumoEntity r WHERE r.usuarioId = :usuarioId ORDER BY r.dataCriacao DESC, r.id DESC")
+    Slice<ResumoListagem> findFatiaListagemByUsuarioId(@Param("usuarioId") UUID usuarioId, Pageable pageable);
+
+    /**
+     * Página seguinte da listagem por cursor: os resumos que vêm depois de
+     * {@code (aposData, aposId)} na ordem decrescente de {@code (dataCriacao, id)}.
+     *
+     * @param usuarioId O ID do usuário.
+     * @param aposData  A data de criação do último resumo da página anterior.
+     * @param aposId    O ID do último resumo da página anterior.
+     * @param pageable  O tamanho da página (o deslocamento é sempre zero).
+     * @return A fatia de {@link ResumoListagem}, ordenada por {@code (dataCriacao, id)} decrescentes.
+     */
+    @Query("SELECT new com.pdfocus.application.resumo.dto.ResumoListagem(" +
+            "r.id, r.titulo, r.disciplina.id, r.materialId, r.dataCriacao) " +
+            "FROM ResumoEntity r WHERE r.usuarioId = :usuarioId " +
+            "AND (r.dataCriacao < :aposData OR (r.dataCriacao = :aposData AND r.id < :aposId)) " +
+            "ORDER BY r.dataCriacao DESC, r.id DESC")
+    Slice<ResumoListagem> findFatiaListagemByUsuarioIdApos(@Param("usuarioId") UUID usuarioId,
+                                                          @Param("aposData") OffsetDateTime aposData,
+                                                          @Param("aposId") UUID aposId, Pageable pageable);
+
+    /**
+     * Lista os resumos de uma disciplina e de um usuário selecionando apenas as colunas de
+     * listagem, sem ler o {@code conteudo}.
+     *
+     * @param disciplinaId O ID da disciplina.
+     * @param usuarioId O ID do usuário.
+     * @return Uma lista de {@link ResumoListagem}. Pode retornar uma lista vazia.
+     */
+    @Query("SELECT new com.pdfocus.application.resumo.dto.ResumoListagem(" +
+            "r.id, r.titulo, r.disciplina.id, r.materialId, r.dataCriacao) " +
+            "FROM ResumoEntity r WHERE r.disciplina.id = :disciplinaId AND r.usuarioId = :usuarioId " +
+            "ORDER BY r.dataCriacao DESC, r.id DESC")
+    List<ResumoListagem> findListagemByDisciplinaIdAndUsuarioId(@Param("disciplinaId") UUID disciplinaId,
+                                                                @Param("usuarioId") UUID usuarioId);
 
 
     /**
@@ -51,12 +111,18 @@ public interface ResumoJpaRepository extends JpaRepository<ResumoEntity, UUID> {
     long countByUsuarioId(UUID usuarioId);
 
     /**
-     * Encontra todos os resumos de uma disciplina específica (sem verificação de usuário).
-     * Usado para operações de deleção em cascata onde já validamos a permissão do usuário.
+     * Exclui todos os resumos de uma disciplina com um único {@code DELETE}, sem carregá-los
+     * (nem o {@code conteudo}) no contexto de persistência.
+     * <p>
+     * O contexto é sincronizado antes e limpo depois, para que nenhuma entidade já carregada
+     * continue apontando para linhas excluídas.
+     * </p>
      *
-     * @param disciplinaId O ID da disciplina
-     * @return Lista de resumos da disciplina
+     * @param disciplinaId O ID da disciplina.
+     * @return O número de resumos excluídos.
      */
-    List<ResumoEntity> findByDisciplinaId(UUID disciplinaId);
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("DELETE FROM ResumoEntity r WHERE r.disciplina.id = :disciplinaId")
+    int deletarTodosPorDisciplinaId(@Param("disciplinaId") UUID disciplinaId);
 }
 
@@ -0,0 +1,26 @@
+package com.pdfocus.infra.persistence.repository;
+
+import com.pdfocus.core.models.StatusExtracao;
+import com.pdfocus.infra.persistence.entity.TextoMaterialEntity;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Interface de Repositório Spring Data JPA para a entidade {@link TextoMaterialEntity}.
+ * A chave é o id do material.
+ */
+@Repository
+public interface TextoMaterialJpaRepository extends JpaRepository<TextoMaterialEntity, UUID> {
+
+    /**
+     * Projeta apenas os ids, sem carregar o texto compactado.
+     */
+    @Query("SELECT t.materialId FROM TextoMaterialEntity t WHERE t.status IN :status ORDER BY t.dataAtualizacao ASC")
+    List<UUID> findMaterialIdsByStatusIn(@Param("status") Collection<StatusExtracao> status);
+}
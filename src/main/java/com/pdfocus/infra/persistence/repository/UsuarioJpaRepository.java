@@ -3,8 +3,12 @@ package com.pdfocus.infra.persistence.repository;
 import com.pdfocus.infra.persistence.entity.ResumoEntity;
 import com.pdfocus.infra.persistence.entity.UsuarioEntity;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.time.LocalDate;
 import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
@@ -33,4 +37,23 @@ public interface UsuarioJpaRepository extends JpaRepository<UsuarioEntity, UUID>
      */
     Optional<UsuarioEntity> findByEmail(String email);
 
+    /**
+     * Incrementa o contador diário de resumos em um único UPDATE, condicionado ao limite.
+     * <p>
+     * Se o último uso não foi em {@code hoje}, o contador recomeça em 1. A condição no
+     * {@code WHERE} garante que requisições concorrentes não ultrapassem o limite.
+     * </p>
+     *
+     * @return 1 se o contador foi incrementado; 0 se o limite já havia sido atingido.
+     */
+    @Modifying(flushAutomatically = true)
+    @Query("UPDATE UsuarioEntity u SET " +
+            "u.resumosHoje = CASE WHEN u.dataUltimoUso = :hoje THEN COALESCE(u.resumosHoje, 0) + 1 ELSE 1 END, " +
+            "u.dataUltimoUso = :hoje " +
+            "WHERE u.id = :id AND (u.dataUltimoUso IS NULL OR u.dataUltimoUso <> :hoje " +
+            "OR COALESCE(u.resumosHoje, 0) < :limite)")
+    int incrementarResumosHoje(@Param("id") UUID id,
+                               @Param("hoje") LocalDate hoje,
+                               @Param("limite") int limite);
+
 }
\ No newline at end of file
@@ -0,0 +1,85 @@
+package com.pdfocus.infra.resumidor;
+
+/**
+ * Max-heap de índices de frases ordenado pela pontuação de relevância.
+ *
+ * <p>Substitui a ordenação completa das frases na etapa de seleção: o heap é montado
+ * em {@code O(n)} sobre um {@code int[]} de índices e cada extração custa {@code O(log n)}.
+ * Como a seleção para assim que o orçamento de palavras se esgota, apenas as poucas
+ * frases que de fato entram no resumo (as top-k) são extraídas, sem criar nenhum
+ * {@link Integer} nem lista intermediária.</p>
+ *
+ * <p>Empates de pontuação são resolvidos pelo menor índice, preservando a ordem
+ * original do texto (o mesmo resultado de uma ordenação estável decrescente).</p>
+ *
+ * <p>Não é thread-safe; cada seleção cria a sua própria instância.</p>
+ */
+public final class HeapRelevancia {
+
+    private final double[] pontuacao;
+    private final int[] heap;
+    private int tamanho;
+
+    /**
+     * Monta o heap com as frases do intervalo {@code [de, ate)}.
+     *
+     * @param pontuacao A pontuação de cada frase, indexada pela posição da frase.
+     * @param de        Primeiro índice candidato (inclusivo).
+     * @param ate       Último índice candidato (exclusivo).
+     */
+    public HeapRelevancia(double[] pontuacao, int de, int ate) {
+        this.pontuacao = pontuacao;
+        this.tamanho = Math.max(0, ate - de);
+        this.heap = new int[tamanho];
+        for (int i = 0; i < tamanho; i++) {
+            heap[i] = de + i;
+        }
+        for (int i = tamanho / 2 - 1; i >= 0; i--) {
+            descer(i);
+        }
+    }
+
+    /** @return {@code true} se não houver mais frases a extrair. */
+    public boolean isEmpty() {
+        return tamanho == 0;
+    }
+
+    /**
+     * Remove e retorna o índice da frase mais relevante ainda no heap.
+     *
+     * @return O índice da frase com maior pontuação.
+     * @throws IllegalStateException se o heap estiver vazio.
+     */
+    public int extrairMaisRelevante() {
+        if (tamanho == 0) {
+            throw new IllegalStateException("Não há frases restantes no heap.");
+        }
+        int topo = heap[0];
+        heap[0] = heap[--tamanho];
+        descer(0);
+        return topo;
+    }
+
+    private void descer(int posicao) {
+        int atual = heap[posicao];
+        int metade = tamanho >>> 1;
+        while (posicao < metade) {
+            int filho = 2 * posicao + 1;
+            int direito = filho + 1;
+            if (direito < tamanho && maisRelevante(heap[direito], heap[filho])) {
+                filho = direito;
+            }
+            if (!maisRelevante(heap[filho], atual)) {
+                break;
+            }
+            heap[posicao] = heap[filho];
+            posicao = filho;
+        }
+        heap[posicao] = atual;
+    }
+
+    private boolean maisRelevante(int a, int b) {
+        int comparacao = Double.compare(pontuacao[a], pontuacao[b]);
+        return comparacao > 0 || (comparacao == 0 && a < b);
+    }
+}
@@ -0,0 +1,306 @@
+package com.pdfocus.infra.resumidor;
+
+import org.springframework.stereotype.Component;
+
+import java.util.Arrays;
+
+/**
+ * Calcula a centralidade de cada frase de uma {@link TabelaFrases} no estilo
+ * TextRank/LexRank: as frases são vértices de um grafo ponderado pela similaridade
+ * de cosseno entre os seus vetores TF-IDF, e a relevância é o vetor estacionário de um
+ * passeio aleatório (PageRank) sobre esse grafo.
+ *
+ * <p>Para que a memória cresça linearmente com o documento, nenhuma matriz densa
+ * {@code n×n} é criada:</p>
+ * <ul>
+ * <li>Os vetores das frases e o índice invertido termo → frases ficam em arrays CSR.</li>
+ * <li>As similaridades de cada frase são acumuladas apenas contra as frases que
+ *     compartilham algum termo; termos presentes em mais de {@link #MAX_FRASES_POR_TERMO}
+ *     frases (de IDF muito baixo) são ignorados nessa etapa.</li>
+ * <li>Cada frase mantém no máximo {@link #MAX_VIZINHOS} arestas, as de maior similaridade
+ *     acima de {@link #LIMIAR_SIMILARIDADE}.</li>
+ * <li>O método da potência para após {@link #MAX_ITERACOES} iterações ou quando a
+ *     variação total fica abaixo de {@link #TOLERANCIA}.</li>
+ * </ul>
+ *
+ * <p>Não guarda estado entre chamadas e é seguro para uso concorrente.</p>
+ */
+@Component
+public class RankeadorTextRank {
+
+    /** Fator de amortecimento do passeio aleatório. */
+    static final double AMORTECIMENTO = 0.85;
+
+    /** Número máximo de iterações do método da potência. */
+    static final int MAX_ITERACOES = 50;
+
+    /** Variação total (norma L1) abaixo da qual a iteração é considerada convergida. */
+    static final double TOLERANCIA = 1e-6;
+
+    /** Similaridade mínima para que duas frases sejam ligadas por uma aresta. */
+    static final double LIMIAR_SIMILARIDADE = 0.1;
+
+    /** Número máximo de arestas mantidas por frase. */
+    static final int MAX_VIZINHOS = 20;
+
+    /** Termos presentes em mais frases do que isto não geram arestas. */
+    static final int MAX_FRASES_POR_TERMO = 200;
+
+    /**
+     * Calcula a relevância de cada frase.
+     *
+     * @param tabela A tabela de frases do documento.
+     * @return Um array indexado pela posição da frase com a sua pontuação; as pontuações somam 1.
+     */
+    public double[] ranquear(TabelaFrases tabela) {
+        int n = tabela.quantidade();
+        if (n == 0) {
+            return new double[0];
+        }
+        VetoresFrases vetores = VetoresFrases.construir(tabela);
+        Grafo grafo = Grafo.construir(vetores, n);
+        return iterar(grafo, n);
+    }
+
+    private static double[] iterar(Grafo grafo, int n) {
+        double[] atual = new double[n];
+        double[] proximo = new double[n];
+        Arrays.fill(atual, 1.0 / n);
+
+        for (int iteracao = 0; iteracao < MAX_ITERACOES; iteracao++) {
+            // Frases sem arestas distribuem a sua pontuação uniformemente.
+            double semSaida = 0.0;
+            for (int j = 0; j < n; j++) {
+                if (grafo.inicio[j] == grafo.inicio[j + 1]) {
+                    semSaida += atual[j];
+                }
+            }
+            Arrays.fill(proximo, (1.0 - AMORTECIMENTO) / n + AMORTECIMENTO * semSaida / n);
+
+            for (int j = 0; j < n; j++) {
+                double contribuicao = AMORTECIMENTO * atual[j];
+                for (int a = grafo.inicio[j], fim = grafo.inicio[j + 1]; a < fim; a++) {
+                    proximo[grafo.destino[a]] += contribuicao * grafo.peso[a];
+                }
+            }
+
+            double variacao = 0.0;
+            for (int i = 0; i < n; i++) {
+                variacao += Math.abs(proximo[i] - atual[i]);
+            }
+            double[] troca = atual;
+            atual = proximo;
+            proximo = troca;
+            if (variacao < TOLERANCIA) {
+                break;
+            }
+        }
+        return atual;
+    }
+
+    /**
+     * Vetores TF-IDF esparsos das frases e o índice invertido correspondente, ambos em CSR.
+     */
+    private static final class VetoresFrases {
+        // Vetor da frase i: posições [vetorInicio[i], vetorInicio[i + 1]) de vetorTermo/vetorPeso.
+        int[] vetorInicio;
+        int[] vetorTermo;
+        double[] vetorPeso;
+        double[] norma;
+        // Frases do termo t: posições [indiceInicio[t], indiceInicio[t + 1]) de indiceFrase/indicePeso.
+        int[] indiceInicio;
+        int[] indiceFrase;
+        double[] indicePeso;
+
+        static VetoresFrases construir(TabelaFrases tabela) {
+            int n = tabela.quantidade();
+            int vocabulario = tabela.tamanhoVocabulario();
+            VetoresFrases v = new VetoresFrases();
+
+            // 1. Frequência de cada termo dentro de cada frase (termos distintos por frase).
+            int[] ultimaFrase = new int[vocabulario];
+            int[] posicaoNoVetor = new int[vocabulario];
+            Arrays.fill(ultimaFrase, -1);
+            v.vetorInicio = new int[n + 1];
+            v.vetorTermo = new int[tabela.totalTermos()];
+            int[] frequencia = new int[tabela.totalTermos()];
+            int[] frasesDoTermo = new int[vocabulario];
+            int total = 0;
+            for (int i = 0; i < n; i++) {
+                v.vetorInicio[i] = total;
+                for (int p = tabela.inicioTermos(i), fim = tabela.fimTermos(i); p < fim; p++) {
+                    int termo = tabela.termo(p);
+                    if (ultimaFrase[termo] != i) {
+                        ultimaFrase[termo] = i;
+                        posicaoNoVetor[termo] = total;
+                        v.vetorTermo[total] = termo;
+                        frequencia[total++] = 1;
+                        frasesDoTermo[termo]++;
+                    } else {
+                        frequencia[posicaoNoVetor[termo]]++;
+                    }
+                }
+            }
+            v.vetorInicio[n] = total;
+
+            // 2. Pesos TF-IDF e norma de cada frase.
+            double[] idf = new double[vocabulario];
+            for (int t = 0; t < vocabulario; t++) {
+                idf[t] = frasesDoTermo[t] == 0 ? 0.0 : Math.log(1.0 + (double) n / frasesDoTermo[t]);
+            }
+            v.vetorPeso = new double[total];
+            v.norma = new double[n];
+            for (int i = 0; i < n; i++) {
+                double soma = 0.0;
+                for (int p = v.vetorInicio[i]; p < v.vetorInicio[i + 1]; p++) {
+                    double peso = frequencia[p] * idf[v.vetorTermo[p]];
+                    v.vetorPeso[p] = peso;
+                    soma += peso * peso;
+                }
+                v.norma[i] = Math.sqrt(soma);
+            }
+
+            // 3. Índice invertido (termo -> frases), na ordem das frases.
+            v.indiceInicio = new int[vocabulario + 1];
+            for (int t = 0; t < vocabulario; t++) {
+                v.indiceInicio[t + 1] = v.indiceInicio[t] + frasesDoTermo[t];
+            }
+            int[] cursor = Arrays.copyOf(v.indiceInicio, vocabulario);
+            v.indiceFrase = new int[total];
+            v.indicePeso = new double[total];
+            for (int i = 0; i < n; i++) {
+                for (int p = v.vetorInicio[i]; p < v.vetorInicio[i + 1]; p++) {
+                    int destino = cursor[v.vetorTermo[p]]++;
+                    v.indiceFrase[destino] = i;
+                    v.indicePeso[destino] = v.vetorPeso[p];
+                }
+            }
+            return v;
+        }
+
+        int frasesDoTermo(int termo) {
+            return indiceInicio[termo + 1] - indiceInicio[termo];
+        }
+    }
+
+    /**
+     * Grafo de similaridade em CSR, com os pesos de saída de cada frase normalizados para somar 1.
+     */
+    private static final class Grafo {
+        int[] inicio;
+        int[] destino;
+        double[] peso;
+
+        static Grafo construir(VetoresFrases v, int n) {
+            Grafo g = new Grafo();
+            g.inicio = new int[n + 1];
+            g.destino = new int[Math.max(16, n * 4)];
+            g.peso = new double[g.destino.length];
+            int arestas = 0;
+
+            // Acumulador esparso: produto escalar parcial com cada frase tocada.
+            double[] acumulado = new double[n];
+            int[] tocadas = new int[n];
+            // Min-heap com as melhores arestas da frase atual (a pior fica no topo).
+            int[] vizinhos = new int[MAX_VIZINHOS];
+            double[] similaridades = new double[MAX_VIZINHOS];
+
+            for (int i = 0; i < n; i++) {
+                g.inicio[i] = arestas;
+                if (v.norma[i] == 0.0) {
+                    continue;
+                }
+
+                int quantidadeTocadas = 0;
+                for (int p = v.vetorInicio[i]; p < v.vetorInicio[i + 1]; p++) {
+                    int termo = v.vetorTermo[p];
+                    if (v.frasesDoTermo(termo) > MAX_FRASES_POR_TERMO) {
+                        continue;
+                    }
+                    double pesoI = v.vetorPeso[p];
+                    for (int q = v.indiceInicio[termo]; q < v.indiceInicio[termo + 1]; q++) {
+                        int j = v.indiceFrase[q];
+                        if (j == i) {
+                            continue;
+                        }
+                        if (acumulado[j] == 0.0) {
+                            tocadas[quantidadeTocadas++] = j;
+                        }
+                        acumulado[j] += pesoI * v.indicePeso[q];
+                    }
+                }
+
+                int melhores = 0;
+                for (int k = 0; k < quantidadeTocadas; k++) {
+                    int j = tocadas[k];
+                    double similaridade = acumulado[j] / (v.norma[i] * v.norma[j]);
+                    acumulado[j] = 0.0;
+                    if (similaridade < LIMIAR_SIMILARIDADE) {
+                        continue;
+                    }
+                    if (melhores < MAX_VIZINHOS) {
+                        vizinhos[melhores] = j;
+                        similaridades[melhores] = similaridade;
+                        subir(vizinhos, similaridades, melhores++);
+                    } else if (similaridade > similaridades[0]) {
+                        vizinhos[0] = j;
+                        similaridades[0] = similaridade;
+                        descer(vizinhos, similaridades, melhores);
+                    }
+                }
+
+                if (arestas + melhores > g.destino.length) {
+                    int capacidade = Math.max(g.destino.length * 2, arestas + melhores);
+                    g.destino = Arrays.copyOf(g.destino, capacidade);
+                    g.peso = Arrays.copyOf(g.peso, capacidade);
+                }
+                double soma = 0.0;
+                for (int k = 0; k < melhores; k++) {
+                    soma += similaridades[k];
+                }
+                for (int k = 0; k < melhores; k++) {
+                    g.destino[arestas] = vizinhos[k];
+                    g.peso[arestas++] = similaridades[k] / soma;
+                }
+            }
+            g.inicio[n] = arestas;
+            return g;
+        }
+
+        private static void subir(int[] vizinhos, double[] similaridades, int posicao) {
+            while (posicao > 0) {
+                int pai = (posicao - 1) >>> 1;
+                if (similaridades[pai] <= similaridades[posicao]) {
+                    return;
+                }
+                trocar(vizinhos, similaridades, pai, posicao);
+                posicao = pai;
+            }
+        }
+
+        private static void descer(int[] vizinhos, double[] similaridades, int tamanho) {
+            int posicao = 0;
+            while (true) {
+                int menor = posicao;
+                int esquerdo = 2 * posicao + 1;
+                int direito = esquerdo + 1;
+                if (esquerdo < tamanho && similaridades[esquerdo] < similaridades[menor]) menor = esquerdo;
+                if (direito < tamanho && similaridades[direito] < similaridades[menor]) menor = direito;
+                if (menor == posicao) {
+                    return;
+                }
+                trocar(vizinhos, similaridades, posicao, menor);
+                posicao = menor;
+            }
+        }
+
+        private static void trocar(int[] vizinhos, double[] similaridades, int a, int b) {
+            int vizinho = vizinhos[a];
+            vizinhos[a] = vizinhos[b];
+            vizinhos[b] = vizinho;
+            double similaridade = similaridades[a];
+            similaridades[a] = similaridades[b];
+            similaridades[b] = similaridade;
+        }
+    }
+}
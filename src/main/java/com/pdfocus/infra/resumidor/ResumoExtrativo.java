@@ -0,0 +1,118 @@
+package com.pdfocus.infra.resumidor;
+
+import java.util.BitSet;
+
+/**
+ * Rotinas compartilhadas pelos resumidores extrativos locais: seleção das frases mais
+ * relevantes dentro de um orçamento de palavras, montagem do texto final e o resumo
+ * básico usado como fallback.
+ *
+ * <p>Classe utilitária sem estado; não deve ser instanciada.</p>
+ */
+public final class ResumoExtrativo {
+
+    private ResumoExtrativo() {
+    }
+
+    /**
+     * Seleciona, em ordem decrescente de relevância, as frases do intervalo {@code [de, ate)}
+     * que ainda cabem no limite informado. Frases que não cabem são puladas; a extração
+     * termina quando as candidatas se esgotam ou quando nem a menor delas caberia no
+     * espaço restante.
+     *
+     * @param tabela         A tabela de frases.
+     * @param pontuacao      A pontuação de relevância de cada frase (por índice).
+     * @param de             Primeiro índice candidato (inclusivo).
+     * @param ate            Último índice candidato (exclusivo).
+     * @param limite         O número máximo de palavras acumuladas ao final da seleção.
+     * @param palavrasUsadas As palavras já usadas antes desta seleção.
+     * @param selecionadas   As frases já selecionadas; atualizado com as novas escolhas.
+     * @return O total de palavras usadas após a seleção.
+     */
+    public static int selecionarMaisRelevantes(TabelaFrases tabela, double[] pontuacao, int de, int ate,
+                                               double limite, int palavrasUsadas, BitSet selecionadas) {
+        if (de >= ate) {
+            return palavrasUsadas;
+        }
+
+        int menorFrase = Integer.MAX_VALUE;
+        for (int i = de; i < ate; i++) {
+            menorFrase = Math.min(menorFrase, tabela.palavras(i));
+        }
+
+        HeapRelevancia candidatas = new HeapRelevancia(pontuacao, de, ate);
+        while (!candidatas.isEmpty() && palavrasUsadas + menorFrase <= limite) {
+            int indice = candidatas.extrairMaisRelevante();
+            int tamanho = tabela.palavras(indice);
+            if (palavrasUsadas + tamanho <= limite && !selecionadas.get(indice)) {
+                selecionadas.set(indice);
+                palavrasUsadas += tamanho;
+            }
+        }
+        return palavrasUsadas;
+    }
+
+    /**
+     * Concatena as frases selecionadas no texto final, na ordem original (crescente de índice).
+     * Apenas aqui o texto das frases é copiado da fonte original.
+     *
+     * @param tabela       A tabela de frases.
+     * @param selecionadas Os índices das frases selecionadas.
+     * @return O resumo, sempre terminado em pontuação.
+     */
+    public static String montar(TabelaFrases tabela, BitSet selecionadas) {
+        StringBuilder resumo = new StringBuilder();
+        for (int indice = selecionadas.nextSetBit(0); indice >= 0; indice = selecionadas.nextSetBit(indice + 1)) {
+            if (!resumo.isEmpty()) {
+                // Evita o ponto duplo quando a frase anterior já termina em pontuação
+                resumo.append(terminaComPontuacao(resumo) ? " " : ". ");
+            }
+            resumo.append(tabela.frase(indice));
+        }
+        // Garante que termina com pontuação, mas evita ponto duplo
+        if (!terminaComPontuacao(resumo)) {
+            resumo.append('.');
+        }
+        return resumo.toString();
+    }
+
+    /**
+     * Fornece um resumo muito básico como fallback, simplesmente truncando o texto original
+     * no limite de palavras especificado.
+     *
+     * @param texto       O texto original.
+     * @param maxPalavras O número máximo de palavras.
+     * @return O texto truncado, com "..." no final se for cortado.
+     */
+    public static String resumoBasico(String texto, int maxPalavras) {
+        StringBuilder resumo = new StringBuilder();
+        int palavras = 0;
+        int i = 0;
+        int n = texto.length();
+        while (i < n) {
+            // Pula espaços e lê a próxima palavra com um único cursor
+            while (i < n && Character.isWhitespace(texto.charAt(i))) i++;
+            if (i == n) break;
+            if (palavras == maxPalavras) {
+                return resumo + "...";
+            }
+            int inicio = i;
+            while (i < n && !Character.isWhitespace(texto.charAt(i))) i++;
+            if (palavras > 0) resumo.append(' ');
+            resumo.append(texto, inicio, i);
+            palavras++;
+        }
+        return resumo.toString().endsWith(".") ? resumo.toString() : resumo + "."; // Garante pontuação final
+    }
+
+    /**
+     * Verifica se o texto acumulado termina em pontuação final (. ! ?).
+     */
+    private static boolean terminaComPontuacao(CharSequence texto) {
+        if (texto.isEmpty()) {
+            return false;
+        }
+        char ultimo = texto.charAt(texto.length() - 1);
+        return ultimo == '.' || ultimo == '!' || ultimo == '?';
+    }
+}
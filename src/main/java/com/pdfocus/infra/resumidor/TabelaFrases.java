@@ -0,0 +1,111 @@
+package com.pdfocus.infra.resumidor;
+
+/**
+ * Tabela compacta de frases produzida pelo {@link TokenizadorTexto}.
+ *
+ * <p>Em vez de materializar cada frase como uma {@link String}, a tabela guarda
+ * apenas deslocamentos (início/fim) sobre o texto original, a contagem de palavras
+ * e os identificadores dos termos significativos de cada frase. As etapas de
+ * pontuação e seleção dos resumidores trabalham exclusivamente sobre esses arrays
+ * primitivos; o texto só é copiado para as poucas frases que entram no resumo.</p>
+ *
+ * <p>Os termos seguem o layout CSR (Compressed Sparse Row): os termos da frase
+ * {@code i} ocupam as posições {@code [inicioTermos(i), fimTermos(i))} do array
+ * compartilhado de termos.</p>
+ *
+ * <p>A instância é imutável após a construção.</p>
+ */
+public final class TabelaFrases {
+
+    private final String texto;
+    private final int quantidade;
+    private final int[] inicios;
+    private final int[] fins;
+    private final int[] palavras;
+    private final int[] termosInicio;
+    private final int[] termos;
+    private final VocabularioTermos vocabulario;
+
+    /**
+     * Construtor de uso interno do pacote. Os arrays são adotados sem cópia.
+     */
+    TabelaFrases(String texto, int quantidade, int[] inicios, int[] fins, int[] palavras,
+                 int[] termosInicio, int[] termos, VocabularioTermos vocabulario) {
+        this.texto = texto;
+        this.quantidade = quantidade;
+        this.inicios = inicios;
+        this.fins = fins;
+        this.palavras = palavras;
+        this.termosInicio = termosInicio;
+        this.termos = termos;
+        this.vocabulario = vocabulario;
+    }
+
+    /** @return o número de frases válidas da tabela. */
+    public int quantidade() {
+        return quantidade;
+    }
+
+    /** @return {@code true} se nenhuma frase válida foi encontrada. */
+    public boolean isEmpty() {
+        return quantidade == 0;
+    }
+
+    /** @return o deslocamento (inclusivo) do primeiro caractere da frase no texto original. */
+    public int inicio(int frase) {
+        return inicios[frase];
+    }
+
+    /** @return o deslocamento (exclusivo) do último caractere da frase no texto original. */
+    public int fim(int frase) {
+        return fins[frase];
+    }
+
+    /** @return o número de palavras (tokens separados por espaço) da frase. */
+    public int palavras(int frase) {
+        return palavras[frase];
+    }
+
+    /** @return a posição inicial (inclusiva) dos termos da frase no array de termos. */
+    public int inicioTermos(int frase) {
+        return termosInicio[frase];
+    }
+
+    /** @return a posição final (exclusiva) dos termos da frase no array de termos. */
+    public int fimTermos(int frase) {
+        return termosInicio[frase + 1];
+    }
+
+    /** @return o identificador do termo armazenado na posição informada. */
+    public int termo(int posicao) {
+        return termos[posicao];
+    }
+
+    /** @return o total de ocorrências de termos significativos em todas as frases. */
+    public int totalTermos() {
+        return termosInicio[quantidade];
+    }
+
+    /** @return o número de termos distintos do documento (limite superior dos identificadores). */
+    public int tamanhoVocabulario() {
+        return vocabulario.tamanho();
+    }
+
+    /** @return o vocabulário que atribuiu os identificadores dos termos desta tabela. */
+    VocabularioTermos vocabulario() {
+        return vocabulario;
+    }
+
+    /**
+     * Materializa o texto de uma frase, colapsando sequências de espaços em branco
+     * (incluindo quebras de linha) em um único espaço.
+     *
+     * @param frase O índice da frase.
+     * @return O texto normalizado da frase.
+     */
+    public String frase(int frase) {
+        StringBuilder sb = new StringBuilder(fins[frase] - inicios[frase]);
+        TokenizadorTexto.anexarNormalizado(texto, inicios[frase], fins[frase], sb);
+        return sb.toString();
+    }
+}
@@ -0,0 +1,392 @@
+package com.pdfocus.infra.resumidor;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinTask;
+import java.util.concurrent.RecursiveAction;
+import java.util.concurrent.RecursiveTask;
+
+/**
+ * Tokenizador de passagem única usado pelos resumidores extrativos locais.
+ *
+ * <p>Percorre o texto extraído uma única vez com um cursor de caracteres, sem
+ * expressões regulares e sem criar substrings intermediárias, e produz uma
+ * {@link TabelaFrases} com os deslocamentos de cada frase, a contagem de palavras
+ * e os identificadores dos termos significativos.</p>
+ *
+ * <p>Regras de segmentação (equivalentes às do algoritmo original baseado em regex):</p>
+ * <ul>
+ * <li>Uma frase termina em {@code .}, {@code !} ou {@code ?} seguidos de espaço em branco
+ *     (ou do fim do texto).</li>
+ * <li>Palavras são sequências de caracteres não-brancos; frases com até 3 palavras
+ *     ou até 10 caracteres (após normalizar os espaços) são descartadas.</li>
+ * <li>Termos são sequências de letras/dígitos em minúsculas. Apenas termos com mais de
+ *     2 caracteres que não sejam stopwords recebem um identificador, atribuído por um
+ *     {@link VocabularioTermos} próprio de cada documento.</li>
+ * </ul>
+ *
+ * <p>Textos com mais de {@code app.resumidor.paralelo.limite-caracteres} caracteres são
+ * divididos em blocos em fronteiras de frase e tokenizados em paralelo no
+ * {@link ForkJoinPool#commonPool()}. Os blocos são então unidos em uma única tabela,
+ * com os vocabulários reconciliados, idêntica à de uma tokenização sequencial.</p>
+ *
+ * <p>O componente não guarda estado entre chamadas e é seguro para uso concorrente.</p>
+ */
+@Component
+public class TokenizadorTexto {
+
+    /** Frases com este número de palavras ou menos são descartadas. */
+    private static final int MIN_PALAVRAS_EXCLUSIVO = 3;
+
+    /** Frases com este número de caracteres ou menos são descartadas. */
+    private static final int MIN_CARACTERES_EXCLUSIVO = 10;
+
+    /** Termos com este número de caracteres ou menos não são considerados significativos. */
+    private static final int MIN_TAMANHO_TERMO_EXCLUSIVO = 2;
+
+    /** Tamanho mínimo de cada bloco na tokenização paralela, para compensar o custo da união. */
+    private static final int MIN_CARACTERES_POR_BLOCO = 128 * 1024;
+
+    /** A partir deste tamanho de texto (em caracteres) a tokenização é feita em paralelo. */
+    @Value("${app.resumidor.paralelo.limite-caracteres:1000000}")
+    private int limiteParalelo = 1_000_000;
+
+    /**
+     * Conjunto imutável de stopwords comuns em português.
+     * Utilizado para ignorar palavras sem significado semântico (artigos, preposições, etc.)
+     * durante a indexação dos termos, melhorando a relevância das pontuações.
+     */
+    static final Set<String> STOPWORDS;
+
+    // Bloco estático para inicializar o conjunto de stopwords uma única vez.
+    static {
+        Set<String> tempSet = new HashSet<>();
+        String[] stopwordsArray = {
+                "a", "o", "de", "e", "do", "da", "em", "um", "uma", "para", "que", "se", "com",
+                "os", "as", "no", "na", "por", "uma", "uns", "umas", "ao", "aos", "à", "às",
+                "pelo", "pela", "pelos", "pelas", "num", "numa", "nuns", "numas", "dum", "duma",
+                "duns", "dumas", "este", "esta", "estes", "estas", "esse", "essa", "esses", "essas",
+                "aquele", "aquela", "aqueles", "aquelas", "isto", "isso", "aquilo", "outro", "outra",
+                "outros", "outras", "tal", "tais", "qual", "quais", "cujo", "cuja", "cujos", "cujas",
+                "quanto", "quanta", "quantos", "quantas", "qualquer", "quaisquer", "algum", "alguma",
+                "alguns", "algumas", "nenhum", "nenhuma", "nenhuns", "nenhumas", "todo", "toda",
+                "todos", "todas", "cada", "vários", "várias", "outrem", "tudo", "nada", "algo", "alguém",
+                "ninguém", "quem", "com", "sem", "sob", "sobre", "tras", "ante", "apos", "ate", "perante",
+                "quando", "enquanto", "antes", "depois", "desde", "onde", "aonde", "como", "porque", "pois",
+                "embora", "se", "mesmo", "talvez", "sempre", "nunca", "jamais", "agora", "logo", "aqui", "ali", "la"
+        };
+        Collections.addAll(tempSet, stopwordsArray);
+        STOPWORDS = Collections.unmodifiableSet(tempSet);
+    }
+
+    /**
+     * Segmenta o texto em frases e indexa os termos significativos de cada uma.
+     *
+     * @param texto O texto completo (não precisa estar previamente limpo).
+     * @return A {@link TabelaFrases} do documento; vazia se nenhuma frase válida for encontrada.
+     */
+    public TabelaFrases tokenizar(String texto) {
+        int paralelismo = ForkJoinPool.commonPool().getParallelism();
+        if (texto.length() < limiteParalelo || paralelismo < 2) {
+            return new Varredura(texto, 0, texto.length()).executar();
+        }
+        return tokenizarEmBlocos(texto, dividirEmBlocos(texto, paralelismo));
+    }
+
+    /**
+     * Tokeniza cada bloco em uma tarefa do {@link ForkJoinPool#commonPool()} e une os resultados.
+     *
+     * @param texto  O texto completo.
+     * @param blocos Os intervalos produzidos por {@link #dividirEmBlocos(String, int)}.
+     * @return A tabela do documento inteiro.
+     */
+    TabelaFrases tokenizarEmBlocos(String texto, List<int[]> blocos) {
+        if (blocos.size() == 1) {
+            return new Varredura(texto, 0, texto.length()).executar();
+        }
+        return ForkJoinPool.commonPool().invoke(new TokenizacaoParalela(texto, blocos));
+    }
+
+    /**
+     * Divide o texto em blocos de tamanho semelhante, cortando sempre logo após o
+     * espaço que segue uma pontuação final, para que nenhuma frase seja partida.
+     *
+     * @param texto       O texto completo.
+     * @param paralelismo O número de threads disponíveis.
+     * @return Os intervalos {@code [inicio, fim)} dos blocos, em ordem.
+     */
+    static List<int[]> dividirEmBlocos(String texto, int paralelismo) {
+        int n = texto.length();
+        int quantidade = Math.max(1, Math.min(paralelismo * 2, n / MIN_CARACTERES_POR_BLOCO));
+        int alvo = n / quantidade;
+
+        List<int[]> blocos = new ArrayList<>(quantidade);
+        int inicio = 0;
+        while (inicio < n) {
+            int corte = n;
+            for (int i = Math.min(n, inicio + alvo); i < n - 1; i++) {
+                if (terminaFrase(texto, i)) {
+                    corte = i + 2; // inclui o espaço em branco que segue a pontuação
+                    break;
+                }
+            }
+            blocos.add(new int[]{inicio, corte});
+            inicio = corte;
+        }
+        return blocos;
+    }
+
+    /**
+     * Indica se a posição {@code i} contém uma pontuação final seguida de espaço em branco
+     * (ou do fim do texto).
+     */
+    private static boolean terminaFrase(String texto, int i) {
+        char c = texto.charAt(i);
+        return (c == '.' || c == '!' || c == '?')
+                && (i + 1 == texto.length() || Character.isWhitespace(texto.charAt(i + 1)));
+    }
+
+    /**
+     * Anexa o trecho {@code [inicio, fim)} ao {@link StringBuilder}, colapsando
+     * sequências de espaços em branco em um único espaço e ignorando espaços nas extremidades.
+     *
+     * @param texto  O texto de origem.
+     * @param inicio Deslocamento inicial (inclusivo).
+     * @param fim    Deslocamento final (exclusivo).
+     * @param destino O buffer de destino.
+     */
+    public static void anexarNormalizado(CharSequence texto, int inicio, int fim, StringBuilder destino) {
+        boolean espacoPendente = false;
+        boolean escreveuAlgo = false;
+        for (int i = inicio; i < fim; i++) {
+            char c = texto.charAt(i);
+            if (Character.isWhitespace(c)) {
+                espacoPendente = escreveuAlgo;
+            } else {
+                if (espacoPendente) {
+                    destino.append(' ');
+                    espacoPendente = false;
+                }
+                destino.append(c);
+                escreveuAlgo = true;
+            }
+        }
+    }
+
+    /**
+     * Estado de uma única varredura. Mantido fora do componente para que
+     * {@link TokenizadorTexto} continue sem estado e seguro entre threads.
+     */
+    private static final class Varredura {
+
+        private final String texto;
+        private final int inicioVarredura;
+        private final int fimVarredura;
+        private final VocabularioTermos vocabulario = VocabularioTermos.novoDocumento();
+        private char[] termoAtual = new char[32];
+        private int tamanhoTermo;
+
+        private int quantidade;
+        private int[] inicios;
+        private int[] fins;
+        private int[] palavras;
+        private int[] termosInicio;
+        private int[] termos;
+        private int totalTermos;
+
+        Varredura(String texto, int inicio, int fim) {
+            this.texto = texto;
+            this.inicioVarredura = inicio;
+            this.fimVarredura = fim;
+            int capacidadeFrases = Math.max(16, (fim - inicio) / 80);
+            this.inicios = new int[capacidadeFrases];
+            this.fins = new int[capacidadeFrases];
+            this.palavras = new int[capacidadeFrases];
+            this.termosInicio = new int[capacidadeFrases + 1];
+            this.termos = new int[Math.max(64, (fim - inicio) / 8)];
+        }
+
+        TabelaFrases executar() {
+            final int n = fimVarredura;
+            int inicioFrase = -1;
+            int ultimoNaoBranco = -1;
+            int palavrasFrase = 0;
+            int naoBrancosFrase = 0;
+            boolean dentroDePalavra = false;
+
+            for (int i = inicioVarredura; i < n; i++) {
+                char c = texto.charAt(i);
+
+                if (Character.isWhitespace(c)) {
+                    fecharTermo();
+                    dentroDePalavra = false;
+                    continue;
+                }
+
+                if (inicioFrase < 0) {
+                    inicioFrase = i;
+                }
+                if (!dentroDePalavra) {
+                    palavrasFrase++;
+                    dentroDePalavra = true;
+                }
+                naoBrancosFrase++;
+                ultimoNaoBranco = i;
+
+                if (Character.isLetterOrDigit(c)) {
+                    if (tamanhoTermo == termoAtual.length) {
+                        termoAtual = Arrays.copyOf(termoAtual, tamanhoTermo * 2);
+                    }
+                    termoAtual[tamanhoTermo++] = Character.toLowerCase(c);
+                } else {
+                    fecharTermo();
+                    if (terminaFrase(texto, i)) {
+                        fecharFrase(inicioFrase, i + 1, palavrasFrase, naoBrancosFrase);
+                        inicioFrase = -1;
+                        palavrasFrase = 0;
+                        naoBrancosFrase = 0;
+                    }
+                }
+            }
+
+            fecharTermo();
+            if (inicioFrase >= 0) {
+                fecharFrase(inicioFrase, ultimoNaoBranco + 1, palavrasFrase, naoBrancosFrase);
+            }
+
+            return new TabelaFrases(texto, quantidade, inicios, fins, palavras,
+                    termosInicio, termos, vocabulario);
+        }
+
+        private void fecharTermo() {
+            if (tamanhoTermo > MIN_TAMANHO_TERMO_EXCLUSIVO) {
+                int id = vocabulario.internar(termoAtual, tamanhoTermo);
+                if (id != VocabularioTermos.STOPWORD) {
+                    if (totalTermos == termos.length) {
+                        termos = Arrays.copyOf(termos, totalTermos * 2);
+                    }
+                    termos[totalTermos++] = id;
+                }
+            }
+            tamanhoTermo = 0;
+        }
+
+        private void fecharFrase(int inicio, int fim, int numPalavras, int naoBrancos) {
+            // Tamanho da frase após colapsar os espaços: caracteres visíveis + 1 espaço entre palavras.
+            int tamanhoNormalizado = naoBrancos + numPalavras - 1;
+
+            if (numPalavras <= MIN_PALAVRAS_EXCLUSIVO || tamanhoNormalizado <= MIN_CARACTERES_EXCLUSIVO) {
+                // Frase descartada: desfaz os termos acumulados desde a última frase aceita.
+                totalTermos = termosInicio[quantidade];
+                return;
+            }
+
+            if (quantidade == inicios.length) {
+                int novaCapacidade = quantidade * 2;
+                inicios = Arrays.copyOf(inicios, novaCapacidade);
+                fins = Arrays.copyOf(fins, novaCapacidade);
+                palavras = Arrays.copyOf(palavras, novaCapacidade);
+                termosInicio = Arrays.copyOf(termosInicio, novaCapacidade + 1);
+            }
+
+            inicios[quantidade] = inicio;
+            fins[quantidade] = fim;
+            palavras[quantidade] = numPalavras;
+            quantidade++;
+            termosInicio[quantidade] = totalTermos;
+        }
+    }
+
+    /**
+     * Tokeniza os blocos em paralelo e une as tabelas parciais na ordem do texto.
+     */
+    private static final class TokenizacaoParalela extends RecursiveTask<TabelaFrases> {
+
+        private final String texto;
+        private final List<int[]> blocos;
+
+        TokenizacaoParalela(String texto, List<int[]> blocos) {
+            this.texto = texto;
+            this.blocos = blocos;
+        }
+
+        @Override
+        protected TabelaFrases compute() {
+            List<RecursiveTask<TabelaFrases>> tarefas = new ArrayList<>(blocos.size());
+            for (int[] bloco : blocos) {
+                tarefas.add(new RecursiveTask<>() {
+                    @Override
+                    protected TabelaFrases compute() {
+                        return new Varredura(texto, bloco[0], bloco[1]).executar();
+                    }
+                });
+            }
+            ForkJoinTask.invokeAll(tarefas);
+
+            TabelaFrases[] partes = new TabelaFrases[tarefas.size()];
+            for (int i = 0; i < partes.length; i++) {
+                partes[i] = tarefas.get(i).join();
+            }
+            return unir(partes);
+        }
+
+        /**
+         * Concatena as tabelas parciais. O vocabulário do primeiro bloco passa a ser o do
+         * documento; os termos dos demais são registrados nele, em ordem, e seus
+         * identificadores traduzidos durante a cópia (feita em paralelo, um bloco por tarefa).
+         */
+        private TabelaFrases unir(TabelaFrases[] partes) {
+            VocabularioTermos vocabulario = partes[0].vocabulario();
+            int[][] mapas = new int[partes.length][];
+            int[] primeiraFrase = new int[partes.length + 1];
+            int[] primeiroTermo = new int[partes.length + 1];
+            for (int b = 0; b < partes.length; b++) {
+                mapas[b] = b == 0 ? null : partes[b].vocabulario().mapearPara(vocabulario);
+                primeiraFrase[b + 1] = primeiraFrase[b] + partes[b].quantidade();
+                primeiroTermo[b + 1] = primeiroTermo[b] + partes[b].totalTermos();
+            }
+
+            int quantidade = primeiraFrase[partes.length];
+            int[] inicios = new int[quantidade];
+            int[] fins = new int[quantidade];
+            int[] palavras = new int[quantidade];
+            int[] termosInicio = new int[quantidade + 1];
+            int[] termos = new int[primeiroTermo[partes.length]];
+            termosInicio[quantidade] = termos.length;
+
+            List<RecursiveAction> copias = new ArrayList<>(partes.length);
+            for (int b = 0; b < partes.length; b++) {
+                TabelaFrases parte = partes[b];
+                int[] mapa = mapas[b];
+                int deslocamentoFrase = primeiraFrase[b];
+                int deslocamentoTermo = primeiroTermo[b];
+                copias.add(new RecursiveAction() {
+                    @Override
+                    protected void compute() {
+                        for (int i = 0; i < parte.quantidade(); i++) {
+                            inicios[deslocamentoFrase + i] = parte.inicio(i);
+                            fins[deslocamentoFrase + i] = parte.fim(i);
+                            palavras[deslocamentoFrase + i] = parte.palavras(i);
+                            termosInicio[deslocamentoFrase + i] = deslocamentoTermo + parte.inicioTermos(i);
+                        }
+                        for (int p = 0, total = parte.totalTermos(); p < total; p++) {
+                            int termo = parte.termo(p);
+                            termos[deslocamentoTermo + p] = mapa == null ? termo : mapa[termo];
+                        }
+                    }
+                });
+            }
+            ForkJoinTask.invokeAll(copias);
+
+            return new TabelaFrases(texto, quantidade, inicios, fins, palavras, termosInicio, termos, vocabulario);
+        }
+    }
+}
@@ -0,0 +1,221 @@
+package com.pdfocus.infra.resumidor;
+
+import java.util.Arrays;
+
+/**
+ * Vocabulário por documento que associa cada termo normalizado a um identificador
+ * inteiro denso ({@code 0..tamanho()-1}).
+ *
+ * <p>Implementado como uma tabela hash de endereçamento aberto (sondagem linear)
+ * sobre arrays primitivos: os caracteres dos termos ficam em um único {@code char[]}
+ * compartilhado e a busca é feita diretamente a partir do buffer do tokenizador.
+ * Assim, nenhuma {@link String} nem {@link Integer} é criada por ocorrência de palavra;
+ * apenas o primeiro encontro de cada termo distinto copia seus caracteres.</p>
+ *
+ * <p>As stopwords são pré-carregadas e resolvem para {@link #STOPWORD}, de modo que a
+ * verificação de stopword e a internação acontecem na mesma sondagem.</p>
+ *
+ * <p>Não é thread-safe: cada tokenização cria a sua própria instância via {@link #novoDocumento()}.</p>
+ */
+public final class VocabularioTermos {
+
+    /** Valor retornado por {@link #internar(char[], int)} quando o termo é uma stopword. */
+    public static final int STOPWORD = -1;
+
+    /** Vocabulário-modelo contendo apenas as stopwords; copiado a cada documento. */
+    private static final VocabularioTermos PROTOTIPO;
+
+    static {
+        VocabularioTermos prototipo = new VocabularioTermos(256, 1024);
+        for (String stopword : TokenizadorTexto.STOPWORDS) {
+            char[] chars = stopword.toCharArray();
+            prototipo.inserir(chars, chars.length, hash(chars, 0, chars.length), STOPWORD);
+        }
+        PROTOTIPO = prototipo;
+    }
+
+    // Caracteres de todos os termos, concatenados.
+    private char[] caracteres;
+    private int totalCaracteres;
+
+    // Dados de cada entrada (termo ou stopword), na ordem de inserção.
+    private int[] entradaInicio;
+    private int[] entradaTamanho;
+    private int[] entradaHash;
+    private int[] entradaId;
+    private int entradas;
+
+    // Tabela de sondagem: 0 = vazio, caso contrário (índice da entrada + 1).
+    private int[] slots;
+
+    private int termos;
+
+    private VocabularioTermos(int capacidadeSlots, int capacidadeCaracteres) {
+        this.slots = new int[capacidadeSlots];
+        this.caracteres = new char[capacidadeCaracteres];
+        int capacidadeEntradas = capacidadeSlots / 2;
+        this.entradaInicio = new int[capacidadeEntradas];
+        this.entradaTamanho = new int[capacidadeEntradas];
+        this.entradaHash = new int[capacidadeEntradas];
+        this.entradaId = new int[capacidadeEntradas];
+    }
+
+    private VocabularioTermos(VocabularioTermos origem) {
+        this.caracteres = Arrays.copyOf(origem.caracteres, Math.max(origem.caracteres.length, 4096));
+        this.totalCaracteres = origem.totalCaracteres;
+        this.entradaInicio = origem.entradaInicio.clone();
+        this.entradaTamanho = origem.entradaTamanho.clone();
+        this.entradaHash = origem.entradaHash.clone();
+        this.entradaId = origem.entradaId.clone();
+        this.entradas = origem.entradas;
+        this.slots = origem.slots.clone();
+        this.termos = origem.termos;
+    }
+
+    /**
+     * Cria um vocabulário vazio para um novo documento, já contendo as stopwords.
+     *
+     * @return Uma nova instância independente.
+     */
+    public static VocabularioTermos novoDocumento() {
+        return new VocabularioTermos(PROTOTIPO);
+    }
+
+    /**
+     * Retorna o identificador do termo contido em {@code buffer[0, tamanho)},
+     * registrando-o se for a primeira ocorrência.
+     *
+     * @param buffer  Buffer com os caracteres do termo já normalizados (minúsculas).
+     * @param tamanho Quantidade de caracteres válidos no buffer.
+     * @return O identificador denso do termo, ou {@link #STOPWORD} se for uma stopword.
+     */
+    public int internar(char[] buffer, int tamanho) {
+        return internar(buffer, 0, tamanho);
+    }
+
+    /**
+     * Retorna o identificador do termo contido em {@code buffer[inicio, inicio + tamanho)},
+     * registrando-o se for a primeira ocorrência.
+     *
+     * @param buffer  Buffer com os caracteres do termo já normalizados (minúsculas).
+     * @param inicio  Posição do primeiro caractere do termo no buffer.
+     * @param tamanho Quantidade de caracteres do termo.
+     * @return O identificador denso do termo, ou {@link #STOPWORD} se for uma stopword.
+     */
+    public int internar(char[] buffer, int inicio, int tamanho) {
+        int h = hash(buffer, inicio, tamanho);
+        int mascara = slots.length - 1;
+        for (int s = h & mascara; ; s = (s + 1) & mascara) {
+            int slot = slots[s];
+            if (slot == 0) {
+                return inserirNoSlot(s, buffer, inicio, tamanho, h, termos++);
+            }
+            int e = slot - 1;
+            if (entradaHash[e] == h && mesmoTermo(e, buffer, inicio, tamanho)) {
+                return entradaId[e];
+            }
+        }
+    }
+
+    /**
+     * Registra todos os termos deste vocabulário em {@code destino}, na ordem dos
+     * identificadores, e devolve a tradução de identificadores entre os dois.
+     *
+     * <p>Usado para unir as tabelas de blocos tokenizados em paralelo: como os termos de
+     * cada bloco são registrados na ordem da primeira ocorrência, o vocabulário resultante
+     * é idêntico ao de uma tokenização sequencial do documento inteiro.</p>
+     *
+     * @param destino O vocabulário que recebe os termos.
+     * @return Um array em que a posição {@code id} contém o identificador do termo em {@code destino}.
+     */
+    public int[] mapearPara(VocabularioTermos destino) {
+        int[] mapa = new int[termos];
+        for (int e = 0; e < entradas; e++) {
+            int id = entradaId[e];
+            if (id != STOPWORD) {
+                mapa[id] = destino.internar(caracteres, entradaInicio[e], entradaTamanho[e]);
+            }
+        }
+        return mapa;
+    }
+
+    /** @return o número de termos distintos (não-stopwords) registrados. */
+    public int tamanho() {
+        return termos;
+    }
+
+    private void inserir(char[] buffer, int tamanho, int h, int id) {
+        int mascara = slots.length - 1;
+        int s = h & mascara;
+        while (slots[s] != 0) {
+            int e = slots[s] - 1;
+            if (entradaHash[e] == h && mesmoTermo(e, buffer, 0, tamanho)) {
+                return; // stopword repetida na lista
+            }
+            s = (s + 1) & mascara;
+        }
+        inserirNoSlot(s, buffer, 0, tamanho, h, id);
+    }
+
+    private int inserirNoSlot(int slot, char[] buffer, int inicio, int tamanho, int h, int id) {
+        if (entradas == entradaId.length) {
+            int novaCapacidade = entradas * 2;
+            entradaInicio = Arrays.copyOf(entradaInicio, novaCapacidade);
+            entradaTamanho = Arrays.copyOf(entradaTamanho, novaCapacidade);
+            entradaHash = Arrays.copyOf(entradaHash, novaCapacidade);
+            entradaId = Arrays.copyOf(entradaId, novaCapacidade);
+        }
+        if (totalCaracteres + tamanho > caracteres.length) {
+            caracteres = Arrays.copyOf(caracteres, Math.max(caracteres.length * 2, totalCaracteres + tamanho));
+        }
+
+        System.arraycopy(buffer, inicio, caracteres, totalCaracteres, tamanho);
+        entradaInicio[entradas] = totalCaracteres;
+        entradaTamanho[entradas] = tamanho;
+        entradaHash[entradas] = h;
+        entradaId[entradas] = id;
+        totalCaracteres += tamanho;
+        slots[slot] = ++entradas;
+
+        // Mantém o fator de carga abaixo de 50% para sondagens curtas.
+        if (entradas * 2 > slots.length) {
+            redimensionar();
+        }
+        return id;
+    }
+
+    private void redimensionar() {
+        int[] novosSlots = new int[slots.length * 2];
+        int mascara = novosSlots.length - 1;
+        for (int e = 0; e < entradas; e++) {
+            int s = entradaHash[e] & mascara;
+            while (novosSlots[s] != 0) {
+                s = (s + 1) & mascara;
+            }
+            novosSlots[s] = e + 1;
+        }
+        slots = novosSlots;
+    }
+
+    private boolean mesmoTermo(int entrada, char[] buffer, int inicio, int tamanho) {
+        if (entradaTamanho[entrada] != tamanho) {
+            return false;
+        }
+        int inicioEntrada = entradaInicio[entrada];
+        for (int i = 0; i < tamanho; i++) {
+            if (caracteres[inicioEntrada + i] != buffer[inicio + i]) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static int hash(char[] buffer, int inicio, int tamanho) {
+        int h = 0;
+        for (int i = inicio, fim = inicio + tamanho; i < fim; i++) {
+            h = 31 * h + buffer[i];
+        }
+        // Espalha os bits altos para os baixos, já que a máscara usa apenas os bits menos significativos.
+        return h ^ (h >>> 16);
+    }
+}
@@ -0,0 +1,320 @@
+package com.pdfocus.infra.sse;
+
+import com.pdfocus.application.resumo.dto.EtapaResumo;
+import com.pdfocus.application.resumo.dto.JobResumoResponse;
+import com.pdfocus.application.resumo.port.saida.ProgressoJobResumoPort;
+import com.pdfocus.application.resumo.port.saida.ProgressoResumoListener;
+import com.pdfocus.core.models.StatusJob;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.core.task.TaskExecutor;
+import org.springframework.stereotype.Component;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.io.IOException;
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.function.Supplier;
+
+/**
+ * Publica o andamento dos jobs de resumo como Server-Sent Events.
+ *
+ * <p>Eventos enviados a cada cliente inscrito num job:</p>
+ * <ul>
+ *   <li>{@code estado}: o {@link JobResumoResponse} no momento da inscrição, se o job ainda não terminou;</li>
+ *   <li>{@code progresso}: uma {@link Progresso} a cada etapa e, durante a extração, a cada página
+ *       (no máximo um evento de página a cada {@link #INTERVALO_PAGINAS_NANOS} ns, além da última);</li>
+ *   <li>{@code concluido} ou {@code falhou}: o {@link JobResumoResponse} final, após o qual a conexão é encerrada.</li>
+ * </ul>
+ *
+ * <p>Para não pesar na geração, o worker apenas enfileira os eventos: a escrita na conexão
+ * é feita pelo executor {@code sseExecutor}, em ordem e por um envio de cada vez por cliente.
+ * Enquanto um cliente lento não consome os eventos, apenas o último progresso pendente é
+ * mantido para ele; nem o worker nem os demais inscritos esperam por ele.</p>
+ */
+@Component
+public class ProgressoJobResumoSseAdapter implements ProgressoJobResumoPort {
+
+    private static final Logger logger = LoggerFactory.getLogger(ProgressoJobResumoSseAdapter.class);
+
+    /** Tempo máximo de uma conexão SSE; o cliente pode reconectar e recebe o estado atual. */
+    static final long TIMEOUT_MS = 5 * 60 * 1000L;
+
+    /** Intervalo mínimo entre dois eventos de página do mesmo job. */
+    static final long INTERVALO_PAGINAS_NANOS = 250_000_000L;
+
+    /**
+     * Andamento de um job.
+     *
+     * @param etapa        A etapa atual.
+     * @param pagina       A última página extraída, durante a etapa de extração.
+     * @param totalPaginas O total de páginas, durante a etapa de extração.
+     */
+    public record Progresso(EtapaResumo etapa, Integer pagina, Integer totalPaginas) {
+    }
+
+    private final Map<UUID, List<Inscrito>> inscritos = new ConcurrentHashMap<>();
+    private final Map<UUID, Progresso> ultimoProgresso = new ConcurrentHashMap<>();
+    private final TaskExecutor envios;
+
+    /**
+     * @param envios Executor que escreve os eventos nas conexões dos clientes.
+     */
+    public ProgressoJobResumoSseAdapter(@Qualifier("sseExecutor") TaskExecutor envios) {
+        this.envios = envios;
+    }
+
+    /**
+     * Inscreve um cliente no andamento de um job.
+     *
+     * <p>A inscrição é registrada antes da consulta ao estado atual; assim, um job que
+     * termine nesse intervalo é notado por um dos dois caminhos, e o cliente nunca fica
+     * esperando por um evento final que já passou. Os eventos publicados nesse intervalo
+     * aguardam o estado inicial, que é sempre o primeiro a ser enviado.</p>
+     *
+     * @param jobId       O identificador do job.
+     * @param estadoAtual Consulta o estado atual do job.
+     * @return O emissor a ser devolvido pelo controlador.
+     */
+    public SseEmitter inscrever(UUID jobId, Supplier<Optional<JobResumoResponse>> estadoAtual) {
+        SseEmitter emitter = criarEmissor();
+        Inscrito inscrito = new Inscrito(emitter);
+        inscritos.compute(jobId, (id, doJob) -> {
+            List<Inscrito> lista = doJob != null ? doJob : new CopyOnWriteArrayList<>();
+            lista.add(inscrito);
+            return lista;
+        });
+        Runnable remover = () -> {
+            inscrito.encerrar();
+            removerInscrito(jobId, inscrito);
+        };
+        emitter.onCompletion(remover);
+        emitter.onTimeout(remover);
+        emitter.onError(erro -> remover.run());
+
+        Optional<JobResumoResponse> estado = estadoAtual.get();
+        if (estado.isEmpty()) {
+            remover.run();
+            emitter.complete();
+        } else if (estado.get().status().isFinal()) {
+            removerInscrito(jobId, inscrito);
+            inscrito.iniciar(eventoFinal(estado.get()), null);
+        } else {
+            Progresso progresso = ultimoProgresso.get(jobId);
+            inscrito.iniciar(new Evento("estado", estado.get(), false, false),
+                    progresso != null ? eventoProgresso(progresso) : null);
+        }
+        return emitter;
+    }
+
+    @Override
+    public ProgressoResumoListener ouvinte(UUID jobId) {
+        return new OuvinteJob(jobId);
+    }
+
+    @Override
+    public void finalizado(JobResumoResponse estadoFinal) {
+        ultimoProgresso.remove(estadoFinal.id());
+        List<Inscrito> doJob = inscritos.remove(estadoFinal.id());
+        if (doJob != null) {
+            Evento evento = eventoFinal(estadoFinal);
+            doJob.forEach(inscrito -> inscrito.enfileirar(evento));
+        }
+    }
+
+    /**
+     * @return Se ainda há clientes inscritos no job.
+     */
+    boolean temInscritos(UUID jobId) {
+        return inscritos.containsKey(jobId);
+    }
+
+    /**
+     * Cria o emissor de um novo inscrito.
+     */
+    SseEmitter criarEmissor() {
+        return new SseEmitter(TIMEOUT_MS);
+    }
+
+    private void publicar(UUID jobId, Progresso progresso) {
+        ultimoProgresso.put(jobId, progresso);
+        List<Inscrito> doJob = inscritos.get(jobId);
+        if (doJob != null) {
+            Evento evento = eventoProgresso(progresso);
+            doJob.forEach(inscrito -> inscrito.enfileirar(evento));
+        }
+    }
+
+    private static Evento eventoProgresso(Progresso progresso) {
+        return new Evento("progresso", progresso, true, false);
+    }
+
+    private static Evento eventoFinal(JobResumoResponse estado) {
+        return new Evento(estado.status() == StatusJob.CONCLUIDO ? "concluido" : "falhou", estado, false, true);
+    }
+
+    private boolean enviar(SseEmitter emitter, String evento, Object dados) {
+        try {
+            emitter.send(SseEmitter.event().name(evento).data(dados));
+            return true;
+        } catch (IOException | IllegalStateException e) {
+            // Cliente desconectado ou emissor já encerrado
+            logger.debug("Evento SSE {} descartado: {}", evento, e.getMessage());
+            emitter.completeWithError(e);
+            return false;
+        }
+    }
+
+    private void removerInscrito(UUID jobId, Inscrito inscrito) {
+        inscritos.computeIfPresent(jobId, (id, doJob) -> {
+            doJob.remove(inscrito);
+            return doJob.isEmpty() ? null : doJob;
+        });
+    }
+
+    /**
+     * Um evento a enviar.
+     *
+     * @param progresso Se é um evento de progresso, que pode ser substituído pelo seguinte.
+     * @param ultimo    Se a conexão deve ser encerrada após o envio.
+     */
+    private record Evento(String nome, Object dados, boolean progresso, boolean ultimo) {
+    }
+
+    /**
+     * Um cliente inscrito e a sua fila de eventos pendentes, esvaziada no executor de envios
+     * por no máximo uma tarefa de cada vez. Os eventos só começam a sair depois do estado inicial.
+     */
+    private final class Inscrito {
+
+        private final SseEmitter emitter;
+        private final Deque<Evento> pendentes = new ArrayDeque<>();
+        private boolean iniciado;
+        private boolean agendado;
+        private boolean encerrado;
+
+        Inscrito(SseEmitter emitter) {
+            this.emitter = emitter;
+        }
+
+        /**
+         * Coloca o estado inicial (e o último progresso conhecido, se ainda não houver um
+         * pendente) à frente dos eventos recebidos desde a inscrição e libera o envio.
+         * Um estado inicial final descarta os pendentes.
+         */
+        void iniciar(Evento inicial, Evento progresso) {
+            synchronized (this) {
+                if (encerrado) {
+                    return;
+                }
+                if (inicial.ultimo()) {
+                    pendentes.clear();
+                } else if (progresso != null && pendentes.stream().noneMatch(Evento::progresso)) {
+                    pendentes.addFirst(progresso);
+                }
+                pendentes.addFirst(inicial);
+                iniciado = true;
+                if (agendado) {
+                    return;
+                }
+                agendado = true;
+            }
+            agendar();
+        }
+
+        /**
+         * Acrescenta um evento à fila; um progresso substitui o progresso pendente logo antes dele.
+         */
+        void enfileirar(Evento evento) {
+            synchronized (this) {
+                if (encerrado) {
+                    return;
+                }
+                Evento anterior = pendentes.peekLast();
+                if (evento.progresso() && anterior != null && anterior.progresso()) {
+                    pendentes.pollLast();
+                }
+                pendentes.addLast(evento);
+                if (!iniciado || agendado) {
+                    return;
+                }
+                agendado = true;
+            }
+            agendar();
+        }
+
+        synchronized void encerrar() {
+            encerrado = true;
+            pendentes.clear();
+        }
+
+        private void agendar() {
+            try {
+                envios.execute(this::drenar);
+            } catch (RejectedExecutionException e) {
+                logger.warn("Fila de envios SSE cheia; conexão encerrada para o cliente reconectar");
+                encerrar();
+                emitter.completeWithError(e);
+            }
+        }
+
+        private void drenar() {
+            while (true) {
+                Evento evento;
+                synchronized (this) {
+                    evento = encerrado ? null : pendentes.pollFirst();
+                    if (evento == null) {
+                        agendado = false;
+                        return;
+                    }
+                }
+                if (!enviar(emitter, evento.nome(), evento.dados())) {
+                    encerrar();
+                    return;
+                }
+                if (evento.ultimo()) {
+                    encerrar();
+                    emitter.complete();
+                    return;
+                }
+            }
+        }
+    }
+
+    /**
+     * Ouvinte de um job; guarda o último progresso e o enfileira para os inscritos.
+     * Usado por uma única thread (a do worker que gera o resumo).
+     */
+    private final class OuvinteJob implements ProgressoResumoListener {
+
+        private final UUID jobId;
+        private long ultimoEnvioPagina;
+
+        OuvinteJob(UUID jobId) {
+            this.jobId = jobId;
+        }
+
+        @Override
+        public void etapaIniciada(EtapaResumo etapa) {
+            publicar(jobId, new Progresso(etapa, null, null));
+        }
+
+        @Override
+        public void paginaExtraida(int pagina, int totalPaginas) {
+            long agora = System.nanoTime();
+            if (pagina < totalPaginas && agora - ultimoEnvioPagina < INTERVALO_PAGINAS_NANOS) {
+                return;
+            }
+            ultimoEnvioPagina = agora;
+            publicar(jobId, new Progresso(EtapaResumo.EXTRAINDO, pagina, totalPaginas));
+        }
+    }
+}
@@ -0,0 +1,127 @@
+package com.pdfocus.infra.storage.adapter;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.regex.Pattern;
+
+/**
+ * Envios parciais (uploads em partes) dos adaptadores de armazenamento local, em
+ * {@code <storage.local.directory>/.envios/<idEnvio>.parte}.
+ *
+ * <p>Cada parte é acrescentada ao fim do arquivo do envio; se o fluxo da parte falhar no
+ * meio, o arquivo é truncado de volta ao tamanho anterior. Ao concluir, o adaptador move o
+ * arquivo para o seu destino definitivo, no mesmo sistema de arquivos, sem copiar os bytes.</p>
+ *
+ * <p>O estado dos envios (partes recebidas, hash acumulado) vive na memória do serviço de
+ * aplicação; por isso, os arquivos que sobraram de uma execução anterior são apagados na
+ * inicialização.</p>
+ */
+final class EnviosParciaisLocais {
+
+    private static final Logger logger = LoggerFactory.getLogger(EnviosParciaisLocais.class);
+
+    private static final Pattern ID_VALIDO = Pattern.compile("[A-Za-z0-9-]{1,64}");
+
+    private final Path diretorio;
+    private final boolean sincronizar;
+
+    /**
+     * @param raiz        O diretório de uploads.
+     * @param sincronizar Se cada parte deve ser sincronizada com o disco antes de confirmada.
+     * @throws RuntimeException Se o diretório não puder ser criado.
+     */
+    EnviosParciaisLocais(Path raiz, boolean sincronizar) {
+        this.diretorio = raiz.resolve(".envios");
+        this.sincronizar = sincronizar;
+        try {
+            Files.createDirectories(diretorio);
+            apagarRestos();
+        } catch (IOException e) {
+            throw new RuntimeException("Não foi possível inicializar o diretório de envios parciais: " + diretorio, e);
+        }
+    }
+
+    /**
+     * @see com.pdfocus.application.material.port.saida.MaterialStoragePort#anexarParcial
+     */
+    long anexar(String idEnvio, long posicao, InputStream parte) {
+        Path arquivo = resolver(idEnvio);
+        try (FileChannel canal = FileChannel.open(arquivo, StandardOpenOption.CREATE, StandardOpenOption.WRITE)) {
+            long tamanhoAtual = canal.size();
+            if (tamanhoAtual != posicao) {
+                throw new IllegalStateException("O envio " + idEnvio + " tem " + tamanhoAtual
+                        + " bytes; a parte começa em " + posicao);
+            }
+            canal.position(posicao);
+            try {
+                parte.transferTo(Channels.newOutputStream(canal));
+                if (sincronizar) {
+                    canal.force(true);
+                }
+            } catch (IOException | RuntimeException e) {
+                canal.truncate(posicao);
+                throw e;
+            }
+            return canal.size();
+        } catch (IOException e) {
+            throw new RuntimeException("Falha ao gravar a parte do envio " + idEnvio, e);
+        }
+    }
+
+    /**
+     * @return O arquivo completo do envio, para ser movido ao destino definitivo.
+     * @throws RuntimeException Se o envio não existir.
+     */
+    Path arquivoDoEnvio(String idEnvio) {
+        Path arquivo = resolver(idEnvio);
+        if (!Files.isRegularFile(arquivo)) {
+            throw new RuntimeException("Envio parcial não encontrado: " + idEnvio);
+        }
+        return arquivo;
+    }
+
+    /**
+     * @see com.pdfocus.application.material.port.saida.MaterialStoragePort#descartarParcial
+     */
+    void descartar(String idEnvio) {
+        try {
+            Files.deleteIfExists(resolver(idEnvio));
+        } catch (IOException e) {
+            logger.warn("Não foi possível apagar o envio parcial {}", idEnvio, e);
+        }
+    }
+
+    private Path resolver(String idEnvio) {
+        if (idEnvio == null || !ID_VALIDO.matcher(idEnvio).matches()) {
+            throw new RuntimeException("Identificador de envio inválido: " + idEnvio);
+        }
+        return diretorio.resolve(idEnvio + ".parte");
+    }
+
+    private void apagarRestos() throws IOException {
+        int apagados = 0;
+        try (DirectoryStream<Path> restos = Files.newDirectoryStream(diretorio)) {
+            for (Path resto : restos) {
+                try {
+                    Files.delete(resto);
+                    apagados++;
+                } catch (NoSuchFileException e) {
+                    // Já apagado
+                }
+            }
+        }
+        if (apagados > 0) {
+            logger.info("{} envios parciais de uma execução anterior foram descartados", apagados);
+        }
+    }
+}
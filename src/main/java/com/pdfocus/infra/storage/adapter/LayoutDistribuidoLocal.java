@@ -0,0 +1,140 @@
+package com.pdfocus.infra.storage.adapter;
+
+import com.pdfocus.application.material.port.saida.MaterialStoragePort.ArquivoArmazenado;
+import com.pdfocus.infra.cache.HashConteudo;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.util.Optional;
+import java.util.stream.Stream;
+
+/**
+ * Layout dos ficheiros do armazenamento local simples: {@code <raiz>/ab/cd/<nome>}, onde
+ * {@code abcd} são os primeiros caracteres do SHA-256 do nome, mais os ficheiros do layout
+ * antigo, gravados diretamente na raiz.
+ *
+ * <p>Compartilhado pelo {@link LocalFileStorageAdapter}, que grava neste layout, e pelo
+ * {@link LocalCasStorageAdapter}, que continua lendo, apagando e listando os ficheiros
+ * gravados antes da ativação do modo CAS. O {@link LocalTextoPaginasAdapter} usa o mesmo
+ * layout, com raiz em {@code .paginas}, para os arquivos de páginas.</p>
+ */
+final class LayoutDistribuidoLocal {
+
+    private final Path raiz;
+    private final Path hashes;
+
+    /**
+     * @param raiz O diretório de uploads ({@code storage.local.directory}).
+     */
+    LayoutDistribuidoLocal(Path raiz) {
+        this.raiz = raiz;
+        this.hashes = raiz.resolve(".hashes");
+    }
+
+    /**
+     * @return {@code <raiz>/ab/cd/<nome>}, onde {@code abcd} são os primeiros caracteres do SHA-256 do nome.
+     */
+    Path resolverDistribuido(String nomeFicheiro) {
+        validarNome(nomeFicheiro);
+        String hash = HashConteudo.sha256(nomeFicheiro);
+        return raiz.resolve(hash.substring(0, 2)).resolve(hash.substring(2, 4)).resolve(nomeFicheiro);
+    }
+
+    /**
+     * @return {@code <raiz>/<nome>}, o caminho no layout antigo.
+     */
+    Path resolverPlano(String nomeFicheiro) {
+        validarNome(nomeFicheiro);
+        return raiz.resolve(nomeFicheiro);
+    }
+
+    /**
+     * @return {@code <raiz>/.hashes/ab/cd/<nome>}, onde fica o hash do conteúdo gravado.
+     */
+    Path resolverHash(String nomeFicheiro) {
+        return hashes.resolve(raiz.relativize(resolverDistribuido(nomeFicheiro)));
+    }
+
+    /**
+     * O ficheiro no layout distribuído ou, se ainda não migrado, no antigo. Verifica o layout
+     * distribuído de novo no fim, para o caso de a migração ter movido o ficheiro entre as
+     * duas verificações.
+     */
+    Path localizar(String nomeFicheiro) {
+        Path distribuido = resolverDistribuido(nomeFicheiro);
+        if (Files.exists(distribuido)) {
+            return distribuido;
+        }
+        Path plano = resolverPlano(nomeFicheiro);
+        return Files.exists(plano) ? plano : distribuido;
+    }
+
+    /**
+     * Percorre os subdiretórios {@code ab/cd/} e os ficheiros do layout antigo na raiz, um
+     * diretório de cada vez. Entradas ocultas ({@code .tmp}, {@code .hashes}, {@code .cas},
+     * {@code .envios}, {@code .paginas}...) são ignoradas.
+     */
+    Stream<ArquivoArmazenado> listarArquivos() {
+        return listar(raiz)
+                .flatMap(entrada -> Files.isDirectory(entrada) ? percorrerDistribuido(entrada, 1) : Stream.of(entrada))
+                .flatMap(arquivo -> descrever(arquivo).stream());
+    }
+
+    /**
+     * Impede que um nome com separadores ou {@code ..} escape do diretório.
+     */
+    static void validarNome(String nomeFicheiro) {
+        if (nomeFicheiro.isBlank() || nomeFicheiro.startsWith(".")
+                || nomeFicheiro.contains("/") || nomeFicheiro.contains("\\")) {
+            throw new RuntimeException("Nome de ficheiro inválido: " + nomeFicheiro);
+        }
+    }
+
+    /**
+     * Desce pelos dois níveis de subdiretórios do layout distribuído, ignorando diretórios
+     * que não sigam o formato {@code ab/cd}.
+     */
+    private static Stream<Path> percorrerDistribuido(Path diretorio, int nivel) {
+        if (diretorio.getFileName().toString().length() != 2) {
+            return Stream.empty();
+        }
+        Stream<Path> entradas = listar(diretorio);
+        if (nivel == 2) {
+            return entradas.filter(Files::isRegularFile);
+        }
+        return entradas.filter(Files::isDirectory).flatMap(subdiretorio -> percorrerDistribuido(subdiretorio, nivel + 1));
+    }
+
+    /**
+     * @return As entradas não ocultas do diretório; vazio se ele tiver sido apagado no meio do percurso.
+     */
+    private static Stream<Path> listar(Path diretorio) {
+        try {
+            return Files.list(diretorio).filter(entrada -> !entrada.getFileName().toString().startsWith("."));
+        } catch (NoSuchFileException e) {
+            return Stream.empty();
+        } catch (IOException e) {
+            throw new UncheckedIOException("Falha ao listar " + diretorio, e);
+        }
+    }
+
+    private static Optional<ArquivoArmazenado> descrever(Path arquivo) {
+        try {
+            BasicFileAttributes atributos = Files.readAttributes(arquivo, BasicFileAttributes.class);
+            if (!atributos.isRegularFile()) {
+                return Optional.empty();
+            }
+            return Optional.of(new ArquivoArmazenado(arquivo.getFileName().toString(), atributos.size(),
+                    atributos.lastModifiedTime().toInstant()));
+        } catch (NoSuchFileException e) {
+            // Apagado durante o percurso
+            return Optional.empty();
+        } catch (IOException e) {
+            throw new UncheckedIOException("Falha ao ler os atributos de " + arquivo, e);
+        }
+    }
+}
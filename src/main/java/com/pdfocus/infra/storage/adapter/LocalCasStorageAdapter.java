@@ -0,0 +1,400 @@
+package com.pdfocus.infra.storage.adapter;
+
+import com.pdfocus.application.material.port.saida.MaterialStoragePort;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.core.io.Resource;
+import org.springframework.core.io.UrlResource;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.net.MalformedURLException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.security.DigestInputStream;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Instant;
+import java.util.HexFormat;
+import java.util.Optional;
+import java.util.stream.Stream;
+
+/**
+ * Implementação de {@link MaterialStoragePort} com armazenamento endereçado por conteúdo
+ * (CAS) no sistema de arquivos local, em {@code <storage.local.directory>/.cas/}.
+ *
+ * <p>Ativada com {@code storage.local.modo=cas}. Cada conteúdo distinto é gravado uma
+ * única vez, com o seu SHA-256 como nome; a mesma apostila enviada por vários estudantes
+ * ocupa o disco uma vez só.</p>
+ *
+ * <ul>
+ *   <li>{@code objetos/<sha256>}: o conteúdo;</li>
+ *   <li>{@code objetos/<sha256>.refs}: quantos nomes de armazenamento apontam para ele;</li>
+ *   <li>{@code refs/<nomeStorage>}: o SHA-256 do conteúdo gravado sob aquele nome.</li>
+ * </ul>
+ *
+ * <p>O hash é calculado enquanto o fluxo é gravado num arquivo temporário, sem uma segunda
+ * leitura. {@link #apagar(String)} remove a referência e só apaga o conteúdo quando a
+ * última referência for removida. As alterações de contagem de um mesmo conteúdo são
+ * serializadas por um conjunto fixo de travas, escolhidas pelo hash.</p>
+ *
+ * <p>Arquivos gravados antes da ativação do modo CAS pelo {@link LocalFileStorageAdapter},
+ * no layout distribuído ({@code ab/cd/<nome>}) ou no layout plano ainda mais antigo,
+ * continuam sendo lidos, listados e apagados normalmente.</p>
+ */
+@Component
+@ConditionalOnProperty(name = "storage.local.modo", havingValue = "cas")
+public class LocalCasStorageAdapter implements MaterialStoragePort {
+
+    private static final Logger logger = LoggerFactory.getLogger(LocalCasStorageAdapter.class);
+
+    private static final int NUMERO_DE_TRAVAS = 64;
+
+    private final Path objetos;
+    private final Path refs;
+    private final Path temporarios;
+    private final Object[] travas = new Object[NUMERO_DE_TRAVAS];
+    private final EnviosParciaisLocais enviosParciais;
+    private final LayoutDistribuidoLocal legado;
+
+    /**
+     * @param storageDirectory O diretório de uploads; o conteúdo fica no subdiretório {@code .cas}.
+     * @throws RuntimeException Se os diretórios não puderem ser criados.
+     */
+    public LocalCasStorageAdapter(@Value("${storage.local.directory:uploads}") String storageDirectory) {
+        Path rootLocation = Paths.get(storageDirectory);
+        Path cas = rootLocation.resolve(".cas");
+        this.objetos = cas.resolve("objetos");
+        this.refs = cas.resolve("refs");
+        this.temporarios = cas.resolve("tmp");
+        for (int i = 0; i < NUMERO_DE_TRAVAS; i++) {
+            travas[i] = new Object();
+        }
+        try {
+            Files.createDirectories(objetos);
+            Files.createDirectories(refs);
+            Files.createDirectories(temporarios);
+        } catch (IOException e) {
+            throw new RuntimeException("Não foi possível inicializar o diretório de armazenamento.", e);
+        }
+        this.enviosParciais = new EnviosParciaisLocais(rootLocation, false);
+        this.legado = new LayoutDistribuidoLocal(rootLocation);
+    }
+
+    /**
+     * Guarda o conteúdo sob o nome informado, reaproveitando o conteúdo idêntico já armazenado.
+     *
+     * <p>Se o nome já apontava para outro conteúdo, a referência antiga é liberada.</p>
+     *
+     * @throws RuntimeException Se ocorrer falha ao guardar o ficheiro.
+     */
+    @Override
+    public void guardar(String nomeFicheiroStorage, InputStream inputStream) {
+        resolverReferencia(nomeFicheiroStorage);
+        Path temporario = null;
+        try {
+            temporario = Files.createTempFile(temporarios, "upload", ".tmp");
+            MessageDigest digest = novoDigest();
+            try (InputStream entrada = new DigestInputStream(inputStream, digest);
+                 OutputStream saida = Files.newOutputStream(temporario)) {
+                entrada.transferTo(saida);
+            }
+            String hash = HexFormat.of().formatHex(digest.digest());
+
+            Path completo = temporario;
+            temporario = null;
+            registrar(completo, nomeFicheiroStorage, hash);
+        } catch (IOException e) {
+            throw new RuntimeException("Falha ao guardar o ficheiro: " + nomeFicheiroStorage, e);
+        } finally {
+            if (temporario != null) {
+                apagarSilenciosamente(temporario);
+            }
+        }
+    }
+
+    @Override
+    public long anexarParcial(String idEnvio, long posicao, InputStream parte) {
+        return enviosParciais.anexar(idEnvio, posicao, parte);
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * <p>Usa o hash calculado durante o envio como endereço; se o conteúdo já existir, o
+     * arquivo do envio é descartado e apenas a referência é criada.</p>
+     */
+    @Override
+    public void concluirParcial(String idEnvio, String nomeFicheiro, String hash) {
+        resolverReferencia(nomeFicheiro);
+        try {
+            registrar(enviosParciais.arquivoDoEnvio(idEnvio), nomeFicheiro, hash);
+        } catch (IOException e) {
+            throw new RuntimeException("Falha ao guardar o ficheiro: " + nomeFicheiro, e);
+        }
+    }
+
+    @Override
+    public void descartarParcial(String idEnvio) {
+        enviosParciais.descartar(idEnvio);
+    }
+
+    /**
+     * Guarda um arquivo completo como o conteúdo de {@code hash}, se ainda não existir, e
+     * aponta o nome para ele. O arquivo completo é movido ou apagado.
+     */
+    private void registrar(Path completo, String nomeFicheiro, String hash) throws IOException {
+        Path referencia = resolverReferencia(nomeFicheiro);
+        synchronized (trava(hash)) {
+            Path objeto = objetos.resolve(hash);
+            try {
+                if (Files.exists(objeto)) {
+                    Files.delete(completo);
+                } else {
+                    mover(completo, objeto);
+                }
+            } catch (IOException e) {
+                apagarSilenciosamente(completo);
+                throw e;
+            }
+            alterarContagem(hash, 1);
+        }
+
+        Optional<String> anterior = lerReferencia(referencia);
+        try {
+            escreverAtomicamente(referencia, hash);
+        } catch (IOException e) {
+            liberar(hash);
+            throw e;
+        }
+        anterior.filter(hashAnterior -> !hashAnterior.equals(hash)).ifPresent(this::liberar);
+    }
+
+    /**
+     * Remove a referência do nome informado; o conteúdo só é apagado quando nenhum outro
+     * nome apontar para ele. Cópias anteriores ao modo CAS com o mesmo nome também são apagadas.
+     *
+     * <p>Se o ficheiro não existir, a operação será ignorada.</p>
+     *
+     * @throws RuntimeException Se ocorrer falha ao apagar o ficheiro.
+     */
+    @Override
+    public void apagar(String nomeFicheiroStorage) {
+        Path referencia = resolverReferencia(nomeFicheiroStorage);
+        try {
+            Optional<String> hash = lerReferencia(referencia);
+            if (hash.isPresent() && Files.deleteIfExists(referencia)) {
+                liberar(hash.get());
+            }
+            Files.deleteIfExists(legado.resolverPlano(nomeFicheiroStorage));
+            Files.deleteIfExists(legado.resolverDistribuido(nomeFicheiroStorage));
+            Files.deleteIfExists(legado.resolverHash(nomeFicheiroStorage));
+        } catch (IOException e) {
+            throw new RuntimeException("Falha ao apagar o ficheiro: " + nomeFicheiroStorage, e);
+        }
+    }
+
+    /**
+     * @throws RuntimeException Se o ficheiro não puder ser lido ou a URL for inválida.
+     */
+    @Override
+    public Resource carregar(String nomeFicheiro) {
+        Path arquivo = buscarHash(nomeFicheiro)
+                .map(objetos::resolve)
+                .orElseGet(() -> legado.localizar(nomeFicheiro));
+        try {
+            Resource resource = new UrlResource(arquivo.toUri());
+            if (resource.exists() && resource.isReadable()) {
+                return resource;
+            }
+            throw new RuntimeException("Não foi possível ler o ficheiro: " + nomeFicheiro);
+        } catch (MalformedURLException e) {
+            throw new RuntimeException("Erro ao formar a URL para o ficheiro: " + nomeFicheiro, e);
+        }
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * <p>O hash é o próprio endereço do conteúdo, lido da referência sem tocar no arquivo.
+     * Arquivos anteriores ao modo CAS não têm hash conhecido.</p>
+     */
+    @Override
+    public Optional<String> buscarHash(String nomeFicheiro) {
+        try {
+            return lerReferencia(resolverReferencia(nomeFicheiro));
+        } catch (IOException e) {
+            logger.warn("Falha ao ler a referência de {}", nomeFicheiro, e);
+            return Optional.empty();
+        }
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * <p>Lista as referências em {@code refs/}, com o tamanho do conteúdo apontado (que pode
+     * ser compartilhado com outros nomes) e a data da referência, e os arquivos anteriores ao
+     * modo CAS nos layouts do {@link LocalFileStorageAdapter}.</p>
+     */
+    @Override
+    public Stream<ArquivoArmazenado> listarArquivos() {
+        Stream<ArquivoArmazenado> referencias = listar(refs).flatMap(referencia -> descreverReferencia(referencia).stream());
+        return Stream.concat(referencias, legado.listarArquivos());
+    }
+
+    private Optional<ArquivoArmazenado> descreverReferencia(Path referencia) {
+        try {
+            Optional<String> hash = lerReferencia(referencia);
+            if (hash.isEmpty()) {
+                return Optional.empty();
+            }
+            Instant modificadoEm = Files.getLastModifiedTime(referencia).toInstant();
+            long tamanho;
+            try {
+                tamanho = Files.size(objetos.resolve(hash.get()));
+            } catch (NoSuchFileException e) {
+                tamanho = 0;
+            }
+            return Optional.of(new ArquivoArmazenado(referencia.getFileName().toString(), tamanho, modificadoEm));
+        } catch (NoSuchFileException e) {
+            // Apagada durante o percurso
+            return Optional.empty();
+        } catch (IOException e) {
+            throw new UncheckedIOException("Falha ao ler a referência " + referencia, e);
+        }
+    }
+
+    /**
+     * @return As entradas não ocultas do diretório.
+     */
+    private static Stream<Path> listar(Path diretorio) {
+        try {
+            return Files.list(diretorio).filter(entrada -> !entrada.getFileName().toString().startsWith("."));
+        } catch (NoSuchFileException e) {
+            return Stream.empty();
+        } catch (IOException e) {
+            throw new UncheckedIOException("Falha ao listar " + diretorio, e);
+        }
+    }
+
+    /**
+     * @return Quantos nomes de armazenamento apontam para o conteúdo com o hash informado.
+     */
+    long contarReferencias(String hash) {
+        synchronized (trava(hash)) {
+            try {
+                return lerContagem(hash);
+            } catch (IOException e) {
+                throw new RuntimeException("Falha ao ler as referências de " + hash, e);
+            }
+        }
+    }
+
+    /**
+     * Decrementa a contagem do conteúdo e o apaga quando ela chegar a zero.
+     */
+    private void liberar(String hash) {
+        synchronized (trava(hash)) {
+            try {
+                if (alterarContagem(hash, -1) == 0) {
+                    Files.deleteIfExists(objetos.resolve(hash));
+                    Files.deleteIfExists(objetos.resolve(hash + ".refs"));
+                }
+            } catch (IOException e) {
+                throw new RuntimeException("Falha ao liberar o conteúdo " + hash, e);
+            }
+        }
+    }
+
+    /**
+     * Deve ser chamado com a trava do hash.
+     *
+     * @return A nova contagem.
+     */
+    private long alterarContagem(String hash, int delta) throws IOException {
+        long contagem = Math.max(0, lerContagem(hash) + delta);
+        escreverAtomicamente(objetos.resolve(hash + ".refs"), Long.toString(contagem));
+        return contagem;
+    }
+
+    private long lerContagem(String hash) throws IOException {
+        try {
+            return Long.parseLong(Files.readString(objetos.resolve(hash + ".refs"), StandardCharsets.US_ASCII).trim());
+        } catch (NoSuchFileException e) {
+            return 0;
+        }
+    }
+
+    private Optional<String> lerReferencia(Path referencia) throws IOException {
+        try {
+            return Optional.of(Files.readString(referencia, StandardCharsets.US_ASCII).trim());
+        } catch (NoSuchFileException e) {
+            return Optional.empty();
+        }
+    }
+
+    private void escreverAtomicamente(Path destino, String conteudo) throws IOException {
+        Path temporario = Files.createTempFile(temporarios, "ref", ".tmp");
+        try {
+            Files.writeString(temporario, conteudo, StandardCharsets.US_ASCII);
+            mover(temporario, destino);
+        } catch (IOException e) {
+            apagarSilenciosamente(temporario);
+            throw e;
+        }
+    }
+
+    private static void mover(Path origem, Path destino) throws IOException {
+        try {
+            Files.move(origem, destino, StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+        } catch (AtomicMoveNotSupportedException e) {
+            Files.move(origem, destino, StandardCopyOption.REPLACE_EXISTING);
+        }
+    }
+
+    private Path resolverReferencia(String nomeFicheiro) {
+        return resolverDentro(refs, nomeFicheiro);
+    }
+
+    /**
+     * Impede que um nome com separadores ou {@code ..} escape do diretório.
+     */
+    private static Path resolverDentro(Path diretorio, String nomeFicheiro) {
+        Path caminho = diretorio.resolve(nomeFicheiro).normalize();
+        if (!caminho.getParent().equals(diretorio.normalize())) {
+            throw new RuntimeException("Nome de ficheiro inválido: " + nomeFicheiro);
+        }
+        return caminho;
+    }
+
+    private Object trava(String hash) {
+        return travas[Math.floorMod(hash.hashCode(), NUMERO_DE_TRAVAS)];
+    }
+
+    private static void apagarSilenciosamente(Path arquivo) {
+        try {
+            Files.deleteIfExists(arquivo);
+        } catch (IOException e) {
+            logger.warn("Não foi possível apagar o arquivo temporário {}", arquivo, e);
+        }
+    }
+
+    private static MessageDigest novoDigest() {
+        try {
+            return MessageDigest.getInstance("SHA-256");
+        } catch (NoSuchAlgorithmException e) {
+            // Todo JRE é obrigado a oferecer SHA-256
+            throw new IllegalStateException("SHA-256 indisponível na JVM", e);
+        }
+    }
+}
@@ -1,56 +1,143 @@
 package com.pdfocus.infra.storage.adapter;
 
 import com.pdfocus.application.material.port.saida.MaterialStoragePort;
+import com.pdfocus.infra.cache.HashConteudo;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Value;
-import org.springframework.context.annotation.Profile;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
 import org.springframework.core.io.Resource;
 import org.springframework.core.io.UrlResource;
 import org.springframework.stereotype.Component;
 
 import java.io.IOException;
 import java.io.InputStream;
+import java.io.OutputStream;
 import java.net.MalformedURLException;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.DirectoryStream;
+import java.nio.file.FileAlreadyExistsException;
 import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
 import java.nio.file.Path;
 import java.nio.file.Paths;
 import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.security.DigestOutputStream;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.HexFormat;
+import java.util.Locale;
+import java.util.Optional;
+import java.util.stream.Stream;
 
 /**
  * Adaptador que implementa a porta de armazenamento {@link MaterialStoragePort}
  * utilizando o sistema de arquivos local como destino.
  *
- * <p>Todos os ficheiros são armazenados no diretório configurado via
- * {@code application.properties} (propriedade: {@code storage.local.directory}).</p>
+ * <p>Os ficheiros são armazenados no diretório configurado via
+ * {@code application.properties} (propriedade: {@code storage.local.directory}),
+ * distribuídos em dois níveis de subdiretórios pelos primeiros caracteres do SHA-256
+ * do nome ({@code ab/cd/<nome>}), para que nenhum diretório acumule centenas de
+ * milhares de entradas.</p>
  *
  * <p>Este adaptador fornece operações básicas de CRUD para ficheiros:
  * guardar, carregar e apagar.</p>
+ *
+ * <ul>
+ *   <li><b>Gravação atômica:</b> o conteúdo é gravado num arquivo temporário em
+ *       {@code .tmp/} e movido para o nome final só depois de completo; um upload
+ *       interrompido nunca deixa um ficheiro parcial com aparência de válido.</li>
+ *   <li><b>Durabilidade:</b> {@code storage.local.fsync} define o que é sincronizado com o
+ *       disco antes de a gravação ser confirmada: {@code nenhum}, {@code arquivo} (padrão)
+ *       ou {@code arquivo-e-diretorio}.</li>
+ *   <li><b>Migração:</b> ficheiros do layout antigo, gravados diretamente no diretório
+ *       raiz, continuam sendo lidos e apagados e, com
+ *       {@code storage.local.migrar-arquivos-planos=true} (padrão), são movidos para o novo
+ *       layout na inicialização.</li>
+ *   <li><b>Hash do conteúdo:</b> o SHA-256 é calculado durante a gravação e guardado em
+ *       {@code .hashes/ab/cd/<nome>}, respondendo {@link #buscarHash(String)} sem reler o
+ *       ficheiro; para ficheiros anteriores, é calculado na primeira consulta.</li>
+ * </ul>
+ *
+ * <p>É o armazenamento padrão ({@code storage.local.modo=simples}); com
+ * {@code storage.local.modo=cas} é substituído pelo {@link LocalCasStorageAdapter}.</p>
  */
 @Component
+@ConditionalOnProperty(name = "storage.local.modo", havingValue = "simples", matchIfMissing = true)
 public class LocalFileStorageAdapter implements MaterialStoragePort {
 
+    private static final Logger logger = LoggerFactory.getLogger(LocalFileStorageAdapter.class);
+
+    /**
+     * O que é sincronizado com o disco antes de uma gravação ser considerada concluída.
+     */
+    public enum PoliticaFsync {
+        /** Nada; o sistema operacional decide quando gravar. */
+        NENHUM,
+        /** O conteúdo do arquivo, antes de movê-lo para o nome final. */
+        ARQUIVO,
+        /** O conteúdo do arquivo e, depois de movê-lo, o diretório que recebeu o nome. */
+        ARQUIVO_E_DIRETORIO;
+
+        /**
+         * @param valor O valor da propriedade, ex: {@code arquivo-e-diretorio}.
+         * @throws IllegalArgumentException Se o valor não corresponder a nenhuma política.
+         */
+        public static PoliticaFsync de(String valor) {
+            try {
+                return valueOf(valor.trim().toUpperCase(Locale.ROOT).replace('-', '_'));
+            } catch (IllegalArgumentException e) {
+                throw new IllegalArgumentException("Política de fsync inválida: " + valor
+                        + " (use nenhum, arquivo ou arquivo-e-diretorio)", e);
+            }
+        }
+    }
+
     private final Path rootLocation;
+    private final Path temporarios;
+    private final LayoutDistribuidoLocal layout;
+    private final PoliticaFsync politicaFsync;
+    private final boolean migrarArquivosPlanos;
+    private final EnviosParciaisLocais enviosParciais;
 
     /**
      * Constrói o adaptador e inicializa o diretório de armazenamento.
      *
      * <p>Se o diretório não existir, ele será criado automaticamente.</p>
      *
-     * @param storageDirectory O caminho para o diretório de uploads (ex: "uploads").
+     * @param storageDirectory     O caminho para o diretório de uploads (ex: "uploads").
+     * @param politicaFsync        A política de fsync: {@code nenhum}, {@code arquivo} ou {@code arquivo-e-diretorio}.
+     * @param migrarArquivosPlanos Se os ficheiros do layout antigo devem ser migrados na inicialização.
      * @throws RuntimeException Se o diretório não puder ser criado.
      */
-    public LocalFileStorageAdapter(@Value("${storage.local.directory:uploads}") String storageDirectory) {
+    public LocalFileStorageAdapter(@Value("${storage.local.directory:uploads}") String storageDirectory,
+                                   @Value("${storage.local.fsync:arquivo}") String politicaFsync,
+                                   @Value("${storage.local.migrar-arquivos-planos:true}") boolean migrarArquivosPlanos) {
         // Adicionei ':uploads' acima como valor padrão caso a variável não exista
         this.rootLocation = Paths.get(storageDirectory);
+        this.temporarios = rootLocation.resolve(".tmp");
+        this.layout = new LayoutDistribuidoLocal(rootLocation);
+        this.politicaFsync = PoliticaFsync.de(politicaFsync);
+        this.migrarArquivosPlanos = migrarArquivosPlanos;
         try {
-            Files.createDirectories(rootLocation);
+            Files.createDirectories(temporarios);
         } catch (IOException e) {
             throw new RuntimeException("Não foi possível inicializar o diretório de armazenamento.", e);
         }
+        this.enviosParciais = new EnviosParciaisLocais(rootLocation, this.politicaFsync != PoliticaFsync.NENHUM);
     }
+
     /**
      * Guarda um ficheiro no sistema de arquivos local.
      *
-     * <p>Se já existir um ficheiro com o mesmo nome, ele será substituído.</p>
+     * <p>Se já existir um ficheiro com o mesmo nome, ele será substituído de forma atômica:
+     * leitores veem o conteúdo antigo ou o novo, nunca um ficheiro parcial.</p>
      *
      * @param nomeFicheiroStorage Nome do ficheiro a ser armazenado.
      * @param inputStream Fluxo de dados do ficheiro.
@@ -58,12 +145,76 @@ public class LocalFileStorageAdapter implements MaterialStoragePort {
      */
     @Override
     public void guardar(String nomeFicheiroStorage, InputStream inputStream) {
+        resolverDistribuido(nomeFicheiroStorage);
+        Path temporario = null;
         try {
-            Path destinoPath = this.rootLocation.resolve(nomeFicheiroStorage);
-            Files.copy(inputStream, destinoPath, StandardCopyOption.REPLACE_EXISTING);
+            temporario = Files.createTempFile(temporarios, "upload", ".tmp");
+            MessageDigest digest = novoDigest();
+            try (FileChannel canal = FileChannel.open(temporario, StandardOpenOption.WRITE)) {
+                OutputStream saida = new DigestOutputStream(Channels.newOutputStream(canal), digest);
+                inputStream.transferTo(saida);
+                if (politicaFsync != PoliticaFsync.NENHUM) {
+                    canal.force(true);
+                }
+            }
+
+            instalar(temporario, nomeFicheiroStorage, HexFormat.of().formatHex(digest.digest()));
+            temporario = null;
         } catch (IOException e) {
             throw new RuntimeException("Falha ao guardar o ficheiro: " + nomeFicheiroStorage, e);
+        } finally {
+            if (temporario != null) {
+                apagarSilenciosamente(temporario);
+            }
+        }
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * <p>As partes são gravadas em {@code .envios/} e sincronizadas com o disco conforme
+     * {@code storage.local.fsync}.</p>
+     */
+    @Override
+    public long anexarParcial(String idEnvio, long posicao, InputStream parte) {
+        return enviosParciais.anexar(idEnvio, posicao, parte);
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * <p>O arquivo do envio é movido para o layout distribuído, como numa gravação comum.</p>
+     */
+    @Override
+    public void concluirParcial(String idEnvio, String nomeFicheiro, String hash) {
+        resolverDistribuido(nomeFicheiro);
+        try {
+            instalar(enviosParciais.arquivoDoEnvio(idEnvio), nomeFicheiro, hash);
+        } catch (IOException e) {
+            throw new RuntimeException("Falha ao guardar o ficheiro: " + nomeFicheiro, e);
+        }
+    }
+
+    @Override
+    public void descartarParcial(String idEnvio) {
+        enviosParciais.descartar(idEnvio);
+    }
+
+    /**
+     * Move um arquivo completo para o nome definitivo, de forma atômica, e registra o seu hash.
+     */
+    private void instalar(Path completo, String nomeFicheiro, String hash) throws IOException {
+        Path destinoPath = resolverDistribuido(nomeFicheiro);
+        // O hash antigo sai antes da troca do conteúdo, para nunca descrever o ficheiro errado
+        Files.deleteIfExists(resolverHash(nomeFicheiro));
+        Files.createDirectories(destinoPath.getParent());
+        mover(completo, destinoPath);
+        if (politicaFsync == PoliticaFsync.ARQUIVO_E_DIRETORIO) {
+            sincronizarDiretorio(destinoPath.getParent());
         }
+        // Remove a cópia do layout antigo, que deixaria de ser lida
+        Files.deleteIfExists(resolverPlano(nomeFicheiro));
+        gravarHash(nomeFicheiro, hash);
     }
 
     /**
@@ -77,8 +228,10 @@ public class LocalFileStorageAdapter implements MaterialStoragePort {
     @Override
     public void apagar(String nomeFicheiroStorage) {
         try {
-            Path ficheiroPath = this.rootLocation.resolve(nomeFicheiroStorage);
-            Files.deleteIfExists(ficheiroPath);
+            // O layout antigo primeiro: se a migração mover o ficheiro no meio, o segundo passo o apaga
+            Files.deleteIfExists(resolverPlano(nomeFicheiroStorage));
+            Files.deleteIfExists(resolverDistribuido(nomeFicheiroStorage));
+            Files.deleteIfExists(resolverHash(nomeFicheiroStorage));
         } catch (IOException e) {
             throw new RuntimeException("Falha ao apagar o ficheiro: " + nomeFicheiroStorage, e);
         }
@@ -94,7 +247,7 @@ public class LocalFileStorageAdapter implements MaterialStoragePort {
     @Override
     public Resource carregar(String nomeFicheiro) {
         try {
-            Path file = this.rootLocation.resolve(nomeFicheiro);
+            Path file = layout.localizar(nomeFicheiro);
             Resource resource = new UrlResource(file.toUri());
 
             if (resource.exists() && resource.isReadable()) {
@@ -106,4 +259,170 @@ public class LocalFileStorageAdapter implements MaterialStoragePort {
             throw new RuntimeException("Erro ao formar a URL para o ficheiro: " + nomeFicheiro, e);
         }
     }
+
+    /**
+     * {@inheritDoc}
+     *
+     * <p>Lê o hash guardado na gravação. Para ficheiros gravados antes dele existir, calcula
+     * o hash lendo o ficheiro uma vez e o guarda para as próximas consultas.</p>
+     */
+    @Override
+    public Optional<String> buscarHash(String nomeFicheiro) {
+        Path hashPath = resolverHash(nomeFicheiro);
+        try {
+            return Optional.of(Files.readString(hashPath, StandardCharsets.US_ASCII).trim());
+        } catch (NoSuchFileException e) {
+            // Ainda não calculado
+        } catch (IOException e) {
+            logger.warn("Falha ao ler o hash de {}", nomeFicheiro, e);
+            return Optional.empty();
+        }
+
+        Path arquivo = layout.localizar(nomeFicheiro);
+        try (InputStream conteudo = Files.newInputStream(arquivo)) {
+            String hash = HashConteudo.sha256(conteudo);
+            gravarHash(nomeFicheiro, hash);
+            return Optional.of(hash);
+        } catch (NoSuchFileException e) {
+            return Optional.empty();
+        } catch (IOException e) {
+            logger.warn("Falha ao calcular o hash de {}", nomeFicheiro, e);
+            return Optional.empty();
+        }
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * <p>Percorre os subdiretórios {@code ab/cd/} e os ficheiros do layout antigo no diretório
+     * raiz, um diretório de cada vez. Entradas ocultas ({@code .tmp}, {@code .hashes},
+     * {@code .envios}, {@code .paginas}...) são ignoradas.</p>
+     */
+    @Override
+    public Stream<ArquivoArmazenado> listarArquivos() {
+        return layout.listarArquivos();
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void migrarNaInicializacao() {
+        if (migrarArquivosPlanos) {
+            migrarArquivosPlanos();
+        }
+    }
+
+    /**
+     * Move os ficheiros gravados diretamente no diretório raiz (layout antigo) para o layout
+     * distribuído. Diretórios e entradas ocultas ({@code .tmp}, {@code .cache}, {@code .paginas}...)
+     * são ignorados. Pode ser executada com a aplicação em uso e repetida com segurança.
+     *
+     * @return O número de ficheiros migrados.
+     */
+    public int migrarArquivosPlanos() {
+        int migrados = 0;
+        try (DirectoryStream<Path> entradas = Files.newDirectoryStream(rootLocation,
+                entrada -> !entrada.getFileName().toString().startsWith(".") && Files.isRegularFile(entrada))) {
+            for (Path plano : entradas) {
+                if (migrar(plano)) {
+                    migrados++;
+                }
+            }
+        } catch (IOException e) {
+            logger.error("Falha ao listar {} para a migração de layout", rootLocation, e);
+        }
+        if (migrados > 0) {
+            logger.info("{} ficheiros migrados para o layout distribuído em {}", migrados, rootLocation);
+        }
+        return migrados;
+    }
+
+    private boolean migrar(Path plano) {
+        String nome = plano.getFileName().toString();
+        Path destino = resolverDistribuido(nome);
+        try {
+            Files.createDirectories(destino.getParent());
+            // Sem substituir: se já existir no novo layout, aquele é o ficheiro mais recente
+            Files.move(plano, destino);
+            return true;
+        } catch (FileAlreadyExistsException e) {
+            logger.warn("{} já existe no layout distribuído; a cópia antiga foi mantida em {}", nome, plano);
+        } catch (NoSuchFileException e) {
+            // Apagado durante a migração
+        } catch (IOException e) {
+            logger.warn("Falha ao migrar {} para o layout distribuído", nome, e);
+        }
+        return false;
+    }
+
+    /**
+     * @return {@code <raiz>/ab/cd/<nome>}, onde {@code abcd} são os primeiros caracteres do SHA-256 do nome.
+     */
+    Path resolverDistribuido(String nomeFicheiro) {
+        return layout.resolverDistribuido(nomeFicheiro);
+    }
+
+    private Path resolverHash(String nomeFicheiro) {
+        return layout.resolverHash(nomeFicheiro);
+    }
+
+    /**
+     * Grava o hash de forma atômica. Uma falha apenas adia o hash para a próxima consulta.
+     */
+    private void gravarHash(String nomeFicheiro, String hash) {
+        Path hashPath = resolverHash(nomeFicheiro);
+        Path temporario = null;
+        try {
+            Files.createDirectories(hashPath.getParent());
+            temporario = Files.createTempFile(temporarios, "hash", ".tmp");
+            Files.writeString(temporario, hash, StandardCharsets.US_ASCII);
+            mover(temporario, hashPath);
+            temporario = null;
+        } catch (IOException e) {
+            logger.warn("Falha ao guardar o hash de {}", nomeFicheiro, e);
+        } finally {
+            if (temporario != null) {
+                apagarSilenciosamente(temporario);
+            }
+        }
+    }
+
+    private Path resolverPlano(String nomeFicheiro) {
+        return layout.resolverPlano(nomeFicheiro);
+    }
+
+    private static void mover(Path origem, Path destino) throws IOException {
+        try {
+            Files.move(origem, destino, StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+        } catch (AtomicMoveNotSupportedException e) {
+            Files.move(origem, destino, StandardCopyOption.REPLACE_EXISTING);
+        }
+    }
+
+    /**
+     * Garante que a entrada criada no diretório sobreviva a uma queda de energia. Nem todo
+     * sistema operacional permite abrir um diretório para sincronização; nesse caso é ignorado.
+     */
+    private static void sincronizarDiretorio(Path diretorio) {
+        try (FileChannel canal = FileChannel.open(diretorio, StandardOpenOption.READ)) {
+            canal.force(true);
+        } catch (IOException e) {
+            logger.debug("Não foi possível sincronizar o diretório {}", diretorio, e);
+        }
+    }
+
+    private static MessageDigest novoDigest() {
+        try {
+            return MessageDigest.getInstance("SHA-256");
+        } catch (NoSuchAlgorithmException e) {
+            // Todo JRE é obrigado a oferecer SHA-256
+            throw new IllegalStateException("SHA-256 indisponível na JVM", e);
+        }
+    }
+
+    private static void apagarSilenciosamente(Path arquivo) {
+        try {
+            Files.deleteIfExists(arquivo);
+        } catch (IOException e) {
+            logger.warn("Não foi possível apagar o arquivo temporário {}", arquivo, e);
+        }
+    }
 }
@@ -0,0 +1,202 @@
+package com.pdfocus.infra.storage.adapter;
+
+import com.pdfocus.application.material.port.saida.TextoPaginasPort;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.io.EOFException;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.OptionalInt;
+
+/**
+ * Adaptador que implementa a porta {@link TextoPaginasPort} no sistema de arquivos local,
+ * em {@code <storage.local.directory>/.paginas/ab/cd/<nomeStorage>.pag}, no mesmo layout
+ * distribuído dos uploads ({@link LayoutDistribuidoLocal}).
+ *
+ * <p>Cada arquivo armazenado gera um único arquivo de páginas:</p>
+ * <ul>
+ * <li>o cabeçalho, com o número de páginas ({@code int}) seguido da posição em bytes, contada a
+ *     partir do fim do cabeçalho, do início de cada página e do fim do texto ({@code long}s);</li>
+ * <li>o texto de todas as páginas em UTF-8, em sequência.</li>
+ * </ul>
+ *
+ * <p>Ler um intervalo de páginas lê apenas as entradas correspondentes do cabeçalho e o trecho
+ * correspondente do texto, pelo mesmo canal aberto. O arquivo é gravado de forma atômica
+ * (arquivo temporário + renomeação): o cabeçalho e o texto são sempre da mesma gravação, mesmo
+ * com uma leitura em andamento durante a substituição. Falhas de leitura e gravação são
+ * registradas e tratadas como páginas ausentes.</p>
+ *
+ * <p>Páginas gravadas no formato antigo ({@code .paginas/<nomeStorage>.txt} e {@code .idx})
+ * não são lidas: são tratadas como ausentes, extraídas de novo sob demanda, e removidas por
+ * {@link #apagar(String)}.</p>
+ */
+@Component
+public class LocalTextoPaginasAdapter implements TextoPaginasPort {
+
+    private static final Logger logger = LoggerFactory.getLogger(LocalTextoPaginasAdapter.class);
+
+    private static final String EXTENSAO = ".pag";
+
+    private final Path diretorio;
+    private final LayoutDistribuidoLocal layout;
+
+    /**
+     * @param storageDirectory O diretório de uploads; as páginas ficam no subdiretório {@code .paginas}.
+     * @throws RuntimeException Se o diretório não puder ser criado.
+     */
+    public LocalTextoPaginasAdapter(@Value("${storage.local.directory:uploads}") String storageDirectory) {
+        this.diretorio = Paths.get(storageDirectory).resolve(".paginas");
+        this.layout = new LayoutDistribuidoLocal(diretorio);
+        try {
+            Files.createDirectories(diretorio);
+        } catch (IOException e) {
+            throw new RuntimeException("Não foi possível inicializar o diretório de páginas: " + diretorio, e);
+        }
+    }
+
+    @Override
+    public void salvar(String nomeStorage, List<String> paginas) {
+        Path temporario = null;
+        try {
+            Path destino = arquivoPaginas(nomeStorage);
+            Files.createDirectories(destino.getParent());
+            temporario = Files.createTempFile(diretorio, nomeStorage, ".tmp");
+
+            // O texto depois do espaço reservado ao cabeçalho; o cabeçalho no fim, já com as posições
+            int tamanhoCabecalho = tamanhoCabecalho(paginas.size());
+            ByteBuffer cabecalho = ByteBuffer.allocate(tamanhoCabecalho).putInt(paginas.size()).putLong(0);
+            try (FileChannel arquivo = FileChannel.open(temporario, StandardOpenOption.WRITE)) {
+                long posicao = 0;
+                for (String pagina : paginas) {
+                    ByteBuffer bytes = ByteBuffer.wrap(pagina.getBytes(StandardCharsets.UTF_8));
+                    escrever(arquivo, bytes, tamanhoCabecalho + posicao);
+                    posicao += bytes.capacity();
+                    cabecalho.putLong(posicao);
+                }
+                escrever(arquivo, cabecalho.flip(), 0);
+            }
+
+            Files.move(temporario, destino, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        } catch (IOException e) {
+            logger.warn("Falha ao gravar as páginas de {}", nomeStorage, e);
+            apagarSilenciosamente(temporario);
+        }
+    }
+
+    @Override
+    public Optional<List<String>> buscarPaginas(String nomeStorage, int primeira, int ultima) {
+        try (FileChannel arquivo = FileChannel.open(arquivoPaginas(nomeStorage), StandardOpenOption.READ)) {
+            int quantidade = ler(arquivo, 0, Integer.BYTES).getInt();
+            int inicio = Math.max(1, primeira);
+            int fim = Math.min(quantidade, ultima);
+            if (inicio > fim) {
+                return Optional.of(List.of());
+            }
+
+            // Posições do início de cada página do intervalo e do fim da última
+            ByteBuffer bufferPosicoes = ler(arquivo, Integer.BYTES + (long) Long.BYTES * (inicio - 1),
+                    Long.BYTES * (fim - inicio + 2));
+            long[] posicoes = new long[fim - inicio + 2];
+            for (int i = 0; i < posicoes.length; i++) {
+                posicoes[i] = bufferPosicoes.getLong();
+            }
+
+            ByteBuffer trecho = ler(arquivo, tamanhoCabecalho(quantidade) + posicoes[0],
+                    Math.toIntExact(posicoes[posicoes.length - 1] - posicoes[0]));
+
+            List<String> paginas = new ArrayList<>(posicoes.length - 1);
+            for (int i = 0; i < posicoes.length - 1; i++) {
+                int tamanho = (int) (posicoes[i + 1] - posicoes[i]);
+                paginas.add(new String(trecho.array(), (int) (posicoes[i] - posicoes[0]), tamanho, StandardCharsets.UTF_8));
+            }
+            return Optional.of(paginas);
+        } catch (NoSuchFileException e) {
+            return Optional.empty();
+        } catch (IOException | ArithmeticException e) {
+            logger.warn("Falha ao ler as páginas {}-{} de {}", primeira, ultima, nomeStorage, e);
+            return Optional.empty();
+        }
+    }
+
+    @Override
+    public OptionalInt contarPaginas(String nomeStorage) {
+        try (FileChannel arquivo = FileChannel.open(arquivoPaginas(nomeStorage), StandardOpenOption.READ)) {
+            return OptionalInt.of(ler(arquivo, 0, Integer.BYTES).getInt());
+        } catch (NoSuchFileException e) {
+            return OptionalInt.empty();
+        } catch (IOException e) {
+            logger.warn("Falha ao ler o cabeçalho de páginas de {}", nomeStorage, e);
+            return OptionalInt.empty();
+        }
+    }
+
+    @Override
+    public void apagar(String nomeStorage) {
+        try {
+            Files.deleteIfExists(arquivoPaginas(nomeStorage));
+            // Formato antigo, com o índice e o texto em arquivos separados na raiz
+            Files.deleteIfExists(diretorio.resolve(nomeStorage + ".idx"));
+            Files.deleteIfExists(diretorio.resolve(nomeStorage + ".txt"));
+        } catch (IOException e) {
+            logger.warn("Falha ao apagar as páginas de {}", nomeStorage, e);
+        }
+    }
+
+    /**
+     * @return O tamanho em bytes do cabeçalho de um arquivo com {@code quantidade} páginas.
+     */
+    private static int tamanhoCabecalho(int quantidade) {
+        return Math.toIntExact(Integer.BYTES + (long) Long.BYTES * (quantidade + 1));
+    }
+
+    /**
+     * Escreve todo o conteúdo do buffer a partir de {@code posicao}.
+     */
+    private static void escrever(FileChannel canal, ByteBuffer buffer, long posicao) throws IOException {
+        while (buffer.hasRemaining()) {
+            canal.write(buffer, posicao + buffer.position());
+        }
+    }
+
+    /**
+     * Lê exatamente {@code tamanho} bytes a partir de {@code posicao}.
+     */
+    private static ByteBuffer ler(FileChannel canal, long posicao, int tamanho) throws IOException {
+        ByteBuffer buffer = ByteBuffer.allocate(tamanho);
+        while (buffer.hasRemaining()) {
+            if (canal.read(buffer, posicao + buffer.position()) < 0) {
+                throw new EOFException("Arquivo de páginas truncado");
+            }
+        }
+        return buffer.flip();
+    }
+
+    private Path arquivoPaginas(String nomeStorage) {
+        return layout.resolverDistribuido(nomeStorage + EXTENSAO);
+    }
+
+    private static void apagarSilenciosamente(Path arquivo) {
+        if (arquivo == null) {
+            return;
+        }
+        try {
+            Files.deleteIfExists(arquivo);
+        } catch (IOException ignorada) {
+            // Um arquivo temporário órfão não afeta leituras futuras
+        }
+    }
+}
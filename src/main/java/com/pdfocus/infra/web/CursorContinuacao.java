@@ -0,0 +1,66 @@
+package com.pdfocus.infra.web;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+import java.util.List;
+
+/**
+ * Codifica e decodifica os tokens de continuação das listagens paginadas por cursor.
+ *
+ * <p>
+ * O token é opaco para o cliente: as partes da posição (por exemplo, data e id do último
+ * item) são unidas por {@code |}, prefixadas com a versão do formato e codificadas em
+ * Base64 URL-safe sem preenchimento, podendo ir direto na query string. Um token malformado
+ * ou de outra versão gera {@link IllegalArgumentException} (respondida com {@code 400}).
+ * </p>
+ *
+ * <p>Classe utilitária sem estado; não deve ser instanciada.</p>
+ */
+public final class CursorContinuacao {
+
+    private static final String VERSAO = "v1";
+    private static final String SEPARADOR = "|";
+
+    private CursorContinuacao() {
+    }
+
+    /**
+     * Gera o token para as partes da posição informadas.
+     *
+     * @param partes Partes da posição, sem o caractere {@code |}.
+     * @return O token opaco.
+     */
+    public static String codificar(String... partes) {
+        StringBuilder texto = new StringBuilder(VERSAO);
+        for (String parte : partes) {
+            if (parte.contains(SEPARADOR)) {
+                throw new IllegalArgumentException("Parte de cursor inválida: " + parte);
+            }
+            texto.append(SEPARADOR).append(parte);
+        }
+        return Base64.getUrlEncoder().withoutPadding()
+                .encodeToString(texto.toString().getBytes(StandardCharsets.UTF_8));
+    }
+
+    /**
+     * Lê as partes da posição de um token gerado por {@link #codificar(String...)}.
+     *
+     * @param token  O token recebido do cliente.
+     * @param partes O número de partes esperado.
+     * @return As partes da posição, na ordem em que foram codificadas.
+     * @throws IllegalArgumentException se o token for inválido.
+     */
+    public static List<String> decodificar(String token, int partes) {
+        String texto;
+        try {
+            texto = new String(Base64.getUrlDecoder().decode(token), StandardCharsets.UTF_8);
+        } catch (IllegalArgumentException e) {
+            throw new IllegalArgumentException("Cursor de continuação inválido.");
+        }
+        List<String> campos = List.of(texto.split("\\" + SEPARADOR, -1));
+        if (campos.size() != partes + 1 || !VERSAO.equals(campos.get(0))) {
+            throw new IllegalArgumentException("Cursor de continuação inválido.");
+        }
+        return campos.subList(1, campos.size());
+    }
+}
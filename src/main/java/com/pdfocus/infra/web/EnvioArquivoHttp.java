@@ -0,0 +1,269 @@
+package com.pdfocus.infra.web;
+
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.core.io.Resource;
+import org.springframework.http.HttpHeaders;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.channels.WritableByteChannel;
+import java.nio.file.StandardOpenOption;
+import java.time.ZonedDateTime;
+import java.time.format.DateTimeFormatter;
+import java.time.format.DateTimeParseException;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Envia um arquivo armazenado como resposta HTTP com requisições condicionais e parciais,
+ * para que o visualizador de PDF do navegador possa revalidar e navegar pelo arquivo sem
+ * baixá-lo inteiro a cada abertura.
+ *
+ * <ul>
+ *   <li><b>Validadores:</b> {@code ETag} forte (o SHA-256 do conteúdo), {@code Last-Modified}
+ *       e {@code Cache-Control: private, no-cache}; o navegador guarda o arquivo e revalida a
+ *       cada uso.</li>
+ *   <li><b>GET condicional:</b> {@code If-None-Match} e {@code If-Modified-Since} respondem
+ *       {@code 304} sem corpo.</li>
+ *   <li><b>Intervalos:</b> um único intervalo em {@code Range} responde {@code 206} com o
+ *       trecho; um intervalo fora do arquivo responde {@code 416}. Vários intervalos ou um
+ *       {@code If-Range} que não corresponde ao arquivo atual recebem o arquivo inteiro.</li>
+ *   <li><b>Transferência:</b> em arquivos locais, o envio é delegado ao {@code sendfile} do
+ *       Tomcat quando disponível, sem passar os bytes pela JVM; senão, é feito com
+ *       {@link FileChannel#transferTo}. Outros recursos são copiados do {@link InputStream}.</li>
+ * </ul>
+ *
+ * <p>Classe utilitária sem estado; não deve ser instanciada.</p>
+ */
+public final class EnvioArquivoHttp {
+
+    static final String SENDFILE_SUPORTADO = "org.apache.tomcat.sendfile.support";
+    static final String SENDFILE_ARQUIVO = "org.apache.tomcat.sendfile.filename";
+    static final String SENDFILE_INICIO = "org.apache.tomcat.sendfile.start";
+    static final String SENDFILE_FIM = "org.apache.tomcat.sendfile.end";
+
+    private EnvioArquivoHttp() {
+    }
+
+    /**
+     * Intervalo de bytes, com início e fim inclusivos.
+     *
+     * @param inicio Posição do primeiro byte.
+     * @param fim    Posição do último byte.
+     */
+    record Intervalo(long inicio, long fim) {
+
+        /** Marca um {@code Range} que não pode ser atendido ({@code 416}). */
+        static final Intervalo INSATISFAZIVEL = new Intervalo(-1, -1);
+
+        long tamanho() {
+            return fim - inicio + 1;
+        }
+    }
+
+    /**
+     * Escreve a resposta para o arquivo.
+     *
+     * @param request     A requisição, de onde vêm os cabeçalhos condicionais e {@code Range}.
+     * @param response    A resposta.
+     * @param resource    O arquivo.
+     * @param hash        O SHA-256 do conteúdo, para o {@code ETag}; {@code null} se desconhecido.
+     * @param contentType O tipo do conteúdo.
+     * @param disposition O {@code Content-Disposition}, ex: {@code inline; filename="a.pdf"}.
+     * @throws IOException Se o arquivo não puder ser lido ou a resposta escrita.
+     */
+    public static void enviar(HttpServletRequest request, HttpServletResponse response, Resource resource,
+                              String hash, String contentType, String disposition) throws IOException {
+        long tamanho = resource.contentLength();
+        // Datas HTTP têm precisão de segundos
+        long ultimaModificacao = TimeUnit.SECONDS.toMillis(TimeUnit.MILLISECONDS.toSeconds(resource.lastModified()));
+        String etag = hash != null
+                ? "\"" + hash + "\""
+                : "W/\"" + Long.toHexString(tamanho) + "-" + Long.toHexString(ultimaModificacao) + "\"";
+
+        response.setHeader(HttpHeaders.ETAG, etag);
+        if (ultimaModificacao > 0) {
+            response.setDateHeader(HttpHeaders.LAST_MODIFIED, ultimaModificacao);
+        }
+        response.setHeader(HttpHeaders.CACHE_CONTROL, "private, no-cache");
+        response.setHeader(HttpHeaders.ACCEPT_RANGES, "bytes");
+
+        if (naoModificado(request.getHeader(HttpHeaders.IF_NONE_MATCH),
+                lerData(request, HttpHeaders.IF_MODIFIED_SINCE), etag, ultimaModificacao)) {
+            response.setStatus(HttpServletResponse.SC_NOT_MODIFIED);
+            return;
+        }
+
+        Intervalo intervalo = null;
+        if (condicaoIfRangeAtendida(request.getHeader(HttpHeaders.IF_RANGE), etag, ultimaModificacao)) {
+            intervalo = interpretarRange(request.getHeader(HttpHeaders.RANGE), tamanho);
+        }
+        if (intervalo == Intervalo.INSATISFAZIVEL) {
+            response.setStatus(HttpServletResponse.SC_REQUESTED_RANGE_NOT_SATISFIABLE);
+            response.setHeader(HttpHeaders.CONTENT_RANGE, "bytes */" + tamanho);
+            return;
+        }
+
+        response.setContentType(contentType);
+        response.setHeader(HttpHeaders.CONTENT_DISPOSITION, disposition);
+        if (intervalo != null) {
+            response.setStatus(HttpServletResponse.SC_PARTIAL_CONTENT);
+            response.setHeader(HttpHeaders.CONTENT_RANGE,
+                    "bytes " + intervalo.inicio() + "-" + intervalo.fim() + "/" + tamanho);
+        } else {
+            intervalo = new Intervalo(0, tamanho - 1);
+        }
+        response.setContentLengthLong(intervalo.tamanho());
+
+        if ("HEAD".equalsIgnoreCase(request.getMethod()) || intervalo.tamanho() == 0) {
+            return;
+        }
+        escreverCorpo(request, response, resource, intervalo);
+    }
+
+    /**
+     * {@code If-None-Match} tem precedência; {@code If-Modified-Since} só é avaliado na sua ausência.
+     */
+    static boolean naoModificado(String ifNoneMatch, long ifModifiedSince, String etag, long ultimaModificacao) {
+        if (ifNoneMatch != null) {
+            return correspondeAlgumEtag(ifNoneMatch, etag);
+        }
+        return ifModifiedSince >= 0 && ultimaModificacao > 0 && ultimaModificacao <= ifModifiedSince;
+    }
+
+    /**
+     * {@code If-Range} com ETag exige correspondência forte; com data, a data exata da última
+     * modificação.
+     *
+     * @return {@code true} se o {@code Range} deve ser atendido.
+     */
+    static boolean condicaoIfRangeAtendida(String ifRange, String etag, long ultimaModificacao) {
+        if (ifRange == null) {
+            return true;
+        }
+        String valor = ifRange.trim();
+        if (valor.startsWith("\"") || valor.startsWith("W/")) {
+            return !etag.startsWith("W/") && valor.equals(etag);
+        }
+        try {
+            long data = ZonedDateTime.parse(valor, DateTimeFormatter.RFC_1123_DATE_TIME).toInstant().toEpochMilli();
+            return data == ultimaModificacao;
+        } catch (DateTimeParseException e) {
+            return false;
+        }
+    }
+
+    /**
+     * Interpreta o cabeçalho {@code Range}, aceitando um único intervalo em bytes
+     * ({@code a-b}, {@code a-} ou {@code -n}).
+     *
+     * @return O intervalo a enviar, limitado ao tamanho do arquivo; {@code null} para enviar
+     *         o arquivo inteiro (sem {@code Range}, vários intervalos ou valor malformado);
+     *         {@link Intervalo#INSATISFAZIVEL} se o intervalo estiver fora do arquivo.
+     */
+    static Intervalo interpretarRange(String range, long tamanho) {
+        if (range == null || !range.regionMatches(true, 0, "bytes=", 0, 6)) {
+            return null;
+        }
+        String especificacao = range.substring(6).trim();
+        int hifen = especificacao.indexOf('-');
+        if (especificacao.contains(",") || hifen < 0) {
+            return null;
+        }
+        String inicioTexto = especificacao.substring(0, hifen).trim();
+        String fimTexto = especificacao.substring(hifen + 1).trim();
+        try {
+            if (inicioTexto.isEmpty()) {
+                long sufixo = Long.parseLong(fimTexto);
+                if (sufixo <= 0 || tamanho == 0) {
+                    return Intervalo.INSATISFAZIVEL;
+                }
+                return new Intervalo(Math.max(0, tamanho - sufixo), tamanho - 1);
+            }
+            long inicio = Long.parseLong(inicioTexto);
+            long fim = fimTexto.isEmpty() ? Long.MAX_VALUE : Long.parseLong(fimTexto);
+            if (inicio < 0 || fim < inicio) {
+                return null;
+            }
+            if (inicio >= tamanho) {
+                return Intervalo.INSATISFAZIVEL;
+            }
+            return new Intervalo(inicio, Math.min(fim, tamanho - 1));
+        } catch (NumberFormatException e) {
+            return null;
+        }
+    }
+
+    private static boolean correspondeAlgumEtag(String lista, String etag) {
+        // Comparação fraca, como pede o If-None-Match
+        String opaco = semPrefixoFraco(etag);
+        for (String candidato : lista.split(",")) {
+            String valor = candidato.trim();
+            if (valor.equals("*") || semPrefixoFraco(valor).equals(opaco)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private static String semPrefixoFraco(String etag) {
+        return etag.startsWith("W/") ? etag.substring(2) : etag;
+    }
+
+    private static long lerData(HttpServletRequest request, String cabecalho) {
+        try {
+            return request.getDateHeader(cabecalho);
+        } catch (IllegalArgumentException e) {
+            return -1;
+        }
+    }
+
+    private static void escreverCorpo(HttpServletRequest request, HttpServletResponse response,
+                                      Resource resource, Intervalo intervalo) throws IOException {
+        File arquivo = resource.isFile() ? resource.getFile() : null;
+
+        if (arquivo != null && Boolean.TRUE.equals(request.getAttribute(SENDFILE_SUPORTADO))) {
+            // O Tomcat envia o trecho direto do arquivo para o socket depois que o controlador retornar
+            request.setAttribute(SENDFILE_ARQUIVO, arquivo.getAbsolutePath());
+            request.setAttribute(SENDFILE_INICIO, intervalo.inicio());
+            request.setAttribute(SENDFILE_FIM, intervalo.fim() + 1);
+            return;
+        }
+
+        OutputStream saida = response.getOutputStream();
+        if (arquivo != null) {
+            try (FileChannel canal = FileChannel.open(arquivo.toPath(), StandardOpenOption.READ)) {
+                WritableByteChannel destino = Channels.newChannel(saida);
+                long posicao = intervalo.inicio();
+                long restante = intervalo.tamanho();
+                while (restante > 0) {
+                    long enviados = canal.transferTo(posicao, restante, destino);
+                    if (enviados <= 0) {
+                        throw new IOException("O arquivo terminou antes do esperado: " + arquivo);
+                    }
+                    posicao += enviados;
+                    restante -= enviados;
+                }
+            }
+        } else {
+            try (InputStream entrada = resource.getInputStream()) {
+                entrada.skipNBytes(intervalo.inicio());
+                byte[] buffer = new byte[64 * 1024];
+                long restante = intervalo.tamanho();
+                while (restante > 0) {
+                    int lidos = entrada.read(buffer, 0, (int) Math.min(buffer.length, restante));
+                    if (lidos < 0) {
+                        throw new IOException("O arquivo terminou antes do esperado");
+                    }
+                    saida.write(buffer, 0, lidos);
+                    restante -= lidos;
+                }
+            }
+        }
+        saida.flush();
+    }
+}
@@ -0,0 +1,36 @@
+package com.pdfocus.infra.web;
+
+import org.springframework.data.domain.Slice;
+
+import java.util.List;
+import java.util.function.Function;
+
+/**
+ * Resposta de uma listagem paginada por cursor.
+ *
+ * <p>
+ * Não traz total de itens nem de páginas: a página vem de uma {@link Slice}, que dispensa o
+ * {@code COUNT}. Para a página seguinte, o cliente repete a requisição com
+ * {@code cursor=proximoCursor}; {@code proximoCursor} é {@code null} na última página.
+ * </p>
+ *
+ * @param itens         Itens da página.
+ * @param proximoCursor Token de continuação, ou {@code null} se não houver mais itens.
+ * @param <T>           Tipo dos itens.
+ */
+public record PaginaCursorResponse<T>(List<T> itens, String proximoCursor) {
+
+    /**
+     * Monta a resposta a partir de uma fatia, gerando o token a partir do último item.
+     *
+     * @param fatia  A fatia retornada pelo caso de uso.
+     * @param cursor Função que gera o token de continuação de um item.
+     * @param <T>    Tipo dos itens.
+     * @return A resposta da página.
+     */
+    public static <T> PaginaCursorResponse<T> de(Slice<T> fatia, Function<T, String> cursor) {
+        List<T> itens = fatia.getContent();
+        String proximo = fatia.hasNext() && !itens.isEmpty() ? cursor.apply(itens.get(itens.size() - 1)) : null;
+        return new PaginaCursorResponse<>(itens, proximo);
+    }
+}
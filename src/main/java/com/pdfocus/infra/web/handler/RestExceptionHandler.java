@@ -4,6 +4,9 @@ import com.pdfocus.core.exceptions.LimiteFeedbackExcedidoException;
 import com.pdfocus.core.exceptions.LimiteResumoExcedidoException;
 import com.pdfocus.core.exceptions.ValorInvalidoException; // <--- Importante!
 import com.pdfocus.core.exceptions.disciplina.DisciplinaNaoEncontradaException;
+import com.pdfocus.core.exceptions.material.EnvioParcialNaoEncontradoException;
+import com.pdfocus.core.exceptions.material.MaterialNaoEncontradoException;
+import com.pdfocus.core.exceptions.material.PosicaoEnvioInvalidaException;
 import com.pdfocus.core.exceptions.usuario.EmailJaCadastradoException;
 import com.pdfocus.core.exceptions.resumo.ResumoNaoEncontradoException;
 import org.slf4j.Logger;
@@ -46,12 +49,30 @@ public class RestExceptionHandler extends ResponseEntityExceptionHandler {
     /**
      * Manipula exceções de "Recurso Não Encontrado".
      */
-    @ExceptionHandler({ DisciplinaNaoEncontradaException.class, ResumoNaoEncontradoException.class})
+    @ExceptionHandler({ DisciplinaNaoEncontradaException.class, ResumoNaoEncontradoException.class,
+            MaterialNaoEncontradoException.class, EnvioParcialNaoEncontradoException.class })
     protected ResponseEntity<Object> handleNaoEncontrado(RuntimeException ex, WebRequest request) {
         logger.warn("Recurso não encontrado: {}", ex.getMessage());
         return ResponseEntity.notFound().build();
     }
 
+    /**
+     * Manipula a parte de um envio que não começa onde o conteúdo recebido termina.
+     * Retorna quantos bytes o servidor já tem, para o cliente retomar dali.
+     */
+    @ExceptionHandler(PosicaoEnvioInvalidaException.class)
+    protected ResponseEntity<Object> handlePosicaoEnvioInvalida(PosicaoEnvioInvalidaException ex) {
+        logger.warn("Parte de envio fora de posição: {}", ex.getMessage());
+
+        Map<String, Object> body = new HashMap<>();
+        body.put("status", HttpStatus.CONFLICT.value());
+        body.put("error", "Conflict");
+        body.put("message", ex.getMessage());
+        body.put("recebidos", ex.getRecebidos());
+
+        return ResponseEntity.status(HttpStatus.CONFLICT).body(body);
+    }
+
     /**
      * Manipula exceções genéricas de argumento inválido (IllegalArgumentException).
      * AGORA RETORNA JSON COM O MOTIVO.
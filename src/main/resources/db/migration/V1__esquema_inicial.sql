@@ -0,0 +1,122 @@
+-- =====================================================================
+-- V1 - Esquema inicial do PDFocus
+-- ---------------------------------------------------------------------
+-- Equivale ao esquema que o Hibernate gerava com ddl-auto=update.
+-- É idempotente: num banco criado antes das migrações, o Flyway registra
+-- a linha de base 0 (spring.flyway.baseline-on-migrate) e este script
+-- cria apenas as tabelas e colunas que ainda não existem.
+-- =====================================================================
+
+CREATE TABLE IF NOT EXISTS usuarios (
+    id                   UUID         NOT NULL,
+    nome                 VARCHAR(255) NOT NULL,
+    email                VARCHAR(255) NOT NULL,
+    senha_hash           VARCHAR(255) NOT NULL,
+    ativo                BOOLEAN      NOT NULL,
+    resumos_hoje         INTEGER      NOT NULL,
+    data_ultimo_uso      DATE         NOT NULL,
+    feedbacks_hoje       INTEGER      NOT NULL,
+    data_ultimo_feedback DATE,
+    CONSTRAINT pk_usuarios PRIMARY KEY (id),
+    CONSTRAINT uk_usuarios_email UNIQUE (email)
+);
+
+CREATE TABLE IF NOT EXISTS tb_confirmation_tokens (
+    id           BIGINT GENERATED BY DEFAULT AS IDENTITY,
+    token        VARCHAR(255) NOT NULL,
+    created_at   TIMESTAMP(6) NOT NULL,
+    expires_at   TIMESTAMP(6) NOT NULL,
+    confirmed_at TIMESTAMP(6),
+    usuario_id   UUID         NOT NULL,
+    CONSTRAINT pk_tb_confirmation_tokens PRIMARY KEY (id),
+    CONSTRAINT fk_confirmation_tokens_usuario FOREIGN KEY (usuario_id) REFERENCES usuarios (id)
+);
+
+CREATE TABLE IF NOT EXISTS disciplinas (
+    id         UUID         NOT NULL,
+    nome       VARCHAR(255) NOT NULL,
+    descricao  TEXT,
+    usuario_id UUID         NOT NULL,
+    CONSTRAINT pk_disciplinas PRIMARY KEY (id)
+);
+
+CREATE TABLE IF NOT EXISTS materiais (
+    id            UUID                        NOT NULL,
+    nome_original VARCHAR(255)                NOT NULL,
+    nome_storage  VARCHAR(255)                NOT NULL,
+    tipo_arquivo  VARCHAR(255)                NOT NULL,
+    tamanho       BIGINT                      NOT NULL,
+    usuario_id    UUID                        NOT NULL,
+    disciplina_id UUID                        NOT NULL,
+    data_upload   TIMESTAMP(6) WITH TIME ZONE NOT NULL,
+    CONSTRAINT pk_materiais PRIMARY KEY (id),
+    CONSTRAINT uk_materiais_nome_storage UNIQUE (nome_storage),
+    CONSTRAINT fk_materiais_disciplina FOREIGN KEY (disciplina_id) REFERENCES disciplinas (id)
+);
+
+CREATE TABLE IF NOT EXISTS resumos (
+    id            UUID                        NOT NULL,
+    usuario_id    UUID                        NOT NULL,
+    titulo        VARCHAR(255)                NOT NULL,
+    conteudo      TEXT,
+    material_id   UUID,
+    disciplina_id UUID                        NOT NULL,
+    data_criacao  TIMESTAMP(6) WITH TIME ZONE NOT NULL DEFAULT CURRENT_TIMESTAMP,
+    CONSTRAINT pk_resumos PRIMARY KEY (id),
+    CONSTRAINT fk_resumos_disciplina FOREIGN KEY (disciplina_id) REFERENCES disciplinas (id)
+);
+
+-- Bancos anteriores à data de criação persistida: as linhas existentes recebem o momento da migração.
+ALTER TABLE resumos ADD COLUMN IF NOT EXISTS data_criacao TIMESTAMP(6) WITH TIME ZONE NOT NULL DEFAULT CURRENT_TIMESTAMP;
+
+-- Texto extraído fica fora de "materiais" para que as listagens nunca o carreguem;
+-- é apagado pelo banco junto com o material.
+CREATE TABLE IF NOT EXISTS textos_materiais (
+    material_id      UUID                        NOT NULL,
+    status           VARCHAR(20)                 NOT NULL,
+    texto_gzip       BYTEA,
+    caracteres       INTEGER,
+    paginas          INTEGER,
+    mensagem_erro    VARCHAR(500),
+    data_atualizacao TIMESTAMP(6) WITH TIME ZONE NOT NULL,
+    CONSTRAINT pk_textos_materiais PRIMARY KEY (material_id),
+    CONSTRAINT fk_textos_materiais_material FOREIGN KEY (material_id) REFERENCES materiais (id) ON DELETE CASCADE
+);
+
+-- Histórico de pedidos de resumo assíncrono; sem chaves estrangeiras de propósito
+-- (continua consultável depois que o material, a disciplina ou o resumo são apagados).
+CREATE TABLE IF NOT EXISTS jobs_resumo (
+    id               UUID                        NOT NULL,
+    usuario_id       UUID                        NOT NULL,
+    material_id      UUID                        NOT NULL,
+    disciplina_id    UUID                        NOT NULL,
+    titulo           VARCHAR(255),
+    conteudo         TEXT,
+    pagina_inicial   INTEGER,
+    pagina_final     INTEGER,
+    secao            VARCHAR(50),
+    status           VARCHAR(20)                 NOT NULL,
+    resumo_id        UUID,
+    mensagem_erro    VARCHAR(500),
+    data_criacao     TIMESTAMP(6) WITH TIME ZONE NOT NULL,
+    data_atualizacao TIMESTAMP(6) WITH TIME ZONE NOT NULL,
+    CONSTRAINT pk_jobs_resumo PRIMARY KEY (id)
+);
+
+CREATE TABLE IF NOT EXISTS feedbacks (
+    id            BIGINT GENERATED BY DEFAULT AS IDENTITY,
+    tipo          VARCHAR(20)  NOT NULL,
+    rating        INTEGER,
+    mensagem      TEXT         NOT NULL,
+    email_usuario VARCHAR(255),
+    pagina        VARCHAR(500) NOT NULL,
+    user_agent    TEXT         NOT NULL,
+    data_criacao  TIMESTAMP(6) NOT NULL,
+    usuario_id    UUID,
+    CONSTRAINT pk_feedbacks PRIMARY KEY (id),
+    CONSTRAINT fk_feedbacks_usuario FOREIGN KEY (usuario_id) REFERENCES usuarios (id)
+);
+
+CREATE INDEX IF NOT EXISTS idx_feedbacks_tipo ON feedbacks (tipo);
+CREATE INDEX IF NOT EXISTS idx_feedbacks_data_criacao ON feedbacks (data_criacao);
+CREATE INDEX IF NOT EXISTS idx_feedbacks_email ON feedbacks (email_usuario);
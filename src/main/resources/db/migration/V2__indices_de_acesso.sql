@@ -0,0 +1,27 @@
+-- =====================================================================
+-- V2 - Índices para os padrões de acesso da aplicação
+-- ---------------------------------------------------------------------
+-- Toda consulta de resumos, materiais e disciplinas filtra pelo usuário
+-- (multi-tenancy); sem estes índices, cada uma percorria a tabela inteira.
+-- Os índices compostos também atendem às consultas só pela primeira coluna
+-- (ex.: resumos por usuario_id, exclusões em lote por disciplina_id).
+-- =====================================================================
+
+-- Listagem de resumos do usuário, do mais recente para o mais antigo, e a paginação por cursor.
+CREATE INDEX IF NOT EXISTS idx_resumos_usuario_data_criacao ON resumos (usuario_id, data_criacao DESC, id DESC);
+
+-- Resumos de uma disciplina (detalhe da disciplina e exclusão em lote).
+CREATE INDEX IF NOT EXISTS idx_resumos_disciplina_usuario ON resumos (disciplina_id, usuario_id);
+
+-- Materiais recentes do dashboard e contagem por usuário.
+CREATE INDEX IF NOT EXISTS idx_materiais_usuario_data_upload ON materiais (usuario_id, data_upload DESC);
+
+-- Materiais de uma disciplina: paginação por cursor, página do detalhe e exclusão em lote.
+CREATE INDEX IF NOT EXISTS idx_materiais_disciplina_usuario_data_upload
+    ON materiais (disciplina_id, usuario_id, data_upload DESC, id DESC);
+
+-- Listagem de disciplinas do usuário.
+CREATE INDEX IF NOT EXISTS idx_disciplinas_usuario ON disciplinas (usuario_id);
+
+-- Confirmação de cadastro pelo token recebido por e-mail.
+CREATE INDEX IF NOT EXISTS idx_confirmation_tokens_token ON tb_confirmation_tokens (token);
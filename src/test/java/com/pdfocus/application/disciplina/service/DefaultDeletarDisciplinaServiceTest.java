@@ -84,9 +84,9 @@ class DefaultDeletarDisciplinaServiceTest {
                     .thenReturn(Optional.of(disciplinaTeste));
 
             // --- 3. MOCKAR O NOVO COMPORTAMENTO (CASCADE DELETE) ---
-            // "Ensina" os novos mocks a não fazer nada (e evitar o NPE)
-            doNothing().when(resumoRepository).deletarTodosPorDisciplinaId(disciplinaTeste.getId());
-            doNothing().when(materialRepository).deletarTodosPorDisciplinaId(disciplinaTeste.getId());
+            // As exclusões em lote retornam quantas linhas foram removidas
+            when(resumoRepository.deletarTodosPorDisciplinaId(disciplinaTeste.getId())).thenReturn(12);
+            when(materialRepository.deletarTodosPorDisciplinaId(disciplinaTeste.getId())).thenReturn(3);
             // --- FIM DA CORREÇÃO ---
 
             doNothing().when(disciplinaRepository).deletarPorId(disciplinaTeste.getId());
@@ -8,8 +8,8 @@ import com.pdfocus.application.usuario.port.saida.UsuarioRepository;
 // --- FIM DOS IMPORTS DE CONTRATO ---
 
 import com.pdfocus.application.disciplina.dto.DetalheDisciplinaResponse;
+import com.pdfocus.application.material.dto.MaterialListagem;
 import com.pdfocus.core.models.Disciplina;
-import com.pdfocus.core.models.Material; // Import necessário
 import com.pdfocus.core.models.Usuario;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
@@ -82,7 +82,7 @@ class DefaultObterDisciplinaPorIdServiceTest {
         // Cria um objeto Pageable "qualquer" para o teste
         Pageable pageableMock = Pageable.unpaged();
         // Cria uma Página "vazia" de Materiais para o mock retornar
-        Page<Material> paginaVaziaDeMateriais = new PageImpl<>(new ArrayList<>());
+        Page<MaterialListagem> paginaVaziaDeMateriais = new PageImpl<>(new ArrayList<>());
 
         try (MockedStatic<SecurityContextHolder> mockedContext = mockStatic(SecurityContextHolder.class)) {
             // Prepara a simulação do utilizador logado.
@@ -98,7 +98,7 @@ class DefaultObterDisciplinaPorIdServiceTest {
             when(usuarioRepository.buscarPorEmail(usuarioTeste.getEmail())).thenReturn(Optional.of(usuarioTeste));
             when(disciplinaRepository.findByIdAndUsuarioId(disciplinaTeste.getId(), usuarioTeste.getId()))
                     .thenReturn(Optional.of(disciplinaTeste));
-            when(resumoRepository.buscarPorDisciplinaEUsuario(any(), any())).thenReturn(new ArrayList<>());
+            when(resumoRepository.listarPorDisciplinaEUsuario(any(), any())).thenReturn(new ArrayList<>());
 
             // --- CORREÇÃO DO MOCK DE MATERIAIS ---
             // O serviço não chama mais 'listarPorDisciplinaEUsuario',
@@ -150,7 +150,7 @@ class DefaultObterDisciplinaPorIdServiceTest {
             // Assert
             assertFalse(resultado.isPresent(), "O Optional deveria estar vazio.");
             // Garante que não tentamos carregar os "filhos" (resumos/materiais) desnecessariamente
-            verify(resumoRepository, never()).buscarPorDisciplinaEUsuario(any(), any());
+            verify(resumoRepository, never()).listarPorDisciplinaEUsuario(any(), any());
             verify(materialRepository, never()).buscarPorDisciplinaDeFormaPaginada(any(), any());
         }
     }
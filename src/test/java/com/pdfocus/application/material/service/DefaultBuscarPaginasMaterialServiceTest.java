@@ -0,0 +1,96 @@
+package com.pdfocus.application.material.service;
+
+import com.pdfocus.application.material.dto.PaginasMaterialResponse;
+import com.pdfocus.application.material.port.saida.MaterialRepository;
+import com.pdfocus.application.material.port.saida.TextoPaginasPort;
+import com.pdfocus.application.resumo.dto.ConteudoExtraido;
+import com.pdfocus.application.resumo.port.saida.TextExtractorPort;
+import com.pdfocus.core.exceptions.material.MaterialNaoEncontradoException;
+import com.pdfocus.core.models.Material;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.OffsetDateTime;
+import java.util.List;
+import java.util.Optional;
+import java.util.OptionalInt;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("Testes Unitários - DefaultBuscarPaginasMaterialService")
+public class DefaultBuscarPaginasMaterialServiceTest {
+
+    @Mock
+    private MaterialRepository materialRepository;
+    @Mock
+    private TextoPaginasPort textoPaginasPort;
+    @Mock
+    private TextExtractorPort textExtractorPort;
+
+    @InjectMocks
+    private DefaultBuscarPaginasMaterialService service;
+
+    private final UUID usuarioId = UUID.randomUUID();
+    private final UUID materialId = UUID.randomUUID();
+    private final Material material = Material.criar(materialId, "livro.pdf", "abc-123.pdf",
+            "application/pdf", 2048L, usuarioId, UUID.randomUUID(), OffsetDateTime.now());
+
+    @Test
+    @DisplayName("Deve ler as páginas gravadas sem extrair o PDF de novo")
+    void deveLerPaginasGravadas() {
+        when(materialRepository.buscarPorIdEUsuario(materialId, usuarioId)).thenReturn(Optional.of(material));
+        when(textoPaginasPort.buscarPaginas("abc-123.pdf", 40, 41)).thenReturn(Optional.of(List.of("p40", "p41")));
+        when(textoPaginasPort.contarPaginas("abc-123.pdf")).thenReturn(OptionalInt.of(300));
+
+        PaginasMaterialResponse resposta = service.executar(materialId, usuarioId, 40, 41);
+
+        assertEquals(300, resposta.totalPaginas());
+        assertEquals(List.of(new PaginasMaterialResponse.Pagina(40, "p40"), new PaginasMaterialResponse.Pagina(41, "p41")),
+                resposta.paginas());
+        verifyNoInteractions(textExtractorPort);
+    }
+
+    @Test
+    @DisplayName("Deve extrair e gravar as páginas quando elas ainda não foram gravadas")
+    void deveExtrairEGravarQuandoPaginasAusentes() {
+        when(materialRepository.buscarPorIdEUsuario(materialId, usuarioId)).thenReturn(Optional.of(material));
+        when(textoPaginasPort.buscarPaginas("abc-123.pdf", 2, 5)).thenReturn(Optional.empty());
+        when(textoPaginasPort.contarPaginas("abc-123.pdf")).thenReturn(OptionalInt.empty());
+        when(textExtractorPort.extrairConteudo("abc-123.pdf"))
+                .thenReturn(new ConteudoExtraido("umdoistres", 3, List.of(0, 2, 6)));
+
+        PaginasMaterialResponse resposta = service.executar(materialId, usuarioId, 2, 5);
+
+        verify(textoPaginasPort).salvar("abc-123.pdf", List.of("um", "dois", "tres"));
+        assertEquals(3, resposta.totalPaginas());
+        assertEquals(List.of(new PaginasMaterialResponse.Pagina(2, "dois"), new PaginasMaterialResponse.Pagina(3, "tres")),
+                resposta.paginas());
+    }
+
+    @Test
+    @DisplayName("Deve rejeitar intervalos inválidos ou grandes demais")
+    void deveRejeitarIntervaloInvalido() {
+        assertThrows(IllegalArgumentException.class, () -> service.executar(materialId, usuarioId, 0, 3));
+        assertThrows(IllegalArgumentException.class, () -> service.executar(materialId, usuarioId, 5, 4));
+        assertThrows(IllegalArgumentException.class, () -> service.executar(materialId, usuarioId, 1, 101));
+        verifyNoInteractions(materialRepository);
+    }
+
+    @Test
+    @DisplayName("Deve lançar exceção quando o material não pertencer ao usuário")
+    void deveLancarExcecaoQuandoMaterialNaoEncontrado() {
+        when(materialRepository.buscarPorIdEUsuario(materialId, usuarioId)).thenReturn(Optional.empty());
+
+        assertThrows(MaterialNaoEncontradoException.class, () -> service.executar(materialId, usuarioId, 1, 1));
+        verify(textoPaginasPort, never()).buscarPaginas(anyString(), anyInt(), anyInt());
+    }
+}
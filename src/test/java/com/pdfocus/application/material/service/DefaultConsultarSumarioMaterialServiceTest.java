@@ -0,0 +1,63 @@
+package com.pdfocus.application.material.service;
+
+import com.pdfocus.application.material.dto.SecaoSumario;
+import com.pdfocus.application.material.port.saida.MaterialRepository;
+import com.pdfocus.application.material.port.saida.SumarioPdfPort;
+import com.pdfocus.core.exceptions.material.MaterialNaoEncontradoException;
+import com.pdfocus.core.models.Material;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.OffsetDateTime;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("Testes Unitários - DefaultConsultarSumarioMaterialService")
+public class DefaultConsultarSumarioMaterialServiceTest {
+
+    @Mock
+    private MaterialRepository materialRepository;
+    @Mock
+    private SumarioPdfPort sumarioPdfPort;
+
+    @InjectMocks
+    private DefaultConsultarSumarioMaterialService service;
+
+    private final UUID usuarioId = UUID.randomUUID();
+    private final UUID materialId = UUID.randomUUID();
+    private final Material material = Material.criar(materialId, "livro.pdf", "abc-123.pdf",
+            "application/pdf", 2048L, usuarioId, UUID.randomUUID(), OffsetDateTime.now());
+
+    @Test
+    @DisplayName("Deve retornar o sumário lido do PDF do material")
+    void deveRetornarSumarioDoMaterial() {
+        List<SecaoSumario> sumario = List.of(
+                new SecaoSumario("1", "Introdução", 1, 4, List.of()),
+                new SecaoSumario("2", "Desenvolvimento", 5, 20, List.of(
+                        new SecaoSumario("2.1", "Conceitos", 5, 12, List.of()))));
+        when(materialRepository.buscarPorIdEUsuario(materialId, usuarioId)).thenReturn(Optional.of(material));
+        when(sumarioPdfPort.lerSumario("abc-123.pdf")).thenReturn(sumario);
+
+        assertEquals(sumario, service.executar(materialId, usuarioId));
+        assertEquals(Optional.of(sumario.get(1).subsecoes().get(0)), SecaoSumario.buscar(sumario, "2.1"));
+        assertEquals(Optional.empty(), SecaoSumario.buscar(sumario, "2.2"));
+    }
+
+    @Test
+    @DisplayName("Deve lançar exceção quando o material não pertencer ao usuário")
+    void deveLancarExcecaoQuandoMaterialNaoEncontrado() {
+        when(materialRepository.buscarPorIdEUsuario(materialId, usuarioId)).thenReturn(Optional.empty());
+
+        assertThrows(MaterialNaoEncontradoException.class, () -> service.executar(materialId, usuarioId));
+        verifyNoInteractions(sumarioPdfPort);
+    }
+}
@@ -2,6 +2,7 @@ package com.pdfocus.application.material.service;
 
 import com.pdfocus.application.material.port.saida.MaterialRepository;
 import com.pdfocus.application.material.port.saida.MaterialStoragePort;
+import com.pdfocus.application.material.port.saida.TextoPaginasPort;
 import com.pdfocus.application.usuario.port.saida.UsuarioRepository;
 import com.pdfocus.core.exceptions.material.MaterialNaoEncontradoException;
 import com.pdfocus.core.models.Material;
@@ -32,6 +33,8 @@ public class DefaultDeletarMaterialServiceTest {
     private MaterialStoragePort materialStoragePortMock;
     @Mock
     private UsuarioRepository usuarioRepositoryMock;
+    @Mock
+    private TextoPaginasPort textoPaginasPortMock;
 
     @InjectMocks
     private DefaultDeletarMaterialService service;
@@ -72,6 +75,7 @@ public class DefaultDeletarMaterialServiceTest {
             InOrder inOrder = inOrder(materialStoragePortMock, materialRepositoryMock);
             inOrder.verify(materialStoragePortMock).apagar(NOME_STORAGE);
             inOrder.verify(materialRepositoryMock).deletarPorIdEUsuario(ID_MATERIAL, usuarioLogado.getId());
+            verify(textoPaginasPortMock).apagar(NOME_STORAGE);
         }
     }
 
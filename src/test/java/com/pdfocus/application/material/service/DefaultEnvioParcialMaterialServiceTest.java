@@ -0,0 +1,238 @@
+package com.pdfocus.application.material.service;
+
+import com.pdfocus.application.disciplina.port.saida.DisciplinaRepository;
+import com.pdfocus.application.material.dto.ConcluirEnvioParcialCommand;
+import com.pdfocus.application.material.dto.EnvioParcialResponse;
+import com.pdfocus.application.material.dto.IniciarEnvioParcialCommand;
+import com.pdfocus.application.material.dto.MaterialEnviadoEvent;
+import com.pdfocus.application.material.port.saida.MaterialRepository;
+import com.pdfocus.application.material.port.saida.MaterialStoragePort;
+import com.pdfocus.application.material.port.saida.TextoExtraidoRepository;
+import com.pdfocus.core.exceptions.disciplina.DisciplinaNaoEncontradaException;
+import com.pdfocus.core.exceptions.material.EnvioParcialNaoEncontradoException;
+import com.pdfocus.core.exceptions.material.PosicaoEnvioInvalidaException;
+import com.pdfocus.core.models.Disciplina;
+import com.pdfocus.core.models.Material;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Duration;
+import java.util.HexFormat;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("Testes Unitários - DefaultEnvioParcialMaterialService")
+public class DefaultEnvioParcialMaterialServiceTest {
+
+    @Mock
+    private MaterialRepository materialRepository;
+    @Mock
+    private DisciplinaRepository disciplinaRepository;
+    @Mock
+    private MaterialStoragePort materialStoragePort;
+    @Mock
+    private TextoExtraidoRepository textoExtraidoRepository;
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+
+    private DefaultEnvioParcialMaterialService service;
+
+    private final UUID usuarioId = UUID.randomUUID();
+    private final UUID disciplinaId = UUID.randomUUID();
+
+    @BeforeEach
+    void setUp() {
+        service = new DefaultEnvioParcialMaterialService(materialRepository, disciplinaRepository,
+                materialStoragePort, textoExtraidoRepository, eventPublisher, 1, 60, 2);
+    }
+
+    @Test
+    @DisplayName("Deve montar o arquivo em partes e criar o material com o hash conferido")
+    void deveConcluirEnvioEmPartes() {
+        simularArmazenamento();
+        when(materialRepository.salvar(any(Material.class))).thenAnswer(invocacao -> invocacao.getArgument(0));
+        UUID id = iniciar("apostila.pdf", 9).id();
+
+        assertEquals(4, service.enviarParte(id, usuarioId, 0, fluxo("apos")).recebidos());
+        assertEquals(9, service.enviarParte(id, usuarioId, 4, fluxo("tila!")).recebidos());
+
+        Material material = service.concluir(id, usuarioId, new ConcluirEnvioParcialCommand(sha256("apostila!")));
+
+        ArgumentCaptor<String> nome = ArgumentCaptor.forClass(String.class);
+        verify(materialStoragePort).concluirParcial(eq(id.toString()), nome.capture(), eq(sha256("apostila!")));
+        assertEquals(nome.getValue(), material.getNomeStorage());
+        assertTrue(nome.getValue().endsWith(".pdf"));
+        assertEquals(9, material.getTamanho());
+        assertEquals(disciplinaId, material.getDisciplinaId());
+        verify(eventPublisher).publishEvent(any(MaterialEnviadoEvent.class));
+        assertThrows(EnvioParcialNaoEncontradoException.class, () -> service.consultar(id, usuarioId));
+    }
+
+    @Test
+    @DisplayName("Deve informar os bytes recebidos quando a parte não começar onde o envio parou")
+    void deveRecusarParteForaDePosicao() {
+        simularArmazenamento();
+        UUID id = iniciar("apostila.pdf", 9).id();
+        service.enviarParte(id, usuarioId, 0, fluxo("apos"));
+
+        PosicaoEnvioInvalidaException ex = assertThrows(PosicaoEnvioInvalidaException.class,
+                () -> service.enviarParte(id, usuarioId, 0, fluxo("apos")));
+
+        assertEquals(4, ex.getRecebidos());
+        assertEquals(4, service.consultar(id, usuarioId).recebidos());
+    }
+
+    @Test
+    @DisplayName("Deve descartar do hash a parte que falhar, permitindo reenviá-la")
+    void deveDescartarParteQueFalhou() {
+        simularArmazenamento();
+        when(materialRepository.salvar(any(Material.class))).thenAnswer(invocacao -> invocacao.getArgument(0));
+        UUID id = iniciar("apostila.pdf", 9).id();
+        service.enviarParte(id, usuarioId, 0, fluxo("apos"));
+
+        InputStream interrompido = new InputStream() {
+            private int lidos;
+
+            @Override
+            public int read() throws IOException {
+                if (lidos++ < 3) {
+                    return 'x';
+                }
+                throw new IOException("conexão perdida");
+            }
+        };
+        assertThrows(UncheckedIOException.class, () -> service.enviarParte(id, usuarioId, 4, interrompido));
+
+        service.enviarParte(id, usuarioId, 4, fluxo("tila!"));
+        assertDoesNotThrow(() -> service.concluir(id, usuarioId, new ConcluirEnvioParcialCommand(sha256("apostila!"))));
+    }
+
+    @Test
+    @DisplayName("Deve responder o andamento e recusar outra parte enquanto uma parte é recebida, sem aguardá-la")
+    void naoDeveBloquearConsultaDuranteParte() throws Exception {
+        CountDownLatch iniciou = new CountDownLatch(1);
+        CountDownLatch liberar = new CountDownLatch(1);
+        when(materialStoragePort.anexarParcial(anyString(), anyLong(), any(InputStream.class))).thenAnswer(invocacao -> {
+            iniciou.countDown();
+            assertTrue(liberar.await(5, TimeUnit.SECONDS));
+            long posicao = invocacao.getArgument(1);
+            InputStream parte = invocacao.getArgument(2);
+            return posicao + parte.readAllBytes().length;
+        });
+        UUID id = iniciar("apostila.pdf", 9).id();
+        ExecutorService executor = Executors.newSingleThreadExecutor();
+        try {
+            Future<EnvioParcialResponse> emAndamento = executor.submit(
+                    () -> service.enviarParte(id, usuarioId, 0, fluxo("apos")));
+            assertTrue(iniciou.await(5, TimeUnit.SECONDS));
+
+            assertTimeoutPreemptively(Duration.ofSeconds(2),
+                    () -> assertEquals(0, service.consultar(id, usuarioId).recebidos()));
+            PosicaoEnvioInvalidaException ex = assertThrows(PosicaoEnvioInvalidaException.class,
+                    () -> service.enviarParte(id, usuarioId, 0, fluxo("apos")));
+            assertEquals(0, ex.getRecebidos());
+
+            liberar.countDown();
+            assertEquals(4, emAndamento.get(5, TimeUnit.SECONDS).recebidos());
+            assertEquals(4, service.consultar(id, usuarioId).recebidos());
+        } finally {
+            liberar.countDown();
+            executor.shutdownNow();
+        }
+    }
+
+    @Test
+    @DisplayName("Deve recusar partes além do tamanho declarado e hash divergente")
+    void deveRecusarConteudoDivergente() {
+        simularArmazenamento();
+        UUID id = iniciar("apostila.pdf", 4).id();
+
+        assertThrows(IllegalArgumentException.class, () -> service.enviarParte(id, usuarioId, 0, fluxo("apostila")));
+        assertEquals(0, service.consultar(id, usuarioId).recebidos());
+
+        service.enviarParte(id, usuarioId, 0, fluxo("apos"));
+        assertThrows(IllegalArgumentException.class,
+                () -> service.concluir(id, usuarioId, new ConcluirEnvioParcialCommand(sha256("outro"))));
+
+        verify(materialStoragePort).descartarParcial(id.toString());
+        verify(materialRepository, never()).salvar(any());
+        assertThrows(EnvioParcialNaoEncontradoException.class, () -> service.consultar(id, usuarioId));
+    }
+
+    @Test
+    @DisplayName("Deve validar disciplina, tamanho, dono do envio e limite de envios simultâneos")
+    void deveValidarInicioEDono() {
+        when(disciplinaRepository.findByIdAndUsuarioId(disciplinaId, usuarioId)).thenReturn(Optional.empty());
+        assertThrows(DisciplinaNaoEncontradaException.class, () -> service.iniciar(
+                new IniciarEnvioParcialCommand(disciplinaId, "apostila.pdf", "application/pdf", 10), usuarioId));
+        assertThrows(IllegalArgumentException.class, () -> service.iniciar(
+                new IniciarEnvioParcialCommand(disciplinaId, "apostila.pdf", "application/pdf", 2 * 1024 * 1024), usuarioId));
+
+        UUID id = iniciar("a.pdf", 10).id();
+        iniciar("b.pdf", 10);
+        assertThrows(IllegalArgumentException.class, () -> iniciar("c.pdf", 10));
+        assertThrows(EnvioParcialNaoEncontradoException.class, () -> service.consultar(id, UUID.randomUUID()));
+
+        service.cancelar(id, usuarioId);
+        verify(materialStoragePort).descartarParcial(id.toString());
+        assertDoesNotThrow(() -> iniciar("c.pdf", 10));
+    }
+
+    private EnvioParcialResponse iniciar(String nome, long tamanho) {
+        lenient().when(disciplinaRepository.findByIdAndUsuarioId(disciplinaId, usuarioId))
+                .thenReturn(Optional.of(new Disciplina(disciplinaId, "Cálculo", "Cálculo I", usuarioId)));
+        return service.iniciar(new IniciarEnvioParcialCommand(disciplinaId, nome, "application/pdf", tamanho), usuarioId);
+    }
+
+    /**
+     * Simula o adaptador: consome a parte inteira e devolve o total gravado; se o fluxo
+     * falhar, a parte é descartada.
+     */
+    private void simularArmazenamento() {
+        when(materialStoragePort.anexarParcial(anyString(), anyLong(), any(InputStream.class))).thenAnswer(invocacao -> {
+            long posicao = invocacao.getArgument(1);
+            InputStream parte = invocacao.getArgument(2);
+            try {
+                return posicao + parte.readAllBytes().length;
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        });
+    }
+
+    private static InputStream fluxo(String conteudo) {
+        return new ByteArrayInputStream(conteudo.getBytes(StandardCharsets.UTF_8));
+    }
+
+    private static String sha256(String conteudo) {
+        try {
+            return HexFormat.of().formatHex(MessageDigest.getInstance("SHA-256")
+                    .digest(conteudo.getBytes(StandardCharsets.UTF_8)));
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+}
@@ -0,0 +1,139 @@
+package com.pdfocus.application.material.service;
+
+import com.pdfocus.application.material.port.saida.MaterialRepository;
+import com.pdfocus.application.material.port.saida.TextoExtraidoRepository;
+import com.pdfocus.application.material.port.saida.TextoPaginasPort;
+import com.pdfocus.application.resumo.dto.ConteudoExtraido;
+import com.pdfocus.application.resumo.port.saida.TextExtractorPort;
+import com.pdfocus.core.models.Material;
+import com.pdfocus.core.models.StatusExtracao;
+import com.pdfocus.core.models.TextoExtraido;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.OffsetDateTime;
+import java.util.EnumSet;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("Testes Unitários - DefaultExtrairTextoMaterialService")
+public class DefaultExtrairTextoMaterialServiceTest {
+
+    @Mock
+    private MaterialRepository materialRepository;
+    @Mock
+    private TextoExtraidoRepository textoExtraidoRepository;
+    @Mock
+    private TextExtractorPort textExtractorPort;
+    @Mock
+    private TextoPaginasPort textoPaginasPort;
+
+    @InjectMocks
+    private DefaultExtrairTextoMaterialService service;
+
+    private final UUID materialId = UUID.randomUUID();
+    private final Material material = Material.criar(materialId, "apostila.pdf", "abc-123.pdf",
+            "application/pdf", 2048L, UUID.randomUUID(), UUID.randomUUID(), OffsetDateTime.now());
+
+    @Test
+    @DisplayName("Deve registrar PROCESSANDO e depois CONCLUIDA com o texto e as páginas")
+    void deveRegistrarTextoExtraidoComSucesso() {
+        when(materialRepository.buscarPorId(materialId)).thenReturn(Optional.of(material));
+        when(textExtractorPort.extrairConteudo("abc-123.pdf"))
+                .thenReturn(new ConteudoExtraido("Texto da apostila.", 12));
+
+        service.executar(materialId);
+
+        List<TextoExtraido> registros = capturarRegistros(2);
+        assertEquals(StatusExtracao.PROCESSANDO, registros.get(0).getStatus());
+        TextoExtraido concluido = registros.get(1);
+        assertEquals(StatusExtracao.CONCLUIDA, concluido.getStatus());
+        assertEquals(materialId, concluido.getMaterialId());
+        assertEquals("Texto da apostila.", concluido.getTexto());
+        assertEquals(12, concluido.getPaginas());
+        verify(textoPaginasPort, never()).salvar(any(), any());
+    }
+
+    @Test
+    @DisplayName("Deve gravar o texto de cada página quando o extrator separar as páginas")
+    void deveGravarTextoPorPagina() {
+        when(materialRepository.buscarPorId(materialId)).thenReturn(Optional.of(material));
+        when(textExtractorPort.extrairConteudo("abc-123.pdf"))
+                .thenReturn(new ConteudoExtraido("Capítulo 1.\nCapítulo 2.\n", 2, List.of(0, 12)));
+
+        service.executar(materialId);
+
+        verify(textoPaginasPort).salvar("abc-123.pdf", List.of("Capítulo 1.\n", "Capítulo 2.\n"));
+        assertEquals(StatusExtracao.CONCLUIDA, capturarRegistros(2).get(1).getStatus());
+    }
+
+    @Test
+    @DisplayName("Deve registrar FALHOU com o motivo quando a extração lançar exceção")
+    void deveRegistrarFalhaSemPropagarExcecao() {
+        when(materialRepository.buscarPorId(materialId)).thenReturn(Optional.of(material));
+        when(textExtractorPort.extrairConteudo("abc-123.pdf"))
+                .thenThrow(new IllegalStateException("PDF está criptografado"));
+
+        assertDoesNotThrow(() -> service.executar(materialId));
+
+        TextoExtraido falha = capturarRegistros(2).get(1);
+        assertEquals(StatusExtracao.FALHOU, falha.getStatus());
+        assertNull(falha.getTexto());
+        assertTrue(falha.getMensagemErro().contains("criptografado"));
+    }
+
+    @Test
+    @DisplayName("Não deve propagar exceção quando o material for apagado durante a extração")
+    void naoDevePropagarFalhaAoRegistrarStatusDeMaterialApagado() {
+        when(materialRepository.buscarPorId(materialId)).thenReturn(Optional.of(material));
+        when(textExtractorPort.extrairConteudo("abc-123.pdf"))
+                .thenReturn(new ConteudoExtraido("Texto da apostila.", 12));
+        // O registro de extração foi apagado junto com o material: CONCLUIDA e FALHOU violam a chave estrangeira
+        doNothing()
+                .doThrow(new IllegalStateException("violação de chave estrangeira"))
+                .doThrow(new IllegalStateException("violação de chave estrangeira"))
+                .when(textoExtraidoRepository).salvar(any());
+
+        assertDoesNotThrow(() -> service.executar(materialId));
+
+        assertEquals(StatusExtracao.FALHOU, capturarRegistros(3).get(2).getStatus());
+    }
+
+    @Test
+    @DisplayName("Deve listar para nova extração os materiais pendentes ou interrompidos")
+    void deveListarExtracoesInterrompidas() {
+        List<UUID> interrompidas = List.of(materialId, UUID.randomUUID());
+        when(textoExtraidoRepository.listarMateriaisPorStatus(
+                EnumSet.of(StatusExtracao.PENDENTE, StatusExtracao.PROCESSANDO))).thenReturn(interrompidas);
+
+        assertEquals(interrompidas, service.listarInterrompidas());
+    }
+
+    @Test
+    @DisplayName("Não deve fazer nada quando o material já tiver sido apagado")
+    void deveIgnorarMaterialInexistente() {
+        when(materialRepository.buscarPorId(materialId)).thenReturn(Optional.empty());
+
+        service.executar(materialId);
+
+        verify(textoExtraidoRepository, never()).salvar(any());
+        verifyNoInteractions(textExtractorPort);
+    }
+
+    private List<TextoExtraido> capturarRegistros(int quantidade) {
+        ArgumentCaptor<TextoExtraido> captor = ArgumentCaptor.forClass(TextoExtraido.class);
+        verify(textoExtraidoRepository, times(quantidade)).salvar(captor.capture());
+        return captor.getAllValues();
+    }
+}
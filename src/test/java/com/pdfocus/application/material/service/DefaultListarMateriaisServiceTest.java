@@ -1,5 +1,7 @@
 package com.pdfocus.application.material.service;
 
+import com.pdfocus.application.material.dto.CursorMaterial;
+import com.pdfocus.application.material.dto.MaterialListagem;
 import com.pdfocus.application.material.port.saida.MaterialRepository;
 import com.pdfocus.application.usuario.port.saida.UsuarioRepository; // 1. IMPORT NECESSÁRIO
 import com.pdfocus.core.models.Material;
@@ -11,11 +13,14 @@ import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.MockedStatic;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.SliceImpl;
 import org.springframework.security.core.Authentication;
 import org.springframework.security.core.context.SecurityContext;
 import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.security.core.userdetails.UserDetails;
 
+import java.time.OffsetDateTime;
 import java.util.Collections;
 import java.util.List;
 import java.util.Optional;
@@ -109,4 +114,19 @@ public class DefaultListarMateriaisServiceTest {
         }
     }
 
-}
\ No newline at end of file
+    @Test
+    @DisplayName("Deve listar uma página por cursor do utilizador informado, validando o tamanho")
+    void deveListarPaginaPorCursor() {
+        UUID usuarioId = UUID.randomUUID();
+        CursorMaterial apos = new CursorMaterial(OffsetDateTime.now(), UUID.randomUUID());
+        Slice<MaterialListagem> fatiaEsperada = new SliceImpl<>(List.of());
+        when(materialRepositoryMock.listarPorDisciplinaEUsuario(ID_DISCIPLINA, usuarioId, apos, 20))
+                .thenReturn(fatiaEsperada);
+
+        assertSame(fatiaEsperada, service.executar(ID_DISCIPLINA, usuarioId, apos, 20));
+        assertThrows(IllegalArgumentException.class, () -> service.executar(ID_DISCIPLINA, usuarioId, null, 0));
+        assertThrows(IllegalArgumentException.class, () -> service.executar(ID_DISCIPLINA, usuarioId, null,
+                DefaultListarMateriaisService.TAMANHO_MAXIMO_PAGINA + 1));
+        verifyNoInteractions(usuarioRepositoryMock);
+    }
+}
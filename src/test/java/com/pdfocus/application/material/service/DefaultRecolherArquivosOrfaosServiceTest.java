@@ -0,0 +1,106 @@
+package com.pdfocus.application.material.service;
+
+import com.pdfocus.application.material.dto.RecolhimentoOrfaosResultado;
+import com.pdfocus.application.material.port.saida.MaterialRepository;
+import com.pdfocus.application.material.port.saida.MaterialStoragePort;
+import com.pdfocus.application.material.port.saida.MaterialStoragePort.ArquivoArmazenado;
+import com.pdfocus.application.material.port.saida.TextoPaginasPort;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Collection;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("Testes Unitários - DefaultRecolherArquivosOrfaosService")
+public class DefaultRecolherArquivosOrfaosServiceTest {
+
+    @Mock
+    private MaterialStoragePort materialStoragePort;
+    @Mock
+    private MaterialRepository materialRepository;
+    @Mock
+    private TextoPaginasPort textoPaginasPort;
+
+    private DefaultRecolherArquivosOrfaosService service;
+
+    private final Instant antigo = Instant.now().minus(Duration.ofDays(3));
+
+    @BeforeEach
+    void setUp() {
+        service = new DefaultRecolherArquivosOrfaosService(materialStoragePort, materialRepository,
+                textoPaginasPort, 24, 2);
+    }
+
+    @Test
+    @DisplayName("Deve apagar apenas os ficheiros sem material, consultando o banco em lotes")
+    void deveApagarApenasOrfaos() {
+        AtomicBoolean fechado = new AtomicBoolean();
+        when(materialStoragePort.listarArquivos()).thenReturn(Stream.of(
+                        arquivo("d.pdf", 40), arquivo("a.pdf", 10), arquivo("c.pdf", 30), arquivo("b.pdf", 20),
+                        arquivo("e.pdf", 50))
+                .onClose(() -> fechado.set(true)));
+        Set<String> comMaterial = Set.of("a.pdf", "d.pdf");
+        when(materialRepository.buscarNomesStorageExistentes(anyCollection())).thenAnswer(invocacao -> {
+            Collection<String> nomes = invocacao.getArgument(0);
+            assertTrue(nomes.size() <= 2);
+            return nomes.stream().filter(comMaterial::contains).toList();
+        });
+
+        RecolhimentoOrfaosResultado resultado = service.executar();
+
+        assertEquals(new RecolhimentoOrfaosResultado(5, 0, 3, 100, 0), resultado);
+        verify(materialRepository, times(3)).buscarNomesStorageExistentes(anyCollection());
+        for (String orfao : List.of("b.pdf", "c.pdf", "e.pdf")) {
+            verify(materialStoragePort).apagar(orfao);
+            verify(textoPaginasPort).apagar(orfao);
+        }
+        verify(materialStoragePort, never()).apagar("a.pdf");
+        verify(materialStoragePort, never()).apagar("d.pdf");
+        assertTrue(fechado.get());
+    }
+
+    @Test
+    @DisplayName("Não deve apagar ficheiros gravados dentro do período de carência")
+    void deveRespeitarCarencia() {
+        when(materialStoragePort.listarArquivos()).thenReturn(Stream.of(
+                new ArquivoArmazenado("novo.pdf", 10, Instant.now().minus(Duration.ofHours(1)))));
+
+        RecolhimentoOrfaosResultado resultado = service.executar();
+
+        assertEquals(new RecolhimentoOrfaosResultado(1, 1, 0, 0, 0), resultado);
+        verifyNoInteractions(materialRepository, textoPaginasPort);
+        verify(materialStoragePort, never()).apagar(any());
+    }
+
+    @Test
+    @DisplayName("Deve continuar o recolhimento quando um ficheiro não puder ser apagado")
+    void deveContinuarAposFalha() {
+        when(materialStoragePort.listarArquivos()).thenReturn(Stream.of(arquivo("a.pdf", 10), arquivo("b.pdf", 20)));
+        when(materialRepository.buscarNomesStorageExistentes(anyCollection())).thenReturn(List.of());
+        doThrow(new RuntimeException("sem permissão")).when(materialStoragePort).apagar("a.pdf");
+
+        RecolhimentoOrfaosResultado resultado = service.executar();
+
+        assertEquals(new RecolhimentoOrfaosResultado(2, 0, 1, 20, 1), resultado);
+        verify(materialStoragePort).apagar("b.pdf");
+    }
+
+    private ArquivoArmazenado arquivo(String nome, long tamanho) {
+        return new ArquivoArmazenado(nome, tamanho, antigo);
+    }
+}
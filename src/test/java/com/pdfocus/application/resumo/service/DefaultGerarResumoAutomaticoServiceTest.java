@@ -1,19 +1,31 @@
 package com.pdfocus.application.resumo.service;
 
 import com.pdfocus.application.disciplina.port.saida.DisciplinaRepository;
+import com.pdfocus.application.material.dto.SecaoSumario;
 import com.pdfocus.application.material.port.saida.MaterialRepository;
+import com.pdfocus.application.material.port.saida.SumarioPdfPort;
+import com.pdfocus.application.material.port.saida.TextoPaginasPort;
+import com.pdfocus.application.material.port.saida.TextoExtraidoRepository;
+import com.pdfocus.application.resumo.dto.ConteudoExtraido;
 import com.pdfocus.application.resumo.dto.CriarResumoDeMaterialCommand;
+import com.pdfocus.application.resumo.dto.EtapaResumo;
+import com.pdfocus.application.resumo.port.saida.ProgressoResumoListener;
 import com.pdfocus.application.resumo.port.saida.ResumoRepository;
 import com.pdfocus.application.resumo.port.saida.TextExtractorPort;
 // --- 1. IMPORT NECESSÁRIO ---
 import com.pdfocus.application.resumo.port.saida.ResumidorIAPort;
 // --- FIM DA CORREÇÃO ---
+import com.pdfocus.application.usuario.port.saida.UsuarioRepository;
+import com.pdfocus.core.exceptions.LimiteResumoExcedidoException;
 import com.pdfocus.core.exceptions.disciplina.DisciplinaNaoEncontradaException;
 import com.pdfocus.core.exceptions.material.MaterialNaoEncontradoException;
 import com.pdfocus.core.exceptions.resumo.TextoNaoPodeSerExtraidoException;
 import com.pdfocus.core.models.Disciplina;
 import com.pdfocus.core.models.Material;
 import com.pdfocus.core.models.Resumo;
+import com.pdfocus.core.models.TextoExtraido;
+import com.pdfocus.core.models.Usuario;
+import com.pdfocus.core.shared.ExecucaoCompartilhada;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
@@ -21,15 +33,27 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.support.TransactionCallback;
+import org.springframework.transaction.support.TransactionOperations;
 
+import java.time.LocalDate;
 import java.time.OffsetDateTime;
+import java.util.ArrayList;
+import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
 
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyInt; // <-- Import para o mock da IA
 import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.*;
 
 /**
@@ -53,6 +77,17 @@ public class DefaultGerarResumoAutomaticoServiceTest {
     private ResumidorIAPort resumidorIAPort;
     // --- FIM DA CORREÇÃO ---
 
+    @Mock
+    private UsuarioRepository usuarioRepository;
+    @Mock
+    private TextoExtraidoRepository textoExtraidoRepository;
+    @Mock
+    private TextoPaginasPort textoPaginasPort;
+    @Mock
+    private SumarioPdfPort sumarioPdfPort;
+    @Mock
+    private TransactionOperations transacao;
+
     @InjectMocks
     private DefaultGerarResumoAutomaticoService service;
 
@@ -63,6 +98,9 @@ public class DefaultGerarResumoAutomaticoServiceTest {
     private Disciplina disciplina;
     private CriarResumoDeMaterialCommand command;
 
+    // Indica, por thread, se o código roda dentro do callback da transação
+    private final ThreadLocal<Boolean> emTransacao = ThreadLocal.withInitial(() -> false);
+
     @BeforeEach
     void setUp() {
         usuarioId = UUID.randomUUID();
@@ -88,11 +126,32 @@ public class DefaultGerarResumoAutomaticoServiceTest {
                 null,
                 null
         );
+
+        // Usuário ainda sem resumos hoje, dentro da cota diária
+        Usuario usuario = new Usuario(usuarioId, "Estudante", "estudante@pdfocus.com", "hash", true,
+                0, LocalDate.now(), 0, LocalDate.now());
+        when(usuarioRepository.buscarPorId(usuarioId)).thenReturn(Optional.of(usuario));
+        ReflectionTestUtils.setField(service, "limiteDiario", 3);
+    }
+
+    private void mockTransacao() {
+        when(transacao.execute(any())).thenAnswer(invocation -> {
+            TransactionCallback<?> callback = invocation.getArgument(0);
+            emTransacao.set(true);
+            try {
+                return callback.doInTransaction(null);
+            } finally {
+                emTransacao.set(false);
+            }
+        });
     }
 
     private void mockSalvarResumo() {
+        mockTransacao();
         when(resumoRepository.salvar(any(Resumo.class)))
                 .thenAnswer(invocation -> invocation.getArgument(0));
+        when(usuarioRepository.consumirCotaResumo(eq(usuarioId), any(LocalDate.class), eq(3)))
+                .thenReturn(true);
     }
 
     @Test
@@ -108,8 +167,8 @@ public class DefaultGerarResumoAutomaticoServiceTest {
 
         when(disciplinaRepository.findById(disciplinaId))
                 .thenReturn(Optional.of(disciplina));
-        when(textExtractorPort.extrairTexto(anyString()))
-                .thenReturn(textoExtraido);
+        when(textExtractorPort.extrairConteudo(anyString(), any()))
+                .thenReturn(new ConteudoExtraido(textoExtraido, 1));
 
         // --- 3. "ENSINAR" O MOCK DA IA ---
         when(resumidorIAPort.resumir(anyString(), anyInt()))
@@ -125,11 +184,64 @@ public class DefaultGerarResumoAutomaticoServiceTest {
         assertNotNull(resumo);
         assertEquals("Resumo - documento.pdf", resumo.getTitulo());
         assertEquals(resumoDaIA, resumo.getConteudo()); // Deve ser o conteúdo da IA
-        verify(textExtractorPort).extrairTexto(material.getNomeStorage());
+        verify(textExtractorPort).extrairConteudo(eq(material.getNomeStorage()), any());
         verify(resumidorIAPort).resumir(textoExtraido, 300); // Verifica se a IA foi chamada
         verify(resumoRepository).salvar(any(Resumo.class));
     }
 
+    @Test
+    @DisplayName("Deve extrair e resumir fora da transação, salvando e consumindo a cota dentro dela")
+    void deveManterTransacaoApenasNaGravacao() {
+        when(materialRepository.buscarPorIdEUsuario(materialId, usuarioId))
+                .thenReturn(Optional.of(material));
+        when(disciplinaRepository.findById(disciplinaId))
+                .thenReturn(Optional.of(disciplina));
+        when(textExtractorPort.extrairConteudo(anyString(), any())).thenAnswer(invocation -> {
+            assertFalse(emTransacao.get());
+            return new ConteudoExtraido("Texto do PDF.", 1);
+        });
+        when(resumidorIAPort.resumir(anyString(), anyInt())).thenAnswer(invocation -> {
+            assertFalse(emTransacao.get());
+            return "Resumo gerado pela IA.";
+        });
+        mockTransacao();
+        when(resumoRepository.salvar(any(Resumo.class))).thenAnswer(invocation -> {
+            assertTrue(emTransacao.get());
+            return invocation.getArgument(0);
+        });
+        when(usuarioRepository.consumirCotaResumo(eq(usuarioId), any(LocalDate.class), eq(3))).thenAnswer(invocation -> {
+            assertTrue(emTransacao.get());
+            return true;
+        });
+
+        service.executar(command, usuarioId);
+
+        verify(transacao, times(1)).execute(any());
+    }
+
+    @Test
+    @DisplayName("Deve registrar o resultado do chamador na mesma transação, depois de consumir a cota")
+    void deveChamarAoSalvarDentroDaTransacao() {
+        when(materialRepository.buscarPorIdEUsuario(materialId, usuarioId))
+                .thenReturn(Optional.of(material));
+        when(disciplinaRepository.findById(disciplinaId))
+                .thenReturn(Optional.of(disciplina));
+        when(textExtractorPort.extrairConteudo(anyString(), any())).thenReturn(new ConteudoExtraido("Texto do PDF.", 1));
+        when(resumidorIAPort.resumir(anyString(), anyInt())).thenReturn("Resumo gerado pela IA.");
+        mockTransacao();
+        mockSalvarResumo();
+        when(usuarioRepository.consumirCotaResumo(eq(usuarioId), any(LocalDate.class), eq(3))).thenReturn(true);
+        List<Resumo> registrados = new ArrayList<>();
+
+        Resumo resultado = service.executar(command, usuarioId, ProgressoResumoListener.NENHUM, salvo -> {
+            assertTrue(emTransacao.get());
+            verify(usuarioRepository).consumirCotaResumo(eq(usuarioId), any(LocalDate.class), eq(3));
+            registrados.add(salvo);
+        });
+
+        assertEquals(List.of(resultado), registrados);
+    }
+
     @Test
     @DisplayName("Deve usar título customizado quando fornecido")
     void deveUsarTituloCustomizadoQuandoFornecido() {
@@ -147,8 +259,8 @@ public class DefaultGerarResumoAutomaticoServiceTest {
 
         when(disciplinaRepository.findById(disciplinaId))
                 .thenReturn(Optional.of(disciplina));
-        when(textExtractorPort.extrairTexto(anyString()))
-                .thenReturn(textoExtraido);
+        when(textExtractorPort.extrairConteudo(anyString(), any()))
+                .thenReturn(new ConteudoExtraido(textoExtraido, 1));
 
         // --- 3. "ENSINAR" O MOCK DA IA ---
         when(resumidorIAPort.resumir(anyString(), anyInt()))
@@ -166,6 +278,148 @@ public class DefaultGerarResumoAutomaticoServiceTest {
         verify(resumoRepository).salvar(any(Resumo.class));
     }
 
+    @Test
+    @DisplayName("Deve usar o texto pré-extraído após o upload sem processar o PDF novamente")
+    void deveUsarTextoPreExtraidoQuandoDisponivel() {
+        // Given
+        String textoPreExtraido = "Texto extraído em segundo plano após o upload.";
+        String resumoDaIA = "Resumo gerado pela IA.";
+
+        when(materialRepository.buscarPorIdEUsuario(materialId, usuarioId))
+                .thenReturn(Optional.of(material));
+        when(disciplinaRepository.findById(disciplinaId))
+                .thenReturn(Optional.of(disciplina));
+        when(textoExtraidoRepository.buscarPorMaterialId(materialId))
+                .thenReturn(Optional.of(TextoExtraido.concluido(materialId, textoPreExtraido, 3)));
+        when(resumidorIAPort.resumir(anyString(), anyInt()))
+                .thenReturn(resumoDaIA);
+        mockSalvarResumo();
+
+        // When
+        Resumo resumo = service.executar(command, usuarioId);
+
+        // Then
+        assertEquals(resumoDaIA, resumo.getConteudo());
+        verify(resumidorIAPort).resumir(textoPreExtraido, 300);
+        verify(textExtractorPort, never()).extrairConteudo(any(), any());
+    }
+
+    @Test
+    @DisplayName("Deve extrair o texto sob demanda quando a extração em segundo plano ainda não terminou")
+    void deveExtrairSobDemandaQuandoExtracaoPendente() {
+        // Given
+        String textoExtraido = "Texto extraído na hora.";
+
+        when(materialRepository.buscarPorIdEUsuario(materialId, usuarioId))
+                .thenReturn(Optional.of(material));
+        when(disciplinaRepository.findById(disciplinaId))
+                .thenReturn(Optional.of(disciplina));
+        when(textoExtraidoRepository.buscarPorMaterialId(materialId))
+                .thenReturn(Optional.of(TextoExtraido.pendente(materialId)));
+        when(textExtractorPort.extrairConteudo(eq(material.getNomeStorage()), any()))
+                .thenReturn(new ConteudoExtraido(textoExtraido, 1));
+        when(resumidorIAPort.resumir(anyString(), anyInt()))
+                .thenReturn("Resumo gerado pela IA.");
+        mockSalvarResumo();
+
+        // When
+        service.executar(command, usuarioId);
+
+        // Then
+        verify(resumidorIAPort).resumir(textoExtraido, 300);
+    }
+
+    @Test
+    @DisplayName("Deve reportar as etapas da geração na ordem e repassar o ouvinte ao extrator")
+    void deveReportarEtapasAoOuvinte() {
+        List<EtapaResumo> etapas = new ArrayList<>();
+        ProgressoResumoListener progresso = new ProgressoResumoListener() {
+            @Override
+            public void etapaIniciada(EtapaResumo etapa) {
+                etapas.add(etapa);
+            }
+        };
+        when(materialRepository.buscarPorIdEUsuario(materialId, usuarioId))
+                .thenReturn(Optional.of(material));
+        when(disciplinaRepository.findById(disciplinaId))
+                .thenReturn(Optional.of(disciplina));
+        when(textExtractorPort.extrairConteudo(material.getNomeStorage(), progresso))
+                .thenReturn(new ConteudoExtraido("Texto do PDF.", 1));
+        when(resumidorIAPort.resumir(anyString(), anyInt()))
+                .thenReturn("Resumo gerado pela IA.");
+        mockSalvarResumo();
+
+        service.executar(command, usuarioId, progresso);
+
+        assertEquals(List.of(EtapaResumo.CARREGANDO, EtapaResumo.EXTRAINDO, EtapaResumo.PONTUANDO, EtapaResumo.SALVANDO),
+                etapas);
+    }
+
+    @Test
+    @DisplayName("Requisições simultâneas do mesmo material devem compartilhar a geração e consumir a cota de cada uma")
+    void deveCompartilharGeracaoEntreRequisicoesSimultaneas() throws Exception {
+        CountDownLatch resumindo = new CountDownLatch(1);
+        CountDownLatch liberar = new CountDownLatch(1);
+        when(materialRepository.buscarPorIdEUsuario(materialId, usuarioId))
+                .thenReturn(Optional.of(material));
+        when(disciplinaRepository.findById(disciplinaId))
+                .thenReturn(Optional.of(disciplina));
+        when(textExtractorPort.extrairConteudo(anyString(), any()))
+                .thenReturn(new ConteudoExtraido("Texto do PDF.", 1));
+        when(resumidorIAPort.resumir(anyString(), anyInt())).thenAnswer(invocation -> {
+            resumindo.countDown();
+            liberar.await(5, TimeUnit.SECONDS);
+            return "Resumo gerado pela IA.";
+        });
+        mockSalvarResumo();
+
+        ExecutorService threads = Executors.newFixedThreadPool(2);
+        try {
+            Future<Resumo> primeira = threads.submit(() -> service.executar(command, usuarioId));
+            assertTrue(resumindo.await(5, TimeUnit.SECONDS));
+            Future<Resumo> segunda = threads.submit(() -> service.executar(command, usuarioId));
+            esperarRequisicaoCompartilhada();
+            liberar.countDown();
+
+            Resumo resumo1 = primeira.get(5, TimeUnit.SECONDS);
+            Resumo resumo2 = segunda.get(5, TimeUnit.SECONDS);
+            assertEquals("Resumo gerado pela IA.", resumo1.getConteudo());
+            assertEquals("Resumo gerado pela IA.", resumo2.getConteudo());
+            assertNotEquals(resumo1.getId(), resumo2.getId());
+        } finally {
+            threads.shutdownNow();
+        }
+
+        verify(textExtractorPort, times(1)).extrairConteudo(anyString(), any());
+        verify(resumidorIAPort, times(1)).resumir(anyString(), anyInt());
+        verify(resumoRepository, times(2)).salvar(any(Resumo.class));
+        verify(usuarioRepository, times(2)).consumirCotaResumo(eq(usuarioId), any(LocalDate.class), eq(3));
+    }
+
+    @Test
+    @DisplayName("Deve lançar exceção quando a cota se esgota durante a geração do resumo")
+    void deveLancarExcecaoQuandoCotaEsgotadaDuranteGeracao() {
+        when(materialRepository.buscarPorIdEUsuario(materialId, usuarioId))
+                .thenReturn(Optional.of(material));
+        when(disciplinaRepository.findById(disciplinaId))
+                .thenReturn(Optional.of(disciplina));
+        when(textExtractorPort.extrairConteudo(anyString(), any()))
+                .thenReturn(new ConteudoExtraido("Texto do PDF.", 1));
+        when(resumidorIAPort.resumir(anyString(), anyInt()))
+                .thenReturn("Resumo gerado pela IA.");
+        mockTransacao();
+        when(resumoRepository.salvar(any(Resumo.class)))
+                .thenAnswer(invocation -> invocation.getArgument(0));
+        // Outra requisição do mesmo usuário consumiu a última unidade da cota nesse meio-tempo
+        when(usuarioRepository.consumirCotaResumo(eq(usuarioId), any(LocalDate.class), eq(3)))
+                .thenReturn(false);
+
+        assertThrows(
+                LimiteResumoExcedidoException.class,
+                () -> service.executar(command, usuarioId)
+        );
+    }
+
     // (Testes que não falharam, mas que precisam dos nomes corretos)
 
     @Test
@@ -184,7 +438,7 @@ public class DefaultGerarResumoAutomaticoServiceTest {
         Resumo resumo = service.executar(commandComConteudo, usuarioId);
 
         assertEquals(conteudoCustomizado, resumo.getConteudo());
-        verify(textExtractorPort, never()).extrairTexto(any());
+        verify(textExtractorPort, never()).extrairConteudo(any(), any());
         verify(resumidorIAPort, never()).resumir(anyString(), anyInt());
         verify(resumoRepository).salvar(any(Resumo.class));
     }
@@ -224,7 +478,7 @@ public class DefaultGerarResumoAutomaticoServiceTest {
                 .thenReturn(Optional.of(material));
         when(disciplinaRepository.findById(disciplinaId))
                 .thenReturn(Optional.of(disciplina));
-        when(textExtractorPort.extrairTexto(anyString()))
+        when(textExtractorPort.extrairConteudo(anyString(), any()))
                 .thenThrow(new TextoNaoPodeSerExtraidoException("PDF corrompido"));
 
         assertThrows(
@@ -233,4 +487,82 @@ public class DefaultGerarResumoAutomaticoServiceTest {
         );
         verify(resumoRepository, never()).salvar(any());
     }
-}
\ No newline at end of file
+
+    @Test
+    @DisplayName("Deve resumir apenas o intervalo de páginas pedido, usando as páginas já gravadas")
+    void deveResumirIntervaloDePaginasGravadas() {
+        CriarResumoDeMaterialCommand commandComPaginas = new CriarResumoDeMaterialCommand(
+                materialId, disciplinaId, null, null, 5, 7, null);
+        when(materialRepository.buscarPorIdEUsuario(materialId, usuarioId))
+                .thenReturn(Optional.of(material));
+        when(disciplinaRepository.findById(disciplinaId))
+                .thenReturn(Optional.of(disciplina));
+        when(textoPaginasPort.buscarPaginas("uuid-arquivo.pdf", 5, 7))
+                .thenReturn(Optional.of(List.of("Página cinco. ", "Página seis. ", "Página sete.")));
+        when(resumidorIAPort.resumir(anyString(), anyInt()))
+                .thenReturn("Resumo do trecho.");
+        mockSalvarResumo();
+
+        Resumo resumo = service.executar(commandComPaginas, usuarioId);
+
+        assertEquals("Resumo - documento.pdf (p. 5-7)", resumo.getTitulo());
+        verify(resumidorIAPort).resumir("Página cinco. Página seis. Página sete.", 300);
+        verifyNoInteractions(textExtractorPort, textoExtraidoRepository, sumarioPdfPort);
+    }
+
+    @Test
+    @DisplayName("Deve extrair apenas as páginas da seção do sumário pedida")
+    void deveExtrairApenasPaginasDaSecaoDoSumario() {
+        CriarResumoDeMaterialCommand commandComSecao = new CriarResumoDeMaterialCommand(
+                materialId, disciplinaId, null, null, null, null, "2.1");
+        List<SecaoSumario> sumario = List.of(
+                new SecaoSumario("1", "Introdução", 1, 9, List.of()),
+                new SecaoSumario("2", "Métodos", 10, 30, List.of(
+                        new SecaoSumario("2.1", "Amostragem", 12, 18, List.of()),
+                        new SecaoSumario("2.2", "Análise", 19, 30, List.of()))));
+        when(materialRepository.buscarPorIdEUsuario(materialId, usuarioId))
+                .thenReturn(Optional.of(material));
+        when(disciplinaRepository.findById(disciplinaId))
+                .thenReturn(Optional.of(disciplina));
+        when(sumarioPdfPort.lerSumario("uuid-arquivo.pdf")).thenReturn(sumario);
+        when(textoPaginasPort.buscarPaginas("uuid-arquivo.pdf", 12, 18)).thenReturn(Optional.empty());
+        when(textExtractorPort.extrairPaginas(eq("uuid-arquivo.pdf"), eq(12), eq(18), any()))
+                .thenReturn(new ConteudoExtraido("Texto da seção de amostragem.", 7));
+        when(resumidorIAPort.resumir(anyString(), anyInt()))
+                .thenReturn("Resumo da seção.");
+        mockSalvarResumo();
+
+        Resumo resumo = service.executar(commandComSecao, usuarioId);
+
+        assertEquals("Resumo - documento.pdf (Amostragem)", resumo.getTitulo());
+        verify(resumidorIAPort).resumir("Texto da seção de amostragem.", 300);
+        verify(textExtractorPort, never()).extrairConteudo(any(), any());
+    }
+
+    @Test
+    @DisplayName("Deve rejeitar seção inexistente no sumário e intervalo de páginas inválido")
+    void deveRejeitarTrechoInvalido() {
+        when(materialRepository.buscarPorIdEUsuario(materialId, usuarioId))
+                .thenReturn(Optional.of(material));
+        when(disciplinaRepository.findById(disciplinaId))
+                .thenReturn(Optional.of(disciplina));
+        when(sumarioPdfPort.lerSumario("uuid-arquivo.pdf")).thenReturn(List.of());
+
+        assertThrows(IllegalArgumentException.class, () -> service.executar(
+                new CriarResumoDeMaterialCommand(materialId, disciplinaId, null, null, null, null, "4"), usuarioId));
+        assertThrows(IllegalArgumentException.class, () -> service.executar(
+                new CriarResumoDeMaterialCommand(materialId, disciplinaId, null, null, 8, 3, null), usuarioId));
+        verifyNoInteractions(textExtractorPort, resumidorIAPort);
+        verify(resumoRepository, never()).salvar(any());
+    }
+
+    private void esperarRequisicaoCompartilhada() throws InterruptedException {
+        ExecucaoCompartilhada<?, ?> emAndamento =
+                (ExecucaoCompartilhada<?, ?>) ReflectionTestUtils.getField(service, "resumosEmAndamento");
+        long limite = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+        while (emAndamento.getCompartilhadas() < 1) {
+            assertTrue(System.nanoTime() < limite, "A segunda requisição não aguardou a geração em andamento");
+            Thread.sleep(5);
+        }
+    }
+}
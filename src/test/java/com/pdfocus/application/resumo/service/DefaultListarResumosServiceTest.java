@@ -1,5 +1,7 @@
 package com.pdfocus.application.resumo.service;
 
+import com.pdfocus.application.resumo.dto.CursorResumo;
+import com.pdfocus.application.resumo.dto.ResumoListagem;
 import com.pdfocus.application.resumo.port.saida.ResumoRepository;
 import com.pdfocus.core.models.Disciplina;
 import com.pdfocus.core.models.Resumo;
@@ -11,7 +13,11 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.SliceImpl;
 
+import java.time.OffsetDateTime;
 import java.util.Collections;
 import java.util.List;
 import java.util.UUID;
@@ -52,17 +58,18 @@ public class DefaultListarResumosServiceTest {
         @DisplayName("Deve retornar lista de resumos quando o repositório os encontra")
         void deveRetornarListaQuandoRepositorioEncontra() {
             // Arrange
-            // Não precisamos de um Resumo real, uma lista mockada já serve para testar o fluxo.
-            List<Resumo> resumosEsperados = Collections.singletonList(mock(Resumo.class));
-            when(resumoRepositoryMock.buscarTodosPorUsuario(usuarioIdValido)).thenReturn(resumosEsperados);
+            // A listagem usa a projeção sem conteúdo.
+            List<ResumoListagem> resumosEsperados = Collections.singletonList(
+                    new ResumoListagem(UUID.randomUUID(), "Resumo", disciplinaIdValida, null, OffsetDateTime.now()));
+            when(resumoRepositoryMock.listarPorUsuario(usuarioIdValido)).thenReturn(resumosEsperados);
 
             // Act
-            List<Resumo> resumosAtuais = listarResumosService.buscarTodosPorUsuario(usuarioIdValido);
+            List<ResumoListagem> resumosAtuais = listarResumosService.buscarTodosPorUsuario(usuarioIdValido);
 
             // Assert
             assertNotNull(resumosAtuais);
             assertEquals(resumosEsperados, resumosAtuais);
-            verify(resumoRepositoryMock).buscarTodosPorUsuario(usuarioIdValido);
+            verify(resumoRepositoryMock).listarPorUsuario(usuarioIdValido);
         }
 
         @Test
@@ -79,7 +86,7 @@ public class DefaultListarResumosServiceTest {
             });
 
             assertEquals(mensagemEsperada, exception.getMessage());
-            verify(resumoRepositoryMock, never()).buscarTodosPorUsuario(any());
+            verify(resumoRepositoryMock, never()).listarPorUsuario(any());
         }
     }
 
@@ -137,4 +144,37 @@ public class DefaultListarResumosServiceTest {
         }
     }
 
+    /**
+     * Testes para o método {@link DefaultListarResumosService#buscarPaginaPorUsuario(UUID, CursorResumo, int)}.
+     */
+    @Nested
+    @DisplayName("Método: buscarPaginaPorUsuario")
+    class BuscarPaginaPorUsuario {
+
+        @Test
+        @DisplayName("Deve repassar o cursor e o tamanho ao repositório")
+        void deveRepassarCursorETamanho() {
+            // Arrange
+            CursorResumo apos = new CursorResumo(OffsetDateTime.now(), UUID.randomUUID());
+            Slice<ResumoListagem> fatiaEsperada = new SliceImpl<>(List.of(
+                    new ResumoListagem(UUID.randomUUID(), "Resumo", disciplinaIdValida, null, OffsetDateTime.now())), PageRequest.ofSize(1), true);
+            when(resumoRepositoryMock.listarPorUsuario(usuarioIdValido, apos, 1)).thenReturn(fatiaEsperada);
+
+            // Act
+            Slice<ResumoListagem> fatia = listarResumosService.buscarPaginaPorUsuario(usuarioIdValido, apos, 1);
+
+            // Assert
+            assertSame(fatiaEsperada, fatia);
+        }
+
+        @Test
+        @DisplayName("Deve recusar tamanhos de página fora do intervalo permitido")
+        void deveRecusarTamanhoInvalido() {
+            assertThrows(IllegalArgumentException.class,
+                    () -> listarResumosService.buscarPaginaPorUsuario(usuarioIdValido, null, 0));
+            assertThrows(IllegalArgumentException.class, () -> listarResumosService.buscarPaginaPorUsuario(
+                    usuarioIdValido, null, DefaultListarResumosService.TAMANHO_MAXIMO_PAGINA + 1));
+            verifyNoInteractions(resumoRepositoryMock);
+        }
+    }
 }
@@ -0,0 +1,187 @@
+package com.pdfocus.application.resumo.service;
+
+import com.pdfocus.application.resumo.dto.CriarResumoDeMaterialCommand;
+import com.pdfocus.application.resumo.port.entrada.GerarResumoAutomaticoUseCase;
+import com.pdfocus.application.resumo.dto.JobResumoResponse;
+import com.pdfocus.application.resumo.port.saida.JobResumoRepository;
+import com.pdfocus.application.resumo.port.saida.ProgressoJobResumoPort;
+import com.pdfocus.application.resumo.port.saida.ProgressoResumoListener;
+import com.pdfocus.core.exceptions.LimiteResumoExcedidoException;
+import com.pdfocus.core.models.JobResumo;
+import com.pdfocus.core.models.Resumo;
+import com.pdfocus.core.models.StatusJob;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.mockito.stubbing.Answer;
+
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.function.Consumer;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("Testes Unitários - DefaultProcessarJobResumoService")
+public class DefaultProcessarJobResumoServiceTest {
+
+    @Mock
+    private JobResumoRepository jobResumoRepository;
+    @Mock
+    private GerarResumoAutomaticoUseCase gerarResumoAutomaticoUseCase;
+    @Mock
+    private ProgressoJobResumoPort progressoJobResumoPort;
+
+    @InjectMocks
+    private DefaultProcessarJobResumoService service;
+
+    private UUID usuarioId;
+    private JobResumo job;
+
+    @BeforeEach
+    void setUp() {
+        usuarioId = UUID.randomUUID();
+        job = JobResumo.criar(UUID.randomUUID(), usuarioId, UUID.randomUUID(), UUID.randomUUID(), "Título", null);
+    }
+
+    @Test
+    @DisplayName("Deve gerar o resumo com os parâmetros do job, registrá-lo como CONCLUIDO e publicar o resultado")
+    void deveConcluirJobComSucesso() {
+        Resumo resumo = mock(Resumo.class);
+        UUID resumoId = UUID.randomUUID();
+        ProgressoResumoListener ouvinte = mock(ProgressoResumoListener.class);
+        when(resumo.getId()).thenReturn(resumoId);
+        when(jobResumoRepository.iniciarSePendente(job.getId())).thenReturn(true);
+        when(jobResumoRepository.buscarPorId(job.getId())).thenReturn(Optional.of(job.iniciar()));
+        when(jobResumoRepository.salvar(any())).thenAnswer(invocation -> invocation.getArgument(0));
+        when(progressoJobResumoPort.ouvinte(job.getId())).thenReturn(ouvinte);
+        when(gerarResumoAutomaticoUseCase.executar(any(), eq(usuarioId), eq(ouvinte), any())).thenAnswer(salvandoNaTransacao(resumo));
+
+        service.executar(job.getId());
+
+        verify(gerarResumoAutomaticoUseCase).executar(
+                eq(new CriarResumoDeMaterialCommand(job.getMaterialId(), job.getDisciplinaId(), "Título", null)),
+                eq(usuarioId), eq(ouvinte), any());
+        JobResumo salvo = capturarSalvo();
+        assertEquals(StatusJob.CONCLUIDO, salvo.getStatus());
+        assertEquals(resumoId, salvo.getResumoId());
+
+        ArgumentCaptor<JobResumoResponse> publicado = ArgumentCaptor.forClass(JobResumoResponse.class);
+        verify(progressoJobResumoPort).finalizado(publicado.capture());
+        assertEquals(StatusJob.CONCLUIDO, publicado.getValue().status());
+        assertSame(resumo, publicado.getValue().resumo());
+    }
+
+    @Test
+    @DisplayName("Deve repassar o trecho do job (páginas e seção) para a geração do resumo")
+    void deveRepassarTrechoDoJob() {
+        JobResumo comTrecho = JobResumo.criar(UUID.randomUUID(), usuarioId, UUID.randomUUID(), UUID.randomUUID(),
+                null, null, 5, 12, "2.1");
+        Resumo resumo = mock(Resumo.class);
+        when(resumo.getId()).thenReturn(UUID.randomUUID());
+        when(jobResumoRepository.iniciarSePendente(comTrecho.getId())).thenReturn(true);
+        when(jobResumoRepository.buscarPorId(comTrecho.getId())).thenReturn(Optional.of(comTrecho.iniciar()));
+        when(jobResumoRepository.salvar(any())).thenAnswer(invocation -> invocation.getArgument(0));
+        when(gerarResumoAutomaticoUseCase.executar(any(), eq(usuarioId), any(), any())).thenAnswer(salvandoNaTransacao(resumo));
+
+        service.executar(comTrecho.getId());
+
+        verify(gerarResumoAutomaticoUseCase).executar(
+                eq(new CriarResumoDeMaterialCommand(comTrecho.getMaterialId(), comTrecho.getDisciplinaId(),
+                        null, null, 5, 12, "2.1")),
+                eq(usuarioId), any(), any());
+    }
+
+    @Test
+    @DisplayName("Deve registrar FALHOU com a mensagem quando a geração lançar exceção")
+    void deveRegistrarFalha() {
+        when(jobResumoRepository.iniciarSePendente(job.getId())).thenReturn(true);
+        when(jobResumoRepository.buscarPorId(job.getId())).thenReturn(Optional.of(job.iniciar()));
+        when(jobResumoRepository.salvar(any())).thenAnswer(invocation -> invocation.getArgument(0));
+        when(gerarResumoAutomaticoUseCase.executar(any(), eq(usuarioId), any(), any()))
+                .thenThrow(new LimiteResumoExcedidoException("Você atingiu seu limite de 3 resumos diários."));
+
+        assertDoesNotThrow(() -> service.executar(job.getId()));
+
+        JobResumo salvo = capturarSalvo();
+        assertEquals(StatusJob.FALHOU, salvo.getStatus());
+        assertEquals("Você atingiu seu limite de 3 resumos diários.", salvo.getMensagemErro());
+        verify(progressoJobResumoPort).finalizado(argThat(estado -> estado.status() == StatusJob.FALHOU));
+    }
+
+    @Test
+    @DisplayName("Deve registrar FALHOU quando a gravação da conclusão desfizer a transação do resumo")
+    void deveRegistrarFalhaQuandoConclusaoNaoForGravada() {
+        Resumo resumo = mock(Resumo.class);
+        when(resumo.getId()).thenReturn(UUID.randomUUID());
+        when(jobResumoRepository.iniciarSePendente(job.getId())).thenReturn(true);
+        when(jobResumoRepository.buscarPorId(job.getId())).thenReturn(Optional.of(job.iniciar()));
+        when(jobResumoRepository.salvar(any())).thenAnswer(invocation -> {
+            JobResumo gravado = invocation.getArgument(0);
+            if (gravado.getStatus() == StatusJob.CONCLUIDO) {
+                throw new IllegalStateException("Conexão perdida");
+            }
+            return gravado;
+        });
+        when(gerarResumoAutomaticoUseCase.executar(any(), eq(usuarioId), any(), any())).thenAnswer(salvandoNaTransacao(resumo));
+
+        service.executar(job.getId());
+
+        ArgumentCaptor<JobResumo> captor = ArgumentCaptor.forClass(JobResumo.class);
+        verify(jobResumoRepository, times(2)).salvar(captor.capture());
+        assertEquals(StatusJob.CONCLUIDO, captor.getAllValues().get(0).getStatus());
+        assertEquals(StatusJob.FALHOU, captor.getAllValues().get(1).getStatus());
+        verify(progressoJobResumoPort).finalizado(argThat(estado -> estado.status() == StatusJob.FALHOU));
+    }
+
+    @Test
+    @DisplayName("Não deve executar um job que outro worker já iniciou")
+    void deveIgnorarJobNaoPendente() {
+        when(jobResumoRepository.iniciarSePendente(job.getId())).thenReturn(false);
+
+        service.executar(job.getId());
+
+        verifyNoInteractions(gerarResumoAutomaticoUseCase);
+        verify(jobResumoRepository, never()).salvar(any());
+    }
+
+    @Test
+    @DisplayName("Deve reabrir jobs interrompidos e devolver todos os pendentes na ordem")
+    void deveRetomarJobsInterrompidos() {
+        JobResumo interrompido = JobResumo.criar(UUID.randomUUID(), usuarioId, UUID.randomUUID(), UUID.randomUUID(), null, null).iniciar();
+        when(jobResumoRepository.listarPorStatus(any())).thenReturn(List.of(interrompido, job));
+
+        List<UUID> retomados = service.retomarInterrompidos();
+
+        assertEquals(List.of(interrompido.getId(), job.getId()), retomados);
+        JobResumo reaberto = capturarSalvo();
+        assertEquals(interrompido.getId(), reaberto.getId());
+        assertEquals(StatusJob.PENDENTE, reaberto.getStatus());
+    }
+
+    /**
+     * Simula a geração: chama o {@code aoSalvar} recebido com o resumo, como faz a transação
+     * que grava o resumo, e o devolve.
+     */
+    private static Answer<Resumo> salvandoNaTransacao(Resumo resumo) {
+        return invocation -> {
+            Consumer<Resumo> aoSalvar = invocation.getArgument(3);
+            aoSalvar.accept(resumo);
+            return resumo;
+        };
+    }
+
+    private JobResumo capturarSalvo() {
+        ArgumentCaptor<JobResumo> captor = ArgumentCaptor.forClass(JobResumo.class);
+        verify(jobResumoRepository).salvar(captor.capture());
+        return captor.getValue();
+    }
+}
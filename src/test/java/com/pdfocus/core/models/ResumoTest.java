@@ -7,6 +7,7 @@ import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Nested;
 import org.junit.jupiter.api.Test;
 
+import java.time.OffsetDateTime;
 import java.util.UUID;
 
 import static org.junit.jupiter.api.Assertions.*;
@@ -57,6 +58,28 @@ public class ResumoTest {
         assertEquals(disciplina, resumo.getDisciplina());
     }
 
+    /**
+     * Testa que a atualização preserva os dados que não são editáveis.
+     */
+    @Test
+    @DisplayName("Deve atualizar título e conteúdo preservando material e data de criação")
+    void deveAtualizarPreservandoMaterialEDataCriacao() {
+        // Arrange
+        UUID materialId = UUID.randomUUID();
+        OffsetDateTime dataCriacao = OffsetDateTime.parse("2024-03-10T14:30:00Z");
+        Resumo original = Resumo.reconstruir(id, usuarioId, titulo, conteudo, disciplina, materialId, dataCriacao);
+
+        // Act
+        Resumo atualizado = original.atualizar("Novo título", "Novo conteúdo");
+
+        // Assert
+        assertEquals("Novo título", atualizado.getTitulo());
+        assertEquals("Novo conteúdo", atualizado.getConteudo());
+        assertEquals(materialId, atualizado.getMaterialId());
+        assertEquals(dataCriacao, atualizado.getDataCriacao());
+        assertThrows(CampoVazioException.class, () -> original.atualizar(titulo, " "));
+    }
+
     /**
      * Agrupa todos os testes que validam as regras de negócio para campos inválidos.
      */
@@ -0,0 +1,119 @@
+package com.pdfocus.core.shared;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Testes unitários para {@link ExecucaoCompartilhada}.
+ */
+@DisplayName("Testes Unitários - ExecucaoCompartilhada")
+public class ExecucaoCompartilhadaTest {
+
+    @Test
+    @DisplayName("Chamadas simultâneas com a mesma chave devem compartilhar uma única execução")
+    void deveCompartilharExecucaoEmAndamento() throws Exception {
+        ExecucaoCompartilhada<String, String> execucao = new ExecucaoCompartilhada<>();
+        AtomicInteger execucoes = new AtomicInteger();
+        CountDownLatch iniciou = new CountDownLatch(1);
+        CountDownLatch liberar = new CountDownLatch(1);
+        ExecutorService threads = Executors.newFixedThreadPool(2);
+        try {
+            Future<String> primeira = threads.submit(() -> execucao.executar("chave", () -> {
+                execucoes.incrementAndGet();
+                iniciou.countDown();
+                aguardar(liberar);
+                return "resultado";
+            }));
+            assertTrue(iniciou.await(5, TimeUnit.SECONDS));
+
+            Future<String> segunda = threads.submit(() -> execucao.executar("chave", () -> {
+                execucoes.incrementAndGet();
+                return "outro";
+            }));
+            esperarCompartilhadas(execucao, 1);
+            liberar.countDown();
+
+            assertEquals("resultado", primeira.get(5, TimeUnit.SECONDS));
+            assertEquals("resultado", segunda.get(5, TimeUnit.SECONDS));
+            assertEquals(1, execucoes.get());
+        } finally {
+            threads.shutdownNow();
+        }
+    }
+
+    @Test
+    @DisplayName("Deve executar novamente depois que a execução anterior terminou")
+    void deveExecutarNovamenteAposTermino() {
+        ExecucaoCompartilhada<String, Integer> execucao = new ExecucaoCompartilhada<>();
+        AtomicInteger execucoes = new AtomicInteger();
+
+        execucao.executar("chave", execucoes::incrementAndGet);
+        execucao.executar("chave", execucoes::incrementAndGet);
+
+        assertEquals(2, execucoes.get());
+        assertEquals(0, execucao.getCompartilhadas());
+    }
+
+    @Test
+    @DisplayName("Chaves diferentes não devem compartilhar execução")
+    void naoDeveCompartilharEntreChavesDiferentes() {
+        ExecucaoCompartilhada<String, String> execucao = new ExecucaoCompartilhada<>();
+
+        assertEquals("a", execucao.executar("a", () -> "a"));
+        assertEquals("b", execucao.executar("b", () -> "b"));
+    }
+
+    @Test
+    @DisplayName("A exceção da execução deve ser repassada a quem a aguardava e liberar a chave")
+    void deveRepassarExcecaoParaQuemAguardava() throws Exception {
+        ExecucaoCompartilhada<String, String> execucao = new ExecucaoCompartilhada<>();
+        CountDownLatch iniciou = new CountDownLatch(1);
+        CountDownLatch liberar = new CountDownLatch(1);
+        ExecutorService threads = Executors.newFixedThreadPool(2);
+        try {
+            Future<String> primeira = threads.submit(() -> execucao.executar("chave", () -> {
+                iniciou.countDown();
+                aguardar(liberar);
+                throw new IllegalStateException("falhou");
+            }));
+            assertTrue(iniciou.await(5, TimeUnit.SECONDS));
+            Future<String> segunda = threads.submit(() -> execucao.executar("chave", () -> "outro"));
+            esperarCompartilhadas(execucao, 1);
+            liberar.countDown();
+
+            Exception erroPrimeira = assertThrows(Exception.class, () -> primeira.get(5, TimeUnit.SECONDS));
+            Exception erroSegunda = assertThrows(Exception.class, () -> segunda.get(5, TimeUnit.SECONDS));
+            assertInstanceOf(IllegalStateException.class, erroPrimeira.getCause());
+            assertSame(erroPrimeira.getCause(), erroSegunda.getCause());
+        } finally {
+            threads.shutdownNow();
+        }
+
+        assertEquals("nova", execucao.executar("chave", () -> "nova"));
+    }
+
+    private static void aguardar(CountDownLatch latch) {
+        try {
+            latch.await(5, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    static void esperarCompartilhadas(ExecucaoCompartilhada<?, ?> execucao, long esperadas) throws InterruptedException {
+        long limite = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+        while (execucao.getCompartilhadas() < esperadas) {
+            assertTrue(System.nanoTime() < limite, "A segunda chamada não aguardou a execução em andamento");
+            Thread.sleep(5);
+        }
+    }
+}
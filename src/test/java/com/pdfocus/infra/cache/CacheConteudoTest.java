@@ -0,0 +1,74 @@
+package com.pdfocus.infra.cache;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.nio.file.Path;
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("Testes Unitários - CacheConteudo")
+class CacheConteudoTest {
+
+    @TempDir
+    Path diretorio;
+
+    @Test
+    @DisplayName("Deve contabilizar falha e acerto em memória")
+    void deveContabilizarFalhaEAcertoEmMemoria() {
+        CacheConteudo cache = new CacheConteudo("teste", 1024, null);
+
+        assertEquals(Optional.empty(), cache.buscar("abc"));
+        cache.guardar("abc", "resumo");
+
+        assertEquals(Optional.of("resumo"), cache.buscar("abc"));
+        assertEquals(1, cache.getFalhas());
+        assertEquals(1, cache.getAcertosMemoria());
+        assertEquals(12, cache.getBytesEmMemoria());
+    }
+
+    @Test
+    @DisplayName("Deve descartar a entrada usada há mais tempo ao exceder a capacidade")
+    void deveDescartarEntradaMenosUsadaRecentemente() {
+        CacheConteudo cache = new CacheConteudo("teste", 40, null); // 20 caracteres
+        cache.guardar("a", "1234567890");
+        cache.guardar("b", "1234567890");
+        cache.buscar("a"); // "a" passa a ser a mais recente
+
+        cache.guardar("c", "1234567890");
+
+        assertTrue(cache.buscar("a").isPresent());
+        assertTrue(cache.buscar("b").isEmpty());
+        assertTrue(cache.buscar("c").isPresent());
+        assertEquals(40, cache.getBytesEmMemoria());
+    }
+
+    @Test
+    @DisplayName("Não deve guardar em memória valores maiores que a capacidade")
+    void naoDeveGuardarValorMaiorQueCapacidade() {
+        CacheConteudo cache = new CacheConteudo("teste", 10, null);
+        cache.guardar("pequeno", "abc");
+
+        cache.guardar("grande", "texto grande demais");
+
+        assertTrue(cache.buscar("grande").isEmpty());
+        assertTrue(cache.buscar("pequeno").isPresent());
+    }
+
+    @Test
+    @DisplayName("Deve recuperar do disco valores que não estão mais em memória")
+    void deveRecuperarDoDisco() {
+        CacheConteudo primeiro = new CacheConteudo("teste", 1024, diretorio);
+        primeiro.guardar("chave", "Resumo com acentuação.");
+
+        // Nova instância (ex.: após reinício), com a memória vazia
+        CacheConteudo segundo = new CacheConteudo("teste", 1024, diretorio);
+
+        assertEquals(Optional.of("Resumo com acentuação."), segundo.buscar("chave"));
+        assertEquals(1, segundo.getAcertosDisco());
+        assertEquals(Optional.of("Resumo com acentuação."), segundo.buscar("chave"));
+        assertEquals(1, segundo.getAcertosMemoria());
+    }
+}
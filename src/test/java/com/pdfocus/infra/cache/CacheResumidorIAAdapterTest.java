@@ -0,0 +1,68 @@
+package com.pdfocus.infra.cache;
+
+import com.pdfocus.application.resumo.port.saida.ResumidorIAPort;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("Testes Unitários - CacheResumidorIAAdapter")
+class CacheResumidorIAAdapterTest {
+
+    @Mock
+    private ResumidorIAPort motor;
+
+    private CacheConteudo cache;
+    private CacheResumidorIAAdapter adapter;
+
+    @BeforeEach
+    void setUp() {
+        cache = new CacheConteudo("resumos", 1024 * 1024, null);
+        adapter = new CacheResumidorIAAdapter(motor, cache);
+    }
+
+    @Test
+    @DisplayName("Deve resumir apenas uma vez o mesmo texto com o mesmo limite")
+    void deveReaproveitarResumoDoMesmoTexto() {
+        when(motor.versao()).thenReturn("frequencia-1");
+        when(motor.resumir("Texto da apostila.", 300)).thenReturn("Resumo.");
+
+        assertEquals("Resumo.", adapter.resumir("Texto da apostila.", 300));
+        assertEquals("Resumo.", adapter.resumir("Texto da apostila.", 300));
+
+        verify(motor, times(1)).resumir("Texto da apostila.", 300);
+        assertEquals(1, cache.getAcertosMemoria());
+        assertEquals(1, cache.getFalhas());
+    }
+
+    @Test
+    @DisplayName("Deve gerar novo resumo quando o limite de palavras ou a versão mudam")
+    void deveDiferenciarLimiteEVersao() {
+        when(motor.versao()).thenReturn("frequencia-1", "frequencia-1", "textrank-1");
+        when(motor.resumir(anyString(), anyInt())).thenReturn("Resumo.");
+
+        adapter.resumir("Texto da apostila.", 300);
+        adapter.resumir("Texto da apostila.", 100);
+        adapter.resumir("Texto da apostila.", 300);
+
+        verify(motor, times(3)).resumir(anyString(), anyInt());
+        assertEquals(0, cache.getAcertosMemoria());
+    }
+
+    @Test
+    @DisplayName("Deve delegar textos vazios sem consultar o cache")
+    void deveDelegarTextoVazio() {
+        when(motor.resumir("  ", 300)).thenReturn("Texto fornecido está vazio ou nulo.");
+
+        assertEquals("Texto fornecido está vazio ou nulo.", adapter.resumir("  ", 300));
+        assertEquals(0, cache.getFalhas());
+    }
+}
@@ -0,0 +1,103 @@
+package com.pdfocus.infra.persistence.adapter;
+
+import com.pdfocus.core.exceptions.resumo.TextoNaoPodeSerExtraidoException;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("Testes Unitários - ExtracaoLimitada")
+class ExtracaoLimitadaTest {
+
+    private ExecutorService executor;
+
+    @BeforeEach
+    void setUp() {
+        executor = Executors.newSingleThreadExecutor();
+    }
+
+    @AfterEach
+    void tearDown() {
+        executor.shutdownNow();
+    }
+
+    @Test
+    @DisplayName("Deve executar a leitura no executor dedicado e devolver o resultado")
+    void deveExecutarLeitura() {
+        ExtracaoLimitada extracao = new ExtracaoLimitada(executor, 10, 100, 1000);
+        Thread chamadora = Thread.currentThread();
+
+        String resultado = extracao.executar("livro.pdf", controle -> {
+            assertNotSame(chamadora, Thread.currentThread());
+            controle.verificar();
+            return "texto";
+        });
+
+        assertEquals("texto", resultado);
+    }
+
+    @Test
+    @DisplayName("Deve recusar na hora e contabilizar quando a fila do executor estiver cheia")
+    void deveRecusarComFilaCheia() {
+        ExtracaoLimitada extracao = new ExtracaoLimitada(tarefa -> {
+            throw new RejectedExecutionException("fila cheia");
+        }, 10, 100, 1000);
+
+        assertThrows(TextoNaoPodeSerExtraidoException.class, () -> extracao.executar("livro.pdf", controle -> "texto"));
+        assertEquals(1, extracao.getRecusadasFilaCheia());
+    }
+
+    @Test
+    @DisplayName("Deve cancelar a extração que excede o tempo limite e liberar a thread do executor")
+    void deveCancelarExtracaoQueExcedeTempoLimite() throws InterruptedException {
+        ExtracaoLimitada extracao = new ExtracaoLimitada(executor, 1, 100, 1000);
+        CountDownLatch encerrada = new CountDownLatch(1);
+
+        long inicio = System.nanoTime();
+        assertThrows(TextoNaoPodeSerExtraidoException.class, () -> extracao.executar("travado.pdf", controle -> {
+            try {
+                while (true) {
+                    // Simula um fluxo de conteúdo interminável, verificado entre operadores
+                    controle.verificar();
+                    Thread.onSpinWait();
+                }
+            } finally {
+                encerrada.countDown();
+            }
+        }));
+
+        assertTrue(System.nanoTime() - inicio < TimeUnit.SECONDS.toNanos(5));
+        assertTrue(encerrada.await(5, TimeUnit.SECONDS), "A extração cancelada continuou ocupando o executor");
+        assertEquals(1, extracao.getRecusadasTempoLimite());
+        assertEquals("livre", extracao.executar("outro.pdf", controle -> "livre"));
+    }
+
+    @Test
+    @DisplayName("Deve interromper e contabilizar extrações acima dos limites de páginas e caracteres")
+    void deveInterromperAcimaDosLimites() {
+        ExtracaoLimitada extracao = new ExtracaoLimitada(executor, 10, 100, 1000);
+
+        assertThrows(TextoNaoPodeSerExtraidoException.class,
+                () -> extracao.executar("grande.pdf", controle -> {
+                    controle.verificarPaginas(101);
+                    return "texto";
+                }));
+        assertThrows(TextoNaoPodeSerExtraidoException.class,
+                () -> extracao.executar("denso.pdf", controle -> {
+                    controle.contarCaracteres(600);
+                    controle.contarCaracteres(600);
+                    return "texto";
+                }));
+
+        assertEquals(2, extracao.getRecusadasLimiteExcedido());
+        assertEquals(0, extracao.getRecusadasTempoLimite());
+    }
+}
@@ -0,0 +1,267 @@
+package com.pdfocus.infra.persistence.adapter;
+
+import com.pdfocus.application.material.dto.SecaoSumario;
+import com.pdfocus.application.material.port.saida.MaterialStoragePort;
+import com.pdfocus.application.resumo.dto.ConteudoExtraido;
+import com.pdfocus.application.resumo.port.saida.ProgressoResumoListener;
+import com.pdfocus.core.exceptions.resumo.TextoNaoPodeSerExtraidoException;
+import com.pdfocus.infra.storage.adapter.LocalFileStorageAdapter;
+import org.apache.pdfbox.Loader;
+import org.apache.pdfbox.pdmodel.PDDocument;
+import org.apache.pdfbox.pdmodel.PDPage;
+import org.apache.pdfbox.pdmodel.PDPageContentStream;
+import org.apache.pdfbox.pdmodel.font.PDType1Font;
+import org.apache.pdfbox.pdmodel.font.Standard14Fonts;
+import org.apache.pdfbox.pdmodel.interactive.documentnavigation.outline.PDDocumentOutline;
+import org.apache.pdfbox.pdmodel.interactive.documentnavigation.outline.PDOutlineItem;
+import org.apache.pdfbox.pdmodel.interactive.documentnavigation.outline.PDOutlineNode;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.core.io.ByteArrayResource;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+@DisplayName("Testes Unitários - PdfBoxTextExtractorAdapter")
+class PdfBoxTextExtractorAdapterTest {
+
+    private static final int PAGINAS = 40;
+
+    @TempDir
+    Path diretorio;
+
+    private ExecutorService executor;
+    private ExecutorService executorExtracao;
+    private LocalFileStorageAdapter storage;
+
+    @BeforeEach
+    void setUp() throws IOException {
+        executor = Executors.newFixedThreadPool(4);
+        executorExtracao = Executors.newFixedThreadPool(2);
+        storage = new LocalFileStorageAdapter(diretorio.toString(), "arquivo", false);
+        Files.write(diretorio.resolve("livro.pdf"), gerarPdf(PAGINAS));
+    }
+
+    @AfterEach
+    void tearDown() {
+        executor.shutdownNow();
+        executorExtracao.shutdownNow();
+    }
+
+    @Test
+    @DisplayName("A extração por faixas paralelas deve produzir o mesmo texto, na ordem das páginas")
+    void deveExtrairEmParaleloComMesmoTextoDaExtracaoSequencial() {
+        PdfBoxTextExtractorAdapter sequencial = criarAdapter(storage, 1);
+        PdfBoxTextExtractorAdapter paralelo = criarAdapter(storage, 4);
+
+        ConteudoExtraido esperado = sequencial.extrairConteudo("livro.pdf");
+        ConteudoExtraido obtido = paralelo.extrairConteudo("livro.pdf");
+
+        assertEquals(PAGINAS, obtido.paginas());
+        assertEquals(esperado.texto(), obtido.texto());
+        assertTrue(obtido.texto().indexOf("Pagina 1 ") < obtido.texto().indexOf("Pagina 40 "));
+        assertEquals(esperado.inicioPaginas(), obtido.inicioPaginas());
+    }
+
+    @Test
+    @DisplayName("Deve registrar onde começa o texto de cada página")
+    void deveSepararTextoPorPagina() {
+        List<String> paginas = criarAdapter(storage, 4).extrairConteudo("livro.pdf").textoPorPagina();
+
+        assertEquals(PAGINAS, paginas.size());
+        for (int i = 0; i < PAGINAS; i++) {
+            assertTrue(paginas.get(i).startsWith("Pagina " + (i + 1) + " "), paginas.get(i));
+        }
+    }
+
+    @Test
+    @DisplayName("Deve reportar o progresso das faixas paralelas com contagem crescente até o total")
+    void deveReportarProgressoCrescenteNaExtracaoParalela() {
+        List<Integer> paginasReportadas = new ArrayList<>();
+        ProgressoResumoListener progresso = new ProgressoResumoListener() {
+            @Override
+            public void paginaExtraida(int pagina, int totalPaginas) {
+                assertEquals(PAGINAS, totalPaginas);
+                paginasReportadas.add(pagina);
+            }
+        };
+
+        criarAdapter(storage, 4).extrairConteudo("livro.pdf", progresso);
+
+        assertEquals(PAGINAS, paginasReportadas.size());
+        for (int i = 0; i < PAGINAS; i++) {
+            assertEquals(i + 1, paginasReportadas.get(i));
+        }
+    }
+
+    @Test
+    @DisplayName("Deve extrair de armazenamentos sem arquivo local por meio de uma cópia temporária")
+    void deveExtrairDeArmazenamentoSemArquivoLocal() throws IOException {
+        byte[] pdf = Files.readAllBytes(diretorio.resolve("livro.pdf"));
+        MaterialStoragePort storageRemoto = mock(MaterialStoragePort.class);
+        when(storageRemoto.carregar("remoto.pdf")).thenReturn(new ByteArrayResource(pdf));
+
+        ConteudoExtraido esperado = criarAdapter(storage, 1).extrairConteudo("livro.pdf");
+        ConteudoExtraido obtido = criarAdapter(storageRemoto, 4).extrairConteudo("remoto.pdf");
+
+        assertEquals(esperado, obtido);
+    }
+
+    @Test
+    @DisplayName("Deve extrair apenas o intervalo de páginas pedido, limitado ao fim do documento")
+    void deveExtrairApenasIntervaloDePaginas() {
+        PdfBoxTextExtractorAdapter adapter = criarAdapter(storage, 4);
+        List<String> todas = adapter.extrairConteudo("livro.pdf").textoPorPagina();
+        List<Integer> paginasReportadas = new ArrayList<>();
+        ProgressoResumoListener progresso = new ProgressoResumoListener() {
+            @Override
+            public void paginaExtraida(int pagina, int totalPaginas) {
+                assertEquals(36, totalPaginas);
+                paginasReportadas.add(pagina);
+            }
+        };
+
+        ConteudoExtraido intervalo = adapter.extrairPaginas("livro.pdf", 5, 40, progresso);
+
+        assertEquals(36, intervalo.paginas());
+        assertEquals(todas.subList(4, 40), intervalo.textoPorPagina());
+        assertEquals(String.join("", todas.subList(4, 40)), intervalo.texto());
+        assertEquals(36, paginasReportadas.size());
+
+        ConteudoExtraido ultimas = adapter.extrairPaginas("livro.pdf", 39, 100, ProgressoResumoListener.NENHUM);
+        assertEquals(2, ultimas.paginas());
+        assertTrue(ultimas.texto().startsWith("Pagina 39 "));
+        assertEquals("", adapter.extrairPaginas("livro.pdf", 41, 50, ProgressoResumoListener.NENHUM).texto());
+    }
+
+    @Test
+    @DisplayName("Deve ler o sumário com o intervalo de páginas de cada seção, ignorando marcadores sem página")
+    void deveLerSumarioComIntervaloDasSecoes() throws IOException {
+        try (PDDocument documento = Loader.loadPDF(diretorio.resolve("livro.pdf").toFile())) {
+            PDDocumentOutline sumario = new PDDocumentOutline();
+            PDOutlineItem parte1 = adicionarMarcador(documento, sumario, "Parte I", 1);
+            adicionarMarcador(documento, parte1, "Capítulo 1", 1);
+            adicionarMarcador(documento, parte1, "Capítulo 2", 11);
+            PDOutlineItem parte2 = adicionarMarcador(documento, sumario, "Parte II", 0);
+            adicionarMarcador(documento, parte2, "Capítulo 3", 21);
+            adicionarMarcador(documento, parte2, "Sem destino", 0);
+            adicionarMarcador(documento, parte2, "Capítulo 4", 31);
+            documento.getDocumentCatalog().setDocumentOutline(sumario);
+            documento.save(diretorio.resolve("apostila.pdf").toFile());
+        }
+
+        List<SecaoSumario> secoes = criarAdapter(storage, 1).lerSumario("apostila.pdf");
+
+        assertEquals(List.of(
+                new SecaoSumario("1", "Parte I", 1, 20, List.of(
+                        new SecaoSumario("1.1", "Capítulo 1", 1, 10, List.of()),
+                        new SecaoSumario("1.2", "Capítulo 2", 11, 20, List.of()))),
+                // Sem destino próprio, a parte começa na página do seu primeiro capítulo
+                new SecaoSumario("2", "Parte II", 21, 40, List.of(
+                        new SecaoSumario("2.1", "Capítulo 3", 21, 30, List.of()),
+                        new SecaoSumario("2.3", "Capítulo 4", 31, 40, List.of())))
+        ), secoes);
+        assertEquals(List.of(), criarAdapter(storage, 1).lerSumario("livro.pdf"));
+    }
+
+    @Test
+    @DisplayName("Deve recusar extrações acima do limite de páginas, aceitando intervalos menores do mesmo PDF")
+    void deveRespeitarLimiteDePaginas() {
+        ExtracaoLimitada limites = limites(10, 5_000_000);
+        PdfBoxTextExtractorAdapter adapter = criarAdapter(storage, 4, limites);
+
+        assertThrows(TextoNaoPodeSerExtraidoException.class, () -> adapter.extrairConteudo("livro.pdf"));
+        assertEquals(10, adapter.extrairPaginas("livro.pdf", 31, 40, ProgressoResumoListener.NENHUM).paginas());
+        assertEquals(1, limites.getRecusadasLimiteExcedido());
+    }
+
+    @Test
+    @DisplayName("Deve interromper a extração, inclusive em faixas paralelas, ao exceder o limite de caracteres")
+    void deveRespeitarLimiteDeCaracteres() {
+        ExtracaoLimitada limites = limites(2000, 500);
+
+        assertThrows(TextoNaoPodeSerExtraidoException.class,
+                () -> criarAdapter(storage, 1, limites).extrairConteudo("livro.pdf"));
+        assertThrows(TextoNaoPodeSerExtraidoException.class,
+                () -> criarAdapter(storage, 4, limites).extrairConteudo("livro.pdf"));
+        assertEquals(2, limites.getRecusadasLimiteExcedido());
+        assertEquals(PAGINAS, criarAdapter(storage, 4).extrairConteudo("livro.pdf").paginas());
+    }
+
+    @Test
+    @DisplayName("Deve dividir em faixas apenas documentos grandes, sem faixas pequenas demais")
+    void deveCalcularQuantidadeDeFaixas() {
+        PdfBoxTextExtractorAdapter adapter = new PdfBoxTextExtractorAdapter(
+                storage, 16, 512, "", executor, 4, 64, limites(2000, 5_000_000));
+
+        assertEquals(1, adapter.quantidadeDeFaixas(63));
+        assertEquals(4, adapter.quantidadeDeFaixas(64));
+        assertEquals(4, adapter.quantidadeDeFaixas(800));
+
+        PdfBoxTextExtractorAdapter semParalelismo = new PdfBoxTextExtractorAdapter(
+                storage, 16, 512, "", executor, 1, 64, limites(2000, 5_000_000));
+        assertEquals(1, semParalelismo.quantidadeDeFaixas(800));
+    }
+
+    private PdfBoxTextExtractorAdapter criarAdapter(MaterialStoragePort materialStorage, int faixas) {
+        return criarAdapter(materialStorage, faixas, limites(2000, 5_000_000));
+    }
+
+    private PdfBoxTextExtractorAdapter criarAdapter(MaterialStoragePort materialStorage, int faixas,
+                                                    ExtracaoLimitada limites) {
+        // Limiar baixo para que o documento de teste seja dividido em faixas
+        return new PdfBoxTextExtractorAdapter(materialStorage, 16, 512, diretorio.toString(), executor, faixas, 1,
+                limites);
+    }
+
+    private ExtracaoLimitada limites(int paginasMaximas, long caracteresMaximos) {
+        return new ExtracaoLimitada(executorExtracao, 60, paginasMaximas, caracteresMaximos);
+    }
+
+    /**
+     * Adiciona um marcador para a página informada (0 para um marcador sem destino).
+     */
+    private static PDOutlineItem adicionarMarcador(PDDocument documento, PDOutlineNode pai, String titulo, int pagina) {
+        PDOutlineItem item = new PDOutlineItem();
+        item.setTitle(titulo);
+        if (pagina > 0) {
+            item.setDestination(documento.getPage(pagina - 1));
+        }
+        pai.addLast(item);
+        return item;
+    }
+
+    private static byte[] gerarPdf(int paginas) throws IOException {
+        try (PDDocument documento = new PDDocument(); ByteArrayOutputStream saida = new ByteArrayOutputStream()) {
+            PDType1Font fonte = new PDType1Font(Standard14Fonts.FontName.HELVETICA);
+            for (int i = 1; i <= paginas; i++) {
+                PDPage pagina = new PDPage();
+                documento.addPage(pagina);
+                try (PDPageContentStream conteudo = new PDPageContentStream(documento, pagina)) {
+                    conteudo.beginText();
+                    conteudo.setFont(fonte, 12);
+                    conteudo.newLineAtOffset(72, 700);
+                    conteudo.showText("Pagina " + i + " do livro de teste.");
+                    conteudo.newLineAtOffset(0, -16);
+                    conteudo.showText("Cada pagina tem o seu proprio conteudo independente.");
+                    conteudo.endText();
+                }
+            }
+            documento.save(saida);
+            return saida.toByteArray();
+        }
+    }
+}
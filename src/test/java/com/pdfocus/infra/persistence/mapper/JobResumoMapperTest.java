@@ -0,0 +1,53 @@
+package com.pdfocus.infra.persistence.mapper;
+
+import com.pdfocus.core.models.JobResumo;
+import com.pdfocus.core.models.StatusJob;
+import com.pdfocus.infra.persistence.entity.JobResumoEntity;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.OffsetDateTime;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Testes unitários para a classe {@link JobResumoMapper}.
+ */
+@DisplayName("Testes Unitários - JobResumoMapper")
+public class JobResumoMapperTest {
+
+    @Test
+    @DisplayName("Deve converter domínio em entidade e de volta sem perder campos")
+    void deveConverterIdaEVolta() {
+        OffsetDateTime criacao = OffsetDateTime.now().minusMinutes(5);
+        OffsetDateTime atualizacao = OffsetDateTime.now();
+        JobResumo job = JobResumo.reconstruir(UUID.randomUUID(), UUID.randomUUID(), UUID.randomUUID(),
+                UUID.randomUUID(), "Título", "Conteúdo manual", 10, 24, "3.2", StatusJob.CONCLUIDO, UUID.randomUUID(),
+                null, criacao, atualizacao);
+
+        JobResumoEntity entity = JobResumoMapper.toEntity(job);
+        JobResumo convertido = JobResumoMapper.toDomain(entity);
+
+        assertEquals(job.getId(), convertido.getId());
+        assertEquals(job.getUsuarioId(), convertido.getUsuarioId());
+        assertEquals(job.getMaterialId(), convertido.getMaterialId());
+        assertEquals(job.getDisciplinaId(), convertido.getDisciplinaId());
+        assertEquals("Título", convertido.getTitulo());
+        assertEquals("Conteúdo manual", convertido.getConteudo());
+        assertEquals(10, convertido.getPaginaInicial());
+        assertEquals(24, convertido.getPaginaFinal());
+        assertEquals("3.2", convertido.getSecao());
+        assertEquals(StatusJob.CONCLUIDO, convertido.getStatus());
+        assertEquals(job.getResumoId(), convertido.getResumoId());
+        assertEquals(criacao, convertido.getDataCriacao());
+        assertEquals(atualizacao, convertido.getDataAtualizacao());
+    }
+
+    @Test
+    @DisplayName("Deve retornar nulo ao converter objetos nulos")
+    void deveRetornarNuloParaObjetosNulos() {
+        assertNull(JobResumoMapper.toEntity(null));
+        assertNull(JobResumoMapper.toDomain(null));
+    }
+}
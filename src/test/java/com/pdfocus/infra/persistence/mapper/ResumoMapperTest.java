@@ -9,6 +9,8 @@ import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Nested;
 import org.junit.jupiter.api.Test;
 
+import java.time.OffsetDateTime;
+import java.time.ZoneOffset;
 import java.util.Collections;
 import java.util.List;
 import java.util.UUID;
@@ -18,6 +20,8 @@ import static org.junit.jupiter.api.Assertions.*;
 @DisplayName("Testes Unitários - ResumoMapper")
 class ResumoMapperTest {
 
+    private static final OffsetDateTime DATA_CRIACAO = OffsetDateTime.of(2024, 3, 10, 14, 30, 0, 0, ZoneOffset.UTC);
+
     private Disciplina disciplinaDominio;
     private Resumo resumoDominio;
 
@@ -62,6 +66,7 @@ class ResumoMapperTest {
         resumoEntity.setConteudo("Habeas Corpus, Mandado de Segurança, etc.");
         resumoEntity.setMaterialId(materialId);
         resumoEntity.setDisciplina(disciplinaEntity);
+        resumoEntity.setDataCriacao(DATA_CRIACAO);
         // --- FIM DA CORREÇÃO ---
     }
 
@@ -83,6 +88,7 @@ class ResumoMapperTest {
             assertNotNull(entityConvertida.getDisciplina());
             assertEquals(resumoDominio.getDisciplina().getId(), entityConvertida.getDisciplina().getId());
             assertEquals(resumoDominio.getDisciplina().getUsuarioId(), entityConvertida.getDisciplina().getUsuarioId());
+            assertEquals(resumoDominio.getDataCriacao(), entityConvertida.getDataCriacao());
         }
 
         @Test
@@ -111,6 +117,15 @@ class ResumoMapperTest {
             assertEquals(resumoEntity.getDisciplina().getUsuarioId(), domainConvertido.getDisciplina().getUsuarioId());
         }
 
+        @Test
+        @DisplayName("Deve preservar a data de criação e o material persistidos")
+        void devePreservarDataCriacaoEMaterial() {
+            Resumo domainConvertido = ResumoMapper.toDomain(resumoEntity);
+
+            assertEquals(DATA_CRIACAO, domainConvertido.getDataCriacao());
+            assertEquals(resumoEntity.getMaterialId(), domainConvertido.getMaterialId());
+        }
+
         @Test
         @DisplayName("Deve retornar null quando a ResumoEntity for nula")
         void deveRetornarNullQuandoEntityForNull() {
@@ -0,0 +1,65 @@
+package com.pdfocus.infra.persistence.mapper;
+
+import com.pdfocus.core.models.StatusExtracao;
+import com.pdfocus.core.models.TextoExtraido;
+import com.pdfocus.infra.persistence.entity.TextoMaterialEntity;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.nio.charset.StandardCharsets;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Testes unitários para a classe {@link TextoExtraidoMapper}.
+ * Verifica a compressão do texto e as conversões entre {@link TextoExtraido}
+ * (domínio) e {@link TextoMaterialEntity} (JPA).
+ */
+@DisplayName("Testes Unitários - TextoExtraidoMapper")
+public class TextoExtraidoMapperTest {
+
+    private final UUID materialId = UUID.randomUUID();
+
+    @Test
+    @DisplayName("Deve gravar o texto comprimido e recuperá-lo idêntico, com acentos")
+    void deveComprimirEDescomprimirTexto() {
+        String texto = "Introdução à computação. ".repeat(2_000);
+        TextoMaterialEntity entity = new TextoMaterialEntity();
+        entity.setMaterialId(materialId);
+
+        TextoExtraidoMapper.preencher(TextoExtraido.concluido(materialId, texto, 40), entity);
+
+        assertEquals(StatusExtracao.CONCLUIDA, entity.getStatus());
+        assertEquals(texto.length(), entity.getCaracteres());
+        assertEquals(40, entity.getPaginas());
+        assertTrue(entity.getTextoGzip().length < texto.getBytes(StandardCharsets.UTF_8).length / 10,
+                "Texto repetitivo deve ser bem comprimido");
+
+        TextoExtraido dominio = TextoExtraidoMapper.toDomain(entity);
+        assertEquals(materialId, dominio.getMaterialId());
+        assertEquals(texto, dominio.getTexto());
+        assertEquals(40, dominio.getPaginas());
+        assertTrue(dominio.isConcluido());
+    }
+
+    @Test
+    @DisplayName("Deve limpar o texto anterior ao registrar uma falha")
+    void deveLimparTextoAoRegistrarFalha() {
+        TextoMaterialEntity entity = new TextoMaterialEntity();
+        TextoExtraidoMapper.preencher(TextoExtraido.concluido(materialId, "texto antigo", 1), entity);
+
+        TextoExtraidoMapper.preencher(TextoExtraido.falhou(materialId, "PDF corrompido"), entity);
+
+        assertEquals(StatusExtracao.FALHOU, entity.getStatus());
+        assertNull(entity.getTextoGzip());
+        assertNull(entity.getCaracteres());
+        assertEquals("PDF corrompido", entity.getMensagemErro());
+    }
+
+    @Test
+    @DisplayName("Deve retornar nulo ao converter entidade nula")
+    void deveRetornarNuloParaEntidadeNula() {
+        assertNull(TextoExtraidoMapper.toDomain(null));
+    }
+}
@@ -0,0 +1,55 @@
+package com.pdfocus.infra.resumidor;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("Testes Unitários - HeapRelevancia")
+class HeapRelevanciaTest {
+
+    @Test
+    @DisplayName("Deve extrair os índices em ordem decrescente de pontuação")
+    void deveExtrairEmOrdemDecrescente() {
+        double[] pontuacao = {0.5, 3.0, 1.0, 7.5, 2.0};
+        HeapRelevancia heap = new HeapRelevancia(pontuacao, 0, pontuacao.length);
+
+        assertEquals(3, heap.extrairMaisRelevante());
+        assertEquals(1, heap.extrairMaisRelevante());
+        assertEquals(4, heap.extrairMaisRelevante());
+        assertEquals(2, heap.extrairMaisRelevante());
+        assertEquals(0, heap.extrairMaisRelevante());
+        assertTrue(heap.isEmpty());
+    }
+
+    @Test
+    @DisplayName("Deve desempatar pelo menor índice, preservando a ordem do texto")
+    void deveDesempatarPeloMenorIndice() {
+        double[] pontuacao = {1.0, 2.0, 2.0, 1.0, 2.0};
+        HeapRelevancia heap = new HeapRelevancia(pontuacao, 0, pontuacao.length);
+
+        assertEquals(1, heap.extrairMaisRelevante());
+        assertEquals(2, heap.extrairMaisRelevante());
+        assertEquals(4, heap.extrairMaisRelevante());
+        assertEquals(0, heap.extrairMaisRelevante());
+        assertEquals(3, heap.extrairMaisRelevante());
+    }
+
+    @Test
+    @DisplayName("Deve considerar apenas o intervalo de índices informado")
+    void deveConsiderarApenasOIntervalo() {
+        double[] pontuacao = {9.0, 1.0, 2.0, 9.0};
+        HeapRelevancia heap = new HeapRelevancia(pontuacao, 1, 3);
+
+        assertEquals(2, heap.extrairMaisRelevante());
+        assertEquals(1, heap.extrairMaisRelevante());
+        assertTrue(heap.isEmpty());
+        assertThrows(IllegalStateException.class, heap::extrairMaisRelevante);
+    }
+
+    @Test
+    @DisplayName("Deve criar heap vazio para intervalo inválido")
+    void deveCriarHeapVazioParaIntervaloInvalido() {
+        assertTrue(new HeapRelevancia(new double[2], 2, 1).isEmpty());
+    }
+}
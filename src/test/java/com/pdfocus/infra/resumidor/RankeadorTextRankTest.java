@@ -0,0 +1,65 @@
+package com.pdfocus.infra.resumidor;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("Testes Unitários - RankeadorTextRank")
+class RankeadorTextRankTest {
+
+    private static final String TEXTO = "O escalonamento de processos define a ordem de execução na CPU. "
+            + "O algoritmo round robin atribui uma fatia de tempo a cada processo. "
+            + "O gato dormiu no sofá durante a tarde inteira. "
+            + "O escalonador preemptivo interrompe processos quando a fatia de tempo termina. "
+            + "Filas multinível combinam prioridade e fatia de tempo no escalonamento de processos.";
+
+    private TokenizadorTexto tokenizador;
+    private RankeadorTextRank rankeador;
+
+    @BeforeEach
+    void setUp() {
+        tokenizador = new TokenizadorTexto();
+        rankeador = new RankeadorTextRank();
+    }
+
+    @Test
+    @DisplayName("Deve produzir uma distribuição de probabilidade sobre as frases")
+    void deveProduzirDistribuicaoDeProbabilidade() {
+        double[] relevancia = rankeador.ranquear(tokenizador.tokenizar(TEXTO));
+
+        assertEquals(5, relevancia.length);
+        assertEquals(1.0, Arrays.stream(relevancia).sum(), 1e-6);
+        assertTrue(Arrays.stream(relevancia).allMatch(r -> r > 0));
+    }
+
+    @Test
+    @DisplayName("Deve atribuir a menor relevância à frase sem relação com as demais")
+    void deveDesfavorecerFraseIsolada() {
+        double[] relevancia = rankeador.ranquear(tokenizador.tokenizar(TEXTO));
+
+        double menor = Arrays.stream(relevancia).min().orElseThrow();
+        assertEquals(menor, relevancia[2]);
+        assertTrue(relevancia[4] > relevancia[2]);
+    }
+
+    @Test
+    @DisplayName("Deve retornar pontuação uniforme quando não há similaridade entre as frases")
+    void deveRetornarPontuacaoUniformeSemArestas() {
+        String texto = "Bancos relacionais armazenam tabelas normalizadas. Cachorros latem muito alto à noite.";
+
+        double[] relevancia = rankeador.ranquear(tokenizador.tokenizar(texto));
+
+        assertEquals(0.5, relevancia[0], 1e-9);
+        assertEquals(0.5, relevancia[1], 1e-9);
+    }
+
+    @Test
+    @DisplayName("Deve retornar array vazio para tabela sem frases")
+    void deveRetornarArrayVazioParaTabelaVazia() {
+        assertEquals(0, rankeador.ranquear(tokenizador.tokenizar("Sumário.")).length);
+    }
+}
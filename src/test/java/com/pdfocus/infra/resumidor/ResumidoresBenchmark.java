@@ -0,0 +1,105 @@
+package com.pdfocus.infra.resumidor;
+
+import com.pdfocus.application.resumo.port.saida.ResumidorIAPort;
+import com.pdfocus.infra.persistence.adapter.AlgoritmoLocalResumidorAdapter;
+import com.pdfocus.infra.persistence.adapter.TextRankResumidorAdapter;
+
+import java.lang.management.ManagementFactory;
+import java.util.Random;
+
+/**
+ * Benchmark simples (sem framework) que compara os resumidores locais em latência e
+ * memória alocada por 1.000 frases, sobre textos sintéticos em português.
+ *
+ * <p>Não é um teste JUnit: roda sob demanda com {@code ./gradlew benchmarkResumidores}.
+ * Argumentos opcionais: os tamanhos de documento (em frases) a medir, ex.:
+ * {@code ./gradlew benchmarkResumidores --args="1000 20000"}.</p>
+ */
+public final class ResumidoresBenchmark {
+
+    private static final int AQUECIMENTO = 10;
+    private static final int MEDICOES = 20;
+    private static final int MAX_PALAVRAS = 300;
+
+    private static final String[] TERMOS = {
+            "sistema", "processo", "análise", "dados", "estrutura", "função", "modelo", "teoria",
+            "aplicação", "método", "resultado", "conceito", "memória", "algoritmo", "complexidade",
+            "rede", "protocolo", "camada", "transação", "consulta", "índice", "árvore", "grafo",
+            "vértice", "aresta", "matriz", "vetor", "ciência", "computação", "informação"
+    };
+    private static final String[] STOPWORDS = {
+            "a", "o", "de", "e", "do", "da", "em", "um", "uma", "para", "que", "com", "os", "as", "no", "na"
+    };
+
+    private ResumidoresBenchmark() {
+    }
+
+    public static void main(String[] args) {
+        int[] tamanhos = args.length == 0 ? new int[]{1_000, 5_000, 20_000} : new int[args.length];
+        for (int i = 0; i < args.length; i++) {
+            tamanhos[i] = Integer.parseInt(args[i]);
+        }
+
+        TokenizadorTexto tokenizador = new TokenizadorTexto();
+        ResumidorIAPort frequencia = new AlgoritmoLocalResumidorAdapter(tokenizador);
+        ResumidorIAPort textRank = new TextRankResumidorAdapter(tokenizador, new RankeadorTextRank());
+
+        System.out.printf("%-12s %8s %16s %16s%n", "algoritmo", "frases", "ms/1k frases", "MB/1k frases");
+        for (int frases : tamanhos) {
+            String texto = gerarTexto(frases, 42);
+            medir("frequencia", frequencia, texto, frases);
+            medir("textrank", textRank, texto, frases);
+        }
+    }
+
+    private static void medir(String nome, ResumidorIAPort resumidor, String texto, int frases) {
+        com.sun.management.ThreadMXBean threads =
+                (com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean();
+        long thread = Thread.currentThread().getId();
+
+        for (int i = 0; i < AQUECIMENTO; i++) {
+            resumidor.resumir(texto, MAX_PALAVRAS);
+        }
+
+        long bytesAntes = threads.getThreadAllocatedBytes(thread);
+        long inicio = System.nanoTime();
+        for (int i = 0; i < MEDICOES; i++) {
+            resumidor.resumir(texto, MAX_PALAVRAS);
+        }
+        long nanos = System.nanoTime() - inicio;
+        long bytes = threads.getThreadAllocatedBytes(thread) - bytesAntes;
+
+        double milFrases = frases / 1000.0;
+        System.out.printf("%-12s %8d %16.3f %16.3f%n", nome, frases,
+                nanos / 1e6 / MEDICOES / milFrases,
+                bytes / 1e6 / MEDICOES / milFrases);
+    }
+
+    /**
+     * Gera um texto determinístico com o número de frases pedido, misturando termos
+     * técnicos, stopwords, quebras de linha e pontuações variadas.
+     */
+    static String gerarTexto(int frases, long semente) {
+        Random random = new Random(semente);
+        StringBuilder texto = new StringBuilder();
+        for (int i = 0; i < frases; i++) {
+            int palavras = 4 + random.nextInt(26);
+            for (int j = 0; j < palavras; j++) {
+                String palavra = random.nextInt(3) == 0
+                        ? STOPWORDS[random.nextInt(STOPWORDS.length)]
+                        : TERMOS[random.nextInt(TERMOS.length)] + (random.nextInt(4) == 0 ? random.nextInt(50) : "");
+                if (j == 0) {
+                    palavra = Character.toUpperCase(palavra.charAt(0)) + palavra.substring(1);
+                }
+                texto.append(palavra);
+                if (j < palavras - 1) {
+                    texto.append(random.nextInt(12) == 0 ? ",\n" : " ");
+                }
+            }
+            int pontuacao = random.nextInt(10);
+            texto.append(pontuacao < 8 ? '.' : pontuacao == 8 ? '?' : '!');
+            texto.append(random.nextInt(5) == 0 ? "\n\n" : " ");
+        }
+        return texto.toString();
+    }
+}
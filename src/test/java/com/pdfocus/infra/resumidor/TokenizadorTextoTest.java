@@ -0,0 +1,138 @@
+package com.pdfocus.infra.resumidor;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("Testes Unitários - TokenizadorTexto")
+class TokenizadorTextoTest {
+
+    private TokenizadorTexto tokenizador;
+
+    @BeforeEach
+    void setUp() {
+        tokenizador = new TokenizadorTexto();
+    }
+
+    @Test
+    @DisplayName("Deve segmentar frases por pontuação final seguida de espaço")
+    void deveSegmentarFrasesPorPontuacaoFinal() {
+        String texto = "A memória principal armazena dados voláteis.   Processos concorrentes disputam a CPU!\n"
+                + "Qual algoritmo de escalonamento usar agora?";
+
+        TabelaFrases tabela = tokenizador.tokenizar(texto);
+
+        assertEquals(3, tabela.quantidade());
+        assertEquals("A memória principal armazena dados voláteis.", tabela.frase(0));
+        assertEquals("Processos concorrentes disputam a CPU!", tabela.frase(1));
+        assertEquals("Qual algoritmo de escalonamento usar agora?", tabela.frase(2));
+        assertEquals(6, tabela.palavras(0));
+    }
+
+    @Test
+    @DisplayName("Deve colapsar quebras de linha e espaços ao materializar a frase")
+    void deveColapsarEspacosAoMaterializarFrase() {
+        String texto = "O   sistema\noperacional\n\n gerencia   os recursos.";
+
+        TabelaFrases tabela = tokenizador.tokenizar(texto);
+
+        assertEquals(1, tabela.quantidade());
+        assertEquals("O sistema operacional gerencia os recursos.", tabela.frase(0));
+        assertEquals(6, tabela.palavras(0));
+    }
+
+    @Test
+    @DisplayName("Deve descartar frases curtas sem perder os termos das frases válidas")
+    void deveDescartarFrasesCurtas() {
+        String texto = "Capítulo um. Índices aceleram consultas em tabelas grandes. Fim.";
+
+        TabelaFrases tabela = tokenizador.tokenizar(texto);
+
+        assertEquals(1, tabela.quantidade());
+        assertEquals("Índices aceleram consultas em tabelas grandes.", tabela.frase(0));
+        // índices, aceleram, consultas, tabelas, grandes ("em" é stopword)
+        assertEquals(5, tabela.fimTermos(0) - tabela.inicioTermos(0));
+        assertEquals(5, tabela.totalTermos());
+    }
+
+    @Test
+    @DisplayName("Deve atribuir o mesmo identificador ao mesmo termo, ignorando maiúsculas")
+    void deveReutilizarIdentificadorDoMesmoTermo() {
+        String texto = "Grafo dirigido possui arestas orientadas. O GRAFO pode conter ciclos simples.";
+
+        TabelaFrases tabela = tokenizador.tokenizar(texto);
+
+        assertEquals(2, tabela.quantidade());
+        int primeiroTermoFrase0 = tabela.termo(tabela.inicioTermos(0));
+        int primeiroTermoFrase1 = tabela.termo(tabela.inicioTermos(1));
+        assertEquals(primeiroTermoFrase0, primeiroTermoFrase1);
+        assertTrue(tabela.tamanhoVocabulario() < tabela.totalTermos());
+    }
+
+    @Test
+    @DisplayName("Deve retornar tabela vazia para texto sem frases válidas")
+    void deveRetornarTabelaVaziaParaTextoSemFrases() {
+        assertTrue(tokenizador.tokenizar("   \n  ").isEmpty());
+        assertTrue(tokenizador.tokenizar("Sumário.").isEmpty());
+    }
+
+    @Test
+    @DisplayName("Deve dividir o texto em blocos apenas em fronteiras de frase")
+    void deveDividirEmBlocosNasFronteirasDeFrase() {
+        String texto = gerarTextoLongo(6_000);
+
+        List<int[]> blocos = TokenizadorTexto.dividirEmBlocos(texto, 4);
+
+        assertTrue(blocos.size() > 1);
+        assertEquals(0, blocos.get(0)[0]);
+        assertEquals(texto.length(), blocos.get(blocos.size() - 1)[1]);
+        for (int b = 1; b < blocos.size(); b++) {
+            int corte = blocos.get(b)[0];
+            assertEquals(blocos.get(b - 1)[1], corte);
+            assertTrue(Character.isWhitespace(texto.charAt(corte - 1)));
+            assertTrue(".!?".indexOf(texto.charAt(corte - 2)) >= 0);
+        }
+    }
+
+    @Test
+    @DisplayName("Deve produzir na tokenização em blocos a mesma tabela da tokenização sequencial")
+    void deveProduzirMesmaTabelaNaTokenizacaoEmBlocos() {
+        String texto = gerarTextoLongo(6_000);
+
+        TabelaFrases sequencial = tokenizador.tokenizar(texto);
+        TabelaFrases emBlocos = tokenizador.tokenizarEmBlocos(texto, TokenizadorTexto.dividirEmBlocos(texto, 4));
+
+        assertEquals(sequencial.quantidade(), emBlocos.quantidade());
+        assertEquals(sequencial.totalTermos(), emBlocos.totalTermos());
+        assertEquals(sequencial.tamanhoVocabulario(), emBlocos.tamanhoVocabulario());
+        for (int i = 0; i < sequencial.quantidade(); i++) {
+            assertEquals(sequencial.inicio(i), emBlocos.inicio(i));
+            assertEquals(sequencial.fim(i), emBlocos.fim(i));
+            assertEquals(sequencial.palavras(i), emBlocos.palavras(i));
+            assertEquals(sequencial.inicioTermos(i), emBlocos.inicioTermos(i));
+        }
+        for (int p = 0; p < sequencial.totalTermos(); p++) {
+            assertEquals(sequencial.termo(p), emBlocos.termo(p));
+        }
+    }
+
+    private static String gerarTextoLongo(int frases) {
+        String[] termos = {"processo", "memória", "grafo", "índice", "consulta", "protocolo", "camada", "vetor"};
+        StringBuilder texto = new StringBuilder();
+        for (int i = 0; i < frases; i++) {
+            texto.append("Frase ").append(i).append(" descreve ")
+                    .append(termos[i % termos.length]).append(' ')
+                    .append(termos[(i * 7 + 3) % termos.length]).append(i % 13).append(" e ")
+                    .append(termos[(i * 3 + 1) % termos.length]).append(" com detalhes")
+                    .append(i % 5 == 0 ? "?\n" : ". ");
+            if (i % 17 == 0) {
+                texto.append("Ok. ");
+            }
+        }
+        return texto.toString();
+    }
+}
@@ -0,0 +1,85 @@
+package com.pdfocus.infra.resumidor;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("Testes Unitários - VocabularioTermos")
+class VocabularioTermosTest {
+
+    private VocabularioTermos vocabulario;
+
+    @BeforeEach
+    void setUp() {
+        vocabulario = VocabularioTermos.novoDocumento();
+    }
+
+    private int internar(String termo) {
+        char[] buffer = termo.toCharArray();
+        return vocabulario.internar(buffer, buffer.length);
+    }
+
+    @Test
+    @DisplayName("Deve atribuir identificadores densos na ordem da primeira ocorrência")
+    void deveAtribuirIdentificadoresDensos() {
+        assertEquals(0, internar("memória"));
+        assertEquals(1, internar("processo"));
+        assertEquals(0, internar("memória"));
+        assertEquals(2, vocabulario.tamanho());
+    }
+
+    @Test
+    @DisplayName("Deve reconhecer stopwords sem registrá-las como termos")
+    void deveReconhecerStopwords() {
+        assertEquals(VocabularioTermos.STOPWORD, internar("sobre"));
+        assertEquals(VocabularioTermos.STOPWORD, internar("ninguém"));
+        assertEquals(0, vocabulario.tamanho());
+    }
+
+    @Test
+    @DisplayName("Deve considerar apenas o trecho válido do buffer")
+    void deveConsiderarApenasTrechoValidoDoBuffer() {
+        char[] buffer = "grafoXYZ".toCharArray();
+        int id = vocabulario.internar(buffer, 5);
+        assertEquals(id, internar("grafo"));
+    }
+
+    @Test
+    @DisplayName("Deve manter os identificadores após redimensionar a tabela")
+    void deveManterIdentificadoresAposRedimensionar() {
+        for (int i = 0; i < 10_000; i++) {
+            assertEquals(i, internar("termo" + i));
+        }
+        for (int i = 0; i < 10_000; i++) {
+            assertEquals(i, internar("termo" + i));
+        }
+        assertEquals(10_000, vocabulario.tamanho());
+    }
+
+    @Test
+    @DisplayName("Documentos distintos devem ter vocabulários independentes")
+    void documentosDevemTerVocabulariosIndependentes() {
+        internar("árvore");
+        VocabularioTermos outro = VocabularioTermos.novoDocumento();
+        assertEquals(0, outro.tamanho());
+    }
+
+    @Test
+    @DisplayName("Deve traduzir os identificadores ao mapear para outro vocabulário")
+    void deveTraduzirIdentificadoresAoMapear() {
+        internar("grafo");
+        internar("vértice");
+        VocabularioTermos outro = VocabularioTermos.novoDocumento();
+        char[] vertice = "vértice".toCharArray();
+        char[] aresta = "aresta".toCharArray();
+        outro.internar(aresta, aresta.length);
+        outro.internar(vertice, vertice.length);
+
+        int[] mapa = vocabulario.mapearPara(outro);
+
+        assertArrayEquals(new int[]{2, 1}, mapa);
+        assertEquals(3, outro.tamanho());
+    }
+}
@@ -0,0 +1,195 @@
+package com.pdfocus.infra.sse;
+
+import com.pdfocus.application.resumo.dto.EtapaResumo;
+import com.pdfocus.application.resumo.dto.JobResumoResponse;
+import com.pdfocus.application.resumo.port.saida.ProgressoResumoListener;
+import com.pdfocus.core.models.JobResumo;
+import com.pdfocus.infra.sse.ProgressoJobResumoSseAdapter.Progresso;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.core.task.TaskExecutor;
+import org.springframework.web.servlet.mvc.method.annotation.ResponseBodyEmitter.DataWithMediaType;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.io.IOException;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Optional;
+import java.util.Queue;
+import java.util.UUID;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("Testes Unitários - ProgressoJobResumoSseAdapter")
+class ProgressoJobResumoSseAdapterTest {
+
+    private JobResumo job;
+    private final List<EmissorGravado> emissores = new ArrayList<>();
+    private final Queue<EmissorGravado> proximos = new ArrayDeque<>();
+
+    @BeforeEach
+    void setUp() {
+        job = JobResumo.criar(UUID.randomUUID(), UUID.randomUUID(), UUID.randomUUID(), UUID.randomUUID(), null, null)
+                .iniciar();
+    }
+
+    @Test
+    @DisplayName("Deve enviar o estado atual e limitar os eventos de página, sempre enviando a última")
+    void deveLimitarEventosDePagina() {
+        ProgressoJobResumoSseAdapter adapter = adapter(Runnable::run);
+        ProgressoResumoListener ouvinte = adapter.ouvinte(job.getId());
+        adapter.inscrever(job.getId(), () -> Optional.of(JobResumoResponse.fromDomain(job, null)));
+
+        ouvinte.paginaExtraida(1, 100);
+        ouvinte.paginaExtraida(2, 100);
+        ouvinte.paginaExtraida(3, 100);
+        ouvinte.paginaExtraida(100, 100);
+
+        EmissorGravado emissor = emissores.get(0);
+        assertEquals(List.of("estado", "progresso", "progresso"), emissor.nomes());
+        assertEquals(new Progresso(EtapaResumo.EXTRAINDO, 1, 100), emissor.dados.get(1));
+        assertEquals(new Progresso(EtapaResumo.EXTRAINDO, 100, 100), emissor.dados.get(2));
+    }
+
+    @Test
+    @DisplayName("Deve enviar o último progresso conhecido a quem se inscreve no meio da geração")
+    void deveEnviarUltimoProgressoNaInscricao() {
+        ProgressoJobResumoSseAdapter adapter = adapter(Runnable::run);
+        adapter.ouvinte(job.getId()).etapaIniciada(EtapaResumo.PONTUANDO);
+
+        adapter.inscrever(job.getId(), () -> Optional.of(JobResumoResponse.fromDomain(job, null)));
+
+        EmissorGravado emissor = emissores.get(0);
+        assertEquals(List.of("estado", "progresso"), emissor.nomes());
+        assertEquals(new Progresso(EtapaResumo.PONTUANDO, null, null), emissor.dados.get(1));
+    }
+
+    @Test
+    @DisplayName("Deve entregar o evento final a quem se inscreve enquanto o job termina")
+    void deveEntregarFinalQuandoJobTerminaDuranteInscricao() {
+        ProgressoJobResumoSseAdapter adapter = adapter(Runnable::run);
+        JobResumoResponse concluido = JobResumoResponse.fromDomain(job.concluir(UUID.randomUUID()), null);
+
+        // O job termina depois do registro do inscrito e antes da consulta ao estado ver o resultado
+        adapter.inscrever(job.getId(), () -> {
+            adapter.finalizado(concluido);
+            return Optional.of(JobResumoResponse.fromDomain(job, null));
+        });
+
+        EmissorGravado emissor = emissores.get(0);
+        assertEquals(List.of("estado", "concluido"), emissor.nomes());
+        assertTrue(emissor.concluido);
+        assertFalse(adapter.temInscritos(job.getId()));
+    }
+
+    @Test
+    @DisplayName("Deve enviar apenas o evento final a quem se inscreve depois do fim, sem deixar a inscrição registrada")
+    void deveEnviarApenasFinalAposTermino() {
+        ProgressoJobResumoSseAdapter adapter = adapter(Runnable::run);
+        JobResumoResponse falhou = JobResumoResponse.fromDomain(job.falhar("Erro"), null);
+        adapter.finalizado(falhou);
+
+        adapter.inscrever(job.getId(), () -> Optional.of(falhou));
+
+        EmissorGravado emissor = emissores.get(0);
+        assertEquals(List.of("falhou"), emissor.nomes());
+        assertTrue(emissor.concluido);
+        assertFalse(adapter.temInscritos(job.getId()));
+    }
+
+    @Test
+    @DisplayName("Não deve bloquear o worker nem os demais inscritos enquanto um cliente está lento")
+    void naoDeveBloquearWorkerComClienteLento() throws Exception {
+        ExecutorService envios = Executors.newFixedThreadPool(2);
+        try {
+            ProgressoJobResumoSseAdapter adapter = adapter(envios::execute);
+            CountDownLatch liberarLento = new CountDownLatch(1);
+            EmissorGravado lento = new EmissorGravado(liberarLento);
+            proximos.add(lento);
+            adapter.inscrever(job.getId(), () -> Optional.of(JobResumoResponse.fromDomain(job, null)));
+            adapter.inscrever(job.getId(), () -> Optional.of(JobResumoResponse.fromDomain(job, null)));
+            EmissorGravado rapido = emissores.get(1);
+
+            ProgressoResumoListener ouvinte = adapter.ouvinte(job.getId());
+            ouvinte.etapaIniciada(EtapaResumo.EXTRAINDO);
+            ouvinte.etapaIniciada(EtapaResumo.PONTUANDO);
+            ouvinte.etapaIniciada(EtapaResumo.SALVANDO);
+            adapter.finalizado(JobResumoResponse.fromDomain(job.concluir(UUID.randomUUID()), null));
+
+            assertTrue(rapido.encerrado.await(5, TimeUnit.SECONDS));
+            assertEquals("concluido", rapido.nomes().get(rapido.nomes().size() - 1));
+            assertFalse(lento.concluido);
+
+            liberarLento.countDown();
+            assertTrue(lento.encerrado.await(5, TimeUnit.SECONDS));
+            // Enquanto o cliente estava parado, só o último progresso pendente foi mantido
+            assertEquals(List.of("estado", "progresso", "concluido"), lento.nomes());
+            assertEquals(new Progresso(EtapaResumo.SALVANDO, null, null), lento.dados.get(1));
+        } finally {
+            envios.shutdownNow();
+        }
+    }
+
+    private ProgressoJobResumoSseAdapter adapter(TaskExecutor envios) {
+        return new ProgressoJobResumoSseAdapter(envios) {
+            @Override
+            SseEmitter criarEmissor() {
+                EmissorGravado emissor = proximos.isEmpty() ? new EmissorGravado(null) : proximos.poll();
+                emissores.add(emissor);
+                return emissor;
+            }
+        };
+    }
+
+    /**
+     * Emissor que grava os eventos enviados; com uma trava, o primeiro envio espera por ela,
+     * como um cliente que não consome a conexão.
+     */
+    private static final class EmissorGravado extends SseEmitter {
+
+        private final CountDownLatch trava;
+        private final List<String> nomes = new CopyOnWriteArrayList<>();
+        private final List<Object> dados = new CopyOnWriteArrayList<>();
+        private final CountDownLatch encerrado = new CountDownLatch(1);
+        private volatile boolean concluido;
+
+        EmissorGravado(CountDownLatch trava) {
+            super(0L);
+            this.trava = trava;
+        }
+
+        @Override
+        public void send(SseEventBuilder builder) throws IOException {
+            if (trava != null) {
+                try {
+                    trava.await();
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    throw new IOException(e);
+                }
+            }
+            Iterator<DataWithMediaType> partes = builder.build().iterator();
+            String cabecalho = partes.next().getData().toString();
+            nomes.add(cabecalho.substring("event:".length(), cabecalho.indexOf('\n')));
+            dados.add(partes.next().getData());
+        }
+
+        @Override
+        public synchronized void complete() {
+            concluido = true;
+            encerrado.countDown();
+        }
+
+        List<String> nomes() {
+            return nomes;
+        }
+    }
+}
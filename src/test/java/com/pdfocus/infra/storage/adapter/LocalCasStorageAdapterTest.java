@@ -0,0 +1,170 @@
+package com.pdfocus.infra.storage.adapter;
+
+import com.pdfocus.application.material.port.saida.MaterialStoragePort;
+import com.pdfocus.infra.cache.HashConteudo;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("Testes Unitários - LocalCasStorageAdapter")
+class LocalCasStorageAdapterTest {
+
+    @TempDir
+    Path diretorio;
+
+    private LocalCasStorageAdapter adapter;
+
+    @BeforeEach
+    void setUp() {
+        adapter = new LocalCasStorageAdapter(diretorio.toString());
+    }
+
+    @Test
+    @DisplayName("Deve gravar uma única vez o conteúdo enviado sob nomes diferentes")
+    void deveDeduplicarConteudoIdentico() throws IOException {
+        adapter.guardar("a.pdf", fluxo("apostila de cálculo"));
+        adapter.guardar("b.pdf", fluxo("apostila de cálculo"));
+        adapter.guardar("c.pdf", fluxo("outra apostila"));
+
+        String hash = HashConteudo.sha256("apostila de cálculo");
+        assertEquals(Optional.of(hash), adapter.buscarHash("a.pdf"));
+        assertEquals(Optional.of(hash), adapter.buscarHash("b.pdf"));
+        assertEquals(2, adapter.contarReferencias(hash));
+        assertEquals(2, contarObjetos());
+        assertEquals("apostila de cálculo", ler("b.pdf"));
+    }
+
+    @Test
+    @DisplayName("Deve apagar o conteúdo apenas quando a última referência for removida")
+    void deveApagarConteudoComAUltimaReferencia() throws IOException {
+        adapter.guardar("a.pdf", fluxo("apostila"));
+        adapter.guardar("b.pdf", fluxo("apostila"));
+        String hash = HashConteudo.sha256("apostila");
+
+        adapter.apagar("a.pdf");
+        adapter.apagar("a.pdf");
+
+        assertEquals(1, adapter.contarReferencias(hash));
+        assertEquals("apostila", ler("b.pdf"));
+        assertThrows(RuntimeException.class, () -> adapter.carregar("a.pdf"));
+
+        adapter.apagar("b.pdf");
+
+        assertEquals(0, adapter.contarReferencias(hash));
+        assertEquals(0, contarObjetos());
+        assertThrows(RuntimeException.class, () -> adapter.carregar("b.pdf"));
+    }
+
+    @Test
+    @DisplayName("Deve liberar o conteúdo anterior ao regravar um nome")
+    void deveLiberarConteudoAnteriorAoRegravar() throws IOException {
+        adapter.guardar("a.pdf", fluxo("versão 1"));
+        adapter.guardar("a.pdf", fluxo("versão 2"));
+
+        assertEquals(0, adapter.contarReferencias(HashConteudo.sha256("versão 1")));
+        assertEquals(1, contarObjetos());
+        assertEquals("versão 2", ler("a.pdf"));
+    }
+
+    @Test
+    @DisplayName("Deve ler e apagar arquivos gravados antes do modo CAS")
+    void deveManterArquivosLegados() throws IOException {
+        Files.writeString(diretorio.resolve("antigo.pdf"), "conteúdo antigo");
+
+        assertEquals("conteúdo antigo", ler("antigo.pdf"));
+        assertEquals(Optional.empty(), adapter.buscarHash("antigo.pdf"));
+
+        adapter.apagar("antigo.pdf");
+
+        assertFalse(Files.exists(diretorio.resolve("antigo.pdf")));
+    }
+
+    @Test
+    @DisplayName("Deve ler, listar e apagar arquivos gravados pelo armazenamento simples no layout distribuído")
+    void deveManterArquivosDoArmazenamentoSimples() throws IOException {
+        LocalFileStorageAdapter simples = new LocalFileStorageAdapter(diretorio.toString(), "nenhum", false);
+        simples.guardar("simples.pdf", fluxo("gravado no modo simples"));
+        Path distribuido = simples.resolverDistribuido("simples.pdf");
+        assertTrue(Files.exists(distribuido));
+
+        assertEquals("gravado no modo simples", ler("simples.pdf"));
+        try (Stream<MaterialStoragePort.ArquivoArmazenado> arquivos = adapter.listarArquivos()) {
+            assertEquals(List.of("simples.pdf"), arquivos.map(MaterialStoragePort.ArquivoArmazenado::nome).toList());
+        }
+
+        adapter.apagar("simples.pdf");
+
+        assertFalse(Files.exists(distribuido));
+        assertThrows(RuntimeException.class, () -> adapter.carregar("simples.pdf"));
+    }
+
+    @Test
+    @DisplayName("Deve deduplicar o arquivo concluído de um envio em partes")
+    void deveDeduplicarEnvioEmPartes() throws IOException {
+        adapter.guardar("a.pdf", fluxo("apostila de cálculo"));
+        String hash = HashConteudo.sha256("apostila de cálculo");
+
+        long recebidos = adapter.anexarParcial("envio-1", 0, fluxo("apostila "));
+        adapter.anexarParcial("envio-1", recebidos, fluxo("de cálculo"));
+        adapter.concluirParcial("envio-1", "b.pdf", hash);
+
+        assertEquals(Optional.of(hash), adapter.buscarHash("b.pdf"));
+        assertEquals(2, adapter.contarReferencias(hash));
+        assertEquals(1, contarObjetos());
+        assertEquals("apostila de cálculo", ler("b.pdf"));
+    }
+
+    @Test
+    @DisplayName("Deve listar as referências e os arquivos anteriores ao modo CAS")
+    void deveListarReferenciasELegados() throws IOException {
+        adapter.guardar("a.pdf", fluxo("apostila"));
+        adapter.guardar("b.pdf", fluxo("apostila"));
+        Files.writeString(diretorio.resolve("legado.pdf"), "antigo");
+
+        Map<String, Long> tamanhos;
+        try (Stream<MaterialStoragePort.ArquivoArmazenado> arquivos = adapter.listarArquivos()) {
+            tamanhos = arquivos.collect(Collectors.toMap(
+                    MaterialStoragePort.ArquivoArmazenado::nome, MaterialStoragePort.ArquivoArmazenado::tamanho));
+        }
+
+        assertEquals(Map.of("a.pdf", 8L, "b.pdf", 8L, "legado.pdf", 6L), tamanhos);
+    }
+
+    @Test
+    @DisplayName("Deve recusar nomes que escapam do diretório de armazenamento")
+    void deveRecusarNomesForaDoDiretorio() {
+        assertThrows(RuntimeException.class, () -> adapter.guardar("../fora.pdf", fluxo("x")));
+        assertThrows(RuntimeException.class, () -> adapter.carregar("../../etc/passwd"));
+    }
+
+    private long contarObjetos() throws IOException {
+        try (Stream<Path> arquivos = Files.list(diretorio.resolve(".cas").resolve("objetos"))) {
+            return arquivos.filter(arquivo -> !arquivo.getFileName().toString().endsWith(".refs")).count();
+        }
+    }
+
+    private String ler(String nome) throws IOException {
+        try (InputStream entrada = adapter.carregar(nome).getInputStream()) {
+            return new String(entrada.readAllBytes(), StandardCharsets.UTF_8);
+        }
+    }
+
+    private static InputStream fluxo(String conteudo) {
+        return new ByteArrayInputStream(conteudo.getBytes(StandardCharsets.UTF_8));
+    }
+}
@@ -0,0 +1,185 @@
+package com.pdfocus.infra.storage.adapter;
+
+import com.pdfocus.application.material.port.saida.MaterialStoragePort;
+import com.pdfocus.infra.cache.HashConteudo;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Map;
+import java.util.Optional;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("Testes Unitários - LocalFileStorageAdapter")
+class LocalFileStorageAdapterTest {
+
+    @TempDir
+    Path diretorio;
+
+    private LocalFileStorageAdapter adapter;
+
+    @BeforeEach
+    void setUp() {
+        adapter = new LocalFileStorageAdapter(diretorio.toString(), "arquivo-e-diretorio", false);
+    }
+
+    @Test
+    @DisplayName("Deve gravar em dois níveis de subdiretórios, sem deixar arquivos temporários")
+    void deveGravarNoLayoutDistribuido() throws IOException {
+        adapter.guardar("apostila.pdf", fluxo("conteúdo"));
+
+        Path arquivo = adapter.resolverDistribuido("apostila.pdf");
+        assertEquals(diretorio, arquivo.getParent().getParent().getParent());
+        assertEquals(2, arquivo.getParent().getFileName().toString().length());
+        assertEquals("conteúdo", Files.readString(arquivo));
+        assertEquals("conteúdo", ler("apostila.pdf"));
+        assertFalse(Files.exists(diretorio.resolve("apostila.pdf")));
+        assertEquals(0, contar(diretorio.resolve(".tmp")));
+    }
+
+    @Test
+    @DisplayName("Deve manter o conteúdo anterior quando a gravação falhar no meio")
+    void deveManterConteudoAnteriorQuandoGravacaoFalhar() throws IOException {
+        adapter.guardar("apostila.pdf", fluxo("versão completa"));
+
+        InputStream interrompido = new InputStream() {
+            private int lidos;
+
+            @Override
+            public int read() throws IOException {
+                if (lidos++ < 10) {
+                    return 'x';
+                }
+                throw new IOException("conexão perdida");
+            }
+        };
+
+        assertThrows(RuntimeException.class, () -> adapter.guardar("apostila.pdf", interrompido));
+        assertEquals("versão completa", ler("apostila.pdf"));
+        assertEquals(0, contar(diretorio.resolve(".tmp")));
+    }
+
+    @Test
+    @DisplayName("Deve ler, apagar e migrar os ficheiros do layout antigo")
+    void deveMigrarArquivosPlanos() throws IOException {
+        Files.writeString(diretorio.resolve("antigo.pdf"), "antigo");
+        Files.writeString(diretorio.resolve("outro.pdf"), "outro");
+        Files.createDirectories(diretorio.resolve(".paginas"));
+        Files.writeString(diretorio.resolve(".paginas").resolve("antigo.pdf.txt"), "texto");
+
+        assertEquals("antigo", ler("antigo.pdf"));
+        adapter.apagar("outro.pdf");
+        assertFalse(Files.exists(diretorio.resolve("outro.pdf")));
+
+        assertEquals(1, adapter.migrarArquivosPlanos());
+        assertEquals(0, adapter.migrarArquivosPlanos());
+
+        assertFalse(Files.exists(diretorio.resolve("antigo.pdf")));
+        assertEquals("antigo", Files.readString(adapter.resolverDistribuido("antigo.pdf")));
+        assertEquals("antigo", ler("antigo.pdf"));
+        assertTrue(Files.exists(diretorio.resolve(".paginas").resolve("antigo.pdf.txt")));
+    }
+
+    @Test
+    @DisplayName("Deve guardar o hash do conteúdo na gravação e calculá-lo para ficheiros antigos")
+    void deveInformarHashDoConteudo() throws IOException {
+        adapter.guardar("apostila.pdf", fluxo("conteúdo"));
+        Files.writeString(diretorio.resolve("antigo.pdf"), "antigo");
+
+        assertEquals(Optional.of(HashConteudo.sha256("conteúdo")), adapter.buscarHash("apostila.pdf"));
+        assertEquals(Optional.of(HashConteudo.sha256("antigo")), adapter.buscarHash("antigo.pdf"));
+
+        adapter.guardar("apostila.pdf", fluxo("nova versão"));
+        assertEquals(Optional.of(HashConteudo.sha256("nova versão")), adapter.buscarHash("apostila.pdf"));
+
+        adapter.apagar("apostila.pdf");
+        assertEquals(Optional.empty(), adapter.buscarHash("apostila.pdf"));
+        assertEquals(Optional.empty(), adapter.buscarHash("inexistente.pdf"));
+    }
+
+    @Test
+    @DisplayName("Deve montar o envio em partes, descartando a parte interrompida")
+    void deveMontarEnvioEmPartes() throws IOException {
+        assertEquals(4, adapter.anexarParcial("envio-1", 0, fluxo("conc")));
+
+        InputStream interrompido = new InputStream() {
+            private int lidos;
+
+            @Override
+            public int read() throws IOException {
+                if (lidos++ < 3) {
+                    return 'x';
+                }
+                throw new IOException("conexão perdida");
+            }
+        };
+        assertThrows(RuntimeException.class, () -> adapter.anexarParcial("envio-1", 4, interrompido));
+        assertThrows(IllegalStateException.class, () -> adapter.anexarParcial("envio-1", 2, fluxo("nc")));
+
+        assertEquals(10, adapter.anexarParcial("envio-1", 4, fluxo("luído")));
+        adapter.concluirParcial("envio-1", "apostila.pdf", HashConteudo.sha256("concluído"));
+
+        assertEquals("concluído", ler("apostila.pdf"));
+        assertEquals(Optional.of(HashConteudo.sha256("concluído")), adapter.buscarHash("apostila.pdf"));
+        assertEquals(0, contar(diretorio.resolve(".envios")));
+
+        adapter.anexarParcial("envio-2", 0, fluxo("descartado"));
+        adapter.descartarParcial("envio-2");
+        assertEquals(0, contar(diretorio.resolve(".envios")));
+        assertThrows(RuntimeException.class, () -> adapter.anexarParcial("../envio", 0, fluxo("x")));
+    }
+
+    @Test
+    @DisplayName("Deve listar os ficheiros dos dois layouts, sem os arquivos internos")
+    void deveListarArquivosArmazenados() throws IOException {
+        adapter.guardar("apostila.pdf", fluxo("conteúdo"));
+        adapter.guardar("resumo.pdf", fluxo("abc"));
+        Files.writeString(diretorio.resolve("antigo.pdf"), "antigo");
+        adapter.anexarParcial("envio-1", 0, fluxo("parcial"));
+
+        Map<String, Long> tamanhos;
+        try (Stream<MaterialStoragePort.ArquivoArmazenado> arquivos = adapter.listarArquivos()) {
+            tamanhos = arquivos.collect(Collectors.toMap(
+                    MaterialStoragePort.ArquivoArmazenado::nome, MaterialStoragePort.ArquivoArmazenado::tamanho));
+        }
+
+        assertEquals(Map.of("apostila.pdf", 9L, "resumo.pdf", 3L, "antigo.pdf", 6L), tamanhos);
+    }
+
+    @Test
+    @DisplayName("Deve recusar nomes inválidos e políticas de fsync desconhecidas")
+    void deveValidarNomesEPoliticas() {
+        assertThrows(RuntimeException.class, () -> adapter.guardar("../fora.pdf", fluxo("x")));
+        assertThrows(RuntimeException.class, () -> adapter.carregar(".tmp"));
+        assertEquals(LocalFileStorageAdapter.PoliticaFsync.ARQUIVO_E_DIRETORIO,
+                LocalFileStorageAdapter.PoliticaFsync.de(" Arquivo-E-Diretorio "));
+        assertThrows(IllegalArgumentException.class,
+                () -> new LocalFileStorageAdapter(diretorio.toString(), "sempre", false));
+    }
+
+    private String ler(String nome) throws IOException {
+        try (InputStream entrada = adapter.carregar(nome).getInputStream()) {
+            return new String(entrada.readAllBytes(), StandardCharsets.UTF_8);
+        }
+    }
+
+    private static long contar(Path pasta) throws IOException {
+        try (Stream<Path> arquivos = Files.list(pasta)) {
+            return arquivos.count();
+        }
+    }
+
+    private static InputStream fluxo(String conteudo) {
+        return new ByteArrayInputStream(conteudo.getBytes(StandardCharsets.UTF_8));
+    }
+}
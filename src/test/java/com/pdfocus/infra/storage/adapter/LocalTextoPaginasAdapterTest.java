@@ -0,0 +1,95 @@
+package com.pdfocus.infra.storage.adapter;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Optional;
+import java.util.OptionalInt;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("Testes Unitários - LocalTextoPaginasAdapter")
+class LocalTextoPaginasAdapterTest {
+
+    @TempDir
+    Path diretorio;
+
+    private LocalTextoPaginasAdapter adapter;
+
+    @BeforeEach
+    void setUp() {
+        adapter = new LocalTextoPaginasAdapter(diretorio.toString());
+    }
+
+    @Test
+    @DisplayName("Deve ler apenas o intervalo de páginas pedido, com acentos preservados")
+    void deveLerIntervaloDePaginas() {
+        adapter.salvar("apostila.pdf", List.of("Introdução\n", "Capítulo 1\n", "Capítulo 2\n", "Conclusão\n"));
+
+        assertEquals(Optional.of(List.of("Capítulo 1\n", "Capítulo 2\n")), adapter.buscarPaginas("apostila.pdf", 2, 3));
+        assertEquals(Optional.of(List.of("Introdução\n")), adapter.buscarPaginas("apostila.pdf", 1, 1));
+        assertEquals(OptionalInt.of(4), adapter.contarPaginas("apostila.pdf"));
+    }
+
+    @Test
+    @DisplayName("Deve limitar o intervalo às páginas existentes")
+    void deveLimitarIntervaloAsPaginasExistentes() {
+        adapter.salvar("apostila.pdf", List.of("a", "", "c"));
+
+        assertEquals(Optional.of(List.of("", "c")), adapter.buscarPaginas("apostila.pdf", 2, 50));
+        assertEquals(Optional.of(List.of()), adapter.buscarPaginas("apostila.pdf", 10, 20));
+    }
+
+    @Test
+    @DisplayName("Deve tratar como ausentes as páginas nunca gravadas ou apagadas")
+    void deveTratarPaginasAusentes() {
+        assertEquals(Optional.empty(), adapter.buscarPaginas("inexistente.pdf", 1, 2));
+        assertEquals(OptionalInt.empty(), adapter.contarPaginas("inexistente.pdf"));
+
+        adapter.salvar("apostila.pdf", List.of("a"));
+        adapter.apagar("apostila.pdf");
+
+        assertEquals(Optional.empty(), adapter.buscarPaginas("apostila.pdf", 1, 1));
+    }
+
+    @Test
+    @DisplayName("Deve substituir as páginas gravadas anteriormente")
+    void deveSubstituirPaginas() {
+        adapter.salvar("apostila.pdf", List.of("antiga 1", "antiga 2"));
+        adapter.salvar("apostila.pdf", List.of("nova"));
+
+        assertEquals(OptionalInt.of(1), adapter.contarPaginas("apostila.pdf"));
+        assertEquals(Optional.of(List.of("nova")), adapter.buscarPaginas("apostila.pdf", 1, 2));
+    }
+
+    @Test
+    @DisplayName("Deve gravar cabeçalho e texto num único arquivo, no layout distribuído ab/cd")
+    void deveGravarArquivoUnicoNoLayoutDistribuido() throws IOException {
+        adapter.salvar("apostila.pdf", List.of("a", "b"));
+
+        Path esperado = new LayoutDistribuidoLocal(diretorio.resolve(".paginas")).resolverDistribuido("apostila.pdf.pag");
+        assertTrue(Files.isRegularFile(esperado));
+        try (Stream<Path> arquivos = Files.walk(diretorio.resolve(".paginas"))) {
+            assertEquals(List.of(esperado), arquivos.filter(Files::isRegularFile).toList());
+        }
+    }
+
+    @Test
+    @DisplayName("Deve apagar também as páginas gravadas no formato antigo")
+    void deveApagarPaginasDoFormatoAntigo() throws IOException {
+        Path texto = Files.writeString(diretorio.resolve(".paginas").resolve("apostila.pdf.txt"), "a");
+        Path indice = Files.write(diretorio.resolve(".paginas").resolve("apostila.pdf.idx"), new byte[12]);
+
+        adapter.apagar("apostila.pdf");
+
+        assertFalse(Files.exists(texto));
+        assertFalse(Files.exists(indice));
+    }
+}
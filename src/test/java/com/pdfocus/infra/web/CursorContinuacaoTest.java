@@ -0,0 +1,37 @@
+package com.pdfocus.infra.web;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("Testes Unitários - CursorContinuacao")
+class CursorContinuacaoTest {
+
+    @Test
+    @DisplayName("Deve recuperar as partes da posição a partir do token gerado")
+    void deveCodificarEDecodificar() {
+        String token = CursorContinuacao.codificar("2024-05-01T12:30:00.123456Z", "b1f8c6a2-1d2e-4f3a-9b8c-7d6e5f4a3b2c");
+
+        assertFalse(token.contains("=") || token.contains("+") || token.contains("/"));
+        assertEquals(List.of("2024-05-01T12:30:00.123456Z", "b1f8c6a2-1d2e-4f3a-9b8c-7d6e5f4a3b2c"),
+                CursorContinuacao.decodificar(token, 2));
+    }
+
+    @Test
+    @DisplayName("Deve recusar tokens malformados, de outra versão ou com número de partes diferente")
+    void deveRecusarTokensInvalidos() {
+        String token = CursorContinuacao.codificar("a", "b");
+        String outraVersao = Base64.getUrlEncoder().withoutPadding()
+                .encodeToString("v0|a|b".getBytes(StandardCharsets.UTF_8));
+
+        assertThrows(IllegalArgumentException.class, () -> CursorContinuacao.decodificar("não é base64!", 2));
+        assertThrows(IllegalArgumentException.class, () -> CursorContinuacao.decodificar(outraVersao, 2));
+        assertThrows(IllegalArgumentException.class, () -> CursorContinuacao.decodificar(token, 1));
+        assertThrows(IllegalArgumentException.class, () -> CursorContinuacao.codificar("a|b"));
+    }
+}
@@ -0,0 +1,132 @@
+package com.pdfocus.infra.web;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.core.io.FileSystemResource;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("Testes Unitários - EnvioArquivoHttp")
+class EnvioArquivoHttpTest {
+
+    private static final String HASH = "abc123";
+    private static final String CONTEUDO = "0123456789abcdefghij";
+
+    @TempDir
+    Path diretorio;
+
+    private FileSystemResource arquivo;
+
+    @BeforeEach
+    void setUp() throws IOException {
+        Path caminho = diretorio.resolve("apostila.pdf");
+        Files.writeString(caminho, CONTEUDO);
+        arquivo = new FileSystemResource(caminho);
+    }
+
+    @Test
+    @DisplayName("Deve enviar o arquivo inteiro com os validadores de cache")
+    void deveEnviarArquivoInteiroComValidadores() throws IOException {
+        MockHttpServletResponse response = enviar(new MockHttpServletRequest("GET", "/"));
+
+        assertEquals(200, response.getStatus());
+        assertEquals("\"abc123\"", response.getHeader("ETag"));
+        assertNotNull(response.getHeader("Last-Modified"));
+        assertEquals("bytes", response.getHeader("Accept-Ranges"));
+        assertEquals("private, no-cache", response.getHeader("Cache-Control"));
+        assertEquals("inline; filename=\"apostila.pdf\"", response.getHeader("Content-Disposition"));
+        assertEquals(CONTEUDO.length(), response.getContentLengthLong());
+        assertEquals(CONTEUDO, response.getContentAsString(StandardCharsets.UTF_8));
+    }
+
+    @Test
+    @DisplayName("Deve responder 206 apenas com o trecho pedido em Range")
+    void deveResponderTrechoPedido() throws IOException {
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/");
+        request.addHeader("Range", "bytes=5-9");
+
+        MockHttpServletResponse response = enviar(request);
+
+        assertEquals(206, response.getStatus());
+        assertEquals("bytes 5-9/20", response.getHeader("Content-Range"));
+        assertEquals(5, response.getContentLengthLong());
+        assertEquals("56789", response.getContentAsString(StandardCharsets.UTF_8));
+    }
+
+    @Test
+    @DisplayName("Deve responder 304 quando o ETag ou a data do cliente ainda forem válidos")
+    void deveResponderNaoModificado() throws IOException {
+        MockHttpServletRequest porEtag = new MockHttpServletRequest("GET", "/");
+        porEtag.addHeader("If-None-Match", "\"outro\", W/\"abc123\"");
+        MockHttpServletResponse response = enviar(porEtag);
+
+        assertEquals(304, response.getStatus());
+        assertEquals(0, response.getContentAsByteArray().length);
+
+        MockHttpServletRequest porData = new MockHttpServletRequest("GET", "/");
+        porData.addHeader("If-Modified-Since", arquivo.lastModified() + 60_000);
+        assertEquals(304, enviar(porData).getStatus());
+    }
+
+    @Test
+    @DisplayName("Deve delegar ao sendfile do Tomcat quando disponível")
+    void deveDelegarAoSendfile() throws IOException {
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/");
+        request.setAttribute(EnvioArquivoHttp.SENDFILE_SUPORTADO, Boolean.TRUE);
+        request.addHeader("Range", "bytes=-4");
+
+        MockHttpServletResponse response = enviar(request);
+
+        assertEquals(206, response.getStatus());
+        assertEquals(arquivo.getFile().getAbsolutePath(), request.getAttribute(EnvioArquivoHttp.SENDFILE_ARQUIVO));
+        assertEquals(16L, request.getAttribute(EnvioArquivoHttp.SENDFILE_INICIO));
+        assertEquals(20L, request.getAttribute(EnvioArquivoHttp.SENDFILE_FIM));
+        assertEquals(0, response.getContentAsByteArray().length);
+    }
+
+    @Test
+    @DisplayName("Deve interpretar intervalos válidos, inválidos e fora do arquivo")
+    void deveInterpretarRange() {
+        assertEquals(new EnvioArquivoHttp.Intervalo(0, 99), EnvioArquivoHttp.interpretarRange("bytes=0-99", 1000));
+        assertEquals(new EnvioArquivoHttp.Intervalo(900, 999), EnvioArquivoHttp.interpretarRange("bytes=900-", 1000));
+        assertEquals(new EnvioArquivoHttp.Intervalo(990, 999), EnvioArquivoHttp.interpretarRange("bytes=-10", 1000));
+        assertEquals(new EnvioArquivoHttp.Intervalo(500, 999), EnvioArquivoHttp.interpretarRange("bytes=500-5000", 1000));
+        assertSame(EnvioArquivoHttp.Intervalo.INSATISFAZIVEL, EnvioArquivoHttp.interpretarRange("bytes=1000-", 1000));
+        assertSame(EnvioArquivoHttp.Intervalo.INSATISFAZIVEL, EnvioArquivoHttp.interpretarRange("bytes=-0", 1000));
+        assertNull(EnvioArquivoHttp.interpretarRange(null, 1000));
+        assertNull(EnvioArquivoHttp.interpretarRange("bytes=0-1,5-6", 1000));
+        assertNull(EnvioArquivoHttp.interpretarRange("bytes=9-1", 1000));
+        assertNull(EnvioArquivoHttp.interpretarRange("itens=0-1", 1000));
+    }
+
+    @Test
+    @DisplayName("Deve ignorar o Range quando o If-Range não corresponder ao arquivo atual")
+    void deveIgnorarRangeComIfRangeDesatualizado() throws IOException {
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/");
+        request.addHeader("Range", "bytes=0-1");
+        request.addHeader("If-Range", "\"versao-antiga\"");
+
+        MockHttpServletResponse response = enviar(request);
+
+        assertEquals(200, response.getStatus());
+        assertEquals(CONTEUDO, response.getContentAsString(StandardCharsets.UTF_8));
+        assertTrue(EnvioArquivoHttp.condicaoIfRangeAtendida("\"abc123\"", "\"abc123\"", 0));
+        assertFalse(EnvioArquivoHttp.condicaoIfRangeAtendida("W/\"abc123\"", "\"abc123\"", 0));
+    }
+
+    private MockHttpServletResponse enviar(MockHttpServletRequest request) throws IOException {
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        EnvioArquivoHttp.enviar(request, response, arquivo, HASH, "application/pdf",
+                "inline; filename=\"apostila.pdf\"");
+        return response;
+    }
+}